@@ -92,6 +92,7 @@
     exports org.apache.isis.applib.services.queryresultscache;
     exports org.apache.isis.applib.services.registry;
     exports org.apache.isis.applib.services.repository;
+    exports org.apache.isis.applib.services.retention;
     exports org.apache.isis.applib.services.routing;
     exports org.apache.isis.applib.services.scratchpad;
     exports org.apache.isis.applib.services.session;
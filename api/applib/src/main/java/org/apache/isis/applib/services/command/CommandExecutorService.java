@@ -19,7 +19,10 @@
 package org.apache.isis.applib.services.command;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.apache.isis.applib.clock.VirtualClock;
 import org.apache.isis.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
@@ -27,8 +30,13 @@
 import org.apache.isis.applib.services.iactn.Interaction;
 import org.apache.isis.applib.services.iactnlayer.InteractionContext;
 import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.commons.functional.Try;
 import org.apache.isis.schema.cmd.v2.CommandDto;
 
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.With;
 import lombok.val;
 
 /**
@@ -94,6 +102,84 @@ private InteractionContextPolicy(final BiFunction<InteractionContext, CommandDto
         }
     }
 
+    /**
+     * Determines how {@link #executeCommands(Stream, BatchPolicy) batch execution} should react to a
+     * command, that fails to execute.
+     *
+     * @since 2.0 {@index}
+     */
+    enum BatchErrorPolicy {
+
+        /**
+         * Stop at the first failing command; any subsequent commands are not executed.
+         */
+        STOP,
+
+        /**
+         * Carry on with subsequent commands, with the failing command's outcome being reported as such.
+         */
+        CONTINUE
+    }
+
+    /**
+     * Specifies how {@link #executeCommands(Stream, BatchPolicy) batch execution} is to be performed.
+     *
+     * @since 2.0 {@index}
+     */
+    @Value @Builder @With
+    class BatchPolicy {
+
+        public static BatchPolicy defaults() {
+            return BatchPolicy.builder().build();
+        }
+
+        /**
+         * Policy to use for each command.
+         */
+        @Builder.Default
+        @NonNull InteractionContextPolicy interactionContextPolicy = InteractionContextPolicy.NO_SWITCH;
+
+        /**
+         * Number of commands to be executed within a single transaction;
+         * the transaction is committed, once this number of commands have been executed.
+         */
+        @Builder.Default
+        int chunkSize = 100;
+
+        /**
+         * How to react to a command, that fails to execute.
+         */
+        @Builder.Default
+        @NonNull BatchErrorPolicy errorPolicy = BatchErrorPolicy.STOP;
+
+        /**
+         * Provides the {@link CommandOutcomeHandler} for each command, eg. to update its persistent equivalent.
+         */
+        @Builder.Default
+        @NonNull Function<CommandDto, CommandOutcomeHandler> outcomeHandlerProvider = commandDto->CommandOutcomeHandler.NULL;
+
+    }
+
+    /**
+     * The outcome of executing a single command as part of a {@link #executeCommands(Stream, BatchPolicy) batch}.
+     *
+     * @since 2.0 {@index}
+     */
+    @Value(staticConstructor = "of")
+    class BatchOutcome {
+
+        @NonNull CommandDto commandDto;
+
+        /**
+         * A bookmark representing the result of executing the command (could be empty), or the failure.
+         */
+        @NonNull Try<Bookmark> result;
+
+        public boolean isFailure() {
+            return result.isFailure();
+        }
+    }
+
     /**
      * Executes the specified {@link Command} using the required {@link InteractionContextPolicy}, updating the Command (or its
      * persistent equivalent) afterwards (for example, setting its {@link Command#getCommandDto() commandDto} field.
@@ -162,4 +248,32 @@ Bookmark executeCommand(
             CommandDto commandDto,
             CommandOutcomeHandler outcomeHandler);
 
+    /**
+     * Executes the specified commands (represented as {@link CommandDto}s) in order, reusing the current
+     * {@link Interaction}, rather than setting up a new one per command.
+     *
+     * <p>
+     *     The commands are executed in chunks of {@link BatchPolicy#getChunkSize()}, each chunk within a new
+     *     transaction, that is committed once the chunk is done. If any command of a chunk fails, that chunk's
+     *     transaction is rolled back and its commands are executed again one by one, each within a transaction
+     *     of its own, so that the outcome of each command is as if executed on its own.
+     * </p>
+     *
+     * <p>
+     *     Each command is executed as a {@link Command} of its own, with no execution state carried over from
+     *     the previous one, and is published once completed, within the transaction that committed it.
+     *     The current interaction's {@link Command} is restored once the batch is done, so this method must not
+     *     be called from within an action invocation or property edit.
+     * </p>
+     *
+     * @param commandDtos - the commands to be executed, consumed lazily
+     * @param batchPolicy - policy to use
+     *
+     * @return - per command executed, its outcome, in order of execution; if
+     *      {@link BatchErrorPolicy#STOP stopped} on a failing command, any subsequent commands are not included
+     */
+    List<BatchOutcome> executeCommands(
+            Stream<CommandDto> commandDtos,
+            BatchPolicy batchPolicy);
+
 }
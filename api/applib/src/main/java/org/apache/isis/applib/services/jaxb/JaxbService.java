@@ -32,6 +32,7 @@
 import org.apache.isis.commons.internal.base._Casts;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.resources._Xml;
+import org.apache.isis.commons.internal.resources._XmlPool;
 
 import lombok.NonNull;
 import lombok.SneakyThrows;
@@ -131,6 +132,12 @@ Map<String, String> toXsd(
 
     class Simple implements JaxbService {
 
+        /**
+         * (Un)marshallers for cached {@link JAXBContext}s, configured once per instance via the
+         * {@link #configure(Marshaller)} and {@link #configure(Unmarshaller)} hooks.
+         */
+        private final _XmlPool xmlPool = _XmlPool.withCustomizers(this::configure, this::configure);
+
         @Override
         @SneakyThrows
         @Nullable
@@ -170,6 +177,11 @@ public final String toXml(
             val domainClass = domainObject.getClass();
             val jaxbContext = jaxbContextForObject(domainObject);
             try {
+                if(_NullSafe.isEmpty(marshallerProperties)
+                        && _Xml.isCachedContext(jaxbContext)) {
+                    return xmlPool.marshalToString(jaxbContext, domainObject, true);
+                }
+
                 val marshaller = jaxbContext.createMarshaller();
                 marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
@@ -228,6 +240,11 @@ protected Object internalFromXml(
                 return null;
             }
 
+            if(_NullSafe.isEmpty(unmarshallerProperties)
+                    && _Xml.isCachedContext(jaxbContext)) {
+                return xmlPool.unmarshal(jaxbContext, new StringReader(xml));
+            }
+
             val unmarshaller = jaxbContext.createUnmarshaller();
 
             for (val entry : _NullSafe.entrySet(unmarshallerProperties)) {
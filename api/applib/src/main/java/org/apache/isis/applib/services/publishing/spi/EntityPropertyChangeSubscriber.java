@@ -19,6 +19,7 @@
 package org.apache.isis.applib.services.publishing.spi;
 
 import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.having.HasEnabling;
 
 /**
@@ -48,4 +49,42 @@ public interface EntityPropertyChangeSubscriber extends HasEnabling {
      */
     void onChanging(EntityPropertyChange entityPropertyChange);
 
+    /**
+     * Receives all property change events of the transaction at once, in the order these would otherwise have
+     * been received by {@link #onChanging(EntityPropertyChange)}; or in consecutive chunks, for very large
+     * transactions, if the framework is configured to spill property changes to disk.
+     *
+     * <p>
+     *     The default implementation simply delegates to {@link #onChanging(EntityPropertyChange)} for each;
+     *     subscribers can override to process the changes in bulk (eg. to write these using a single batch).
+     * </p>
+     *
+     * <p>
+     *     Subscribers are notified one after the other, each receiving all property changes (of the chunk),
+     *     rather than being notified in turn for each single property change. Hence subscribers must not rely
+     *     on being called interleaved with other subscribers.
+     * </p>
+     */
+    default void onChangingAll(final Can<EntityPropertyChange> entityPropertyChanges) {
+        entityPropertyChanges.forEach(this::onChanging);
+    }
+
+    /**
+     * Whether this subscriber is to be notified asynchronously, by a framework-managed worker thread, once the
+     * transaction has committed, rather than during the pre-commit phase. If the transaction is rolled back,
+     * async subscribers are not notified at all.
+     *
+     * <p>
+     *     The callback ({@link #onChangingAll(Can)}) is called within an interaction (on behalf of the original
+     *     user) and transaction of its own, with copies of the property changes taken on the committing thread.
+     * </p>
+     *
+     * <p>
+     *     Defaults to {@code false}.
+     * </p>
+     */
+    default boolean isAsync() {
+        return false;
+    }
+
 }
@@ -23,6 +23,7 @@
 import org.apache.isis.applib.services.iactn.Execution;
 import org.apache.isis.applib.util.schema.InteractionDtoUtils;
 import org.apache.isis.commons.having.HasEnabling;
+import org.apache.isis.schema.ixn.v2.InteractionDto;
 
 /**
  * SPI that allows the execution of individual interactions (action invocations
@@ -68,4 +69,43 @@ public interface ExecutionSubscriber extends HasEnabling {
      */
     void onExecution(Execution<?, ?> execution);
 
+    /**
+     * Whether this subscriber is to be notified asynchronously, by a framework-managed worker thread, once the
+     * transaction has committed, rather than immediately after the interaction (on the calling thread and within
+     * its transaction). If the transaction is rolled back, async subscribers are not notified at all.
+     *
+     * <p>
+     *     Async subscribers are notified through {@link #onExecutionCompleted(InteractionDto)} rather than
+     *     {@link #onExecution(Execution)}.
+     * </p>
+     *
+     * <p>
+     *     Defaults to {@code false}.
+     * </p>
+     */
+    default boolean isAsync() {
+        return false;
+    }
+
+    /**
+     * Callback to notify {@link #isAsync() async} subscribers, that an interaction has completed and its
+     * transaction has committed.
+     *
+     * <p>
+     *     The {@link InteractionDto} is taken from the {@link Execution} on the committing thread, as per
+     *     {@link InteractionDtoUtils#newInteractionDto(Execution)}, so no live framework or domain objects are
+     *     handed over to the worker thread. The callback is called within an interaction (on behalf of the
+     *     original user) and transaction of its own.
+     * </p>
+     *
+     * <p>
+     *     Async subscribers must override this method, otherwise bootstrapping fails.
+     * </p>
+     */
+    default void onExecutionCompleted(final InteractionDto interactionDto) {
+        throw new UnsupportedOperationException(String.format(
+                "async subscriber %s does not implement onExecutionCompleted(InteractionDto)",
+                getClass().getName()));
+    }
+
 }
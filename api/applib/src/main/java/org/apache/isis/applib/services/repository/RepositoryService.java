@@ -21,6 +21,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
@@ -292,6 +293,49 @@ <T> List<T> allMatches(
      */
     <T> List<T> allMatches(Query<T> query);
 
+    /**
+     * Streams all persisted instances of specified type (including subtypes).
+     *
+     * <p>
+     *     Unlike {@link #allInstances(Class)}, the instances are not all held on
+     *     the heap at once, so this is suitable for exporting or reprocessing
+     *     large numbers of entities.
+     * </p>
+     *
+     * @see #streamMatches(Query)
+     */
+    default <T> Stream<T> streamInstances(final Class<T> ofType) {
+        return streamMatches(Query.allInstances(ofType));
+    }
+
+    /**
+     * Streams all the instances that match the given {@link Query}.
+     *
+     * <p>
+     *     Unlike {@link #allMatches(Query)}, the results are read from an ORM
+     *     cursor as the stream is consumed, rather than being materialized into
+     *     a {@link List} up-front. Consumed entities are periodically flushed
+     *     and detached from the persistence context, so that memory stays flat
+     *     regardless of the number of results.  Any changes made to an entity
+     *     are therefore only guaranteed to be persisted if made while it is the
+     *     current element of the stream.
+     * </p>
+     *
+     * <p>
+     *     The stream holds on to a database cursor, so should be closed once
+     *     consumed, eg. using <i>try-with-resources</i>. In any case it is
+     *     closed when the current interaction ends.
+     * </p>
+     *
+     * @implNote The default implementation simply streams the result of
+     *      {@link #allMatches(Query)}.
+     *
+     * @see #allMatches(Query)
+     */
+    default <T> Stream<T> streamMatches(final Query<T> query) {
+        return allMatches(query).stream();
+    }
+
     /**
      * Finds the only instance of the specified type (including subtypes) that
      * satifies the (client-side) predicate.
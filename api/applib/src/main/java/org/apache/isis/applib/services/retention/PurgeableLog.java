@@ -0,0 +1,51 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.retention;
+
+import java.sql.Timestamp;
+
+/**
+ * SPI for logs whose entries may be purged once older than some retention period,
+ * implemented by the repositories of the <i>Command Log</i>, <i>Execution Log</i>,
+ * <i>Audit Trail</i> and <i>Session Log</i> extensions.
+ *
+ * <p>
+ *     Called by the <i>Quartz</i> extension's retention job, one chunk per transaction,
+ *     so that purging a large backlog neither holds locks for long nor builds up a huge transaction.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface PurgeableLog {
+
+    /**
+     * Identifies this log in configuration, for example <code>command-log</code>.
+     */
+    String getLogName();
+
+    /**
+     * Removes the oldest entries with a timestamp up to (and including) given {@code cutoff},
+     * at least {@code chunkSize} of these (more only if sharing the timestamp of the last one),
+     * unless fewer remain.
+     *
+     * @return the number of entries removed, which is less than {@code chunkSize} only once none remain
+     */
+    int purgeChunk(Timestamp cutoff, int chunkSize);
+
+}
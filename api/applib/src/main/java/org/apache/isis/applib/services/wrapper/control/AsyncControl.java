@@ -23,11 +23,12 @@
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.isis.applib.clock.VirtualClock;
 import org.apache.isis.applib.services.user.UserMemento;
 import org.apache.isis.commons.internal.assertions._Assert;
@@ -111,22 +112,27 @@ public AsyncControl<R> with(final ExceptionHandler exceptionHandler) {
         return super.with(exceptionHandler);
     }
 
-    @Getter @NonNull
-    private ExecutorService executorService =
-                            ForkJoinPool.commonPool();
+    /**
+     * The {@link ExecutorService} specified via {@link #with(ExecutorService)},
+     * or {@code null}, if the framework-managed default is to be used.
+     */
+    @Getter @Nullable
+    private ExecutorService executorService = null;
 
     /**
      * Specifies the {@link ExecutorService} to use to obtain the thread
      * to invoke the action.
      *
      * <p>
-     * The default executor service is the common pool.
+     * The default executor service is managed by the framework, as configured
+     * via <code>isis.core.runtime-services.wrapper-factory.async-executor</code>
+     * (or, if configured as caller supplied, the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}).
      * </p>
      *
      *
      * @param executorService
      */
-    public AsyncControl<R> with(final ExecutorService executorService) {
+    public AsyncControl<R> with(final @NonNull ExecutorService executorService) {
         this.executorService = executorService;
         return this;
         // ...
@@ -18,7 +18,6 @@
  */
 package org.apache.isis.applib.util.schema;
 
-import java.io.CharArrayWriter;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.Reader;
@@ -28,11 +27,10 @@
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.isis.applib.util.JaxbUtil;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._XmlPool;
 import org.apache.isis.schema.chg.v2.ChangesDto;
 
 /**
@@ -45,18 +43,13 @@ public static void init() {
     }
 
     // -- marshalling
-    static JAXBContext jaxbContext;
     static JAXBContext getJaxbContext() {
-        if(jaxbContext == null) {
-            jaxbContext = JaxbUtil.jaxbContextFor(ChangesDto.class);
-        }
-        return jaxbContext;
+        return JaxbUtil.jaxbContextFor(ChangesDto.class); // cached
     }
 
     public static ChangesDto fromXml(final Reader reader) {
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (ChangesDto) un.unmarshal(reader);
+            return _XmlPool.shared().unmarshal(getJaxbContext(), reader);
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -76,16 +69,16 @@ public static ChangesDto fromXml(
     }
 
     public static String toXml(final ChangesDto changesDto) {
-        final CharArrayWriter caw = new CharArrayWriter();
-        toXml(changesDto, caw);
-        return caw.toString();
+        try {
+            return _XmlPool.shared().marshalToString(getJaxbContext(), changesDto, true);
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     public static void toXml(final ChangesDto changesDto, final Writer writer) {
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(changesDto, writer);
+            _XmlPool.shared().marshal(getJaxbContext(), changesDto, writer, true);
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -18,7 +18,6 @@
  */
 package org.apache.isis.applib.util.schema;
 
-import java.io.CharArrayWriter;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
@@ -27,13 +26,12 @@
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.util.JaxbUtil;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._XmlPool;
 import org.apache.isis.schema.cmd.v2.ActionDto;
 import org.apache.isis.schema.cmd.v2.CommandDto;
 import org.apache.isis.schema.cmd.v2.MapDto;
@@ -51,18 +49,13 @@ public static void init() {
     }
 
     // -- marshalling
-    static JAXBContext jaxbContext;
     static JAXBContext getJaxbContext() {
-        if(jaxbContext == null) {
-            jaxbContext = JaxbUtil.jaxbContextFor(CommandDto.class);
-        }
-        return jaxbContext;
+        return JaxbUtil.jaxbContextFor(CommandDto.class); // cached
     }
 
     public static CommandDto fromXml(final Reader reader) {
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (CommandDto) un.unmarshal(reader);
+            return _XmlPool.shared().unmarshal(getJaxbContext(), reader);
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -85,17 +78,31 @@ public static CommandDto fromXml(
         return fromXml(new StringReader(s));
     }
 
+    /**
+     * Encodes given dto with given {@link DtoPayloadCodec}, for persistence.
+     */
+    public static String toPayload(final CommandDto commandDto, final DtoPayloadCodec codec) {
+        return codec.encode(toXml(commandDto));
+    }
+
+    /**
+     * Decodes given payload, as encoded with any {@link DtoPayloadCodec} (including plain XML).
+     */
+    public static CommandDto fromPayload(final String payload) {
+        return fromXml(DtoPayloadCodec.decode(payload));
+    }
+
     public static String toXml(final CommandDto commandDto) {
-        final CharArrayWriter caw = new CharArrayWriter();
-        toXml(commandDto, caw);
-        return caw.toString();
+        try {
+            return _XmlPool.shared().marshalToString(getJaxbContext(), commandDto, true);
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     public static void toXml(final CommandDto commandDto, final Writer writer) {
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(commandDto, writer);
+            _XmlPool.shared().marshal(getJaxbContext(), commandDto, writer, true);
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
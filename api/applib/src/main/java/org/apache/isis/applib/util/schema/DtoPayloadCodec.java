@@ -0,0 +1,133 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.util.schema;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.lang.Nullable;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Encodings for (XML) DTO payloads, as persisted for example by the command log, the execution log
+ * and the execution outbox (see {@link CommandDtoUtils#toPayload(org.apache.isis.schema.cmd.v2.CommandDto, DtoPayloadCodec)}
+ * and {@link InteractionDtoUtils#toPayload(org.apache.isis.schema.ixn.v2.InteractionDto, DtoPayloadCodec)}).
+ * <p>
+ * The codec to encode newly persisted payloads with is configured with
+ * {@literal isis.persistence.schema.dto-payload-codec}, and is provided as a bean for injection.
+ * <p>
+ * Payloads are self-describing: compact ones are prefixed, while plain XML is not. Hence {@link #decode(String)}
+ * reads payloads of any codec, in particular those persisted before a more compact codec was configured.
+ *
+ * @since 2.0 {@index}
+ */
+public enum DtoPayloadCodec {
+
+    /**
+     * Plain XML, as is (the default).
+     */
+    XML {
+        @Override
+        public String encode(final @NonNull String xml) {
+            return xml;
+        }
+    },
+
+    /**
+     * GZIP compressed XML, Base64 encoded (such that it still fits into a character column),
+     * trading some CPU for considerably smaller rows, as DTO XML is highly repetitive.
+     */
+    GZIP_BASE64 {
+        @Override
+        public String encode(final @NonNull String xml) {
+            return GZIP_BASE64_PREFIX + Base64.getEncoder().encodeToString(gzip(xml));
+        }
+    };
+
+    private static final String GZIP_BASE64_PREFIX = "gz64:";
+
+    /**
+     * Encodes given XML into this codec's payload form.
+     */
+    public abstract String encode(@NonNull String xml);
+
+    /**
+     * The codec given {@code payload} was encoded with.
+     */
+    public static DtoPayloadCodec codecOf(final @NonNull String payload) {
+        return payload.startsWith(GZIP_BASE64_PREFIX)
+                ? GZIP_BASE64
+                : XML;
+    }
+
+    /**
+     * Decodes given payload (of any codec) back into XML.
+     */
+    public static @Nullable String decode(final @Nullable String payload) {
+        if(payload==null) {
+            return null;
+        }
+        switch (codecOf(payload)) {
+        case GZIP_BASE64:
+            return gunzip(Base64.getDecoder().decode(payload.substring(GZIP_BASE64_PREFIX.length())));
+        case XML:
+        default:
+            return payload;
+        }
+    }
+
+    /**
+     * Re-encodes given payload (of any codec) with this codec; returns the payload as is,
+     * if already encoded with this codec.
+     */
+    public String recode(final @NonNull String payload) {
+        return codecOf(payload) == this
+                ? payload
+                : encode(decode(payload));
+    }
+
+    // -- HELPER
+
+    private static byte[] gzip(final String xml) {
+        val bytes = new ByteArrayOutputStream(Math.max(64, xml.length() / 8));
+        try(val gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(xml.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String gunzip(final byte[] compressed) {
+        try(val gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
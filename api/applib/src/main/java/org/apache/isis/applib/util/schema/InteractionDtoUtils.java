@@ -18,7 +18,6 @@
  */
 package org.apache.isis.applib.util.schema;
 
-import java.io.CharArrayWriter;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.Reader;
@@ -31,8 +30,6 @@
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.iactn.Execution;
@@ -41,6 +38,7 @@
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._XmlPool;
 import org.apache.isis.schema.cmd.v2.ParamDto;
 import org.apache.isis.schema.cmd.v2.ParamsDto;
 import org.apache.isis.schema.common.v2.InteractionType;
@@ -63,18 +61,13 @@ public static void init() {
     }
 
     // -- marshalling
-    static JAXBContext jaxbContext;
     static JAXBContext getJaxbContext() {
-        if(jaxbContext == null) {
-            jaxbContext = JaxbUtil.jaxbContextFor(InteractionDto.class);
-        }
-        return jaxbContext;
+        return JaxbUtil.jaxbContextFor(InteractionDto.class); // cached
     }
 
     public static InteractionDto fromXml(final Reader reader) {
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (InteractionDto) un.unmarshal(reader);
+            return _XmlPool.shared().unmarshal(getJaxbContext(), reader);
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -93,17 +86,31 @@ public static InteractionDto fromXml(
         return fromXml(new StringReader(s));
     }
 
+    /**
+     * Encodes given dto with given {@link DtoPayloadCodec}, for persistence.
+     */
+    public static String toPayload(final InteractionDto interactionDto, final DtoPayloadCodec codec) {
+        return codec.encode(toXml(interactionDto));
+    }
+
+    /**
+     * Decodes given payload, as encoded with any {@link DtoPayloadCodec} (including plain XML).
+     */
+    public static InteractionDto fromPayload(final String payload) {
+        return fromXml(DtoPayloadCodec.decode(payload));
+    }
+
     public static String toXml(final InteractionDto interactionDto) {
-        final CharArrayWriter caw = new CharArrayWriter();
-        toXml(interactionDto, caw);
-        return caw.toString();
+        try {
+            return _XmlPool.shared().marshalToString(getJaxbContext(), interactionDto, true);
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     public static void toXml(final InteractionDto interactionDto, final Writer writer) {
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(interactionDto, writer);
+            _XmlPool.shared().marshal(getJaxbContext(), interactionDto, writer, true);
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
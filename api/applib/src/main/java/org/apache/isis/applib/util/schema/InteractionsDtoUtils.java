@@ -18,7 +18,6 @@
  */
 package org.apache.isis.applib.util.schema;
 
-import java.io.CharArrayWriter;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
@@ -29,12 +28,11 @@
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.isis.applib.util.JaxbUtil;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._XmlPool;
 import org.apache.isis.schema.ixn.v2.InteractionDto;
 import org.apache.isis.schema.ixn.v2.InteractionsDto;
 
@@ -52,19 +50,14 @@ public static void init() {
 
     // -- marshalling
 
-    static JAXBContext jaxbContext;
     static JAXBContext getJaxbContext() {
-        if(jaxbContext == null) {
-            jaxbContext = JaxbUtil.jaxbContextFor(InteractionsDto.class);
-        }
-        return jaxbContext;
+        return JaxbUtil.jaxbContextFor(InteractionsDto.class); // cached
     }
 
 
     public static InteractionsDto fromXml(final Reader reader) {
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (InteractionsDto) un.unmarshal(reader);
+            return _XmlPool.shared().unmarshal(getJaxbContext(), reader);
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -84,16 +77,16 @@ public static InteractionsDto fromXml(
     }
 
     public static String toXml(final InteractionsDto interactionDto) {
-        final CharArrayWriter caw = new CharArrayWriter();
-        toXml(interactionDto, caw);
-        return caw.toString();
+        try {
+            return _XmlPool.shared().marshalToString(getJaxbContext(), interactionDto, true);
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     public static void toXml(final InteractionsDto interactionsDto, final Writer writer) {
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(interactionsDto, writer);
+            _XmlPool.shared().marshal(getJaxbContext(), interactionsDto, writer, true);
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.util.schema;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.apache.isis.schema.cmd.v2.CommandDto;
+
+class DtoPayloadCodec_Test {
+
+    @Test
+    void xml_is_passed_through() {
+        final String xml = CommandDtoUtils.toXml(someCommandDto(10));
+
+        assertThat(DtoPayloadCodec.XML.encode(xml), is(xml));
+        assertThat(DtoPayloadCodec.codecOf(xml), is(DtoPayloadCodec.XML));
+        assertThat(DtoPayloadCodec.decode(xml), is(xml));
+        assertThat(DtoPayloadCodec.decode(null), is(nullValue()));
+    }
+
+    @Test
+    void gzip_roundtrip() {
+        final String xml = CommandDtoUtils.toXml(someCommandDto(10));
+
+        final String payload = DtoPayloadCodec.GZIP_BASE64.encode(xml);
+
+        assertThat(DtoPayloadCodec.codecOf(payload), is(DtoPayloadCodec.GZIP_BASE64));
+        assertThat(DtoPayloadCodec.decode(payload), is(xml));
+    }
+
+    @Test
+    void recode_between_codecs() {
+        final String xml = CommandDtoUtils.toXml(someCommandDto(10));
+        final String payload = DtoPayloadCodec.GZIP_BASE64.recode(xml);
+
+        // already encoded, hence as is
+        assertThat(DtoPayloadCodec.GZIP_BASE64.recode(payload), is(payload));
+        // and back
+        assertThat(DtoPayloadCodec.XML.recode(payload), is(xml));
+    }
+
+    @Test
+    void existing_xml_payloads_remain_readable_after_switching_codec() {
+        final CommandDto dto = someCommandDto(10);
+        final String xmlPayload = CommandDtoUtils.toPayload(dto, DtoPayloadCodec.XML);
+        final String gzipPayload = CommandDtoUtils.toPayload(dto, DtoPayloadCodec.GZIP_BASE64);
+
+        assertThat(DtoPayloadCodec.codecOf(xmlPayload), is(DtoPayloadCodec.XML));
+        assertThat(DtoPayloadCodec.codecOf(gzipPayload), is(DtoPayloadCodec.GZIP_BASE64));
+        assertThat(CommandDtoUtils.toXml(CommandDtoUtils.fromPayload(xmlPayload)),
+                is(CommandDtoUtils.toXml(CommandDtoUtils.fromPayload(gzipPayload))));
+    }
+
+    /**
+     * For timings see {@code DtoPayloadCodecBenchmark}.
+     */
+    @Test
+    void gzip_payload_is_considerably_smaller() {
+        final String xml = CommandDtoUtils.toXml(someCommandDto(200));
+
+        final String payload = DtoPayloadCodec.GZIP_BASE64.encode(xml);
+
+        assertThat(payload.length(), lessThan(xml.length() / 2));
+    }
+
+    // -- HELPER
+
+    private static CommandDto someCommandDto(final int userDataEntries) {
+        final CommandDto dto = new CommandDto();
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setUsername("sven");
+        for(int i=0; i<userDataEntries; ++i) {
+            CommandDtoUtils.setUserData(dto, "someKey" + i, "someValue" + i);
+        }
+        return dto;
+    }
+
+}
@@ -25,6 +25,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.JAXBContext;
@@ -41,6 +42,7 @@
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.codec._DocumentFactories;
 import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.collections._Sets;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.commons.internal.reflection._Annotations;
 
@@ -93,16 +95,20 @@ public static <T> T _readXml(
             final @NonNull Reader reader,
             final @NonNull ReadOptions readOptions) {
 
-        val unmarshaller = jaxbContextFor(dtoClass, readOptions.isUseContextCache()).createUnmarshaller();
+        val jaxbContext = jaxbContextFor(dtoClass, readOptions.isUseContextCache());
 
         if(readOptions.isAllowMissingRootElement()
                 && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
             val xsr = _DocumentFactories.xmlInputFactory().createXMLStreamReader(reader);
-            final JAXBElement<T> userElement = unmarshaller.unmarshal(xsr, dtoClass);
-            return userElement.getValue();
+            return readOptions.isUseContextCache()
+                    ? _XmlPool.shared().withUnmarshaller(jaxbContext,
+                            unmarshaller->unmarshaller.unmarshal(xsr, dtoClass).getValue())
+                    : jaxbContext.createUnmarshaller().unmarshal(xsr, dtoClass).getValue();
         }
 
-        return _Casts.uncheckedCast(unmarshaller.unmarshal(reader));
+        return readOptions.isUseContextCache()
+                ? _XmlPool.shared().unmarshal(jaxbContext, reader)
+                : _Casts.uncheckedCast(jaxbContext.createUnmarshaller().unmarshal(reader));
     }
 
     // -- WRITE
@@ -110,6 +116,11 @@ public static <T> T _readXml(
     private static <T> String _writeXml(
             final @NonNull T dto,
             final @NonNull WriteOptions writeOptions) throws JAXBException {
+        if(writeOptions.isUseContextCache()
+                && !isMissingRootElementToBeWrapped(dto.getClass(), writeOptions)) {
+            return _XmlPool.shared().marshalToString(
+                    jaxbContextFor(dto.getClass(), true), dto, writeOptions.isFormattedOutput());
+        }
         val writer = new StringWriter();
         writeXml(dto, writer, writeOptions);
         return writer.toString();
@@ -127,18 +138,28 @@ public static <T> void writeXml(
             final @NonNull WriteOptions writeOptions) throws JAXBException {
 
         val dtoClass = _Casts.<Class<T>>uncheckedCast(dto.getClass());
-        val marshaller = jaxbContextFor(dtoClass, writeOptions.useContextCache).createMarshaller();
+        val jaxbContext = jaxbContextFor(dtoClass, writeOptions.isUseContextCache());
+        final Object toMarshal = isMissingRootElementToBeWrapped(dtoClass, writeOptions)
+                ? new JAXBElement<T>(new QName("", dtoClass.getSimpleName()), dtoClass, null, dto)
+                : dto;
+
+        if(writeOptions.isUseContextCache()) {
+            _XmlPool.shared().marshal(jaxbContext, toMarshal, writer, writeOptions.isFormattedOutput());
+            return;
+        }
+
+        val marshaller = jaxbContext.createMarshaller();
         if(writeOptions.isFormattedOutput()) {
             marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
         }
-        if(writeOptions.isAllowMissingRootElement()
-            && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
-            val qName = new QName("", dtoClass.getSimpleName());
-            val jaxbElement = new JAXBElement<T>(qName, dtoClass, null, dto);
-            marshaller.marshal(jaxbElement, writer);
-        } else {
-            marshaller.marshal(dto, writer);
-        }
+        marshaller.marshal(toMarshal, writer);
+    }
+
+    private static boolean isMissingRootElementToBeWrapped(
+            final Class<?> dtoClass,
+            final WriteOptions writeOptions) {
+        return writeOptions.isAllowMissingRootElement()
+                && !_Annotations.isPresent(dtoClass, XmlRootElement.class);
     }
 
     // -- CLONE
@@ -212,13 +233,29 @@ private static boolean isIllegalAnnotationsException(final Exception e) {
     // -- JAXB CONTEXT CACHE
 
     private static Map<Class<?>, JAXBContext> jaxbContextByClass = _Maps.newConcurrentHashMap();
+    private static Set<JAXBContext> cachedJaxbContexts = _Sets.newConcurrentHashSet();
 
     public static <T> JAXBContext jaxbContextFor(final Class<T> dtoClass, final boolean useCache)  {
         return useCache
-                ? jaxbContextByClass.computeIfAbsent(dtoClass, _Xml::contextOf)
+                ? jaxbContextByClass.computeIfAbsent(dtoClass, _Xml::cachedContextOf)
                 : contextOf(dtoClass);
     }
 
+    /**
+     * Whether given {@link JAXBContext} was obtained from the cache, hence is long-lived
+     * and suitable for the {@link _XmlPool}.
+     */
+    public static boolean isCachedContext(final @Nullable JAXBContext jaxbContext) {
+        return jaxbContext!=null
+                && cachedJaxbContexts.contains(jaxbContext);
+    }
+
+    private static <T> JAXBContext cachedContextOf(final Class<T> dtoClass) {
+        val jaxbContext = contextOf(dtoClass);
+        cachedJaxbContexts.add(jaxbContext);
+        return jaxbContext;
+    }
+
     @SneakyThrows
     private static <T> JAXBContext contextOf(final Class<T> dtoClass) {
         try {
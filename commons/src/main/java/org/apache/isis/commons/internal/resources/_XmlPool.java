@@ -0,0 +1,189 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.commons.internal.resources;
+
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.apache.isis.commons.internal.base._Casts;
+import org.apache.isis.commons.internal.collections._Maps;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * <h1>- internal use only -</h1>
+ * <p>
+ * Thread-safe pools of JAXB {@link Marshaller}s and {@link Unmarshaller}s, keyed by {@link JAXBContext}.
+ * <p>
+ * Creating a (un)marshaller is cheap compared to creating a {@link JAXBContext}, but still shows up on hot paths,
+ * such as publishing every command and execution. Instances are not thread-safe, so are borrowed for the
+ * duration of a single call and then returned to the pool (unless the call failed, in which case the instance
+ * is discarded). Per context up to {@link #maxIdlePerContext} idle instances are retained.
+ * <p>
+ * Only use with long-lived {@link JAXBContext}s (such as those cached by {@link _Xml#jaxbContextFor(Class, boolean)}),
+ * as the pool holds on to these.
+ * <p>
+ * <b>WARNING</b>: Do <b>NOT</b> use any of the classes provided by this package!
+ * <br/>
+ * These may be changed or removed without notice!
+ * @since 2.0
+ */
+public final class _XmlPool {
+
+    @FunctionalInterface
+    public static interface JaxbFunction<X, R> {
+        R apply(X x) throws JAXBException;
+    }
+
+    private static final _XmlPool SHARED = new _XmlPool(marshaller->{}, unmarshaller->{});
+
+    /** buffers grown beyond this are not reused */
+    private static final int MAX_REUSABLE_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Reusable output buffer per thread, taken while in use (for re-entrance).
+     */
+    private static final ThreadLocal<StringWriter> buffers = ThreadLocal.withInitial(()->new StringWriter(4096));
+
+    /**
+     * Pool shared by the framework's DTO utilities, not applying any customization.
+     */
+    public static _XmlPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Pool that applies given customizers once per created (un)marshaller.
+     */
+    public static _XmlPool withCustomizers(
+            final @NonNull Consumer<Marshaller> marshallerCustomizer,
+            final @NonNull Consumer<Unmarshaller> unmarshallerCustomizer) {
+        return new _XmlPool(marshallerCustomizer, unmarshallerCustomizer);
+    }
+
+    private final int maxIdlePerContext = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private final Consumer<Marshaller> marshallerCustomizer;
+    private final Consumer<Unmarshaller> unmarshallerCustomizer;
+    private final Map<JAXBContext, BlockingQueue<Marshaller>> marshallers = _Maps.newConcurrentHashMap();
+    private final Map<JAXBContext, BlockingQueue<Marshaller>> formattingMarshallers = _Maps.newConcurrentHashMap();
+    private final Map<JAXBContext, BlockingQueue<Unmarshaller>> unmarshallers = _Maps.newConcurrentHashMap();
+
+    private _XmlPool(
+            final Consumer<Marshaller> marshallerCustomizer,
+            final Consumer<Unmarshaller> unmarshallerCustomizer) {
+        this.marshallerCustomizer = marshallerCustomizer;
+        this.unmarshallerCustomizer = unmarshallerCustomizer;
+    }
+
+    // -- READ
+
+    public <R> R withUnmarshaller(
+            final @NonNull JAXBContext jaxbContext,
+            final @NonNull JaxbFunction<Unmarshaller, R> function) throws JAXBException {
+
+        val idle = unmarshallers.computeIfAbsent(jaxbContext, __->new ArrayBlockingQueue<>(maxIdlePerContext));
+        Unmarshaller unmarshaller = idle.poll();
+        if(unmarshaller==null) {
+            unmarshaller = jaxbContext.createUnmarshaller();
+            unmarshallerCustomizer.accept(unmarshaller);
+        }
+        val result = function.apply(unmarshaller);
+        idle.offer(unmarshaller); // only reached on success, if full just drop it
+        return result;
+    }
+
+    public <T> T unmarshal(
+            final @NonNull JAXBContext jaxbContext,
+            final @NonNull Reader reader) throws JAXBException {
+        return withUnmarshaller(jaxbContext, unmarshaller->_Casts.uncheckedCast(unmarshaller.unmarshal(reader)));
+    }
+
+    // -- WRITE
+
+    public <R> R withMarshaller(
+            final @NonNull JAXBContext jaxbContext,
+            final boolean formattedOutput,
+            final @NonNull JaxbFunction<Marshaller, R> function) throws JAXBException {
+
+        val idle = (formattedOutput ? formattingMarshallers : marshallers)
+                .computeIfAbsent(jaxbContext, __->new ArrayBlockingQueue<>(maxIdlePerContext));
+        Marshaller marshaller = idle.poll();
+        if(marshaller==null) {
+            marshaller = jaxbContext.createMarshaller();
+            if(formattedOutput) {
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+            }
+            marshallerCustomizer.accept(marshaller);
+        }
+        val result = function.apply(marshaller);
+        idle.offer(marshaller); // only reached on success, if full just drop it
+        return result;
+    }
+
+    public void marshal(
+            final @NonNull JAXBContext jaxbContext,
+            final @NonNull Object dto,
+            final @NonNull Writer writer,
+            final boolean formattedOutput) throws JAXBException {
+        withMarshaller(jaxbContext, formattedOutput, marshaller->{
+            marshaller.marshal(dto, writer);
+            return null;
+        });
+    }
+
+    /**
+     * Marshals given dto into a (per thread) reusable buffer, returning its contents.
+     */
+    public String marshalToString(
+            final @NonNull JAXBContext jaxbContext,
+            final @NonNull Object dto,
+            final boolean formattedOutput) throws JAXBException {
+
+        StringWriter buffer = buffers.get();
+        buffers.set(null);
+        if(buffer==null) {
+            // re-entrant call, while the thread's buffer is in use
+            buffer = new StringWriter(4096);
+        }
+        try {
+            marshal(jaxbContext, dto, buffer, formattedOutput);
+            return buffer.toString();
+        } finally {
+            val sb = buffer.getBuffer();
+            if(sb.capacity() <= MAX_REUSABLE_BUFFER_SIZE) {
+                sb.setLength(0);
+                buffers.set(buffer);
+            } else {
+                buffers.remove();
+            }
+        }
+    }
+
+}
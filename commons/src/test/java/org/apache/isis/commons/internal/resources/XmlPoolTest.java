@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.commons.internal.resources;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.Data;
+import lombok.SneakyThrows;
+import lombok.val;
+
+class XmlPoolTest {
+
+    @Test @SneakyThrows
+    void roundtrip() {
+        val jaxbContext = _Xml.jaxbContextFor(SampleDto.class, true);
+        val pool = _XmlPool.shared();
+
+        val xml = pool.marshalToString(jaxbContext, sample("Hallo World!"), false);
+        final SampleDto dto = pool.unmarshal(jaxbContext, new StringReader(xml));
+
+        assertEquals(sample("Hallo World!"), dto);
+    }
+
+    @Test @SneakyThrows
+    void reused_buffer_does_not_leak_previous_content() {
+        val jaxbContext = _Xml.jaxbContextFor(SampleDto.class, true);
+        val pool = _XmlPool.shared();
+
+        val first = pool.marshalToString(jaxbContext, sample("a much longer content, than the next"), false);
+        val second = pool.marshalToString(jaxbContext, sample("short"), false);
+
+        assertTrue(first.contains("a much longer content"));
+        assertFalse(second.contains("a much longer content"));
+    }
+
+    @Test
+    void concurrent_roundtrips() {
+        val jaxbContext = _Xml.jaxbContextFor(SampleDto.class, true);
+        val pool = _XmlPool.shared();
+
+        final List<SampleDto> roundtripped = IntStream.range(0, 1000)
+                .parallel()
+                .mapToObj(i->roundtrip(pool, jaxbContext, sample("content-" + i)))
+                .collect(Collectors.toList());
+
+        IntStream.range(0, 1000)
+                .forEach(i->assertEquals(sample("content-" + i), roundtripped.get(i)));
+    }
+
+    @Test
+    void cached_context_detection() {
+        assertTrue(_Xml.isCachedContext(_Xml.jaxbContextFor(SampleDto.class, true)));
+        assertFalse(_Xml.isCachedContext(_Xml.jaxbContextFor(SampleDto.class, false)));
+    }
+
+    // -- HELPER
+
+    @XmlRootElement(name = "sample")
+    @XmlAccessorType(XmlAccessType.FIELD)
+    @Data
+    public static class SampleDto {
+        @XmlElement(required = true)
+        protected String content;
+    }
+
+    private static SampleDto sample(final String content) {
+        val dto = new SampleDto();
+        dto.setContent(content);
+        return dto;
+    }
+
+    @SneakyThrows
+    private static SampleDto roundtrip(
+            final _XmlPool pool,
+            final JAXBContext jaxbContext,
+            final SampleDto dto) {
+        val xml = pool.marshalToString(jaxbContext, dto, true);
+        return pool.unmarshal(jaxbContext, new StringReader(xml));
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.services.iactnlayer.InteractionService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.benchmarks.model.BenchmarkCustomer;
+import org.apache.isis.core.benchmarks.model.BenchmarkModule;
+import org.apache.isis.core.metamodel.interactions.managed.ActionInteraction;
+import org.apache.isis.core.metamodel.object.ManagedObject;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+
+import lombok.val;
+
+/**
+ * Action interactions against the full runtime stack (JPA on in-memory H2),
+ * each within its own interaction, with command and execution publishing either on or off.
+ * <p>
+ * Invocation goes through {@code MemberExecutorServiceDefault.invokeAction}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionInteractionBenchmark {
+
+    @Param({"none", "all"})
+    private String publishing;
+
+    private ConfigurableApplicationContext springContext;
+    private InteractionService interactionService;
+    private ManagedObject customer;
+    private ManagedObject newName;
+
+    @Setup
+    public void setup() {
+        springContext = new SpringApplicationBuilder(BenchmarkModule.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "isis.applib.annotation.action.command-publishing=" + publishing,
+                        "isis.applib.annotation.action.execution-publishing=" + publishing)
+                .run();
+        interactionService = springContext.getBean(InteractionService.class);
+        val objectManager = springContext.getBean(ObjectManager.class);
+        customer = objectManager.adapt(new BenchmarkCustomer("Fred"));
+        newName = objectManager.adapt("Joe");
+    }
+
+    @TearDown
+    public void tearDown() {
+        springContext.close();
+    }
+
+    /**
+     * Parameter negotiation and validation, without invocation.
+     */
+    @Benchmark
+    public Object validate() {
+        return interactionService.callAnonymous(()->{
+            val actionInteraction = ActionInteraction.start(customer, "updateName", Where.OBJECT_FORMS);
+            val pendingArgs = actionInteraction.startParameterNegotiation().orElseThrow();
+            pendingArgs.setParamValue(0, newName);
+            return actionInteraction.validate(pendingArgs);
+        });
+    }
+
+    /**
+     * Validation and invocation, as triggered by a viewer.
+     */
+    @Benchmark
+    public Object validateAndInvoke() {
+        return interactionService.callAnonymous(()->{
+            val actionInteraction = ActionInteraction.start(customer, "updateName", Where.OBJECT_FORMS);
+            val pendingArgs = actionInteraction.startParameterNegotiation().orElseThrow();
+            pendingArgs.setParamValue(0, newName);
+            return actionInteraction.invokeWith(pendingArgs).getSuccessElseFail();
+        });
+    }
+
+    /**
+     * Invocation only, without rule checking.
+     */
+    @Benchmark
+    public Object invokeAction() {
+        return interactionService.callAnonymous(()->
+            ActionInteraction.start(customer, "updateName", Where.OBJECT_FORMS)
+                .getManagedActionElseThrow(veto->new IllegalStateException(veto.toString()))
+                .invoke(Can.ofSingleton(newName))
+                .getSuccessElseFail());
+    }
+
+}
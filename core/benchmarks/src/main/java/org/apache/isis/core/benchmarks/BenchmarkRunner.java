@@ -0,0 +1,54 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import lombok.val;
+
+/**
+ * Runs the benchmarks of this module, publishing results as JSON,
+ * so these can be compared between releases (eg. using https://jmh.morethan.io).
+ * <p>
+ * Accepts the same arguments as {@link org.openjdk.jmh.Main}, eg. a regex to select benchmarks.
+ * Results are written to {@code jmh-result.json}, unless specified otherwise with {@code -rff <file>}.
+ * <pre>
+ * java -jar target/benchmarks.jar [regex] [-rff results.json]
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        val commandLineOptions = new CommandLineOptions(args);
+        val options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .resultFormat(ResultFormatType.JSON)
+                .result(commandLineOptions.getResult().orElse(DEFAULT_RESULT_FILE))
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.benchmarks;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.commons.collections.Can;
+
+/**
+ * Common {@link Can} operations, for empty, singleton and multiple cardinality.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CanBenchmark {
+
+    @Param({"0", "1", "16"})
+    private int size;
+
+    private List<String> list;
+    private Can<String> can;
+
+    @Setup
+    public void setup() {
+        list = IntStream.range(0, size)
+                .mapToObj(i->"element-" + i)
+                .collect(Collectors.toList());
+        can = Can.ofCollection(list);
+    }
+
+    @Benchmark
+    public Object ofCollection() {
+        return Can.ofCollection(list);
+    }
+
+    @Benchmark
+    public Object map() {
+        return can.map(String::length);
+    }
+
+    @Benchmark
+    public Object filter() {
+        return can.filter(element->element.endsWith("1"));
+    }
+
+    @Benchmark
+    public Object add() {
+        return can.add("added");
+    }
+
+    @Benchmark
+    public Object sorted() {
+        return can.sorted(Comparator.reverseOrder());
+    }
+
+    @Benchmark
+    public long stream() {
+        return can.stream()
+                .filter(element->element.endsWith("1"))
+                .count();
+    }
+
+}
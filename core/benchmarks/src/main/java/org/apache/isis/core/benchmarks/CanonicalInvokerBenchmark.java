@@ -0,0 +1,142 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.commons.internal.reflection._Reflect;
+import org.apache.isis.core.metamodel.commons.CanonicalInvoker;
+import org.apache.isis.core.metamodel.commons.ParameterAdapter;
+
+/**
+ * Compares {@link CanonicalInvoker} (method handle based) with the former reflective invocation path
+ * ({@link ParameterAdapter#adaptAll} followed by {@link _Reflect#invokeMethodOn}),
+ * for typical member and supporting methods (getter, {@code hideXxx}, {@code validateXxx}, action).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CanonicalInvokerBenchmark {
+
+    public static class Customer {
+        private String name = "Fred";
+        public String getName() { return name; }
+        public boolean hideName() { return false; }
+        public String validateUpdateName(final String newName) { return newName.isEmpty() ? "required" : null; }
+        public Customer updateName(final String newName, final List<String> tags, final int rank) {
+            this.name = newName;
+            return this;
+        }
+    }
+
+    private Customer customer;
+    private Method getName;
+    private Method hideName;
+    private Method validateUpdateName;
+    private Method updateName;
+    private Object[] validateArgs;
+    private Object[] updateArgs;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        customer = new Customer();
+        getName = Customer.class.getMethod("getName");
+        hideName = Customer.class.getMethod("hideName");
+        validateUpdateName = Customer.class.getMethod("validateUpdateName", String.class);
+        updateName = Customer.class.getMethod("updateName", String.class, List.class, int.class);
+        validateArgs = new Object[] {"Joe"};
+        updateArgs = new Object[] {"Joe", List.of("a", "b"), null};
+    }
+
+    // -- BASELINE
+
+    @Benchmark
+    public Object getter_direct() {
+        return customer.getName();
+    }
+
+    // -- REFLECTIVE
+
+    @Benchmark
+    public Object getter_reflective() {
+        return reflective(getName, null);
+    }
+
+    @Benchmark
+    public Object hide_reflective() {
+        return reflective(hideName, null);
+    }
+
+    @Benchmark
+    public Object validate_reflective() {
+        return reflective(validateUpdateName, validateArgs);
+    }
+
+    @Benchmark
+    public Object action_reflective() {
+        return reflective(updateName, updateArgs);
+    }
+
+    // -- CANONICAL INVOKER
+
+    @Benchmark
+    public Object getter_canonicalInvoker() {
+        return CanonicalInvoker.invoke(getName, customer);
+    }
+
+    @Benchmark
+    public Object hide_canonicalInvoker() {
+        return CanonicalInvoker.invoke(hideName, customer);
+    }
+
+    @Benchmark
+    public Object validate_canonicalInvoker() {
+        return CanonicalInvoker.invoke(validateUpdateName, customer, validateArgs);
+    }
+
+    @Benchmark
+    public Object action_canonicalInvoker() {
+        return CanonicalInvoker.invoke(updateName, customer, updateArgs);
+    }
+
+    // -- HELPER
+
+    private Object reflective(final Method method, final Object[] args) {
+        return _Reflect.invokeMethodOn(method, customer, ParameterAdapter.DEFAULT.adaptAll(method, args))
+                .ifFailureFail()
+                .getValue().orElse(null);
+    }
+
+}
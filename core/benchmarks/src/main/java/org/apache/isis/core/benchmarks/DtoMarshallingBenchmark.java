@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.benchmarks;
+
+import java.io.CharArrayWriter;
+import java.io.StringReader;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.applib.util.JaxbUtil;
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+
+/**
+ * {@link CommandDto} to and from XML, using pooled (un)marshallers and a reusable output buffer
+ * (as {@link CommandDtoUtils} does), compared to creating these per call (as it used to).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class DtoMarshallingBenchmark {
+
+    @Param({"1", "32"})
+    private int userDataEntries;
+
+    private JAXBContext jaxbContext;
+    private CommandDto commandDto;
+    private String xml;
+
+    @Setup
+    public void setup() {
+        jaxbContext = JaxbUtil.jaxbContextFor(CommandDto.class);
+        commandDto = new CommandDto();
+        commandDto.setInteractionId(UUID.randomUUID().toString());
+        commandDto.setUsername("sven");
+        for(int i=0; i<userDataEntries; ++i) {
+            CommandDtoUtils.setUserData(commandDto, "someKey" + i, "someValue" + i);
+        }
+        xml = CommandDtoUtils.toXml(commandDto);
+    }
+
+    @Benchmark
+    public String toXml_pooled() {
+        return CommandDtoUtils.toXml(commandDto);
+    }
+
+    @Benchmark
+    public String toXml_perCall() throws JAXBException {
+        final CharArrayWriter caw = new CharArrayWriter();
+        final Marshaller m = jaxbContext.createMarshaller();
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        m.marshal(commandDto, caw);
+        return caw.toString();
+    }
+
+    @Benchmark
+    public CommandDto fromXml_pooled() {
+        return CommandDtoUtils.fromXml(xml);
+    }
+
+    @Benchmark
+    public Object fromXml_perCall() throws JAXBException {
+        return jaxbContext.createUnmarshaller().unmarshal(new StringReader(xml));
+    }
+
+}
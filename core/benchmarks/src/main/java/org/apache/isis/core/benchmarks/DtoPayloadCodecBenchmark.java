@@ -0,0 +1,98 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.applib.util.schema.DtoPayloadCodec;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+
+/**
+ * CPU cost of persisting {@link CommandDto}s with each {@link DtoPayloadCodec}, both for the codec alone
+ * and including the (un)marshalling to and from XML (as done by the ORM's type converters).
+ * <p>
+ * The size reduction the compact codecs trade this for is asserted by {@code DtoPayloadCodec_Test}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class DtoPayloadCodecBenchmark {
+
+    @Param({"XML", "GZIP_BASE64"})
+    private DtoPayloadCodec codec;
+
+    @Param({"1", "32"})
+    private int userDataEntries;
+
+    private CommandDto commandDto;
+    private String xml;
+    private String payload;
+
+    @Setup
+    public void setup() {
+        commandDto = new CommandDto();
+        commandDto.setInteractionId(UUID.randomUUID().toString());
+        commandDto.setUsername("sven");
+        for(int i=0; i<userDataEntries; ++i) {
+            CommandDtoUtils.setUserData(commandDto, "someKey" + i, "someValue" + i);
+        }
+        xml = CommandDtoUtils.toXml(commandDto);
+        payload = codec.encode(xml);
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(xml);
+    }
+
+    @Benchmark
+    public String decode() {
+        return DtoPayloadCodec.decode(payload);
+    }
+
+    @Benchmark
+    public String toPayload() {
+        return CommandDtoUtils.toPayload(commandDto, codec);
+    }
+
+    @Benchmark
+    public CommandDto fromPayload() {
+        return CommandDtoUtils.fromPayload(payload);
+    }
+
+}
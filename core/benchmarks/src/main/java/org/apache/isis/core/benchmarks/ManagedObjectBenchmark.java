@@ -0,0 +1,79 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.core.benchmarks.model.BenchmarkCustomer;
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.isis.core.metamodel.object.ManagedObject;
+import org.apache.isis.core.metamodel.object.ManagedObjects;
+import org.apache.isis.core.metamodel.object.MmTitleUtil;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+
+/**
+ * Adapting pojos, bookmarking and title rendering.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ManagedObjectBenchmark {
+
+    private SpecificationLoader specLoader;
+    private BenchmarkCustomer customer;
+    private ManagedObject customerAdapter;
+
+    @Setup
+    public void setup() {
+        specLoader = MetaModelContext_forTesting.buildDefault().getSpecificationLoader();
+        customer = new BenchmarkCustomer("Fred");
+        customerAdapter = ManagedObject.adaptSingular(specLoader, customer);
+    }
+
+    @Benchmark
+    public Object adaptSingular() {
+        return ManagedObject.adaptSingular(specLoader, customer);
+    }
+
+    @Benchmark
+    public Object bookmark() {
+        // a fresh adapter, as adapters memoize their bookmark
+        return ManagedObjects.bookmark(ManagedObject.adaptSingular(specLoader, customer));
+    }
+
+    @Benchmark
+    public Object title() {
+        return MmTitleUtil.titleOf(customerAdapter);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.benchmarks.model;
+
+import javax.inject.Named;
+
+import org.apache.isis.applib.ViewModel;
+import org.apache.isis.applib.annotation.Action;
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.Nature;
+import org.apache.isis.applib.annotation.Property;
+import org.apache.isis.applib.annotation.Title;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Domain object, the metamodel and interaction benchmarks operate on.
+ */
+@Named("benchmarks.Customer")
+@DomainObject(nature = Nature.VIEW_MODEL)
+public class BenchmarkCustomer implements ViewModel {
+
+    public BenchmarkCustomer() {
+        this("Fred");
+    }
+
+    public BenchmarkCustomer(final String memento) {
+        this.name = memento;
+    }
+
+    @Override
+    public String viewModelMemento() {
+        return name;
+    }
+
+    @Title
+    @Property
+    @Getter @Setter
+    private String name;
+
+    @Action
+    public BenchmarkCustomer updateName(final String newName) {
+        setName(newName);
+        return this;
+    }
+    public String validate0UpdateName(final String newName) {
+        return newName.isEmpty()
+                ? "name is required"
+                : null;
+    }
+
+}
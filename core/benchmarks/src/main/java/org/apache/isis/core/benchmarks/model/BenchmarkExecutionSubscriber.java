@@ -0,0 +1,43 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.benchmarks.model;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.services.iactn.Execution;
+import org.apache.isis.applib.services.publishing.spi.ExecutionSubscriber;
+
+import lombok.Getter;
+
+/**
+ * Counts published executions, so execution publishing has a subscriber to publish to.
+ */
+@Service
+public class BenchmarkExecutionSubscriber implements ExecutionSubscriber {
+
+    @Getter private final LongAdder executionCount = new LongAdder();
+
+    @Override
+    public void onExecution(final Execution<?, ?> execution) {
+        executionCount.increment();
+    }
+
+}
@@ -54,6 +54,7 @@
 import org.apache.isis.applib.annotation.Introspection.IntrospectionPolicy;
 import org.apache.isis.applib.annotation.LabelPosition;
 import org.apache.isis.applib.annotation.PromptStyle;
+import org.apache.isis.applib.events.domain.AbstractDomainEvent;
 import org.apache.isis.applib.services.i18n.Mode;
 import org.apache.isis.applib.services.iactn.Execution;
 import org.apache.isis.applib.services.publishing.spi.EntityChangesSubscriber;
@@ -814,6 +815,19 @@ public static class DomainEvent {
                      * </ul>
                      */
                     private boolean postForDefault = true;
+
+                    /**
+                     * Phases (out of hide, disable and validate), for which no
+                     * {@link org.apache.isis.applib.events.domain.ActionDomainEvent} is posted, even if there are subscribers.
+                     *
+                     * <p>
+                     *     Independent of this setting, events of these phases are only posted if there is at least
+                     *     one subscriber that listens for the event type.  The executing and executed phases are
+                     *     never suppressed (and ignored if listed here), as the event is also held by the current
+                     *     {@link org.apache.isis.applib.services.iactn.Execution}.
+                     * </p>
+                     */
+                    private List<AbstractDomainEvent.Phase> suppressedPhases = new ArrayList<>();
                 }
 
 
@@ -997,6 +1011,19 @@ public static class DomainEvent {
                      * </ul>
                      */
                     private boolean postForDefault = true;
+
+                    /**
+                     * Phases (out of hide, disable and validate), for which no
+                     * {@link org.apache.isis.applib.events.domain.PropertyDomainEvent} is posted, even if there are subscribers.
+                     *
+                     * <p>
+                     *     Independent of this setting, events of these phases are only posted if there is at least
+                     *     one subscriber that listens for the event type.  The executing and executed phases are
+                     *     never suppressed (and ignored if listed here), as the event is also held by the current
+                     *     {@link org.apache.isis.applib.services.iactn.Execution}.
+                     * </p>
+                     */
+                    private List<AbstractDomainEvent.Phase> suppressedPhases = new ArrayList<>();
                 }
 
             }
@@ -1062,6 +1089,17 @@ public static class DomainEvent {
                      * </ul>
                      */
                     private boolean postForDefault = true;
+
+                    /**
+                     * Phases (out of hide and disable), for which no
+                     * {@link org.apache.isis.applib.events.domain.CollectionDomainEvent} is posted, even if there are subscribers.
+                     *
+                     * <p>
+                     *     Independent of this setting, events of these phases are only posted if there is at least
+                     *     one subscriber that listens for the event type.
+                     * </p>
+                     */
+                    private List<AbstractDomainEvent.Phase> suppressedPhases = new ArrayList<>();
                 }
             }
 
@@ -1402,10 +1440,12 @@ public IntrospectionPolicy getPolicy() {
                 /**
                  * Whether to perform introspection in parallel. Meant to speed up bootstrapping.
                  * <p>
-                 *     For now this is <i>experimental</i>. Leave this disabled (the default).
+                 *     Each introspection phase (type hierarchies, value types, mixins, domain objects) is forked
+                 *     across the common fork-join pool and joined before the next phase starts,
+                 *     resulting in the same metamodel and validation failures as a serial run.
                  * </p>
                  */
-                private boolean parallelize = false; //TODO[ISIS-2382] concurrent spec-loading is experimental
+                private boolean parallelize = false;
 
                 /**
                  * Whether all known types should be fully introspected as part of the bootstrapping, or should only be
@@ -1452,6 +1492,36 @@ public IntrospectionPolicy getPolicy() {
                  */
                 private boolean validateIncrementally = true;
 
+                private final TypeClassificationCache typeClassificationCache = new TypeClassificationCache();
+                @Data
+                public static class TypeClassificationCache {
+
+                    /**
+                     * If true, then the classification of all types scanned during bootstrapping (whether a
+                     * domain service, entity, view model, mixin, value, etc.) is written to a local file,
+                     * keyed by a hash over the active profiles and the class-path.
+                     *
+                     * <p>
+                     * On the next bootstrap, if the key still matches, types are not classified again
+                     * (which involves synthesizing their annotations); the startup log reports the time saved.
+                     * Otherwise types are classified as usual and the file is rewritten.
+                     * Types are still introspected and the metamodel validated as usual.
+                     * </p>
+                     *
+                     * <p>
+                     * Classification happens before this configuration is bound, hence this setting is
+                     * read directly from the Spring environment.
+                     * </p>
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * Directory the type classification cache file is written to.
+                     * If not set, the system's temporary directory is used.
+                     */
+                    private Optional<String> directory = Optional.empty();
+                }
+
             }
 
             private final Validator validator = new Validator();
@@ -1565,6 +1635,20 @@ public static class Runtime {
              */
             private String timezone;
 
+            /**
+             * If true, then visibility and usability consents of object members are memoized for the duration
+             * of an interaction, so these are evaluated (including their supporting methods and domain events)
+             * only once per target, member, user and where-context, even if asked for repeatedly
+             * (eg. when rendering tables, action menus and property panels).
+             *
+             * <p>
+             *     Memoized consents are discarded, once any entity is dirtied or any action invocation or
+             *     property edit is executed within the same interaction. Only enable, if hide/disable logic
+             *     depends on no other state than that.
+             * </p>
+             */
+            private boolean memoizeConsentsPerInteraction = false;
+
         }
 
         private final RuntimeServices runtimeServices = new RuntimeServices();
@@ -1702,6 +1786,159 @@ public static class RepositoryService {
                  */
                 private boolean disableAutoFlush = false;
 
+                /**
+                 * Number of entities read per round-trip to the database when streaming query results
+                 * (using <code>RepositoryService#streamMatches(Query)</code>), after which those
+                 * already consumed are flushed and detached from the persistence context.
+                 *
+                 * <p>
+                 * This keeps memory flat when exporting or reprocessing large numbers of entities.
+                 * </p>
+                 */
+                @Min(1)
+                private int streamChunkSize = 1000;
+
+            }
+
+            private final EntityChangeTracker entityChangeTracker = new EntityChangeTracker();
+            @Data
+            public static class EntityChangeTracker {
+
+                /**
+                 * Number of enlisted property changes held in memory, after which these are spilled to a local file,
+                 * keeping the heap footprint bounded for very large transactions (eg. data migrations).
+                 * On commit, the spilled changes are then published in chunks of this size.
+                 *
+                 * <p>
+                 *     Only the pre-values are spilled; the post-values are read on commit, re-loading the spilled
+                 *     entities chunk by chunk (using one fetch per entity type and chunk).
+                 *     A property changed again after having been spilled is de-duplicated on commit, too.
+                 * </p>
+                 *
+                 * <p>
+                 *     Memory that still grows with the size of the transaction is one entry per changed entity
+                 *     (its bookmark and kind of change), needed to publish the changing entities.
+                 * </p>
+                 *
+                 * <p>
+                 *     If zero (the default), property changes are never spilled, and are tracked in memory
+                 *     exactly as without this setting.
+                 * </p>
+                 */
+                @javax.validation.constraints.Min(0)
+                private int spillThreshold = 0;
+
+                /**
+                 * Directory the spill files are written to (these are deleted once the transaction has completed).
+                 * If not set, the system's temporary directory is used.
+                 */
+                private Optional<String> spillDirectory = Optional.empty();
+            }
+
+            private final Publishing publishing = new Publishing();
+            @Data
+            public static class Publishing {
+
+                private final Async async = new Async();
+                @Data
+                public static class Async {
+
+                    /**
+                     * Number of worker threads (lanes), that notify
+                     * {@link org.apache.isis.applib.services.publishing.spi.ExecutionSubscriber#isAsync() async}
+                     * subscribers once the transaction has committed.
+                     *
+                     * <p>
+                     *     Notifications originating from the same interaction are always handled by the same lane,
+                     *     hence are received in order.
+                     * </p>
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int lanes = 2;
+
+                    /**
+                     * Maximum number of committed interactions (each with their notifications) queued per lane.
+                     * If a lane's queue is full, the committing thread waits for space to become available
+                     * (backpressure).
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int queueCapacity = 10_000;
+
+                    /**
+                     * On shutdown, how long to wait for the lanes to drain their queues; notifications still queued
+                     * after that are treated as failed.
+                     */
+                    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+                    /**
+                     * Directory, that notifications failed to be processed by async subscribers are written to
+                     * (one file per failure), so these can be recovered. If not set, failed notifications are only
+                     * logged.
+                     */
+                    private Optional<String> failuresDirectory = Optional.empty();
+                }
+            }
+
+            private final WrapperFactory wrapperFactory = new WrapperFactory();
+            @Data
+            public static class WrapperFactory {
+
+                private final AsyncExecutor asyncExecutor = new AsyncExecutor();
+                @Data
+                public static class AsyncExecutor {
+
+                    /**
+                     * The kind of (framework-managed) executor, that
+                     * {@link org.apache.isis.applib.services.wrapper.WrapperFactory#asyncWrap(Object, org.apache.isis.applib.services.wrapper.control.AsyncControl) async wrapped}
+                     * executions are submitted to, unless the
+                     * {@link org.apache.isis.applib.services.wrapper.control.AsyncControl} specifies an executor of its own.
+                     */
+                    private AsyncExecutorMode mode = AsyncExecutorMode.PLATFORM_THREAD_POOL;
+
+                    /**
+                     * For {@link AsyncExecutorMode#PLATFORM_THREAD_POOL}, the maximum number of threads.
+                     *
+                     * <p>
+                     *     As async executions typically block on I/O (eg. JDBC), this may well exceed the number
+                     *     of processors, but should not exceed the number of connections available to them.
+                     * </p>
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int poolSize = 8;
+
+                    /**
+                     * For {@link AsyncExecutorMode#PLATFORM_THREAD_POOL}, the maximum number of executions waiting
+                     * for a thread. Once exceeded, further submissions are rejected (throwing a
+                     * {@link java.util.concurrent.RejectedExecutionException}).
+                     */
+                    @javax.validation.constraints.Min(0)
+                    private int queueCapacity = 1000;
+
+                    /**
+                     * On shutdown, how long to wait for executions already submitted to complete, before these
+                     * are interrupted.
+                     */
+                    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+                    public static enum AsyncExecutorMode {
+                        /**
+                         * A bounded pool of (platform) threads, see {@link AsyncExecutor#getPoolSize()} and
+                         * {@link AsyncExecutor#getQueueCapacity()}.
+                         */
+                        PLATFORM_THREAD_POOL,
+                        /**
+                         * One virtual thread per execution; requires a JVM that supports virtual threads
+                         * (JDK 21+), otherwise falls back to {@link #PLATFORM_THREAD_POOL}.
+                         */
+                        VIRTUAL_THREADS,
+                        /**
+                         * No framework-managed executor; the executor is expected to be supplied by the caller via
+                         * {@link org.apache.isis.applib.services.wrapper.control.AsyncControl#with(java.util.concurrent.ExecutorService)},
+                         * otherwise the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} is used.
+                         */
+                        CALLER_SUPPLIED
+                    }
+                }
             }
 
             private final ExceptionRecognizer exceptionRecognizer = new ExceptionRecognizer();
@@ -1816,6 +2053,17 @@ public static class Schema {
              */
             private String createSchemaSqlTemplate = "CREATE SCHEMA IF NOT EXISTS %S";
 
+            /**
+             * How DTOs (such as <code>CommandDto</code> and <code>InteractionDto</code>) are encoded, when persisted
+             * into character columns, eg. by the command log, the execution log and the execution outbox.
+             * <p>
+             * Payloads are self-describing, hence rows persisted with any codec (in particular plain XML) remain
+             * readable after switching codecs; existing rows can be re-encoded using the
+             * <code>DtoPayloadMigrator</code>.
+             */
+            private org.apache.isis.applib.util.schema.DtoPayloadCodec dtoPayloadCodec =
+                    org.apache.isis.applib.util.schema.DtoPayloadCodec.XML;
+
         }
     }
 
@@ -2926,6 +3174,38 @@ public static class Cors {
         private final Quartz quartz = new Quartz();
         @Data
         public static class Quartz {
+
+            private final RetentionJob retentionJob = new RetentionJob();
+            @Data
+            public static class RetentionJob {
+
+                /**
+                 * Number of milliseconds before starting the job.
+                 */
+                private long startDelay = 60000;
+
+                /**
+                 * Number of milliseconds before running again.
+                 */
+                private long repeatInterval = 3600000;
+
+                /**
+                 * Maximum number of log entries removed within a single transaction.
+                 */
+                @javax.validation.constraints.Min(1)
+                private int chunkSize = 1000;
+
+                /**
+                 * For how long log entries are retained, keyed by the name of the log, one of
+                 * <code>command-log</code>, <code>execution-log</code>, <code>audit-trail</code> or
+                 * <code>session-log</code>.
+                 *
+                 * <p>
+                 *     Logs not listed are retained indefinitely.
+                 * </p>
+                 */
+                private Map<String, Duration> retain = new LinkedHashMap<>();
+            }
         }
 
         private final CommandLog commandLog = new CommandLog();
@@ -3006,6 +3286,44 @@ public static class QuartzReplicateAndReplayJob {
                 private long repeatInterval = 10000;
             }
 
+            private final Replay replay = new Replay();
+            @Data
+            public static class Replay {
+                /**
+                 * Whether the secondary should fetch the next batch of commands from the primary in the
+                 * background, while still replaying the current batch.
+                 *
+                 * <p>
+                 *     The prefetched batch is only saved once the current batch has been replayed successfully,
+                 *     and is discarded otherwise.
+                 * </p>
+                 */
+                private boolean prefetch = true;
+
+                /**
+                 * Whether to replay commands targeting different objects concurrently (opt-in).
+                 *
+                 * <p>
+                 *     By default commands are replayed one after another, in the order they were executed on the
+                 *     primary. If enabled, each batch is partitioned by the (primary) target of its commands;
+                 *     commands with the same target are still replayed in order, but those with different targets
+                 *     are not. Only the target is considered, not the arguments nor any other objects modified
+                 *     (eg. by subscribers or child commands), so only enable this if commands against one object
+                 *     never modify (nor read) any other object that commands in the same batch may modify.
+                 * </p>
+                 *
+                 * @see #getThreads()
+                 */
+                private boolean parallel = false;
+
+                /**
+                 * Number of threads used to replay a batch of commands, if {@link #isParallel() parallel} replay
+                 * is enabled; ignored otherwise.
+                 */
+                @javax.validation.constraints.Min(1)
+                private int threads = 4;
+            }
+
             private final Analyser analyser = new Analyser();
             @Data
             public static class Analyser {
@@ -3023,6 +3341,23 @@ public static class Exception {
             }
         }
 
+        private final Metrics metrics = new Metrics();
+        @Data
+        public static class Metrics {
+
+            /**
+             * Whether the timers of action invocations and property edits should publish a percentile histogram,
+             * allowing for aggregable percentile approximations (eg. on Prometheus).
+             *
+             * <p>
+             *     Only applies if the <i>Metrics (Micrometer)</i> extension is in use. Each histogram adds a number
+             *     of time series per action or property, so this is disabled by default.
+             * </p>
+             */
+            private boolean publishPercentileHistograms = false;
+
+        }
+
         private final Secman secman = new Secman();
         @Data
         public static class Secman {
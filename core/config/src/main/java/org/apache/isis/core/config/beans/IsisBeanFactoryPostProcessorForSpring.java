@@ -70,7 +70,8 @@
     @Override
     public void setApplicationContext(final ApplicationContext applicationContext) throws BeansException {
         isisBeanTypeClassifier = IsisBeanTypeClassifier.createInstance(applicationContext);
-        isisComponentScanInterceptor = IsisComponentScanInterceptor.createInstance(isisBeanTypeClassifier);
+        isisComponentScanInterceptor = IsisComponentScanInterceptor.createInstance(
+                isisBeanTypeClassifier, applicationContext.getEnvironment());
     }
 
     @Override
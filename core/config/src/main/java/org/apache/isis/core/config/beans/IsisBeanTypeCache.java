@@ -0,0 +1,268 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.beans;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.core.env.Environment;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Bytes;
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.context._Context;
+import org.apache.isis.commons.internal.hash._Hashes;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Opt-in local file cache of the runtime classification of all scanned types
+ * (in the format of the {@link IsisBeanTypeIndex}), such that a warm start can skip classifying these again.
+ * <p>
+ * The cache is keyed by a hash over the active profiles and the class-path (the location, size and last-modified
+ * time of each class-path entry, and of each file within directory entries), which is all that runtime
+ * classification depends on. If the key does not match, types are classified as usual and the cache is rewritten.
+ * <p>
+ * Only the classification (annotation synthesis) of each type is skipped; types are still loaded,
+ * and the metamodel is still introspected and validated as usual.
+ *
+ * @see org.apache.isis.core.config.IsisConfiguration.Core.MetaModel.Introspector.TypeClassificationCache
+ * @since 2.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Log4j2
+final class IsisBeanTypeCache {
+
+    static final String PROPERTY_PREFIX = "isis.core.meta-model.introspector.type-classification-cache";
+    static final String CACHE_FILE_NAME = "isis-type-classification.cache";
+
+    private static final String KEY_HEADER = "# key=";
+    private static final String CLASSIFIED_IN_MILLIS_HEADER = "# classifiedInMillis=";
+
+    @Value(staticConstructor = "of")
+    static class Cached {
+        private final @NonNull IsisBeanTypeIndex index;
+        /** time it took to classify all scanned types at runtime, when the cache was written */
+        private final long classifiedInMillis;
+    }
+
+    @Getter private final @NonNull Path cacheFile;
+    @Getter private final @NonNull String key;
+
+    /**
+     * Reads the settings directly from the {@link Environment}, as type classification happens
+     * before the {@code IsisConfiguration} is bound.
+     *
+     * @return the cache, if enabled and the class-path can be determined
+     */
+    static Optional<IsisBeanTypeCache> create(final @NonNull Environment environment) {
+        if(!environment.getProperty(PROPERTY_PREFIX + ".enabled", Boolean.class, false)) {
+            return Optional.empty();
+        }
+        val classPath = classPathOf(_Context.getDefaultClassLoader());
+        if(!classPath.isPresent()) {
+            log.info("type classification cache disabled, as the class-path cannot be determined");
+            return Optional.empty();
+        }
+        val directory = Optional.ofNullable(environment.getProperty(PROPERTY_PREFIX + ".directory"))
+                .filter(_Strings::isNotEmpty)
+                .map(Path::of)
+                .orElseGet(()->Path.of(System.getProperty("java.io.tmpdir")));
+        return Optional.of(of(
+                directory.resolve(CACHE_FILE_NAME),
+                Can.ofArray(environment.getActiveProfiles()),
+                classPath.get()));
+    }
+
+    static IsisBeanTypeCache of(
+            final @NonNull Path cacheFile,
+            final @NonNull Can<String> activeProfiles,
+            final @NonNull List<Path> classPath) {
+        return new IsisBeanTypeCache(cacheFile, keyOf(activeProfiles, classPath));
+    }
+
+    /**
+     * @return the cached classification, if there is a cache file and its key matches
+     */
+    Optional<Cached> read() {
+        if(!Files.isRegularFile(cacheFile)) {
+            return Optional.empty();
+        }
+        try {
+            val lines = Files.readAllLines(cacheFile, StandardCharsets.UTF_8);
+            if(lines.size()<2
+                    || !lines.get(0).equals(KEY_HEADER + key)
+                    || !lines.get(1).startsWith(CLASSIFIED_IN_MILLIS_HEADER)) {
+                log.info("type classification cache {} is stale (class-path or active profiles have changed), "
+                        + "classifying as usual", cacheFile);
+                return Optional.empty();
+            }
+            return Optional.of(Cached.of(
+                    IsisBeanTypeIndex.parse(lines, cacheFile),
+                    Long.parseLong(lines.get(1).substring(CLASSIFIED_IN_MILLIS_HEADER.length()))));
+        } catch (IOException | RuntimeException e) {
+            log.warn("failed to read type classification cache {}, classifying as usual", cacheFile, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes given classification (atomically replacing any previous cache file).
+     */
+    void write(final @NonNull Map<String, IsisBeanMetaData> typeMetaByClassName, final long classifiedInMillis) {
+        val lines = new ArrayList<String>(typeMetaByClassName.size() + 2);
+        lines.add(KEY_HEADER + key);
+        lines.add(CLASSIFIED_IN_MILLIS_HEADER + classifiedInMillis);
+        typeMetaByClassName.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry->IsisBeanTypeIndex.format(entry.getKey(), entry.getValue()))
+            .forEach(lines::add);
+        try {
+            val directory = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            val tempFile = Files.createTempFile(directory, CACHE_FILE_NAME, ".tmp");
+            try {
+                Files.write(tempFile, lines, StandardCharsets.UTF_8);
+                Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            log.info("type classification cache written to {}", cacheFile);
+        } catch (IOException | RuntimeException e) {
+            log.warn("failed to write type classification cache {}", cacheFile, e);
+        }
+    }
+
+    // -- HELPER
+
+    private static String keyOf(final Can<String> activeProfiles, final List<Path> classPath) {
+        val md = _Hashes.Algorithm.SHA256.getMessageDigest()
+                .orElseThrow(()->new IllegalStateException("SHA-256 not supported"));
+        activeProfiles.stream()
+            .sorted()
+            .forEach(profile->update(md, "profile", profile));
+        classPath.forEach(entry->fingerprint(md, entry));
+        return new String(_Bytes.asUrlBase64.apply(md.digest()), StandardCharsets.UTF_8);
+    }
+
+    private static void fingerprint(final MessageDigest md, final Path entry) {
+        update(md, "entry", entry.toAbsolutePath().toString());
+        if(!Files.isDirectory(entry)) {
+            update(md, "file", sizeAndLastModified(entry));
+            return;
+        }
+        try(Stream<Path> files = Files.walk(entry)) {
+            files
+            .filter(Files::isRegularFile)
+            .sorted(Comparator.comparing(Path::toString))
+            .forEach(file->update(md, entry.relativize(file).toString(), sizeAndLastModified(file)));
+        } catch (IOException | RuntimeException e) {
+            // cannot fingerprint, so make sure the key never matches
+            update(md, "unreadable", "" + System.nanoTime());
+        }
+    }
+
+    private static String sizeAndLastModified(final Path file) {
+        try {
+            return Files.size(file) + "@" + Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return "missing";
+        }
+    }
+
+    private static void update(final MessageDigest md, final String name, final String value) {
+        md.update(name.getBytes(StandardCharsets.UTF_8));
+        md.update((byte)0); // separator
+        md.update(value.getBytes(StandardCharsets.UTF_8));
+        md.update((byte)0); // separator
+    }
+
+    /**
+     * Collects the class-path entries of given class-loader and its parents (up to the system class-loader).
+     * @return empty, if any of these is neither the system class-loader nor a {@link URLClassLoader}
+     * (eg. within a servlet container), or any of its URLs cannot be mapped to a local file
+     */
+    static Optional<List<Path>> classPathOf(final ClassLoader classLoader) {
+        val classPath = new ArrayList<Path>();
+        for(ClassLoader loader = classLoader; loader!=null; loader = loader.getParent()) {
+            if(loader == ClassLoader.getSystemClassLoader()) {
+                Stream.of(System.getProperty("java.class.path", "").split(File.pathSeparator))
+                    .filter(_Strings::isNotEmpty)
+                    .map(Path::of)
+                    .forEach(classPath::add);
+                break;
+            }
+            if(!(loader instanceof URLClassLoader)) {
+                return Optional.empty();
+            }
+            for(URL url : ((URLClassLoader) loader).getURLs()) {
+                val file = localFileOf(url);
+                if(!file.isPresent()) {
+                    return Optional.empty();
+                }
+                classPath.add(file.get());
+            }
+        }
+        return Optional.of(classPath.stream().distinct().collect(Collectors.toList()));
+    }
+
+    /**
+     * Maps {@code file:} URLs to their file, and {@code jar:} URLs (eg. of nested jars within a Spring Boot
+     * executable jar) to their outermost jar file.
+     */
+    private static Optional<Path> localFileOf(final URL url) {
+        try {
+            if("file".equals(url.getProtocol())) {
+                return Optional.of(Path.of(url.toURI()));
+            }
+            if("jar".equals(url.getProtocol())) {
+                val spec = url.getPath();
+                val separatorIndex = spec.indexOf("!/");
+                return localFileOf(new URL(separatorIndex<0
+                        ? spec
+                        : spec.substring(0, separatorIndex)));
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            // fall through
+        }
+        return Optional.empty();
+    }
+
+}
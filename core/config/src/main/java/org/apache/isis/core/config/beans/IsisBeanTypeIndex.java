@@ -0,0 +1,162 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.beans;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.isis.applib.id.LogicalType;
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.context._Context;
+import org.apache.isis.core.config.beans.IsisBeanMetaData.ManagedBy;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Build-time index of domain types, as generated by the
+ * {@code isis-tooling-domaintypeindex} annotation processor into {@value #INDEX_RESOURCE}
+ * (one file per module/jar).
+ * <p>
+ * Each line holds a type's classification as would otherwise be determined by
+ * the {@link IsisBeanTypeClassifier} at runtime, separated by {@code ;}
+ * <pre>
+ * className;beanSort;managedBy;logicalTypeName
+ * </pre>
+ * Types not found in the index are classified at runtime as usual.
+ * <p>
+ * The same format is used by the {@link IsisBeanTypeCache} to persist runtime classification.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Log4j2
+final class IsisBeanTypeIndex {
+
+    static final String INDEX_RESOURCE = "META-INF/isis/domain-types.index";
+
+    @Value(staticConstructor = "of")
+    static class Entry {
+        private final @NonNull BeanSort beanSort;
+        private final @NonNull ManagedBy managedBy;
+        private final @NonNull String logicalTypeName;
+
+        IsisBeanMetaData toBeanMetaData(final @NonNull Class<?> correspondingClass) {
+            return IsisBeanMetaData.of(
+                    beanSort,
+                    LogicalType.eager(correspondingClass, logicalTypeName),
+                    managedBy);
+        }
+    }
+
+    private final Map<String, Entry> entriesByClassName;
+
+    /**
+     * Loads and merges all index resources found on the class-path.
+     */
+    static IsisBeanTypeIndex load() {
+        final Map<String, Entry> entriesByClassName = _Maps.newHashMap();
+        try {
+            val resources = _Context.getDefaultClassLoader().getResources(INDEX_RESOURCE);
+            while(resources.hasMoreElements()) {
+                parseInto(resources.nextElement(), entriesByClassName);
+            }
+        } catch (IOException e) {
+            log.warn("failed to read domain type index, falling back to runtime classification", e);
+            entriesByClassName.clear();
+        }
+        if(!entriesByClassName.isEmpty()) {
+            log.info("using build-time domain type index with {} entries", entriesByClassName.size());
+        }
+        return new IsisBeanTypeIndex(Collections.unmodifiableMap(entriesByClassName));
+    }
+
+    /**
+     * Parses given lines (in index format), as read from given {@code source}.
+     */
+    static IsisBeanTypeIndex parse(final @NonNull Iterable<String> lines, final @NonNull Object source) {
+        final Map<String, Entry> entriesByClassName = _Maps.newHashMap();
+        lines.forEach(line->parseInto(line, source, entriesByClassName));
+        return new IsisBeanTypeIndex(Collections.unmodifiableMap(entriesByClassName));
+    }
+
+    /**
+     * Formats given type's classification as a single line (in index format).
+     */
+    static String format(final @NonNull String className, final @NonNull IsisBeanMetaData typeMeta) {
+        return className
+                + ";" + typeMeta.getBeanSort().name()
+                + ";" + typeMeta.getManagedBy().name()
+                + ";" + typeMeta.getLogicalType().getLogicalTypeName();
+    }
+
+    Optional<Entry> lookup(final @NonNull String className) {
+        return Optional.ofNullable(entriesByClassName.get(className));
+    }
+
+    int size() {
+        return entriesByClassName.size();
+    }
+
+    // -- HELPER
+
+    private static void parseInto(final URL resource, final Map<String, Entry> entriesByClassName) throws IOException {
+        try(val reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while((line = reader.readLine())!=null) {
+                parseInto(line, resource, entriesByClassName);
+            }
+        }
+    }
+
+    private static void parseInto(final String rawLine, final Object source, final Map<String, Entry> entriesByClassName) {
+        val line = rawLine.trim();
+        if(line.isEmpty()
+                || line.startsWith("#")) {
+            return;
+        }
+        val parts = _Strings.splitThenStreamTrimmed(line, ";")
+                .toArray(String[]::new);
+        if(parts.length!=4) {
+            log.warn("skipping malformed domain type index entry '{}' in {}", line, source);
+            return;
+        }
+        try {
+            entriesByClassName.put(parts[0], Entry.of(
+                    BeanSort.valueOf(parts[1]),
+                    ManagedBy.valueOf(parts[2]),
+                    parts[3]));
+        } catch (IllegalArgumentException e) {
+            log.warn("skipping unrecognized domain type index entry '{}' in {}", line, source);
+        }
+    }
+
+}
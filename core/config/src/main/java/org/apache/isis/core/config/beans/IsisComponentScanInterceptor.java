@@ -18,11 +18,15 @@
  */
 package org.apache.isis.core.config.beans;
 
+import java.util.Optional;
+
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import org.apache.isis.commons.collections.Can;
 
 import lombok.NonNull;
+import lombok.val;
 
 /**
  * @apiNote implementing classes must not rely on IsisConfiguration or other provisioned
@@ -52,7 +56,22 @@ public interface IsisComponentScanInterceptor {
 
     static IsisComponentScanInterceptor createInstance(
             final @NonNull IsisBeanTypeClassifier isisBeanTypeClassifier) {
-        return new IsisComponentScanInterceptorImpl(isisBeanTypeClassifier);
+        return new IsisComponentScanInterceptorImpl(
+                isisBeanTypeClassifier, IsisBeanTypeIndex.load(), Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Also uses the type classification cache, if enabled with given {@link Environment}.
+     */
+    static IsisComponentScanInterceptor createInstance(
+            final @NonNull IsisBeanTypeClassifier isisBeanTypeClassifier,
+            final @NonNull Environment environment) {
+        val isisBeanTypeCache = IsisBeanTypeCache.create(environment);
+        return new IsisComponentScanInterceptorImpl(
+                isisBeanTypeClassifier,
+                IsisBeanTypeIndex.load(),
+                isisBeanTypeCache,
+                isisBeanTypeCache.flatMap(IsisBeanTypeCache::read));
     }
 
 }
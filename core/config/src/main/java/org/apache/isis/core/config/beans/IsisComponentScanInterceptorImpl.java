@@ -19,6 +19,8 @@
 package org.apache.isis.core.config.beans;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.collections._Maps;
@@ -41,11 +43,33 @@
 
     private final @NonNull IsisBeanTypeClassifier isisBeanTypeClassifier;
 
+    /**
+     * Build-time classification (if any), that has precedence over runtime classification
+     */
+    private final @NonNull IsisBeanTypeIndex isisBeanTypeIndex;
+
+    /**
+     * Local file cache of runtime classification (if enabled)
+     */
+    private final @NonNull Optional<IsisBeanTypeCache> isisBeanTypeCache;
+
+    /**
+     * Classification as read from the {@link #isisBeanTypeCache} (if its key matched),
+     * that has precedence over runtime classification
+     */
+    private final @NonNull Optional<IsisBeanTypeCache.Cached> cachedClassification;
+
     /**
      * Inbox for introspection, as used by the SpecificationLoader
      */
     private Map<Class<?>, IsisBeanMetaData> introspectableTypes = _Maps.newConcurrentHashMap();
 
+    /**
+     * All classified types, to be written to the {@link #isisBeanTypeCache} (if enabled, but not read)
+     */
+    private final Map<String, IsisBeanMetaData> classifiedTypes = _Maps.newHashMap();
+    private long classificationNanos = 0L;
+
     @Override
     public Can<IsisBeanMetaData> getAndDrainIntrospectableTypes() {
 
@@ -63,6 +87,8 @@ public Can<IsisBeanMetaData> getAndDrainIntrospectableTypes() {
 
         introspectableTypes = null;
 
+        reportAndUpdateCache();
+
         return defensiveCopy;
     }
 
@@ -78,7 +104,19 @@ public void intercept(final ScannedTypeMetaData scanMeta) {
         }
 
         val correspondingClass = classOrFailure.getValue().get();
-        val typeMeta = isisBeanTypeClassifier.classify(correspondingClass);
+        val className = scanMeta.getClassName();
+
+        val t0 = System.nanoTime();
+        val typeMeta = isisBeanTypeIndex.lookup(className)
+                .or(()->cachedClassification.flatMap(cached->cached.getIndex().lookup(className)))
+                .map(indexEntry->indexEntry.toBeanMetaData(correspondingClass))
+                .orElseGet(()->isisBeanTypeClassifier.classify(correspondingClass));
+        classificationNanos += System.nanoTime() - t0;
+
+        if(isisBeanTypeCache.isPresent()
+                && !cachedClassification.isPresent()) {
+            classifiedTypes.put(className, typeMeta);
+        }
 
         scanMeta.setVetoedForInjection(typeMeta.getManagedBy().isVetoedForInjection());
         if(typeMeta.getManagedBy().isBeanNameOverride()) {
@@ -97,5 +135,20 @@ public void intercept(final ScannedTypeMetaData scanMeta) {
 
     }
 
+    // -- HELPER
+
+    private void reportAndUpdateCache() {
+        val classifiedInMillis = TimeUnit.NANOSECONDS.toMillis(classificationNanos);
+        cachedClassification.ifPresentOrElse(
+                cached->log.info("classified scanned types in {} ms using the type classification cache "
+                        + "({} ms when classified without it, saving {} ms)",
+                        classifiedInMillis,
+                        cached.getClassifiedInMillis(),
+                        cached.getClassifiedInMillis() - classifiedInMillis),
+                ()->isisBeanTypeCache.ifPresent(cache->{
+                    log.info("classified {} scanned types in {} ms", classifiedTypes.size(), classifiedInMillis);
+                    cache.write(classifiedTypes, classifiedInMillis);
+                }));
+    }
 
 }
\ No newline at end of file
@@ -0,0 +1,202 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.config.beans;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.id.LogicalType;
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.beans.IsisBeanMetaData.ManagedBy;
+
+import lombok.val;
+
+class IsisBeanTypeCacheTest {
+
+    @TempDir Path tempDir;
+
+    private Path cacheFile;
+    private Path classPathJar;
+    private Path classPathDir;
+
+    // classified as would be a domain service
+    public static class SomeMenu { }
+    // classified as would be a view model
+    public static class SomeViewModel { }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cacheFile = tempDir.resolve("cache").resolve(IsisBeanTypeCache.CACHE_FILE_NAME);
+        classPathJar = Files.write(tempDir.resolve("lib.jar"), new byte[] {1, 2, 3});
+        classPathDir = Files.createDirectories(tempDir.resolve("classes"));
+        Files.write(classPathDir.resolve("Some.class"), new byte[] {4, 5, 6});
+    }
+
+    @Test
+    void second_bootstrap_uses_cached_classification() {
+
+        // given
+        val classifier = new CountingClassifier();
+
+        // when
+        val firstBootstrap = scan(cache(Can.ofSingleton("dev")), classifier);
+
+        // then
+        assertEquals(2, classifier.count.get());
+        assertTrue(Files.isRegularFile(cacheFile));
+
+        // when
+        val secondBootstrap = scan(cache(Can.ofSingleton("dev")), classifier);
+
+        // then
+        assertEquals(2, classifier.count.get()); // not classified again
+        assertEquals(2, firstBootstrap.size());
+        assertEquals(firstBootstrap, secondBootstrap);
+    }
+
+    @Test
+    void cache_is_stale_when_active_profiles_change() {
+
+        // given
+        cache(Can.ofSingleton("dev")).write(classified(), 42L);
+
+        // then
+        assertFalse(cache(Can.ofSingleton("prod")).read().isPresent());
+        assertFalse(cache(Can.empty()).read().isPresent());
+    }
+
+    @Test
+    void cache_is_stale_when_a_class_path_file_changes() throws IOException {
+
+        // given
+        cache(Can.empty()).write(classified(), 42L);
+        assertTrue(cache(Can.empty()).read().isPresent());
+
+        // when
+        Files.write(classPathJar, new byte[] {1, 2, 3, 4});
+
+        // then
+        assertFalse(cache(Can.empty()).read().isPresent());
+    }
+
+    @Test
+    void cache_is_stale_when_a_class_within_a_class_path_directory_changes() throws IOException {
+
+        // given
+        cache(Can.empty()).write(classified(), 42L);
+        assertTrue(cache(Can.empty()).read().isPresent());
+
+        // when
+        val someClass = classPathDir.resolve("Some.class");
+        Files.setLastModifiedTime(someClass,
+                FileTime.fromMillis(Files.getLastModifiedTime(someClass).toMillis() + 1_000L));
+
+        // then
+        assertFalse(cache(Can.empty()).read().isPresent());
+    }
+
+    @Test
+    void cache_roundtrip() {
+
+        // given
+        cache(Can.empty()).write(classified(), 42L);
+
+        // when
+        val cached = cache(Can.empty()).read().orElseThrow();
+
+        // then
+        assertEquals(42L, cached.getClassifiedInMillis());
+        assertEquals(2, cached.getIndex().size());
+        val entry = cached.getIndex().lookup(SomeMenu.class.getName()).orElseThrow();
+        assertEquals(BeanSort.MANAGED_BEAN_CONTRIBUTING, entry.getBeanSort());
+        assertEquals(ManagedBy.SPRING, entry.getManagedBy());
+        assertEquals(SomeMenu.class.getName(), entry.getLogicalTypeName());
+    }
+
+    @Test
+    void corrupt_cache_is_ignored() throws IOException {
+
+        // given
+        Files.createDirectories(cacheFile.getParent());
+        Files.write(cacheFile, List.of("garbage"), StandardCharsets.UTF_8);
+
+        // then
+        assertFalse(cache(Can.empty()).read().isPresent());
+    }
+
+    // -- HELPER
+
+    private IsisBeanTypeCache cache(final Can<String> activeProfiles) {
+        return IsisBeanTypeCache.of(cacheFile, activeProfiles, List.of(classPathJar, classPathDir));
+    }
+
+    private static Map<String, IsisBeanMetaData> classified() {
+        val classifier = new CountingClassifier();
+        return Map.of(
+                SomeMenu.class.getName(), classifier.classify(SomeMenu.class),
+                SomeViewModel.class.getName(), classifier.classify(SomeViewModel.class));
+    }
+
+    /**
+     * Simulates a bootstrap, scanning {@link SomeMenu} and {@link SomeViewModel}.
+     * @return the types to be introspected (in index format, sorted)
+     */
+    private static List<String> scan(final IsisBeanTypeCache cache, final IsisBeanTypeClassifier classifier) {
+        val interceptor = new IsisComponentScanInterceptorImpl(
+                classifier,
+                IsisBeanTypeIndex.parse(List.of(), "no build-time index"),
+                Optional.of(cache),
+                cache.read());
+        interceptor.intercept(ScannedTypeMetaData.of(SomeMenu.class.getName(), "someMenu"));
+        interceptor.intercept(ScannedTypeMetaData.of(SomeViewModel.class.getName(), "someViewModel"));
+        return interceptor.getAndDrainIntrospectableTypes().stream()
+                .map(typeMeta->IsisBeanTypeIndex.format(typeMeta.getCorrespondingClass().getName(), typeMeta))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static class CountingClassifier implements IsisBeanTypeClassifier {
+        final AtomicInteger count = new AtomicInteger();
+        @Override
+        public IsisBeanMetaData classify(final Class<?> type) {
+            count.incrementAndGet();
+            return type.equals(SomeMenu.class)
+                    ? IsisBeanMetaData.injectable(BeanSort.MANAGED_BEAN_CONTRIBUTING, LogicalType.infer(type))
+                    : IsisBeanMetaData.isisManaged(BeanSort.VIEW_MODEL, type);
+        }
+    }
+
+}
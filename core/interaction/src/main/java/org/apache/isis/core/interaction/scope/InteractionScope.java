@@ -19,6 +19,7 @@
 package org.apache.isis.core.interaction.scope;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.BeansException;
@@ -66,16 +67,32 @@ void preDestroy() {
     }
 
     /**
-     * An alternative design would be to store the ScopedObjects in the top-level
+     * The ScopedObjects are stored in the top-level
      * {@link org.apache.isis.applib.services.iactn.Interaction}'s
-     * {@link org.apache.isis.applib.services.iactn.Interaction#getAttribute(Class) attributes}.
+     * {@link org.apache.isis.applib.services.iactn.Interaction#getAttribute(Class) attributes},
+     * rather than in a thread-local of their own, so these follow the interaction, not the thread.
      *
      * <p>
      * Why the top-level? Because this class is only interested in that top-level interaction (see
      * {@link InteractionScopeLifecycleHandler#onTopLevelInteractionPreDestroy()}), not any of the stacked.
+     * (All stacked layers share the top-level's interaction.)
      * </p>
      */
-    private ThreadLocal<Map<String, ScopedObject>> scopedObjects = ThreadLocal.withInitial(_Maps::newHashMap);
+    private static class ScopedObjects {
+        final Map<String, ScopedObject> byName = _Maps.newHashMap();
+    }
+
+    private static Map<String, ScopedObject> scopedObjects(final InteractionService interactionService) {
+        return interactionService.currentInteractionElseFail()
+                .computeAttributeIfAbsent(ScopedObjects.class, __->new ScopedObjects())
+                .byName;
+    }
+
+    private Optional<Map<String, ScopedObject>> lookupScopedObjects() {
+        return interactionService().currentInteraction()
+                .map(interaction->interaction.getAttribute(ScopedObjects.class))
+                .map(scopedObjects->scopedObjects.byName);
+    }
 
     /**
     * @return an instance of the single bean matching the required type (InteractionService)
@@ -107,7 +124,8 @@ public Object get(final String name, final ObjectFactory<?> objectFactory) {
                     + "... @Inject Provider<MyScopedBean> provider ...", name, _Probe.currentThreadId());
         }
 
-        val existingScopedObject = scopedObjects.get().get(name);
+        val scopedObjects = scopedObjects(interactionService);
+        val existingScopedObject = scopedObjects.get(name);
         if(existingScopedObject!=null) {
 
             if(log.isDebugEnabled()) {
@@ -121,7 +139,7 @@ public Object get(final String name, final ObjectFactory<?> objectFactory) {
         }
 
         val newScopedObject = ScopedObject.of(name);
-        scopedObjects.get().put(name, newScopedObject); // just set a stub with a name only
+        scopedObjects.put(name, newScopedObject); // just set a stub with a name only
 
         log.debug("create new isis-interaction scoped {}", name);
         newScopedObject.setInstance(objectFactory.getObject()); // triggers call to registerDestructionCallback
@@ -143,10 +161,9 @@ public Object remove(final String name) {
 
     @Override
     public void registerDestructionCallback(final String name, final Runnable callback) {
-        val scopedObject = scopedObjects.get().get(name);
-        if(scopedObject!=null) {
-            scopedObject.setDestructionCallback(callback);
-        }
+        lookupScopedObjects()
+        .map(scopedObjects->scopedObjects.get(name))
+        .ifPresent(scopedObject->scopedObject.setDestructionCallback(callback));
         // otherwise something is off
     }
 
@@ -173,20 +190,22 @@ public void onTopLevelInteractionOpened() {
     @Override
     public void onTopLevelInteractionPreDestroy() {
         log.debug("INTERACTION_SCOPE pre-destroy");
-        scopedObjects.get().values()
+        lookupScopedObjects()
+        .ifPresent(scopedObjects->scopedObjects.values()
         .forEach(scopedObject->{
             try {
                 scopedObject.preDestroy();
             } catch (Exception e) {
                 log.error(e);
             }
-        });
+        }));
     }
 
     @Override
     public void onTopLevelInteractionClosed() {
         log.debug("INTERACTION_SCOPE closed");
-        scopedObjects.remove();
+        interactionService().currentInteraction()
+        .ifPresent(interaction->interaction.removeAttribute(ScopedObjects.class));
     }
 
 }
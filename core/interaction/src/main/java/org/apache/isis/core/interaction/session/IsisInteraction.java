@@ -54,7 +54,7 @@ public IsisInteraction(final @NonNull UUID interactionId) {
     }
 
     @Getter(onMethod_ = {@Override})
-    private final Command command;
+    private Command command;
 
     @Override
     public UUID getInteractionId() {
@@ -89,8 +89,38 @@ public void close() {
     @Getter(onMethod_ = {@Override})
     private Execution<?,?> priorExecution;
 
+    /**
+     * Discards the execution graphs and the current/prior execution.
+     */
     public void clear() {
         executionGraphs.clear();
+        currentExecution = null;
+        priorExecution = null;
+    }
+
+    /**
+     * <b>NOT API</b>: intended to be called only by the framework.
+     *
+     * <p>
+     * Replaces this interaction's {@link Command} and discards any execution state,
+     * so that the interaction can be reused to execute another command (as in batch execution).
+     * </p>
+     *
+     * <p>
+     * The interaction takes on the replacing command's {@link Command#getInteractionId() interactionId},
+     * hence also the execution and transaction sequences (which number executions and transactions
+     * per interactionId) start over.
+     * </p>
+     *
+     * @return the command replaced
+     */
+    public Command replaceCommand(final @NonNull Command command) {
+        val replaced = this.command;
+        this.command = command;
+        clear();
+        executionSequence.reset();
+        transactionSequence.reset();
+        return replaced;
     }
 
     @Override
@@ -38,6 +38,9 @@
 /**
  * Utility for method invocation pre-processing.
  * <p>
+ * Methods are invoked through a {@link MethodInvoker}, bound once per {@link Method},
+ * which uses method handles rather than reflection where possible.
+ * <p>
  * For a given array of parameters, we intercept and adapt those,
  * that are not compatible with the expected target parameter type.
  * <p>
@@ -64,7 +67,7 @@ public static class MethodInvocationRequest {
         final @Nullable Object[] params;
         final @NonNull @Builder.Default ParameterAdapter parameterAdapter = ParameterAdapter.DEFAULT;
         public Object[] getAdaptedParameters() {
-            return getParameterAdapter().adaptAll(getMethod(), getParams());
+            return MethodInvoker.forMethod(getMethod()).adaptAll(getParameterAdapter(), getParams());
         }
     }
 
@@ -114,11 +117,14 @@ public Object invoke(
 
     public Object invoke(final MethodInvocationRequest invocationRequest) {
 
-        val adaptedExecutionParameters = invocationRequest.getAdaptedParameters();
+        // bound once per method, then cached
+        val methodInvoker = MethodInvoker.forMethod(invocationRequest.getMethod());
 
-        // supports effective private methods as well
-        return _Reflect.invokeMethodOn(
-                invocationRequest.getMethod(),
+        val adaptedExecutionParameters = methodInvoker.adaptAll(
+                invocationRequest.getParameterAdapter(),
+                invocationRequest.getParams());
+
+        return methodInvoker.invoke(
                 invocationRequest.getTargetPojo(),
                 adaptedExecutionParameters)
         .mapFailure(ex->toVerboseException(
@@ -146,11 +152,13 @@ private Throwable toVerboseException(
         }
 
         // if method or constructor was invoked with incompatible param types, then the Throwable
-        // we receive here is of type IllegalArgumentException; in which case we can provide additional
+        // we receive here is of type IllegalArgumentException (reflective invocation) or
+        // ClassCastException (method handle invocation); in which case we can provide additional
         // information, but also at the expense of a potentially hiding the original cause, namely when the
-        // IllegalArgumentException has a different origin and the param incompatibility check is a
+        // exception has a different origin and the param incompatibility check is a
         // false positive
-        if(e instanceof IllegalArgumentException) {
+        if(e instanceof IllegalArgumentException
+                || e instanceof ClassCastException) {
             boolean paramTypeMismatchEncountered = false;
             val sb = new StringBuilder();
             for(int j=0;j<parameterTypes.length;++j) {
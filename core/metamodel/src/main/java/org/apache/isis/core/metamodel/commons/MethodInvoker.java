@@ -0,0 +1,192 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.commons;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.commons.functional.Try;
+import org.apache.isis.commons.internal._Constants;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.reflection._Reflect;
+import org.apache.isis.core.config.progmodel.ProgrammingModelConstants.CollectionSemantics;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Invoker bound once to a {@link Method}, used by {@link CanonicalInvoker}.
+ * <p>
+ * Resolves the {@link ParameterAdapter#DEFAULT} parameter adaptation per parameter up-front,
+ * and calls the method via a {@link MethodHandle}, which (unlike {@link Method#invoke})
+ * does not check access on every call and is subject to JIT inlining.
+ * Falls back to {@link Method#invoke}, if no {@link MethodHandle} can be obtained,
+ * eg. when the declaring class resides in a module, that does not open its package to us.
+ */
+@Log4j2
+final class MethodInvoker {
+
+    /**
+     * Keyed by declaring class, so we don't keep classes (and their class-loaders) reachable,
+     * that are otherwise eligible for garbage collection.
+     */
+    private static final ClassValue<Map<Method, MethodInvoker>> invokersByDeclaringClass =
+            new ClassValue<Map<Method, MethodInvoker>>() {
+                @Override
+                protected Map<Method, MethodInvoker> computeValue(final Class<?> declaringClass) {
+                    return _Maps.newConcurrentHashMap();
+                }
+            };
+
+    /**
+     * Returns the (cached) invoker for given {@code method}, binding a new one on first access.
+     */
+    static MethodInvoker forMethod(final @NonNull Method method) {
+        return invokersByDeclaringClass.get(method.getDeclaringClass())
+                .computeIfAbsent(method, MethodInvoker::new);
+    }
+
+    @Getter private final @NonNull Method method;
+    private final Class<?>[] parameterTypes;
+    /** per parameter, the value to use in place of {@code null} (non-null only for primitives) */
+    private final Object[] defaultArgs;
+    /** per parameter, the semantics for defensive copying (non-null only for collection types) */
+    private final CollectionSemantics[] collectionSemantics;
+    /** of generic type {@code (Object, Object[])Object}, or {@code null} if unavailable */
+    private final @Nullable MethodHandle methodHandle;
+
+    private MethodInvoker(final Method method) {
+        this.method = method;
+        this.parameterTypes = method.getParameterTypes();
+        this.defaultArgs = new Object[parameterTypes.length];
+        this.collectionSemantics = new CollectionSemantics[parameterTypes.length];
+        for(int i=0; i<parameterTypes.length; ++i) {
+            val parameterType = parameterTypes[i];
+            defaultArgs[i] = parameterType.isPrimitive()
+                    ? ClassUtil.defaultByPrimitive.get(parameterType)
+                    : null;
+            collectionSemantics[i] = CollectionSemantics.valueOf(parameterType).orElse(null);
+        }
+        this.methodHandle = spreadingMethodHandle(method);
+    }
+
+    /**
+     * Whether calls go through a {@link MethodHandle}, as opposed to reflective fallback.
+     */
+    boolean isMethodHandleBound() {
+        return methodHandle!=null;
+    }
+
+    /**
+     * Equivalent to {@code parameterAdapter.adaptAll(getMethod(), executionParameters)},
+     * but for the {@link ParameterAdapter#DEFAULT} using the pre-resolved per parameter adaptation.
+     */
+    Object[] adaptAll(
+            final @NonNull ParameterAdapter parameterAdapter,
+            final @Nullable Object[] executionParameters) {
+
+        if(parameterAdapter!=ParameterAdapter.DEFAULT) {
+            return parameterAdapter.adaptAll(method, executionParameters);
+        }
+
+        final int paramCount = parameterTypes.length;
+        if(paramCount==0) {
+            return _Constants.emptyObjects;
+        }
+        final int argCount = executionParameters!=null
+                ? executionParameters.length
+                : 0;
+        val adaptedExecutionParameters = new Object[paramCount];
+        for(int i=0; i<paramCount; ++i) {
+            val origParam = i<argCount
+                    ? executionParameters[i]
+                    : null;
+            adaptedExecutionParameters[i] = origParam==null
+                    ? defaultArgs[i]
+                    : collectionSemantics[i]!=null
+                        ? collectionSemantics[i].unmodifiableCopyOf(parameterTypes[i], (Iterable<?>) origParam)
+                        : origParam;
+        }
+        return adaptedExecutionParameters;
+    }
+
+    /**
+     * Invokes the bound method on given {@code targetPojo},
+     * with given (already adapted) {@code adaptedExecutionParameters}.
+     * <p>
+     * Unlike {@link Method#invoke}, exceptions thrown by the method are not wrapped
+     * with an {@link java.lang.reflect.InvocationTargetException}, unless falling back to reflection.
+     */
+    Try<Object> invoke(
+            final @NonNull Object targetPojo,
+            final @NonNull Object[] adaptedExecutionParameters) {
+
+        if(methodHandle==null) {
+            // supports effective private methods as well
+            return _Reflect.invokeMethodOn(method, targetPojo, adaptedExecutionParameters);
+        }
+        try {
+            return Try.success((Object) methodHandle.invokeExact(targetPojo, adaptedExecutionParameters));
+        } catch (Throwable e) {
+            return Try.failure(e);
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * @return a {@link MethodHandle} of type {@code (Object, Object[])Object}, or {@code null}
+     */
+    private static @Nullable MethodHandle spreadingMethodHandle(final Method method) {
+        try {
+            val methodHandle = unreflect(method).asFixedArity();
+            val instanceMethodHandle = Modifier.isStatic(method.getModifiers())
+                    ? MethodHandles.dropArguments(methodHandle, 0, Object.class) // ignore the target
+                    : methodHandle;
+            return instanceMethodHandle
+                    .asType(instanceMethodHandle.type().generic())
+                    .asSpreader(Object[].class, method.getParameterCount());
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.debug("falling back to reflective invocation of {}: {}", method, e.getMessage());
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(final Method method) throws IllegalAccessException {
+        if(Modifier.isPublic(method.getModifiers())
+                && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            try {
+                return MethodHandles.publicLookup().unreflect(method);
+            } catch (IllegalAccessException e) {
+                // eg. package not exported, try below
+            }
+        }
+        // supports effective private methods as well
+        return MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+                .unreflect(method);
+    }
+
+}
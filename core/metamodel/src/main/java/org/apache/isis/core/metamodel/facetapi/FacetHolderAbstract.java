@@ -18,12 +18,12 @@
  */
 package org.apache.isis.core.metamodel.facetapi;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.apache.isis.applib.Identifier;
-import org.apache.isis.commons.internal.base._Lazy;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 
@@ -54,11 +54,18 @@
     private final Map<Class<? extends Facet>, FacetRanking> rankingByType = _Maps.newHashMap();
     private final Object $lock = new Object();
 
+    /**
+     * Immutable snapshot of the winning facets, once published readers access it without locking;
+     * only mutation (or its invalidation) is guarded by {@link #$lock}.
+     * <p>
+     * Is published at the latest, when the owning spec reaches
+     * {@code IntrospectionState.FULLY_INTROSPECTED}, after which there are no more facets added.
+     */
+    private volatile Map<Class<? extends Facet>, Facet> snapshot;
+
     @Override
     public final boolean containsFacet(final Class<? extends Facet> facetType) {
-        synchronized($lock) {
-            return snapshot.get().containsKey(facetType);
-        }
+        return snapshot().containsKey(facetType);
     }
 
     @Override
@@ -68,7 +75,7 @@ public final void addFacet(final @NonNull Facet facet) {
             val ranking = rankingByType.computeIfAbsent(facet.facetType(), FacetRanking::new);
             val needsInvalidate = ranking.add(facet);
             if(needsInvalidate) {
-                snapshot.clear(); //invalidate
+                snapshot = null; //invalidate
             }
         }
     }
@@ -77,24 +84,18 @@ public final void addFacet(final @NonNull Facet facet) {
     // which potentially leads to inconsistent behavior with facet and facet-ranking streaming
     @Override
     public /*final*/ <T extends Facet> T getFacet(final Class<T> facetType) {
-        synchronized($lock) {
-            return uncheckedCast(snapshot.get().get(facetType));
-        }
+        return uncheckedCast(snapshot().get(facetType));
     }
 
     @Override
     public final Stream<Facet> streamFacets() {
-        synchronized($lock) {
-            // consumers should play nice and don't take too long (as we have a lock)
-            return snapshot.get().values().stream();
-        }
+        // snapshot is immutable, so no need to hold a lock while consumers stream
+        return snapshot().values().stream();
     }
 
     @Override
     public final int getFacetCount() {
-        synchronized($lock) {
-            return snapshot.get().size();
-        }
+        return snapshot().size();
     }
 
     // -- VALIDATION SUPPORT
@@ -111,10 +112,25 @@ public final Optional<FacetRanking> getFacetRanking(final Class<? extends Facet>
 
     // -- HELPER
 
-    private final _Lazy<Map<Class<? extends Facet>, Facet>> snapshot = _Lazy.threadSafe(this::snapshot);
+    private Map<Class<? extends Facet>, Facet> snapshot() {
+        // single volatile read on the hot path
+        val snapshot = this.snapshot;
+        return snapshot!=null
+                ? snapshot
+                : publishSnapshot();
+    }
+
+    private Map<Class<? extends Facet>, Facet> publishSnapshot() {
+        synchronized($lock) {
+            if(snapshot==null) {
+                snapshot = createSnapshot();
+            }
+            return snapshot;
+        }
+    }
 
     // collect all facet information provided with the top-level facets (contributed facets and aliases)
-    private Map<Class<? extends Facet>, Facet> snapshot() {
+    private Map<Class<? extends Facet>, Facet> createSnapshot() {
         val snapshot = _Maps.<Class<? extends Facet>, Facet>newHashMap();
         rankingByType.values()
         .stream()
@@ -128,8 +144,7 @@ private Map<Class<? extends Facet>, Facet> snapshot() {
                     winningFacet);
 
         });
-        return snapshot;
+        return Collections.unmodifiableMap(snapshot);
     }
 
-
 }
@@ -67,8 +67,23 @@ public static DomainEventHelper ofServiceRegistry(final ServiceRegistry serviceR
 
     private final MetamodelEventService metamodelEventService;
 
+    /**
+     * Whether an event of given type would be received by anyone for given phase,
+     * see MetamodelEventService#isDomainEventRequired(Phase, Class).
+     */
+    public boolean isDomainEventRequired(
+            final @NonNull AbstractDomainEvent.Phase phase,
+            final @NonNull Class<?> eventType) {
+        return metamodelEventService.isDomainEventRequired(phase, eventType);
+    }
+
     // -- postEventForAction
 
+    /*
+     * The postEventFor... methods return null, if the event is not required for given phase,
+     * see MetamodelEventService#isDomainEventRequired(Phase, Class).
+     */
+
     // variant using eventType and no existing event
     public ActionDomainEvent<?> postEventForAction(
             final AbstractDomainEvent.Phase phase,
@@ -111,6 +126,11 @@ private <S> ActionDomainEvent<S> postEventForAction(
 
         _Assert.assertTypeIsInstanceOf(eventType, ActionDomainEvent.class);
 
+        if(!metamodelEventService.isDomainEventRequired(phase, eventType)) {
+            // no subscriber would receive the event, so don't even create it
+            return null;
+        }
+
         try {
             final ActionDomainEvent<S> event;
 
@@ -239,6 +259,11 @@ public <S, T> PropertyDomainEvent<S, T> postEventForProperty(
 
         _Assert.assertTypeIsInstanceOf(eventType, PropertyDomainEvent.class);
 
+        if(!metamodelEventService.isDomainEventRequired(phase, eventType)) {
+            // no subscriber would receive the event, so don't even create it
+            return null;
+        }
+
         try {
             final PropertyDomainEvent<S, T> event;
 
@@ -341,6 +366,11 @@ public <S, T> CollectionDomainEvent<S, T> postEventForCollection(
 
         _Assert.assertTypeIsInstanceOf(eventType, CollectionDomainEvent.class);
 
+        if(!metamodelEventService.isDomainEventRequired(phase, eventType)) {
+            // no subscriber would receive the event, so don't even create it
+            return null;
+        }
+
         try {
             final CollectionDomainEvent<S, T> event;
 
@@ -19,8 +19,11 @@
 package org.apache.isis.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
@@ -142,8 +145,34 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * The entity pojos corresponding to given {@link Bookmark}s (all of this entity type),
+     * keyed by bookmark, as far as found.
+     * @implNote the default fetches one by one, implementations may fetch in a single round-trip
+     */
+    default Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        val pojoByBookmark = new HashMap<Bookmark, Object>();
+        bookmarks.forEach(bookmark->
+            fetchByBookmark(bookmark).ifPresent(pojo->pojoByBookmark.put(bookmark, pojo)));
+        return pojoByBookmark;
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
+    /**
+     * Streams the result of given {@link Query}, reading from a database cursor as consumed,
+     * rather than materializing all results up-front.
+     * <p>
+     * Consumed entities are flushed and detached in chunks of given {@code chunkSize},
+     * which is also used as the JDBC fetch size.
+     * <p>
+     * The returned stream must be closed, to release the cursor.
+     * @implNote the default simply streams the result of {@link #fetchByQuery(Query)}
+     */
+    default Stream<ManagedObject> streamByQuery(final Query<?> query, final int chunkSize) {
+        return fetchByQuery(query).stream();
+    }
+
     void persist(Object pojo);
 
     void refresh(Object pojo);
@@ -131,6 +131,11 @@ public String invalidates(final ValidityContext ic) {
         }
         final ProposedHolder ph = (ProposedHolder) ic;
 
+        // nobody would receive the event, so don't even read the old value
+        if(!domainEventHelper.isDomainEventRequired(AbstractDomainEvent.Phase.VALIDATE, getEventType())) {
+            return null;
+        }
+
         final Object oldValue = getterFacetIfAny.getProperty(ic.getTarget(), ic.getInitiatedBy());
         final ManagedObject proposedAdapter = ph.getProposed();
         final Object proposedValue = proposedAdapter != null ? proposedAdapter.getPojo() : null;
@@ -0,0 +1,223 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.interactions;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.metamodel.consent.Consent;
+import org.apache.isis.core.metamodel.consent.InteractionContextType;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.object.ManagedObject;
+import org.apache.isis.core.metamodel.object.ManagedObjects;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Memoizes visibility and usability {@link Consent}s of object members for the duration of an {@link Interaction},
+ * so rendering a page, that asks for the same consent multiple times (tables, menus, panels),
+ * evaluates the hiding and disabling advisors (supporting methods, domain events) only once.
+ * <p>
+ * Consents are keyed by target {@link Bookmark}, feature {@link Identifier}, {@link InteractionInitiatedBy},
+ * {@link Where} and user. Targets without a bookmark (eg. values or transient entities) are not memoized.
+ * <p>
+ * All memoized consents are discarded, once any entity is dirtied (see {@link #invalidate(Interaction)}).
+ * While an action or property edit executes, consents are neither memoized nor looked up,
+ * and are discarded once the execution completes.
+ * <p>
+ * Opt-in via {@code isis.core.runtime.memoize-consents-per-interaction}.
+ *
+ * @since 2.0
+ */
+public final class InteractionConsentCache {
+
+    @Value(staticConstructor = "of")
+    static class Key {
+        final @NonNull InteractionContextType interactionType;
+        final @NonNull Bookmark target;
+        final @NonNull Identifier featureIdentifier;
+        final @NonNull InteractionInitiatedBy initiatedBy;
+        final @NonNull Where where;
+        final @Nullable UserMemento user;
+    }
+
+    private static final LongAdder totalHitCount = new LongAdder();
+    private static final LongAdder totalMissCount = new LongAdder();
+
+    private final Map<Key, Consent> consentByKey = _Maps.newConcurrentHashMap();
+    private final AtomicInteger executionDepth = new AtomicInteger();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    InteractionConsentCache() {
+    }
+
+    // -- FACTORIES
+
+    /**
+     * Optionally the cache associated with given {@link Interaction}, based on whether already created.
+     */
+    public static Optional<InteractionConsentCache> lookup(final @Nullable Interaction interaction) {
+        return interaction!=null
+                ? Optional.ofNullable(interaction.getAttribute(InteractionConsentCache.class))
+                : Optional.empty();
+    }
+
+    /**
+     * The cache associated with given {@link Interaction}, created if not already.
+     * <p>
+     * Used to bracket executions (see {@link #onExecutionStarted()}), also for the first one of an interaction,
+     * when nothing has been memoized yet.
+     */
+    public static InteractionConsentCache lookupElseCreate(final @NonNull Interaction interaction) {
+        return interaction.computeAttributeIfAbsent(
+                InteractionConsentCache.class, __->new InteractionConsentCache());
+    }
+
+    // -- MEMOIZATION
+
+    /**
+     * Returns the memoized consent for given member interaction, if any,
+     * otherwise evaluates and (if eligible) memoizes it.
+     * @param interactionType - whether visibility or usability
+     */
+    public static Consent memoize(
+            final @NonNull MetaModelContext mmc,
+            final @NonNull InteractionContextType interactionType,
+            final @NonNull Identifier featureIdentifier,
+            final @NonNull ManagedObject target,
+            final @NonNull InteractionInitiatedBy initiatedBy,
+            final @NonNull Where where,
+            final @NonNull Supplier<Consent> consentEvaluator) {
+
+        if(!mmc.getConfiguration().getCore().getRuntime().isMemoizeConsentsPerInteraction()) {
+            return consentEvaluator.get();
+        }
+        val interactionService = mmc.getInteractionService();
+        val interaction = interactionService!=null
+                ? interactionService.currentInteraction().orElse(null)
+                : null;
+        val targetBookmark = interaction!=null
+                ? ManagedObjects.bookmark(target).orElse(null)
+                : null;
+        if(targetBookmark==null) {
+            return consentEvaluator.get();
+        }
+        val consentCache = lookupElseCreate(interaction);
+        if(consentCache==null) {
+            return consentEvaluator.get();
+        }
+        val user = interactionService.currentInteractionContext()
+                .map(InteractionContext::getUser)
+                .orElse(null);
+        return consentCache.computeIfAbsent(
+                Key.of(interactionType, targetBookmark, featureIdentifier, initiatedBy, where, user),
+                consentEvaluator);
+    }
+
+    Consent computeIfAbsent(final @NonNull Key key, final @NonNull Supplier<Consent> consentEvaluator) {
+        if(executionDepth.get()>0) {
+            return consentEvaluator.get();
+        }
+        val memoized = consentByKey.get(key);
+        if(memoized!=null) {
+            hitCount.increment();
+            totalHitCount.increment();
+            return memoized;
+        }
+        missCount.increment();
+        totalMissCount.increment();
+        // not using Map.computeIfAbsent, as evaluation might recursively ask for other consents
+        val consent = consentEvaluator.get();
+        if(executionDepth.get()==0) {
+            consentByKey.put(key, consent);
+        }
+        return consent;
+    }
+
+    // -- INVALIDATION
+
+    /**
+     * Discards all consents memoized with given {@link Interaction} (if any),
+     * eg. when an entity is dirtied.
+     */
+    public static void invalidate(final @Nullable Interaction interaction) {
+        lookup(interaction).ifPresent(InteractionConsentCache::clear);
+    }
+
+    /**
+     * Stops memoization for the duration of an action invocation or property edit.
+     * To be paired with {@link #onExecutionCompleted()}.
+     */
+    public void onExecutionStarted() {
+        executionDepth.incrementAndGet();
+        clear();
+    }
+
+    /**
+     * Discards any consents memoized before the execution started,
+     * as these may no longer hold, and resumes memoization (unless nested).
+     */
+    public void onExecutionCompleted() {
+        executionDepth.decrementAndGet();
+        clear();
+    }
+
+    public void clear() {
+        consentByKey.clear();
+    }
+
+    // -- STATISTICS
+
+    /** Number of consents served from this cache. */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /** Number of consents evaluated while consulting this cache. */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /** Number of consents served from any cache, since application start. */
+    public static long getTotalHitCount() {
+        return totalHitCount.sum();
+    }
+
+    /** Number of consents evaluated while consulting any cache, since application start. */
+    public static long getTotalMissCount() {
+        return totalMissCount.sum();
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.events;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+
+import org.apache.isis.applib.events.domain.AbstractDomainEvent;
+import org.apache.isis.applib.events.domain.ActionDomainEvent;
+import org.apache.isis.applib.events.domain.CollectionDomainEvent;
+import org.apache.isis.applib.events.domain.PropertyDomainEvent;
+import org.apache.isis.commons.internal.base._NullSafe;
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Knows, which domain event types have at least one subscriber, based on the
+ * {@link ApplicationListener}s known to the {@link ApplicationContext} once refreshed
+ * (this includes any {@link org.springframework.context.event.EventListener} annotated methods),
+ * as well as those of its parent contexts, as events published are also multicast to these.
+ * <p>
+ * Listeners, that are added to the {@link ApplicationContext} after it was refreshed, are not taken into account.
+ *
+ * @see MetamodelEventService#isDomainEventRequired(AbstractDomainEvent.Phase, Class)
+ */
+@Log4j2
+final class DomainEventListenerRegistry {
+
+    private final List<Predicate<ResolvableType>> listenerMatchers;
+    private final EnumSet<AbstractDomainEvent.Phase> suppressedActionPhases;
+    private final EnumSet<AbstractDomainEvent.Phase> suppressedPropertyPhases;
+    private final EnumSet<AbstractDomainEvent.Phase> suppressedCollectionPhases;
+
+    private final ClassValue<Boolean> hasListenersByEventType = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> eventType) {
+            val payloadEventType = ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, eventType);
+            return listenerMatchers.stream()
+                    .anyMatch(listenerMatcher->listenerMatcher.test(payloadEventType));
+        }
+    };
+
+    DomainEventListenerRegistry(
+            final @NonNull ApplicationContext applicationContext,
+            final @NonNull IsisConfiguration configuration) {
+
+        this.listenerMatchers = listenerMatchers(applicationContext);
+
+        val annotationConfig = configuration.getApplib().getAnnotation();
+        this.suppressedActionPhases =
+                suppressable(annotationConfig.getAction().getDomainEvent().getSuppressedPhases());
+        this.suppressedPropertyPhases =
+                suppressable(annotationConfig.getProperty().getDomainEvent().getSuppressedPhases());
+        this.suppressedCollectionPhases =
+                suppressable(annotationConfig.getCollection().getDomainEvent().getSuppressedPhases());
+
+        log.debug("found {} application listeners", listenerMatchers.size());
+    }
+
+    /**
+     * Whether an event of given type would be received by at least one subscriber.
+     */
+    boolean hasListeners(final @NonNull Class<?> eventType) {
+        return hasListenersByEventType.get(eventType);
+    }
+
+    /**
+     * Whether posting an event of given type for given phase was suppressed by configuration.
+     */
+    boolean isSuppressed(
+            final @NonNull AbstractDomainEvent.Phase phase,
+            final @NonNull Class<?> eventType) {
+        if(ActionDomainEvent.class.isAssignableFrom(eventType)) {
+            return suppressedActionPhases.contains(phase);
+        }
+        if(PropertyDomainEvent.class.isAssignableFrom(eventType)) {
+            return suppressedPropertyPhases.contains(phase);
+        }
+        if(CollectionDomainEvent.class.isAssignableFrom(eventType)) {
+            return suppressedCollectionPhases.contains(phase);
+        }
+        return false;
+    }
+
+    // -- HELPER
+
+    private static EnumSet<AbstractDomainEvent.Phase> suppressable(
+            final List<AbstractDomainEvent.Phase> phases) {
+        val suppressable = EnumSet.noneOf(AbstractDomainEvent.Phase.class);
+        _NullSafe.stream(phases)
+            .filter(phase->!phase.isExecutingOrLater())
+            .forEach(suppressable::add);
+        return suppressable;
+    }
+
+    private static List<Predicate<ResolvableType>> listenerMatchers(
+            final ApplicationContext applicationContext) {
+
+        val listenerMatchers = new ArrayList<Predicate<ResolvableType>>();
+
+        for(var context = applicationContext; context!=null; context = context.getParent()) {
+
+            if(!(context instanceof AbstractApplicationContext)) {
+                // not able to tell, so assume every event type has listeners
+                listenerMatchers.add(eventType->true);
+                return listenerMatchers;
+            }
+
+            addListenerMatchers((AbstractApplicationContext) context, listenerMatchers);
+        }
+
+        return listenerMatchers;
+    }
+
+    private static void addListenerMatchers(
+            final AbstractApplicationContext applicationContext,
+            final List<Predicate<ResolvableType>> listenerMatchers) {
+
+        // singleton listener beans and listener methods (these are registered as listener instances)
+        applicationContext.getApplicationListeners()
+        .forEach(listener->listenerMatchers.add(listenerMatcher(listener)));
+
+        // non-singleton listener beans, for which we can only inspect the declared type
+        val beanFactory = applicationContext.getBeanFactory();
+        for(val beanName : beanFactory.getBeanNamesForType(ApplicationListener.class, true, false)) {
+            if(!isSingleton(beanFactory, beanName)) {
+                listenerMatchers.add(listenerMatcher(beanFactory.getType(beanName, false)));
+            }
+        }
+    }
+
+    private static Predicate<ResolvableType> listenerMatcher(final ApplicationListener<?> listener) {
+        val genericListener = listener instanceof GenericApplicationListener
+                ? (GenericApplicationListener) listener
+                : new GenericApplicationListenerAdapter(listener);
+        return genericListener::supportsEventType;
+    }
+
+    private static Predicate<ResolvableType> listenerMatcher(final Class<?> listenerType) {
+        if(listenerType==null
+                || GenericApplicationListener.class.isAssignableFrom(listenerType)
+                || SmartApplicationListener.class.isAssignableFrom(listenerType)) {
+            // event type support is decided at runtime, so assume it listens for every event type
+            return eventType->true;
+        }
+        val declaredEventType = ResolvableType.forClass(listenerType)
+                .as(ApplicationListener.class)
+                .getGeneric();
+        return declaredEventType.resolve()==null
+                ? eventType->true
+                : declaredEventType::isAssignableFrom;
+    }
+
+    private static boolean isSingleton(
+            final ConfigurableListableBeanFactory beanFactory,
+            final String beanName) {
+        try {
+            return beanFactory.isSingleton(beanName);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+}
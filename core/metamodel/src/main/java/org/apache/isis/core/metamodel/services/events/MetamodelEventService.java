@@ -23,10 +23,14 @@
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.events.domain.AbstractDomainEvent;
 import org.apache.isis.applib.events.domain.ActionDomainEvent;
 import org.apache.isis.applib.events.domain.CollectionDomainEvent;
 import org.apache.isis.applib.events.domain.PropertyDomainEvent;
@@ -34,9 +38,12 @@
 import org.apache.isis.applib.events.ui.IconUiEvent;
 import org.apache.isis.applib.events.ui.LayoutUiEvent;
 import org.apache.isis.applib.events.ui.TitleUiEvent;
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.metamodel.IsisModuleCoreMetamodel;
 
 import lombok.Builder;
+import lombok.NonNull;
+import lombok.val;
 
 /**
  *
@@ -51,6 +58,48 @@
 public class MetamodelEventService {
 
     @Inject private ApplicationEventPublisher publisher;
+    @Inject private IsisConfiguration configuration;
+    @Inject private ApplicationContext applicationContext;
+
+    /**
+     * Not available until the application context was refreshed, in which case every domain event is posted.
+     */
+    private volatile DomainEventListenerRegistry domainEventListenerRegistry;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed(final ContextRefreshedEvent event) {
+        if(configuration==null
+                || event.getApplicationContext()!=applicationContext) {
+            // ignore refresh events of any child contexts (these propagate up the context hierarchy)
+            return;
+        }
+        domainEventListenerRegistry = new DomainEventListenerRegistry(event.getApplicationContext(), configuration);
+    }
+
+    // -- DOMAIN EVENT LISTENER REGISTRY
+
+    /**
+     * Whether a domain event of given type needs to be created and posted for given phase.
+     * <p>
+     * Events for the {@link AbstractDomainEvent.Phase#HIDE hide}, {@link AbstractDomainEvent.Phase#DISABLE disable}
+     * and {@link AbstractDomainEvent.Phase#VALIDATE validate} phases are not required,
+     * if no subscriber listens for the event type, or if their phase was suppressed by configuration.
+     * Events for the executing and executed phases are always required, as these are also held by the
+     * current {@link org.apache.isis.applib.services.iactn.Execution}.
+     */
+    public boolean isDomainEventRequired(
+            final @NonNull AbstractDomainEvent.Phase phase,
+            final @NonNull Class<?> eventType) {
+        if(phase.isExecutingOrLater()) {
+            return true;
+        }
+        val listenerRegistry = domainEventListenerRegistry;
+        if(listenerRegistry==null) {
+            return true;
+        }
+        return listenerRegistry.hasListeners(eventType)
+                && !listenerRegistry.isSuppressed(phase, eventType);
+    }
 
     // -- METAMODEL UI EVENTS
 
@@ -19,6 +19,7 @@
 package org.apache.isis.core.metamodel.services.objectlifecycle;
 
 import java.sql.Timestamp;
+import java.util.stream.Stream;
 
 import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.isis.applib.services.xactn.TransactionId;
@@ -28,4 +29,15 @@ public interface HasEnlistedEntityPropertyChanges {
 
     Can<EntityPropertyChange> getPropertyChanges(Timestamp timestamp, String user, TransactionId txId);
 
+    /**
+     * Variant of {@link #getPropertyChanges(Timestamp, String, TransactionId)}, that allows for implementations
+     * to not hold all property changes in memory at once. The returned {@link Stream} must be closed after use.
+     * <p>
+     * Default implementation provides a single chunk.
+     */
+    default Stream<Can<EntityPropertyChange>> streamPropertyChangesInChunks(
+            final Timestamp timestamp, final String user, final TransactionId txId) {
+        return Stream.of(getPropertyChanges(timestamp, user, txId));
+    }
+
 }
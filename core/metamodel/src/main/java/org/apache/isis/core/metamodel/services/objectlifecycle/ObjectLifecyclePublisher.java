@@ -84,7 +84,7 @@ public interface ObjectLifecyclePublisher {
     void onPostPersist(ManagedObject entity);
 
     /**
-     * Called by both JPA and JDO (though JDO does <i>not</i> provide any changeRecords).
+     * Called by both JPA and JDO (though JDO does <i>not</i> provide any changeRecords at this point).
      *
      * <p>
      *     Default implementation fires callbacks and enlists the entity within <code>EntityChangeTracker</code>
@@ -92,10 +92,26 @@ public interface ObjectLifecyclePublisher {
      * </p>
      *
      * @param entity
-     * @param changeRecords - optional parameter to provide the pre-computed {@link PropertyChangeRecord}s from the ORM.  JPA does this, JDO does not.
+     * @param changeRecords - optional parameter to provide the pre-computed {@link PropertyChangeRecord}s from the ORM.
+     *      JPA does this; JDO passes an empty {@link Can} instead, then provides these later via
+     *      {@link #onPreFlushUpdate(ManagedObject, Can)}.
      */
     void onPreUpdate(ManagedObject entity, @Nullable Can<PropertyChangeRecord> changeRecords);
 
+    /**
+     * Called by JDO, just before an existing (updated) entity is flushed to the database, providing the
+     * {@link PropertyChangeRecord}s of its dirty properties, as tracked by the ORM.
+     *
+     * <p>
+     *     Default implementation enlists these with the <code>EntityChangeTracker</code>; does not fire any callbacks,
+     *     as these have already been fired by {@link #onPreUpdate(ManagedObject, Can)}.
+     * </p>
+     *
+     * @param entity
+     * @param changeRecords
+     */
+    void onPreFlushUpdate(ManagedObject entity, Can<PropertyChangeRecord> changeRecords);
+
     /**
      * Called by both JPA and JDO, after an existing entity has been updated.
      *
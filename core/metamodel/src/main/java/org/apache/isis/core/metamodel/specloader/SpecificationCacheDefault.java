@@ -20,6 +20,8 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -27,50 +29,78 @@
 
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.collections._Sets;
 import org.apache.isis.commons.internal.collections.snapshot._VersionedList;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.val;
 
-
+/**
+ * Lookups of already cached specs are lock-free. Computation of specs not yet cached
+ * is guarded per class, such that different classes can be introspected in parallel,
+ * while concurrent requests for the same class wait for the single in-flight computation.
+ * <p>
+ * Recursive computation (also across threads, that would otherwise dead-lock waiting
+ * for one another) is resolved by computing the spec in place,
+ * where the first spec put into the cache wins.
+ *
+ * @implNote thread-safe
+ */
 class SpecificationCacheDefault<T extends ObjectSpecification> implements SpecificationCache<T> {
 
-    private final Map<Class<?>, T> specByClass = _Maps.newHashMap();
+    private final Map<Class<?>, T> specByClass = _Maps.newConcurrentHashMap();
 
     // optimization: specialized list to keep track of any additions to the cache fast
     private final _VersionedList<T> vList = new _VersionedList<>();
 
+    // guards writes to specByClass and vList, such that these stay consistent
+    private final Object $lock = new Object();
+
+    private final Map<Class<?>, InFlight<T>> inFlightByClass = _Maps.newConcurrentHashMap();
+    private final Map<Thread, InFlight<T>> awaitedByThread = _Maps.newConcurrentHashMap();
+
     @Override
     public Optional<T> lookup(final Class<?> cls) {
-        synchronized(this) {
-            return Optional.ofNullable(specByClass.get(cls));
-        }
+        return Optional.ofNullable(specByClass.get(cls));
     }
 
     @Override
     public T computeIfAbsent(
             final Class<?> cls,
             final Function<Class<?>, T> mappingFunction) {
-        synchronized(this) {
-            T spec = specByClass.get(cls);
-            if(spec==null) {
-                spec = mappingFunction.apply(cls);
-                internalPut(spec);
 
-//debug
-//                if(cls.getSimpleName().equals("MarkupStream")) {
-//                    System.out.println("!!! MarkupStream");
-//                }
+        T spec = specByClass.get(cls);
+        while(spec==null) {
 
+            val inFlight = new InFlight<T>(Thread.currentThread());
+            val concurrentInFlight = inFlightByClass.putIfAbsent(cls, inFlight);
+
+            if(concurrentInFlight==null) {
+                try {
+                    spec = internalPut(mappingFunction.apply(cls));
+                } finally {
+                    inFlightByClass.remove(cls, inFlight);
+                    inFlight.complete();
+                }
+                return spec;
             }
-            return spec;
+
+            if(!awaitCompletion(concurrentInFlight)) {
+                // recursive computation, don't wait for ourselves
+                return internalPut(mappingFunction.apply(cls));
+            }
+
+            // if still null, the concurrent mapping function did not produce a spec, so we try ourselves
+            spec = specByClass.get(cls);
         }
+        return spec;
     }
 
     @Override
     public void clear() {
-        synchronized(this) {
+        synchronized($lock) {
             specByClass.clear();
             vList.clear();
         }
@@ -78,14 +108,12 @@ public void clear() {
 
     @Override
     public Can<T> snapshotSpecs() {
-        synchronized(this) {
-            return Can.ofCollection(specByClass.values());
-        }
+        return Can.ofCollection(specByClass.values());
     }
 
     @Override
     public T remove(@NonNull final Class<?> cls) {
-        synchronized(this) {
+        synchronized($lock) {
             final T removed = specByClass.remove(cls);
             if(removed!=null) {
                 vList.clear(); // invalidate
@@ -107,16 +135,80 @@ public void forEach(final Consumer<T> onSpec) {
 
     // -- HELPER
 
-    private void internalPut(@Nullable final T spec) {
+    /**
+     * @return either given spec or the one that was already cached for the same class
+     */
+    private T internalPut(@Nullable final T spec) {
         if(spec==null) {
-            return;
+            return null;
         }
         val cls = spec.getCorrespondingClass();
-        val existing = specByClass.put(cls, spec);
-        if(existing==null) {
+        synchronized($lock) {
+            val existing = specByClass.putIfAbsent(cls, spec);
+            if(existing!=null) {
+                return existing;
+            }
             vList.add(spec); // add to vList only if we don't have it already
+            return spec;
+        }
+    }
+
+    /**
+     * @return whether the in-flight computation completed,
+     * {@code false} if waiting would dead-lock, because the computation (directly or transitively)
+     * waits on the current thread
+     */
+    private boolean awaitCompletion(final InFlight<T> inFlight) {
+        val currentThread = Thread.currentThread();
+        if(inFlight.owner == currentThread) {
+            return false;
+        }
+        // register first, then check for cycles, such that at least one of the participants detects it
+        awaitedByThread.put(currentThread, inFlight);
+        try {
+            if(isWaitingForCycle(currentThread, inFlight)) {
+                return false;
+            }
+            inFlight.await();
+            return true;
+        } finally {
+            awaitedByThread.remove(currentThread);
         }
     }
 
+    private boolean isWaitingForCycle(final Thread currentThread, final InFlight<T> inFlight) {
+        final Set<Thread> visited = _Sets.newHashSet();
+        InFlight<T> next = inFlight;
+        while(next!=null) {
+            val owner = next.owner;
+            if(owner == currentThread) {
+                return true;
+            }
+            if(!visited.add(owner)) {
+                return false; // a cycle not involving the current thread
+            }
+            next = awaitedByThread.get(owner);
+        }
+        return false;
+    }
+
+    @RequiredArgsConstructor
+    private static final class InFlight<T> {
+        private final Thread owner;
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        void complete() {
+            latch.countDown();
+        }
+
+        void await() {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while awaiting spec computation", e);
+            }
+        }
+    }
 
 }
@@ -279,8 +279,8 @@ public void createMetaModel() {
 
         });
 
-        //XXX[ISIS-2382] when parallel introspecting, make sure we have the mixins before their holders
-        // (observation by experiment, no real understanding as to why)
+        // each phase is joined before the next one starts, in particular mixins are fully introspected before their holders,
+        // as the holders' member introspection picks up the mixed-in members
 
         _Util.logBefore(log, cache, knownSpecs);
 
@@ -645,6 +645,12 @@ private void introspectSequential(
         }
     }
 
+    /**
+     * Forks introspection of given specs across the common fork-join pool,
+     * returning only after all of them have been introspected up to given state.
+     * <p>
+     * Concurrent introspection of the same spec is guarded by the spec itself.
+     */
     private void introspectParallel(
             final Can<ObjectSpecification> specs,
             final IntrospectionState upTo) {
@@ -29,6 +29,7 @@
 import org.apache.isis.commons.internal.assertions._Assert;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.consent.Consent;
+import org.apache.isis.core.metamodel.consent.InteractionContextType;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.context.HasMetaModelContext;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
@@ -44,6 +45,7 @@
 import org.apache.isis.core.metamodel.interactions.AccessContext;
 import org.apache.isis.core.metamodel.interactions.DisablingInteractionAdvisor;
 import org.apache.isis.core.metamodel.interactions.HidingInteractionAdvisor;
+import org.apache.isis.core.metamodel.interactions.InteractionConsentCache;
 import org.apache.isis.core.metamodel.interactions.InteractionContext;
 import org.apache.isis.core.metamodel.interactions.InteractionHead;
 import org.apache.isis.core.metamodel.interactions.InteractionUtils;
@@ -207,6 +209,8 @@ public boolean isAlwaysHidden() {
     /**
      * Loops over all {@link HidingInteractionAdvisor} {@link Facet}s and
      * returns <tt>true</tt> only if none hide the member.
+     * <p>
+     * Memoized per interaction, if enabled (see {@link InteractionConsentCache}).
      */
     @Override
     public Consent isVisible(
@@ -214,8 +218,17 @@ public Consent isVisible(
             final InteractionInitiatedBy interactionInitiatedBy,
             final Where where) {
 
-        val visibilityContext = createVisibleInteractionContext(target, interactionInitiatedBy, where);
-        return InteractionUtils.isVisibleResult(this, visibilityContext).createConsent();
+        return InteractionConsentCache.memoize(getMetaModelContext(),
+                featureType.isAction()
+                    ? InteractionContextType.ACTION_VISIBLE
+                    : featureType.isCollection()
+                        ? InteractionContextType.COLLECTION_VISIBLE
+                        : InteractionContextType.PROPERTY_VISIBLE,
+                getFeatureIdentifier(), target, interactionInitiatedBy, where,
+                ()->{
+                    val visibilityContext = createVisibleInteractionContext(target, interactionInitiatedBy, where);
+                    return InteractionUtils.isVisibleResult(this, visibilityContext).createConsent();
+                });
     }
 
     // -- Disabled (or enabled)
@@ -237,6 +250,8 @@ protected abstract UsabilityContext createUsableInteractionContext(
     /**
      * Loops over all {@link DisablingInteractionAdvisor} {@link Facet}s and
      * returns <tt>true</tt> only if none disables the member.
+     * <p>
+     * Memoized per interaction, if enabled (see {@link InteractionConsentCache}).
      */
     @Override
     public Consent isUsable(
@@ -244,8 +259,17 @@ public Consent isUsable(
             final InteractionInitiatedBy interactionInitiatedBy,
             final Where where) {
 
-        val usabilityContext = createUsableInteractionContext(target, interactionInitiatedBy, where);
-        return InteractionUtils.isUsableResult(this, usabilityContext).createConsent();
+        return InteractionConsentCache.memoize(getMetaModelContext(),
+                featureType.isAction()
+                    ? InteractionContextType.ACTION_USABLE
+                    : featureType.isCollection()
+                        ? InteractionContextType.COLLECTION_USABLE
+                        : InteractionContextType.PROPERTY_USABLE,
+                getFeatureIdentifier(), target, interactionInitiatedBy, where,
+                ()->{
+                    val usabilityContext = createUsableInteractionContext(target, interactionInitiatedBy, where);
+                    return InteractionUtils.isUsableResult(this, usabilityContext).createConsent();
+                });
     }
 
     // -- PREDICATES
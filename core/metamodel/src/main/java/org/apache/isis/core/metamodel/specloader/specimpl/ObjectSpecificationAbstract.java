@@ -192,7 +192,12 @@ public Can<ObjectSpecification> snapshot() {
     private AliasedFacet aliasedFacet;
     private CssClassFacet cssClassFacet;
 
-    private IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+    private volatile IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+
+    /**
+     * Guards introspection, such that any spec is introspected by one thread at a time.
+     */
+    private final _IntrospectionLock introspectionLock = new _IntrospectionLock();
 
 
     // -- Constructor
@@ -255,6 +260,25 @@ public void introspectUpTo(final IntrospectionState upTo) {
             return; // optimization
         }
 
+        // when concurrently introspecting, threads wait for the spec's introspection to complete;
+        // only if waiting would dead-lock, proceed with the spec in its current state,
+        // same as with recursive introspection on a single thread
+        if(!introspectionLock.acquire()) {
+            return;
+        }
+        try {
+            introspectUpToWhileLocked(upTo);
+        } finally {
+            introspectionLock.release();
+        }
+    }
+
+    private void introspectUpToWhileLocked(final IntrospectionState upTo) {
+
+        if(!isLessThan(upTo)) {
+            return; // introspected by another thread, while we were waiting
+        }
+
         if(log.isDebugEnabled()) {
             log.debug("introspectingUpTo: {}, {}", getFullIdentifier(), upTo);
         }
@@ -273,6 +297,7 @@ public void introspectUpTo(final IntrospectionState upTo) {
             if(isLessThan(upTo)) {
                 this.introspectionState = IntrospectionState.MEMBERS_BEING_INTROSPECTED;
                 introspectMembers();
+                invalidateCachedFacets(); // pick up facets added while introspecting members
                 this.introspectionState = IntrospectionState.FULLY_INTROSPECTED;
                 revalidate = true;
             }
@@ -286,6 +311,7 @@ public void introspectUpTo(final IntrospectionState upTo) {
                 // set to avoid infinite loops
                 this.introspectionState = IntrospectionState.MEMBERS_BEING_INTROSPECTED;
                 introspectMembers();
+                invalidateCachedFacets(); // pick up facets added while introspecting members
                 this.introspectionState = IntrospectionState.FULLY_INTROSPECTED;
                 revalidate = true;
             }
@@ -380,6 +406,14 @@ protected void sortCacheAndUpdateActions(final List<ObjectAction> objectActions)
         }
     }
 
+    /**
+     * Re-evaluates this spec's memoized facet fields
+     * (value, title, icon, navigable-parent, css-class and aliased facet)
+     * from the facets currently held.
+     * <p>
+     * Does not itself invalidate the facet holder's snapshot; looking up these facets merely
+     * (re-)builds it, if already invalidated by a facet added since.
+     */
     public void invalidateCachedFacets() {
         valueFacet = getFacet(ValueFacet.class);
         titleFacet = lookupNonFallbackFacet(TitleFacet.class).orElse(null);
@@ -0,0 +1,138 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader.specimpl;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.isis.commons.internal.collections._Maps;
+
+import lombok.val;
+
+/**
+ * package private utility
+ * <p>
+ * Guards introspection of a single spec, such that it is introspected by one thread at a time.
+ * <p>
+ * Threads block until the spec's introspection is complete, unless waiting would dead-lock,
+ * that is, when the thread currently introspecting the spec is itself (transitively) waiting
+ * for a spec the calling thread is introspecting. Only in that case {@link #acquire()}
+ * does not block, but returns {@code false}, and the caller proceeds with the spec in its
+ * current state, same as with recursive introspection on a single thread.
+ */
+final class _IntrospectionLock {
+
+    /**
+     * Per thread, the lock it is currently blocked on (if any).
+     * Also guards all {@link #owner} updates, so that dead-lock detection sees a consistent wait-for graph.
+     */
+    private static final Map<Thread, _IntrospectionLock> waitingFor = _Maps.newHashMap();
+
+    /**
+     * Number of locks currently held by the current thread (including re-entrant holds).
+     */
+    private static final ThreadLocal<int[]> holdCount = ThreadLocal.withInitial(()->new int[1]);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** guarded by {@link #waitingFor} */
+    private Thread owner;
+
+    /**
+     * Blocks until the lock is acquired, unless that would dead-lock.
+     * @return whether the lock was acquired, in which case it must be {@link #release() released}
+     */
+    boolean acquire() {
+        val currentThread = Thread.currentThread();
+
+        if(lock.isHeldByCurrentThread()
+                || holdCount.get()[0]==0) {
+            // re-entrant, or not holding any other lock, so cannot be part of a cycle
+            lock.lock();
+            onAcquired(currentThread);
+            return true;
+        }
+
+        if(lock.tryLock()) {
+            onAcquired(currentThread);
+            return true;
+        }
+
+        synchronized(waitingFor) {
+            if(wouldDeadlock(currentThread)) {
+                return false;
+            }
+            waitingFor.put(currentThread, this);
+        }
+        try {
+            lock.lock();
+        } finally {
+            synchronized(waitingFor) {
+                waitingFor.remove(currentThread);
+            }
+        }
+        onAcquired(currentThread);
+        return true;
+    }
+
+    void release() {
+        if(lock.getHoldCount()==1) {
+            synchronized(waitingFor) {
+                owner = null;
+            }
+        }
+        holdCount.get()[0]--;
+        lock.unlock();
+    }
+
+    boolean isHeldByCurrentThread() {
+        return lock.isHeldByCurrentThread();
+    }
+
+    // -- HELPER
+
+    private void onAcquired(final Thread currentThread) {
+        holdCount.get()[0]++;
+        if(lock.getHoldCount()==1) {
+            synchronized(waitingFor) {
+                owner = currentThread;
+            }
+        }
+    }
+
+    /**
+     * Follows the wait-for graph, starting with this lock's owner.
+     * Must be called while synchronized on {@link #waitingFor}.
+     */
+    private boolean wouldDeadlock(final Thread currentThread) {
+        var thread = owner;
+        while(thread!=null) {
+            if(thread==currentThread) {
+                return true;
+            }
+            val blockedOn = waitingFor.get(thread);
+            if(blockedOn==null) {
+                return false;
+            }
+            thread = blockedOn.owner;
+        }
+        return false;
+    }
+
+}
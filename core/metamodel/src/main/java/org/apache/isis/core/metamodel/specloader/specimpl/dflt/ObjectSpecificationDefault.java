@@ -77,7 +77,7 @@
     /**
      * Lazily built by {@link #getMember(Method)}.
      */
-    private Map<Method, ObjectMember> membersByMethod = null;
+    private volatile Map<Method, ObjectMember> membersByMethod = null;
 
     private final FacetedMethodsBuilder facetedMethodsBuilder;
 
@@ -265,8 +265,10 @@ public Optional<ObjectAction> getDeclaredAction(
     public Optional<? extends ObjectMember> getMember(final Method method) {
         introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
 
+        var membersByMethod = this.membersByMethod;
         if (membersByMethod == null) {
-            this.membersByMethod = catalogueMembers();
+            // benign race, as catalogueMembers() is idempotent
+            this.membersByMethod = membersByMethod = catalogueMembers();
         }
 
         val member = membersByMethod.get(method);
@@ -24,17 +24,18 @@
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.stream.Collectors;
 
 import org.apache.isis.applib.Identifier;
 import org.apache.isis.commons.internal.collections._Lists;
-import org.apache.isis.commons.internal.collections._Sets;
 
 import lombok.val;
 
 public final class ValidationFailures implements Iterable<ValidationFailure> {
 
-    private final Set<ValidationFailure> failures = _Sets.newConcurrentHashSet();
+    // sorted, such that failures are reported in the same order, regardless of (concurrent) introspection order
+    private final Set<ValidationFailure> failures = new ConcurrentSkipListSet<>();
 
     public void add(Identifier origin, String pattern, Object... arguments) {
         val message = String.format(pattern, arguments);
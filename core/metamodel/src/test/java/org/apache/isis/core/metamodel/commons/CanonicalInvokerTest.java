@@ -0,0 +1,115 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.commons;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class CanonicalInvokerTest {
+
+    public static class Customer {
+        public String getName() { return "Fred"; }
+        public int sum(final int a, final int b) { return a + b; }
+        public int size(final List<String> list) { return list.size(); }
+        public void touch() { }
+        public void failUnsupported() { throw new UnsupportedOperationException("unsupported"); }
+        @SuppressWarnings("unused")
+        private String hideName() { return "hidden"; }
+        public static String title() { return "Customer"; }
+    }
+
+    private final Customer customer = new Customer();
+
+    @Test
+    void invokesPublicMethod() throws Exception {
+        assertEquals("Fred", CanonicalInvoker.invoke(method("getName"), customer));
+        assertTrue(MethodInvoker.forMethod(method("getName")).isMethodHandleBound());
+    }
+
+    @Test
+    void invokesPrivateMethod() throws Exception {
+        assertEquals("hidden", CanonicalInvoker.invoke(method("hideName"), customer));
+        assertTrue(MethodInvoker.forMethod(method("hideName")).isMethodHandleBound());
+    }
+
+    @Test
+    void invokesStaticMethod() throws Exception {
+        assertEquals("Customer", CanonicalInvoker.invoke(method("title"), customer));
+    }
+
+    @Test
+    void adaptsMissingPrimitiveArgsToDefaults() throws Exception {
+        assertEquals(0, CanonicalInvoker.invoke(method("sum", int.class, int.class), customer));
+        assertEquals(3, CanonicalInvoker.invoke(method("sum", int.class, int.class), customer,
+                new Object[] {1, 2}));
+    }
+
+    @Test
+    void adaptsLikeDefaultParameterAdapter() throws Exception {
+        val sizeMethod = method("size", List.class);
+        val args = new Object[] {new ArrayList<>(List.of("a", "b"))};
+
+        val adapted = MethodInvoker.forMethod(sizeMethod).adaptAll(ParameterAdapter.DEFAULT, args);
+        assertArrayEquals(ParameterAdapter.DEFAULT.adaptAll(sizeMethod, args), adapted);
+        assertEquals(2, CanonicalInvoker.invoke(sizeMethod, customer, args));
+    }
+
+    @Test
+    void returnsNullForVoidMethods() throws Exception {
+        assertNull(CanonicalInvoker.invoke(method("touch"), customer));
+    }
+
+    @Test
+    void bindsOncePerMethod() throws Exception {
+        assertSame(MethodInvoker.forMethod(method("getName")), MethodInvoker.forMethod(method("getName")));
+    }
+
+    @Test
+    void propagatesExceptionsUnwrapped() throws Exception {
+        val ex = assertThrows(UnsupportedOperationException.class, ()->
+            CanonicalInvoker.invoke(method("failUnsupported"), customer));
+        assertEquals("unsupported", ex.getMessage());
+    }
+
+    @Test
+    void reportsParamTypeMismatch() throws Exception {
+        val ex = assertThrows(IllegalArgumentException.class, ()->
+            CanonicalInvoker.invoke(method("sum", int.class, int.class), customer, new Object[] {"1", 2}));
+        assertTrue(ex.getMessage().contains("param-type[0]"));
+    }
+
+    // -- HELPER
+
+    private static Method method(final String name, final Class<?>... parameterTypes) throws NoSuchMethodException {
+        return Customer.class.getDeclaredMethod(name, parameterTypes);
+    }
+
+}
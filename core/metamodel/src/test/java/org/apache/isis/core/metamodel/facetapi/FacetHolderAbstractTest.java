@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.facetapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting;
+
+import lombok.val;
+
+class FacetHolderAbstractTest {
+
+    public static interface FooFacet extends Facet {
+    }
+
+    public static interface BarFacet extends Facet {
+    }
+
+    public static class ConcreteFacet extends FacetAbstract {
+        public ConcreteFacet(
+                final Class<? extends Facet> facetType,
+                final FacetHolder holder,
+                final Facet.Precedence precedence) {
+            super(facetType, holder, precedence);
+        }
+    }
+
+    private FacetHolder facetHolder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        facetHolder = FacetHolder.forTesting(MetaModelContext_forTesting.buildDefault());
+    }
+
+    @Test
+    void snapshotIsInvalidated_whenFacetAdded() {
+        val lowFoo = new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.LOW);
+        facetHolder.addFacet(lowFoo);
+
+        // publishes the snapshot
+        assertSame(lowFoo, facetHolder.getFacet(FooFacet.class));
+        assertFalse(facetHolder.containsFacet(BarFacet.class));
+        assertEquals(1, facetHolder.getFacetCount());
+
+        val highFoo = new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.HIGH);
+        val bar = new ConcreteFacet(BarFacet.class, facetHolder, Facet.Precedence.DEFAULT);
+        facetHolder.addFacet(highFoo);
+        facetHolder.addFacet(bar);
+
+        assertSame(highFoo, facetHolder.getFacet(FooFacet.class));
+        assertTrue(facetHolder.containsFacet(BarFacet.class));
+        assertEquals(2, facetHolder.getFacetCount());
+        assertEquals(2L, facetHolder.streamFacets().count());
+    }
+
+    @Test
+    void streamedFacets_areImmutableSnapshot() {
+        facetHolder.addFacet(new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.DEFAULT));
+        val facets = facetHolder.streamFacets();
+
+        // adding facets while streaming does not interfere with the already published snapshot
+        facetHolder.addFacet(new ConcreteFacet(BarFacet.class, facetHolder, Facet.Precedence.DEFAULT));
+
+        assertEquals(1L, facets.count());
+        assertEquals(2L, facetHolder.streamFacets().count());
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.interactions;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.id.LogicalType;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.core.metamodel.consent.Allow;
+import org.apache.isis.core.metamodel.consent.Consent;
+import org.apache.isis.core.metamodel.consent.InteractionContextType;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.consent.Veto;
+
+import lombok.val;
+
+class InteractionConsentCacheTest {
+
+    static class Customer {}
+
+    private InteractionConsentCache consentCache;
+    private AtomicInteger evaluationCount;
+    private InteractionConsentCache.Key nameVisible;
+
+    @BeforeEach
+    void setUp() {
+        consentCache = new InteractionConsentCache();
+        evaluationCount = new AtomicInteger();
+        nameVisible = key(Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "1"), Where.OBJECT_FORMS);
+    }
+
+    @Test
+    void shouldEvaluateOnlyOnce_whenAskedRepeatedly() {
+        val first = consentCache.computeIfAbsent(nameVisible, this::evaluate);
+        val second = consentCache.computeIfAbsent(nameVisible, this::evaluate);
+
+        assertSame(first, second);
+        assertEquals(1, evaluationCount.get());
+        assertEquals(1, consentCache.getHitCount());
+        assertEquals(1, consentCache.getMissCount());
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenKeyDiffers() {
+        consentCache.computeIfAbsent(nameVisible, this::evaluate);
+        consentCache.computeIfAbsent(
+                key(Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "2"), Where.OBJECT_FORMS),
+                this::evaluate);
+        consentCache.computeIfAbsent(
+                key(Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "1"), Where.PARENTED_TABLES),
+                this::evaluate);
+
+        assertEquals(3, evaluationCount.get());
+        assertEquals(0, consentCache.getHitCount());
+    }
+
+    @Test
+    void shouldEvaluateAgain_whenCleared() {
+        consentCache.computeIfAbsent(nameVisible, this::evaluate);
+        consentCache.clear();
+        consentCache.computeIfAbsent(nameVisible, this::evaluate);
+
+        assertEquals(2, evaluationCount.get());
+    }
+
+    @Test
+    void shouldNotMemoize_whileExecuting() {
+        consentCache.computeIfAbsent(nameVisible, this::evaluate);
+
+        consentCache.onExecutionStarted();
+        consentCache.computeIfAbsent(nameVisible, this::evaluate);
+        consentCache.computeIfAbsent(nameVisible, this::evaluate);
+        consentCache.onExecutionCompleted();
+
+        assertEquals(3, evaluationCount.get());
+
+        // memoized consents from before the execution are discarded, memoization resumes
+        consentCache.computeIfAbsent(nameVisible, this::evaluate);
+        consentCache.computeIfAbsent(nameVisible, this::evaluate);
+
+        assertEquals(4, evaluationCount.get());
+    }
+
+    @Test
+    void shouldBracketFirstExecution_whenNothingMemoizedYet() {
+        val interaction = interactionWithAttributes();
+        assertFalse(InteractionConsentCache.lookup(interaction).isPresent());
+
+        // as done by the member executor, when the interaction's first execution starts
+        val consentCache = InteractionConsentCache.lookupElseCreate(interaction);
+        consentCache.onExecutionStarted();
+        consentCache.computeIfAbsent(nameVisible, this::evaluate);
+        consentCache.onExecutionCompleted();
+
+        // consents asked for during the execution were not memoized
+        consentCache.computeIfAbsent(nameVisible, this::evaluate);
+        consentCache.computeIfAbsent(nameVisible, this::evaluate);
+
+        assertEquals(2, evaluationCount.get());
+        assertSame(consentCache, InteractionConsentCache.lookup(interaction).get());
+        assertSame(consentCache, InteractionConsentCache.lookupElseCreate(interaction));
+    }
+
+    // -- HELPER
+
+    private static Interaction interactionWithAttributes() {
+        val attributes = new HashMap<Class<?>, Object>();
+        val interaction = mock(Interaction.class);
+        when(interaction.computeAttributeIfAbsent(any(), any()))
+            .thenAnswer(inv->attributes.computeIfAbsent(inv.getArgument(0), inv.getArgument(1)));
+        when(interaction.getAttribute(any()))
+            .thenAnswer(inv->attributes.get(inv.getArgument(0)));
+        return interaction;
+    }
+
+    private Consent evaluate() {
+        return evaluationCount.incrementAndGet() % 2 == 0
+                ? new Veto("hidden")
+                : Allow.DEFAULT;
+    }
+
+    private static InteractionConsentCache.Key key(final Bookmark target, final Where where) {
+        return InteractionConsentCache.Key.of(
+                InteractionContextType.PROPERTY_VISIBLE,
+                target,
+                Identifier.propertyIdentifier(LogicalType.fqcn(Customer.class), "name"),
+                InteractionInitiatedBy.USER,
+                where,
+                null);
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.events;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.events.domain.AbstractDomainEvent.Phase;
+import org.apache.isis.applib.events.domain.ActionDomainEvent;
+import org.apache.isis.applib.events.domain.PropertyDomainEvent;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting;
+
+import lombok.val;
+
+class DomainEventListenerRegistryTest {
+
+    public static class PlaceOrderDomainEvent extends ActionDomainEvent<Object> {}
+    public static class PlaceUrgentOrderDomainEvent extends PlaceOrderDomainEvent {}
+    public static class CancelOrderDomainEvent extends ActionDomainEvent<Object> {}
+
+    public static class OrderSubscriber {
+        @EventListener(PlaceOrderDomainEvent.class)
+        public void on(final PlaceOrderDomainEvent ev) {}
+    }
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private IsisConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext(OrderSubscriber.class);
+        configuration = MetaModelContext_forTesting.buildDefault().getConfiguration();
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationContext.close();
+    }
+
+    @Test
+    void shouldKnowSubscribedEventTypes() {
+        final DomainEventListenerRegistry registry =
+                new DomainEventListenerRegistry(applicationContext, configuration);
+
+        assertTrue(registry.hasListeners(PlaceOrderDomainEvent.class));
+        assertTrue(registry.hasListeners(PlaceUrgentOrderDomainEvent.class));
+    }
+
+    @Test
+    void shouldKnowUnsubscribedEventTypes() {
+        final DomainEventListenerRegistry registry =
+                new DomainEventListenerRegistry(applicationContext, configuration);
+
+        assertFalse(registry.hasListeners(CancelOrderDomainEvent.class));
+        assertFalse(registry.hasListeners(ActionDomainEvent.Default.class));
+        assertFalse(registry.hasListeners(PropertyDomainEvent.Default.class));
+    }
+
+    @Test
+    void shouldSuppressConfiguredPhases_exceptExecutingOrLater() {
+        configuration.getApplib().getAnnotation().getAction().getDomainEvent()
+            .setSuppressedPhases(List.of(Phase.HIDE, Phase.EXECUTING));
+
+        final DomainEventListenerRegistry registry =
+                new DomainEventListenerRegistry(applicationContext, configuration);
+
+        assertTrue(registry.isSuppressed(Phase.HIDE, PlaceOrderDomainEvent.class));
+        assertFalse(registry.isSuppressed(Phase.DISABLE, PlaceOrderDomainEvent.class));
+        assertFalse(registry.isSuppressed(Phase.EXECUTING, PlaceOrderDomainEvent.class));
+        assertFalse(registry.isSuppressed(Phase.HIDE, PropertyDomainEvent.Default.class));
+    }
+
+    @Test
+    void shouldKnowEventTypesSubscribedToInParentContext() {
+        try(val childContext = new AnnotationConfigApplicationContext()) {
+            childContext.setParent(applicationContext);
+            childContext.refresh();
+
+            final DomainEventListenerRegistry registry =
+                    new DomainEventListenerRegistry(childContext, configuration);
+
+            assertTrue(registry.hasListeners(PlaceOrderDomainEvent.class));
+            assertFalse(registry.hasListeners(CancelOrderDomainEvent.class));
+        }
+    }
+
+    @Test
+    void shouldIgnoreRefreshOfChildContext() {
+        val metamodelEventService = MetamodelEventService.builder()
+                .configuration(configuration)
+                .applicationContext(applicationContext)
+                .build();
+
+        try(val childContext = new AnnotationConfigApplicationContext()) {
+            childContext.setParent(applicationContext);
+            childContext.refresh();
+
+            // not yet refreshed (from the service's own context's perspective), so every event is required
+            metamodelEventService.onContextRefreshed(new ContextRefreshedEvent(childContext));
+            assertTrue(metamodelEventService.isDomainEventRequired(Phase.HIDE, CancelOrderDomainEvent.class));
+
+            metamodelEventService.onContextRefreshed(new ContextRefreshedEvent(applicationContext));
+            assertFalse(metamodelEventService.isDomainEventRequired(Phase.HIDE, CancelOrderDomainEvent.class));
+            assertTrue(metamodelEventService.isDomainEventRequired(Phase.HIDE, PlaceOrderDomainEvent.class));
+
+            // a later refresh of the child context must not replace the registry
+            metamodelEventService.onContextRefreshed(new ContextRefreshedEvent(childContext));
+            assertTrue(metamodelEventService.isDomainEventRequired(Phase.HIDE, PlaceOrderDomainEvent.class));
+        }
+    }
+
+}
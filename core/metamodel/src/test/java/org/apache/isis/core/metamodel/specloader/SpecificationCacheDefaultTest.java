@@ -18,6 +18,16 @@
  */
 package org.apache.isis.core.metamodel.specloader;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,10 +35,12 @@
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.apache.isis.applib.id.LogicalType;
+import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 
 import lombok.val;
@@ -111,4 +123,65 @@ public void getByObjectType_whenSet() {
         assertSame(objectSpec, customerSpec);
     }
 
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void computeIfAbsent_whenStressedByManyThreads() throws Exception {
+
+        val types = List.<Class<?>>of(
+                String.class, Integer.class, Long.class, Short.class,
+                Byte.class, Double.class, Float.class, Character.class,
+                Boolean.class, Object.class, Number.class, CharSequence.class,
+                Customer.class, Order.class, List.class, Map.class);
+
+        final Map<Class<?>, ObjectSpecification> specsByType = new ConcurrentHashMap<>();
+        for(val type : types) {
+            val spec = Mockito.mock(ObjectSpecification.class);
+            Mockito.when(spec.getCorrespondingClass()).thenReturn((Class)type);
+            specsByType.put(type, spec);
+        }
+
+        final Map<Class<?>, AtomicInteger> computationCountByType = new ConcurrentHashMap<>();
+        val threadCount = 32;
+        val iterations = 200;
+        val startSignal = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<?>> futures = _Lists.newArrayList();
+            for(int t = 0; t < threadCount; ++t) {
+                final int offset = t;
+                futures.add(executor.submit(()->{
+                    startSignal.await();
+                    for(int i = 0; i < iterations; ++i) {
+                        val type = types.get((offset + i) % types.size());
+                        val spec = specificationCache.computeIfAbsent(type, cls->{
+                            computationCountByType.computeIfAbsent(cls, __->new AtomicInteger()).incrementAndGet();
+                            Thread.yield(); // simulate slow introspection
+                            return specsByType.get(cls);
+                        });
+                        assertSame(specsByType.get(type), spec);
+                        assertSame(spec, specificationCache.lookup(type).orElse(null));
+                    }
+                    return null;
+                }));
+            }
+            startSignal.countDown();
+            for(val future : futures) {
+                future.get(30, TimeUnit.SECONDS); // propagates assertion failures
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // each type was computed exactly once
+        assertEquals(types.size(), computationCountByType.size());
+        computationCountByType.values()
+        .forEach(count->assertEquals(1, count.get()));
+
+        // versioned list iteration is consistent with the cache
+        val iterated = new AtomicInteger();
+        specificationCache.forEach(__->iterated.incrementAndGet());
+        assertEquals(types.size(), iterated.get());
+        assertEquals(types.size(), specificationCache.snapshotSpecs().size());
+    }
+
 }
@@ -0,0 +1,115 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader.specimpl;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.apache.isis.applib.annotation.Action;
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.Nature;
+import org.apache.isis.applib.annotation.Property;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.val;
+
+/**
+ * Races several threads introspecting (mutually referencing) specs,
+ * verifying that every caller sees a fully introspected spec.
+ */
+class ObjectSpecificationAbstract_concurrentIntrospection_Test {
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Customer {
+        @Property @Getter @Setter private String name;
+        @Property @Getter @Setter private Order lastOrder;
+        @Action public Order placeOrder() { return null; }
+    }
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Order {
+        @Property @Getter @Setter private String reference;
+        @Property @Getter @Setter private Customer customer;
+        @Action public Customer reassign(final Customer customer) { return customer; }
+    }
+
+    private static final int THREADS = 8;
+
+    private ExecutorService executor;
+    private MetaModelContext metaModelContext;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+        metaModelContext = MetaModelContext_forTesting.buildDefault();
+        metaModelContext.getConfiguration().getCore().getMetaModel().getIntrospector().setValidateIncrementally(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        metaModelContext.getSpecificationLoader().disposeMetaModel();
+    }
+
+    @RepeatedTest(20)
+    void every_caller_sees_a_fully_introspected_spec() throws Exception {
+
+        val specLoader = metaModelContext.getSpecificationLoader();
+        val barrier = new CyclicBarrier(THREADS);
+
+        final List<Future<ObjectSpecification>> futures = _Lists.newArrayList();
+        for(int i=0; i<THREADS; ++i) {
+            val type = i%2==0 ? Customer.class : Order.class;
+            final Callable<ObjectSpecification> task = ()->{
+                barrier.await();
+                val spec = specLoader.loadSpecification(type, IntrospectionState.FULLY_INTROSPECTED);
+                // captured right away, before any other accessor could trigger further introspection
+                assertFalse(((ObjectSpecificationAbstract)spec).isLessThan(IntrospectionState.FULLY_INTROSPECTED),
+                        ()->"caller saw a partly introspected spec of " + type.getSimpleName());
+                return spec;
+            };
+            futures.add(executor.submit(task));
+        }
+
+        for(val future : futures) {
+            val spec = future.get(30, TimeUnit.SECONDS);
+            assertEquals(2L, spec.streamAssociations(MixedIn.EXCLUDED).count());
+            assertEquals(1L, spec.streamAnyActions(MixedIn.EXCLUDED).count());
+        }
+    }
+
+}
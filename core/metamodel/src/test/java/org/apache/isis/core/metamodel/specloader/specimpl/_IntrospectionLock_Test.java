@@ -0,0 +1,146 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader.specimpl;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class _IntrospectionLock_Test {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void reentrant_acquire_succeeds() {
+        val lock = new _IntrospectionLock();
+        assertTrue(lock.acquire());
+        assertTrue(lock.acquire());
+        lock.release();
+        assertTrue(lock.isHeldByCurrentThread());
+        lock.release();
+        assertFalse(lock.isHeldByCurrentThread());
+    }
+
+    @Test
+    void when_holding_another_lock_and_no_cycle_then_blocks_until_released() throws Exception {
+        val a = new _IntrospectionLock();
+        val b = new _IntrospectionLock();
+
+        val bAcquired = new CountDownLatch(1);
+        val releaseB = new CountDownLatch(1);
+
+        // other thread holds b, not waiting for anything
+        executor.submit(()->{
+            b.acquire();
+            bAcquired.countDown();
+            releaseB.await();
+            b.release();
+            return null;
+        });
+        assertTrue(bAcquired.await(5, TimeUnit.SECONDS));
+
+        Future<Boolean> acquiredB = executor.submit(()->{
+            a.acquire();
+            try {
+                val acquired = b.acquire(); // must block, rather than proceed
+                if(acquired) {
+                    b.release();
+                }
+                return acquired;
+            } finally {
+                a.release();
+            }
+        });
+
+        Thread.sleep(100);
+        assertFalse(acquiredB.isDone());
+
+        releaseB.countDown();
+        assertTrue(acquiredB.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void when_waiting_would_deadlock_then_does_not_block() throws Exception {
+        val a = new _IntrospectionLock();
+        val b = new _IntrospectionLock();
+
+        val aAcquired = new CountDownLatch(1);
+        val bAcquired = new CountDownLatch(1);
+
+        // first thread holds a and waits for b
+        Future<Boolean> first = executor.submit(()->{
+            a.acquire();
+            try {
+                aAcquired.countDown();
+                bAcquired.await();
+                val acquired = b.acquire();
+                if(acquired) {
+                    b.release();
+                }
+                return acquired;
+            } finally {
+                a.release();
+            }
+        });
+
+        // second thread holds b and (after the first blocks) asks for a
+        Future<Boolean> second = executor.submit(()->{
+            b.acquire();
+            try {
+                bAcquired.countDown();
+                aAcquired.await();
+                Thread.sleep(100); // let the first thread block on b
+                val acquired = a.acquire();
+                if(acquired) {
+                    a.release();
+                }
+                return acquired;
+            } finally {
+                b.release();
+            }
+        });
+
+        // exactly one of them must not block, the other then acquires once released
+        val firstAcquired = first.get(5, TimeUnit.SECONDS);
+        val secondAcquired = second.get(5, TimeUnit.SECONDS);
+        assertTrue(firstAcquired ^ secondAcquired);
+    }
+
+}
@@ -18,11 +18,16 @@
  */
 module org.apache.isis.core.runtime {
     exports org.apache.isis.core.runtime;
+    exports org.apache.isis.core.runtime.async;
     exports org.apache.isis.core.runtime.events;
+    exports org.apache.isis.core.runtime.jfr;
+    exports org.apache.isis.core.runtime.metrics;
+    exports org.apache.isis.core.runtime.publishing;
 
     requires java.annotation;
     requires java.desktop;
     requires java.inject;
+    requires transitive jdk.jfr;
     requires lombok;
     requires org.apache.isis.applib;
     requires org.apache.isis.commons;
@@ -23,8 +23,11 @@
 
 import org.apache.isis.core.interaction.IsisModuleCoreInteraction;
 import org.apache.isis.core.metamodel.IsisModuleCoreMetamodel;
+import org.apache.isis.core.runtime.async.AsyncExecutorService;
 import org.apache.isis.core.runtime.events.MetamodelEventService;
 import org.apache.isis.core.runtime.events.TransactionEventEmitter;
+import org.apache.isis.core.runtime.metrics.MetricsRecorderNoop;
+import org.apache.isis.core.runtime.publishing.AsyncPublishingPipeline;
 import org.apache.isis.core.transaction.IsisModuleCoreTransaction;
 import org.apache.isis.valuetypes.jodatime.integration.IsisModuleValJodatimeIntegration;
 
@@ -39,8 +42,11 @@
         IsisModuleValJodatimeIntegration.class,
 
         // @Service's
+        AsyncExecutorService.class,
+        AsyncPublishingPipeline.class,
         MetamodelEventService.class,
         TransactionEventEmitter.class,
+        MetricsRecorderNoop.class,
 
         // @Configuration's
 
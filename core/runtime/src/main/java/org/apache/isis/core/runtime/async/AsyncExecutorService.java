@@ -0,0 +1,221 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.async;
+
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.config.IsisConfiguration.Core.RuntimeServices.WrapperFactory.AsyncExecutor.AsyncExecutorMode;
+import org.apache.isis.core.runtime.IsisModuleCoreRuntime;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Provides the framework-managed {@link ExecutorService}, that
+ * {@link org.apache.isis.applib.services.wrapper.WrapperFactory#asyncWrap(Object, org.apache.isis.applib.services.wrapper.control.AsyncControl) async wrapped}
+ * executions are submitted to by default, rather than competing for the
+ * {@link ForkJoinPool#commonPool() common pool} with parallel streams and the like.
+ * <p>
+ * Depending on {@link AsyncExecutorMode}, that is either a bounded pool of platform threads,
+ * a virtual thread per execution, or none (in which case the common pool is used as a fallback).
+ * <p>
+ * On shutdown, executions already submitted are given the configured time to complete.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(IsisModuleCoreRuntime.NAMESPACE + ".AsyncExecutorService")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class AsyncExecutorService {
+
+    private final IsisConfiguration.Core.RuntimeServices.WrapperFactory.AsyncExecutor config;
+
+    /**
+     * The mode actually in effect, which differs from the configured one,
+     * if virtual threads were asked for, but are not supported by the JVM.
+     */
+    @Getter private final @NonNull AsyncExecutorMode mode;
+
+    /** {@code null} for {@link AsyncExecutorMode#CALLER_SUPPLIED} */
+    private final @Nullable ExecutorService executorService;
+    /** non-null only for {@link AsyncExecutorMode#PLATFORM_THREAD_POOL} */
+    private final @Nullable ThreadPoolExecutor threadPool;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    @Inject
+    public AsyncExecutorService(final IsisConfiguration isisConfiguration) {
+        this.config = isisConfiguration.getCore().getRuntimeServices().getWrapperFactory().getAsyncExecutor();
+
+        val virtualThreadExecutor = config.getMode() == AsyncExecutorMode.VIRTUAL_THREADS
+                ? newVirtualThreadPerTaskExecutor()
+                : null;
+
+        if(virtualThreadExecutor!=null) {
+            this.mode = AsyncExecutorMode.VIRTUAL_THREADS;
+            this.executorService = virtualThreadExecutor;
+            this.threadPool = null;
+        } else if(config.getMode() == AsyncExecutorMode.CALLER_SUPPLIED) {
+            this.mode = AsyncExecutorMode.CALLER_SUPPLIED;
+            this.executorService = null;
+            this.threadPool = null;
+        } else {
+            this.mode = AsyncExecutorMode.PLATFORM_THREAD_POOL;
+            this.threadPool = newThreadPool();
+            this.executorService = threadPool;
+        }
+        log.info("async executions use {}", mode);
+    }
+
+    /**
+     * The framework-managed {@link ExecutorService}, if any.
+     * Empty for {@link AsyncExecutorMode#CALLER_SUPPLIED}.
+     */
+    public Optional<ExecutorService> getManagedExecutorService() {
+        return Optional.ofNullable(executorService);
+    }
+
+    /**
+     * The {@link ExecutorService} to use, if the caller does not supply one,
+     * that is, the {@link #getManagedExecutorService() managed} one,
+     * or else the {@link ForkJoinPool#commonPool() common pool}.
+     */
+    public ExecutorService getDefaultExecutorService() {
+        return executorService!=null
+                ? executorService
+                : ForkJoinPool.commonPool();
+    }
+
+    // -- METRICS
+
+    /**
+     * Number of executions waiting for a thread; always zero, unless a bounded pool of platform threads is used.
+     */
+    public int getQueueDepth() {
+        return threadPool!=null
+                ? threadPool.getQueue().size()
+                : 0;
+    }
+
+    /**
+     * Approximate number of threads actively running executions;
+     * always zero, unless a bounded pool of platform threads is used.
+     */
+    public int getActiveCount() {
+        return threadPool!=null
+                ? threadPool.getActiveCount()
+                : 0;
+    }
+
+    /**
+     * Number of executions rejected, because both the pool's threads and its queue were exhausted.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.longValue();
+    }
+
+    // -- SHUTDOWN
+
+    /**
+     * Stops accepting new executions and waits for those already submitted to complete,
+     * up to the configured timeout, after which these are interrupted.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if(executorService==null) {
+            return; // the common pool is not ours to shut down
+        }
+        executorService.shutdown();
+        try {
+            val timeout = config.getShutdownTimeout();
+            if(!executorService.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("async executions did not complete within {}, interrupting {} remaining",
+                        timeout,
+                        executorService.shutdownNow().size() + getActiveCount());
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -- HELPER
+
+    private ThreadPoolExecutor newThreadPool() {
+        val poolSize = config.getPoolSize();
+        final BlockingQueue<Runnable> queue = config.getQueueCapacity()>0
+                ? new LinkedBlockingQueue<>(config.getQueueCapacity())
+                : new SynchronousQueue<>(); // direct hand-off
+        val threadPool = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                queue,
+                new CustomizableThreadFactory("isis-async-"),
+                (runnable, executor)->{
+                    rejectedCount.increment();
+                    throw new RejectedExecutionException(String.format(
+                            "async execution rejected, as all %d threads are busy and %d executions are queued",
+                            executor.getMaximumPoolSize(), executor.getQueue().size()));
+                });
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+
+    /**
+     * Looked up reflectively, as the framework is compiled against Java 11.
+     * @return {@code null} if the JVM does not support virtual threads
+     */
+    private static @Nullable ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            val factoryMethod = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("virtual threads are not supported by this JVM ({}), falling back to {}",
+                    System.getProperty("java.version"),
+                    AsyncExecutorMode.PLATFORM_THREAD_POOL);
+            return null;
+        }
+    }
+
+}
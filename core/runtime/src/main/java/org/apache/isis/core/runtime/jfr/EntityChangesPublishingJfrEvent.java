@@ -0,0 +1,85 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.jfr;
+
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import lombok.val;
+
+/**
+ * Flight recorder event for the publishing of entity (property) changes, when a transaction completes.
+ *
+ * @since 2.0 {@index}
+ */
+@Name(EntityChangesPublishingJfrEvent.NAME)
+@Label("Entity Changes Publishing")
+@Description("Publishing of entity (property) changes, when a transaction completes")
+@Category({"Apache Isis", "Persistence"})
+@StackTrace(false)
+public class EntityChangesPublishingJfrEvent extends Event {
+
+    public static final String NAME = "isis.EntityChangesPublishing";
+
+    @Label("Interaction Id")
+    private String interactionId;
+
+    @Label("Entities Loaded")
+    private int numberEntitiesLoaded;
+
+    @Label("Entities Dirtied")
+    private int numberEntitiesDirtied;
+
+    /**
+     * Returns a new event, with its timing already begun.
+     */
+    public static EntityChangesPublishingJfrEvent started() {
+        val event = new EntityChangesPublishingJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the timing and commits this event, if enabled and above the configured threshold.
+     */
+    public void complete(
+            final @Nullable UUID interactionUuid,
+            final int numberEntitiesLoaded,
+            final int numberEntitiesDirtied) {
+        end();
+        if(!shouldCommit()) {
+            return;
+        }
+        this.interactionId = interactionUuid!=null
+                ? interactionUuid.toString()
+                : null;
+        this.numberEntitiesLoaded = numberEntitiesLoaded;
+        this.numberEntitiesDirtied = numberEntitiesDirtied;
+        commit();
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.jfr;
+
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import lombok.val;
+
+/**
+ * Flight recorder event for an interaction layer, spanning from its opening to its closing.
+ * The top-level layer (of depth 1) spans the entire interaction.
+ *
+ * @since 2.0 {@index}
+ */
+@Name(InteractionLayerJfrEvent.NAME)
+@Label("Interaction Layer")
+@Description("Interaction layer, from being opened until closed")
+@Category({"Apache Isis", "Interaction"})
+@StackTrace(false)
+public class InteractionLayerJfrEvent extends Event {
+
+    public static final String NAME = "isis.InteractionLayer";
+
+    @Label("Interaction Id")
+    private String interactionId;
+
+    @Label("User")
+    private String user;
+
+    @Label("Layer Depth")
+    private int layerDepth;
+
+    /**
+     * Returns a new event, with its timing already begun.
+     */
+    public static InteractionLayerJfrEvent started() {
+        val event = new InteractionLayerJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the timing and commits this event, if enabled and above the configured threshold.
+     */
+    public void complete(
+            final @Nullable UUID interactionUuid,
+            final @Nullable String userName,
+            final int layerDepth) {
+        end();
+        if(!shouldCommit()) {
+            return;
+        }
+        this.interactionId = interactionUuid!=null
+                ? interactionUuid.toString()
+                : null;
+        this.user = userName;
+        this.layerDepth = layerDepth;
+        commit();
+    }
+
+}
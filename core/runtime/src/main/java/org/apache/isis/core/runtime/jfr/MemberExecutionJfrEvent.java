@@ -0,0 +1,74 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.jfr;
+
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.Identifier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Common fields of the flight recorder events emitted for action invocations and property edits.
+ * Its duration spans the execution, including its domain events.
+ *
+ * @since 2.0 {@index}
+ */
+@Category({"Apache Isis", "Execution"})
+@StackTrace(false)
+public abstract class MemberExecutionJfrEvent extends Event {
+
+    @Label("Logical Type Name")
+    private String logicalTypeName;
+
+    @Label("Member Id")
+    private String memberId;
+
+    @Label("Interaction Id")
+    private String interactionId;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Ends the timing and commits this event, if enabled and above the configured threshold.
+     */
+    public void complete(
+            final Identifier memberIdentifier,
+            final @Nullable UUID interactionUuid,
+            final boolean failed) {
+        end();
+        if(!shouldCommit()) {
+            return;
+        }
+        this.logicalTypeName = memberIdentifier.getLogicalTypeName();
+        this.memberId = memberIdentifier.getMemberLogicalName();
+        this.interactionId = interactionUuid!=null
+                ? interactionUuid.toString()
+                : null;
+        this.failed = failed;
+        commit();
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import lombok.val;
+
+/**
+ * Flight recorder event for a property edit.
+ *
+ * @since 2.0 {@index}
+ */
+@Name(PropertyEditJfrEvent.NAME)
+@Label("Property Edit")
+@Description("Modification or clearing of a domain object's property")
+public class PropertyEditJfrEvent extends MemberExecutionJfrEvent {
+
+    public static final String NAME = "isis.PropertyEdit";
+
+    /**
+     * Returns a new event, with its timing already begun.
+     */
+    public static PropertyEditJfrEvent started() {
+        val event = new PropertyEditJfrEvent();
+        event.begin();
+        return event;
+    }
+
+}
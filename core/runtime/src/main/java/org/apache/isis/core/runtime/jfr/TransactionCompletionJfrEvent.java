@@ -0,0 +1,81 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.jfr;
+
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import lombok.val;
+
+/**
+ * Flight recorder event for the commit or rollback of a transaction,
+ * spanning from after all before-completion callbacks were processed until completion.
+ *
+ * @since 2.0 {@index}
+ */
+@Name(TransactionCompletionJfrEvent.NAME)
+@Label("Transaction Completion")
+@Description("Commit or rollback of a transaction")
+@Category({"Apache Isis", "Persistence"})
+@StackTrace(false)
+public class TransactionCompletionJfrEvent extends Event {
+
+    public static final String NAME = "isis.TransactionCompletion";
+
+    @Label("Interaction Id")
+    private String interactionId;
+
+    @Label("Committed")
+    private boolean committed;
+
+    /**
+     * Returns a new event, with its timing already begun.
+     */
+    public static TransactionCompletionJfrEvent started() {
+        val event = new TransactionCompletionJfrEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the timing and commits this event, if enabled and above the configured threshold.
+     */
+    public void complete(
+            final @Nullable UUID interactionUuid,
+            final boolean committed) {
+        end();
+        if(!shouldCommit()) {
+            return;
+        }
+        this.interactionId = interactionUuid!=null
+                ? interactionUuid.toString()
+                : null;
+        this.committed = committed;
+        commit();
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.metrics;
+
+import org.apache.isis.applib.Identifier;
+
+/**
+ * SPI to record metrics of member executions, entity change tracking and transactions,
+ * aggregated across interactions (as opposed to
+ * {@link org.apache.isis.applib.services.metrics.MetricsService}, which is per interaction).
+ * <p>
+ * By default {@link MetricsRecorderNoop} is in effect, which is not {@link #isEnabled() enabled},
+ * in which case the framework does not even take measurements.
+ *
+ * @since 2.0 {@index}
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Whether this recorder actually records; if not, callers may skip taking measurements altogether.
+     */
+    boolean isEnabled();
+
+    /**
+     * @param actionId - identifies the invoked action
+     * @param durationNanos - duration of the action's execution, including its domain events
+     * @param failed - whether the execution threw an exception
+     */
+    void recordActionInvocation(Identifier actionId, long durationNanos, boolean failed);
+
+    /**
+     * @param propertyId - identifies the edited property
+     * @param durationNanos - duration of the property edit, including its domain events
+     * @param failed - whether the execution threw an exception
+     */
+    void recordPropertyEdit(Identifier propertyId, long durationNanos, boolean failed);
+
+    /**
+     * Called once per transaction that completes within an interaction.
+     *
+     * @param numberEntitiesLoaded - see {@link org.apache.isis.applib.services.metrics.MetricsService#numberEntitiesLoaded()}
+     * @param numberEntitiesDirtied - see {@link org.apache.isis.applib.services.metrics.MetricsService#numberEntitiesDirtied()}
+     */
+    void recordEntitiesLoadedAndDirtied(int numberEntitiesLoaded, int numberEntitiesDirtied);
+
+    /**
+     * @param durationNanos - time spent publishing entity (property) changes, when a transaction completes
+     */
+    void recordEntityChangesPublishing(long durationNanos);
+
+    /**
+     * @param durationNanos - time spent committing or rolling back a transaction,
+     *      after all before-completion callbacks were processed
+     * @param committed - whether the transaction was committed (or else rolled back)
+     */
+    void recordTransactionCompletion(long durationNanos, boolean committed);
+
+}
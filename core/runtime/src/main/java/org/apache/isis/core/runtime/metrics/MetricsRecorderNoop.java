@@ -0,0 +1,68 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.metrics;
+
+import javax.annotation.Priority;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.core.runtime.IsisModuleCoreRuntime;
+
+/**
+ * This default implementation records nothing, and is overruled by any other {@link MetricsRecorder}
+ * (eg. as provided by the Micrometer metrics extension).
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(IsisModuleCoreRuntime.NAMESPACE + ".MetricsRecorderNoop")
+@Priority(PriorityPrecedence.LAST)
+@Qualifier("Noop")
+public class MetricsRecorderNoop implements MetricsRecorder {
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordActionInvocation(final Identifier actionId, final long durationNanos, final boolean failed) {
+    }
+
+    @Override
+    public void recordPropertyEdit(final Identifier propertyId, final long durationNanos, final boolean failed) {
+    }
+
+    @Override
+    public void recordEntitiesLoadedAndDirtied(final int numberEntitiesLoaded, final int numberEntitiesDirtied) {
+    }
+
+    @Override
+    public void recordEntityChangesPublishing(final long durationNanos) {
+    }
+
+    @Override
+    public void recordTransactionCompletion(final long durationNanos, final boolean committed) {
+    }
+
+}
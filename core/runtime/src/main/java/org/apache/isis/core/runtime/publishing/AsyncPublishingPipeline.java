@@ -0,0 +1,433 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.publishing;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.iactnlayer.InteractionService;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
+import org.apache.isis.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.isis.applib.services.registry.ServiceRegistry;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.applib.util.schema.InteractionDtoUtils;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.having.HasEnabling;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.runtime.IsisModuleCoreRuntime;
+import org.apache.isis.schema.ixn.v2.InteractionDto;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Notifies {@link ExecutionSubscriber#isAsync() async} {@link ExecutionSubscriber}s and
+ * {@link EntityPropertyChangeSubscriber}s, once the current transaction has committed,
+ * using a fixed number of worker threads (lanes), each with a bounded queue.
+ * <p>
+ * Notifications originating from the same interaction are handled by the same lane, hence in order.
+ * If a lane's queue is full, the committing thread waits for space to become available (backpressure).
+ * Payloads are handed over as DTOs or value objects taken on the committing thread.
+ * Notifications that fail to be processed are logged and, if configured, written to the failures directory,
+ * one file per failure, as are those still queued, once the shutdown timeout has elapsed.
+ * <p>
+ * Lanes are only started, if there are any (enabled) async subscribers. Bootstrapping fails, if any async
+ * {@link ExecutionSubscriber} does not implement {@link ExecutionSubscriber#onExecutionCompleted(InteractionDto)}.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(IsisModuleCoreRuntime.NAMESPACE + ".AsyncPublishingPipeline")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class AsyncPublishingPipeline {
+
+    /** how often idle lanes check for shutdown */
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final IsisConfiguration.Core.RuntimeServices.Publishing.Async config;
+    private final Provider<InteractionService> interactionServiceProvider;
+    private final Provider<TransactionService> transactionServiceProvider;
+    private final Provider<ServiceRegistry> serviceRegistryProvider;
+    private final Optional<File> failuresDirectory;
+    /** started on {@link #init()}, only if there are any async subscribers */
+    private List<Lane> lanes = Collections.emptyList();
+
+    private final LongAdder notifiedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder blockedCount = new LongAdder();
+
+    private volatile boolean shutdown = false;
+
+    @Inject
+    public AsyncPublishingPipeline(
+            final IsisConfiguration isisConfiguration,
+            final Provider<InteractionService> interactionServiceProvider,
+            final Provider<TransactionService> transactionServiceProvider,
+            final Provider<ServiceRegistry> serviceRegistryProvider) {
+        this.config = isisConfiguration.getCore().getRuntimeServices().getPublishing().getAsync();
+        this.interactionServiceProvider = interactionServiceProvider;
+        this.transactionServiceProvider = transactionServiceProvider;
+        this.serviceRegistryProvider = serviceRegistryProvider;
+        this.failuresDirectory = config.getFailuresDirectory()
+                .map(File::new);
+    }
+
+    @PostConstruct
+    public void init() {
+        val serviceRegistry = serviceRegistryProvider.get();
+        val asyncExecutionSubscribers = serviceRegistry.select(ExecutionSubscriber.class)
+                .filter(HasEnabling::isEnabled)
+                .filter(ExecutionSubscriber::isAsync);
+        val asyncEntityPropertyChangeSubscribers = serviceRegistry.select(EntityPropertyChangeSubscriber.class)
+                .filter(HasEnabling::isEnabled)
+                .filter(EntityPropertyChangeSubscriber::isAsync);
+
+        // fail early, rather than on first notification
+        asyncExecutionSubscribers.forEach(subscriber->{
+            if(!implementsOnExecutionCompleted(subscriber)) {
+                throw _Exceptions.illegalState(
+                        "async ExecutionSubscriber %s must implement onExecutionCompleted(InteractionDto)",
+                        subscriber.getClass().getName());
+            }
+        });
+
+        if(asyncExecutionSubscribers.isEmpty()
+                && asyncEntityPropertyChangeSubscribers.isEmpty()) {
+            log.debug("no async subscribers, not starting any lanes");
+            return;
+        }
+        this.lanes = IntStream.range(0, config.getLanes())
+                .mapToObj(Lane::new)
+                .collect(Collectors.toList());
+    }
+
+    // -- NOTIFICATIONS
+
+    /**
+     * Notification of a single subscriber, with its payload.
+     */
+    public interface Notification {
+        void notifySubscriber();
+        /** textual representation of the payload, that allows for recovery */
+        String toDurableForm();
+    }
+
+    public static Notification notificationOf(
+            final @NonNull ExecutionSubscriber subscriber,
+            final @NonNull InteractionDto interactionDto) {
+        return new ExecutionNotification(subscriber, interactionDto);
+    }
+
+    public static Notification notificationOf(
+            final @NonNull EntityPropertyChangeSubscriber subscriber,
+            final @NonNull Can<EntityPropertyChange> propertyChanges) {
+        return new EntityPropertyChangeNotification(subscriber, propertyChanges);
+    }
+
+    /**
+     * Hands given {@code notifications} over to the pipeline, once the current transaction has committed,
+     * discarding these if rolled back. If there is no transaction active, hands these over immediately.
+     *
+     * @param interactionId - identifies the interaction the notifications originate from
+     * @param interactionContext - to notify the subscribers with (eg. on behalf of the original user)
+     */
+    public void publishAfterCommit(
+            final @NonNull UUID interactionId,
+            final @NonNull InteractionContext interactionContext,
+            final @NonNull Can<Notification> notifications) {
+
+        if(notifications.isEmpty()) {
+            return;
+        }
+        val task = new Task(interactionId, interactionContext, notifications);
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(task);
+            }
+        });
+    }
+
+    // -- METRICS
+
+    /**
+     * Number of tasks (each holding one or more notifications) queued across all lanes.
+     */
+    public int getQueueDepth() {
+        return lanes.stream()
+                .mapToInt(lane->lane.queue.size())
+                .sum();
+    }
+
+    /**
+     * Number of notifications successfully processed.
+     */
+    public long getNotifiedCount() {
+        return notifiedCount.longValue();
+    }
+
+    /**
+     * Number of notifications failed to be processed (or not processed at all, because shut down).
+     */
+    public long getFailedCount() {
+        return failedCount.longValue();
+    }
+
+    /**
+     * Number of tasks, for which the committing thread had to wait, because the lane's queue was full.
+     */
+    public long getBlockedCount() {
+        return blockedCount.longValue();
+    }
+
+    // -- SHUTDOWN
+
+    /**
+     * Stops accepting tasks, and waits for the lanes to drain their queues; any tasks still queued once
+     * the shutdown timeout has elapsed are treated as failed. Lanes are never interrupted while processing.
+     */
+    @PreDestroy
+    public void shutdown() {
+        shutdown = true;
+        val deadline = System.nanoTime() + config.getShutdownTimeout().toNanos();
+        for(val lane : lanes) {
+            try {
+                val remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if(remainingMillis > 0) {
+                    lane.thread.join(remainingMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        for(val lane : lanes) {
+            val leftOver = new ArrayList<Task>();
+            lane.queue.drainTo(leftOver);
+            leftOver.forEach(task->fail(task, "pipeline shut down before processing"));
+        }
+    }
+
+    // -- HELPER
+
+    /** number of lanes started, in support of testing */
+    int getLaneCount() {
+        return lanes.size();
+    }
+
+    private static boolean implementsOnExecutionCompleted(final ExecutionSubscriber subscriber) {
+        try {
+            return subscriber.getClass().getMethod("onExecutionCompleted", InteractionDto.class)
+                    .getDeclaringClass() != ExecutionSubscriber.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private void enqueue(final Task task) {
+        if(shutdown) {
+            fail(task, "pipeline shut down");
+            return;
+        }
+        if(lanes.isEmpty()) {
+            fail(task, "no lanes started, as there were no async subscribers on bootstrapping");
+            return;
+        }
+        val lane = lanes.get(Math.floorMod(task.interactionId.hashCode(), lanes.size()));
+        if(lane.queue.offer(task)) {
+            return;
+        }
+        // backpressure: rather wait than notify on this thread, which would overtake tasks already queued
+        blockedCount.increment();
+        try {
+            lane.queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(task, "interrupted while waiting for the queue to accept");
+        }
+    }
+
+    private void process(final Task task) {
+        val transactionService = transactionServiceProvider.get();
+        interactionServiceProvider.get().runAndCatch(task.interactionContext, ()->{
+            for(val notification : task.notifications) {
+                transactionService.runTransactional(Propagation.REQUIRES_NEW, notification::notifySubscriber)
+                .accept(
+                        failure->{
+                            log.error("failed to notify async subscriber, interactionId={}", task.interactionId, failure);
+                            fail(task, notification, failure.toString());
+                        },
+                        success->notifiedCount.increment());
+            }
+        })
+        .ifFailure(failure->{
+            log.error("failed to open interaction to notify async subscribers, interactionId={}",
+                    task.interactionId, failure);
+            fail(task, failure.toString());
+        });
+    }
+
+    private void fail(final Task task, final String reason) {
+        task.notifications.forEach(notification->fail(task, notification, reason));
+    }
+
+    /**
+     * Logs the failed notification and, if configured, writes it to the failures directory.
+     */
+    private void fail(final Task task, final Notification notification, final String reason) {
+        failedCount.increment();
+        val content = String.format("interactionId: %s%nuser: %s%nfailedAt: %s%nreason: %s%n%n%s%n",
+                task.interactionId,
+                task.interactionContext.getUser().getName(),
+                Instant.now(),
+                reason,
+                notification.toDurableForm());
+        if(!failuresDirectory.isPresent()) {
+            log.error("lost notification (no failures directory configured): {}", content);
+            return;
+        }
+        val file = new File(failuresDirectory.get(), String.format("isis-async-publishing-%s-%s.txt",
+                task.interactionId, UUID.randomUUID()));
+        try {
+            Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException | RuntimeException e) {
+            log.error("failed to write {}, lost notification: {}", file.getAbsolutePath(), content, e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Task {
+        final UUID interactionId;
+        final InteractionContext interactionContext;
+        final Can<Notification> notifications;
+    }
+
+    private class Lane {
+        final BlockingQueue<Task> queue;
+        final Thread thread;
+
+        Lane(final int index) {
+            this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+            this.thread = new Thread(this::run, "isis-async-publishing-" + index);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        private void run() {
+            while(true) {
+                final Task task;
+                try {
+                    task = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if(task==null) {
+                    if(shutdown) {
+                        return; // shut down and drained
+                    }
+                    continue;
+                }
+                try {
+                    process(task);
+                } catch (Throwable e) {
+                    log.error("unexpected failure processing async notifications", e);
+                }
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class ExecutionNotification implements Notification {
+        final ExecutionSubscriber subscriber;
+        final InteractionDto interactionDto;
+
+        @Override
+        public void notifySubscriber() {
+            subscriber.onExecutionCompleted(interactionDto);
+        }
+
+        @Override
+        public String toDurableForm() {
+            return String.format("subscriber: %s%n%s",
+                    subscriber.getClass().getName(),
+                    InteractionDtoUtils.toXml(interactionDto));
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class EntityPropertyChangeNotification implements Notification {
+        final EntityPropertyChangeSubscriber subscriber;
+        final Can<EntityPropertyChange> propertyChanges;
+
+        @Override
+        public void notifySubscriber() {
+            subscriber.onChangingAll(propertyChanges);
+        }
+
+        @Override
+        public String toDurableForm() {
+            return String.format("subscriber: %s%n%s",
+                    subscriber.getClass().getName(),
+                    propertyChanges.stream()
+                        .map(EntityPropertyChange::toString)
+                        .collect(Collectors.joining(String.format("%n"))));
+        }
+    }
+
+}
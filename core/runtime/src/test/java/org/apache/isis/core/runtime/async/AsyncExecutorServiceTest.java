@@ -0,0 +1,183 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.async;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.config.IsisConfiguration.Core.RuntimeServices.WrapperFactory.AsyncExecutor.AsyncExecutorMode;
+
+import lombok.val;
+
+class AsyncExecutorServiceTest {
+
+    private IsisConfiguration isisConfiguration;
+    private AsyncExecutorService asyncExecutorService;
+
+    @BeforeEach
+    void setUp() {
+        isisConfiguration = new IsisConfiguration(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(asyncExecutorService!=null) {
+            config().setShutdownTimeout(Duration.ofMillis(100));
+            asyncExecutorService.shutdown();
+        }
+    }
+
+    @Test
+    void platformThreadPool_whenThreadsAndQueueExhausted_rejects() throws Exception {
+        config().setMode(AsyncExecutorMode.PLATFORM_THREAD_POOL);
+        config().setPoolSize(1);
+        config().setQueueCapacity(1);
+        asyncExecutorService = new AsyncExecutorService(isisConfiguration);
+
+        val executor = asyncExecutorService.getManagedExecutorService().orElseThrow();
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+
+        executor.submit(()->{
+            started.countDown();
+            release.await();
+            return null;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        executor.submit(()->{}); // queued
+        assertEquals(1, asyncExecutorService.getQueueDepth());
+        assertEquals(1, asyncExecutorService.getActiveCount());
+
+        assertThrows(RejectedExecutionException.class, ()->executor.submit(()->{}));
+        assertEquals(1L, asyncExecutorService.getRejectedCount());
+
+        release.countDown();
+    }
+
+    @Test
+    void virtualThreads_whenNotSupportedByJvm_fallsBackToPlatformThreadPool() {
+        assumeTrue(Runtime.version().feature() < 19, "JVM has (at least preview) support for virtual threads");
+
+        config().setMode(AsyncExecutorMode.VIRTUAL_THREADS);
+        asyncExecutorService = new AsyncExecutorService(isisConfiguration);
+
+        assertEquals(AsyncExecutorMode.PLATFORM_THREAD_POOL, asyncExecutorService.getMode());
+        assertTrue(asyncExecutorService.getManagedExecutorService().isPresent());
+    }
+
+    @Test
+    void virtualThreads_whenSupportedByJvm_areUsed() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "JVM does not support virtual threads");
+
+        config().setMode(AsyncExecutorMode.VIRTUAL_THREADS);
+        asyncExecutorService = new AsyncExecutorService(isisConfiguration);
+
+        assertEquals(AsyncExecutorMode.VIRTUAL_THREADS, asyncExecutorService.getMode());
+        val isVirtual = asyncExecutorService.getDefaultExecutorService()
+                .submit(()->Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()))
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(Boolean.TRUE, isVirtual);
+    }
+
+    @Test
+    void callerSupplied_hasNoManagedExecutor_andFallsBackToCommonPool() {
+        config().setMode(AsyncExecutorMode.CALLER_SUPPLIED);
+        asyncExecutorService = new AsyncExecutorService(isisConfiguration);
+
+        assertEquals(AsyncExecutorMode.CALLER_SUPPLIED, asyncExecutorService.getMode());
+        assertFalse(asyncExecutorService.getManagedExecutorService().isPresent());
+        assertSame(ForkJoinPool.commonPool(), asyncExecutorService.getDefaultExecutorService());
+        assertEquals(0, asyncExecutorService.getQueueDepth());
+
+        asyncExecutorService.shutdown();
+        assertFalse(ForkJoinPool.commonPool().isShutdown()); // not ours to shut down
+    }
+
+    @Test
+    void shutdown_drainsSubmittedExecutions() throws Exception {
+        config().setPoolSize(1);
+        config().setQueueCapacity(10);
+        config().setShutdownTimeout(Duration.ofSeconds(5));
+        asyncExecutorService = new AsyncExecutorService(isisConfiguration);
+
+        val executor = asyncExecutorService.getManagedExecutorService().orElseThrow();
+        val completed = new AtomicInteger();
+        for(int i=0; i<3; ++i) {
+            executor.submit(()->{
+                Thread.sleep(50);
+                return completed.incrementAndGet();
+            });
+        }
+
+        asyncExecutorService.shutdown();
+
+        assertEquals(3, completed.get());
+        assertTrue(executor.isTerminated());
+    }
+
+    @Test
+    void shutdown_whenTimeoutExceeded_interruptsRemainingExecutions() throws Exception {
+        config().setPoolSize(1);
+        config().setShutdownTimeout(Duration.ofMillis(100));
+        asyncExecutorService = new AsyncExecutorService(isisConfiguration);
+
+        val executor = asyncExecutorService.getManagedExecutorService().orElseThrow();
+        val started = new CountDownLatch(1);
+        val interrupted = new AtomicBoolean();
+        executor.submit(()->{
+            started.countDown();
+            try {
+                new CountDownLatch(1).await(); // never released
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        asyncExecutorService.shutdown();
+
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(interrupted.get());
+    }
+
+    // -- HELPER
+
+    private IsisConfiguration.Core.RuntimeServices.WrapperFactory.AsyncExecutor config() {
+        return isisConfiguration.getCore().getRuntimeServices().getWrapperFactory().getAsyncExecutor();
+    }
+
+}
@@ -0,0 +1,434 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.publishing;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Provider;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.transaction.TransactionDefinition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.services.iactn.Execution;
+import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.iactnlayer.InteractionService;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
+import org.apache.isis.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.isis.applib.services.registry.ServiceRegistry;
+import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.functional.ThrowingRunnable;
+import org.apache.isis.commons.functional.Try;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.schema.ixn.v2.InteractionDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+class AsyncPublishingPipelineTest {
+
+    private IsisConfiguration isisConfiguration;
+    private AsyncPublishingPipeline pipeline;
+    private InteractionContext interactionContext;
+
+    @BeforeEach
+    void setUp() {
+        isisConfiguration = new IsisConfiguration(null);
+        interactionContext = InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("sven"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(pipeline!=null) {
+            config().setShutdownTimeout(Duration.ofMillis(100));
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    void notificationsOfSameInteraction_areProcessedInOrder_byLaneThread() {
+        config().setLanes(2);
+        pipeline = newPipeline();
+
+        val interactionId = UUID.randomUUID();
+        val processed = new CopyOnWriteArrayList<Integer>();
+        val threadNames = new CopyOnWriteArrayList<String>();
+
+        IntStream.range(0, 50).forEach(i->
+            publish(interactionId, new TestNotification(()->{
+                processed.add(i);
+                threadNames.add(Thread.currentThread().getName());
+            })));
+
+        awaitUntil(()->processed.size()==50);
+        assertEquals(IntStream.range(0, 50).boxed().collect(Collectors.toList()), processed);
+        assertEquals(1, threadNames.stream().distinct().count());
+        assertTrue(threadNames.get(0).startsWith("isis-async-publishing-"));
+        assertEquals(50L, pipeline.getNotifiedCount());
+    }
+
+    @Test
+    void whenQueueFull_committingThreadWaits_ratherThanProcessingItself() throws Exception {
+        config().setLanes(1);
+        config().setQueueCapacity(1);
+        pipeline = newPipeline();
+
+        val interactionId = UUID.randomUUID();
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val processed = new CopyOnWriteArrayList<Integer>();
+        val committer = new Thread(()->
+            publish(interactionId, new TestNotification(()->processed.add(3))), "committer");
+        val threadNames = new CopyOnWriteArrayList<String>();
+
+        publish(interactionId, new TestNotification(()->{
+            started.countDown();
+            release.await();
+            processed.add(1);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        publish(interactionId, new TestNotification(()->{
+            threadNames.add(Thread.currentThread().getName());
+            processed.add(2);
+        })); // fills the queue
+
+        committer.start();
+        awaitUntil(()->pipeline.getBlockedCount()==1L);
+        Thread.sleep(100);
+        assertTrue(committer.isAlive(), "committing thread should wait for the queue to accept");
+        assertTrue(processed.isEmpty());
+
+        release.countDown();
+        committer.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(committer.isAlive());
+
+        awaitUntil(()->processed.size()==3);
+        assertEquals(List.of(1, 2, 3), processed);
+        assertNotEquals("committer", threadNames.get(0));
+    }
+
+    @Test
+    void failedNotification_isWrittenToConfiguredFailuresDirectory(final @TempDir Path failuresDirectory) throws Exception {
+        config().setFailuresDirectory(Optional.of(failuresDirectory.toString()));
+        pipeline = newPipeline();
+
+        val interactionId = UUID.randomUUID();
+        publish(interactionId, new TestNotification(()->{
+            throw new IllegalStateException("subscriber failed");
+        }));
+
+        awaitUntil(()->pipeline.getFailedCount()==1L);
+        val files = Files.list(failuresDirectory).collect(Collectors.toList());
+        assertEquals(1, files.size());
+        assertTrue(files.get(0).getFileName().toString().startsWith("isis-async-publishing-" + interactionId));
+        val content = new String(Files.readAllBytes(files.get(0)), StandardCharsets.UTF_8);
+        assertTrue(content.contains("user: sven"));
+        assertTrue(content.contains("subscriber failed"));
+        assertTrue(content.contains(TestNotification.DURABLE_FORM));
+        assertEquals(0L, pipeline.getNotifiedCount());
+    }
+
+    @Test
+    void failedNotification_withoutFailuresDirectory_isNotWrittenToTempDirectory() {
+        pipeline = newPipeline();
+
+        val interactionId = UUID.randomUUID();
+        publish(interactionId, new TestNotification(()->{
+            throw new IllegalStateException("subscriber failed");
+        }));
+
+        awaitUntil(()->pipeline.getFailedCount()==1L);
+        val tmpDir = new File(System.getProperty("java.io.tmpdir"));
+        val written = tmpDir.listFiles((dir, name)->name.startsWith("isis-async-publishing-" + interactionId));
+        assertEquals(0, written==null ? 0 : written.length);
+    }
+
+    @Test
+    void shutdown_drainsQueue_withoutInterruptingLanes() {
+        config().setLanes(1);
+        pipeline = newPipeline();
+
+        val interactionId = UUID.randomUUID();
+        val processed = new CopyOnWriteArrayList<Integer>();
+        val interrupted = new AtomicBoolean();
+
+        publish(interactionId, new TestNotification(()->{
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            processed.add(1);
+        }));
+        publish(interactionId, new TestNotification(()->processed.add(2)));
+        publish(interactionId, new TestNotification(()->processed.add(3)));
+
+        pipeline.shutdown();
+
+        assertFalse(interrupted.get());
+        assertEquals(List.of(1, 2, 3), processed);
+        assertEquals(0L, pipeline.getFailedCount());
+        pipeline = null;
+    }
+
+    @Test
+    void shutdown_whenTimeoutElapsed_failsTasksStillQueued(final @TempDir Path failuresDirectory) throws Exception {
+        config().setLanes(1);
+        config().setShutdownTimeout(Duration.ofMillis(50));
+        config().setFailuresDirectory(Optional.of(failuresDirectory.toString()));
+        pipeline = newPipeline();
+
+        val interactionId = UUID.randomUUID();
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val processed = new CopyOnWriteArrayList<Integer>();
+
+        publish(interactionId, new TestNotification(()->{
+            started.countDown();
+            release.await();
+            processed.add(1);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        publish(interactionId, new TestNotification(()->processed.add(2)));
+
+        pipeline.shutdown();
+        release.countDown();
+
+        assertEquals(1L, pipeline.getFailedCount());
+        assertEquals(1L, Files.list(failuresDirectory).count());
+
+        // rejects, once shut down
+        publish(interactionId, new TestNotification(()->processed.add(3)));
+        assertEquals(2L, pipeline.getFailedCount());
+
+        awaitUntil(()->processed.size()==1);
+        assertEquals(List.of(1), processed);
+        pipeline = null;
+    }
+
+    @Test
+    void executionNotification_notifiesAsyncSubscriberWithInteractionDto() {
+        val received = new CopyOnWriteArrayList<InteractionDto>();
+        val subscriber = new ExecutionSubscriber() {
+            @Override public void onExecution(final Execution<?, ?> execution) {
+                throw new AssertionError("not expected to be called for async subscribers");
+            }
+            @Override public boolean isAsync() {
+                return true;
+            }
+            @Override public void onExecutionCompleted(final InteractionDto interactionDto) {
+                received.add(interactionDto);
+            }
+        };
+        val interactionDto = new InteractionDto();
+
+        AsyncPublishingPipeline.notificationOf(subscriber, interactionDto).notifySubscriber();
+
+        assertEquals(1, received.size());
+        assertSame(interactionDto, received.get(0));
+    }
+
+    @Test
+    void executionNotification_whenAsyncSubscriberDoesNotOverride_fails() {
+        val subscriber = (ExecutionSubscriber) execution->{};
+
+        assertThrows(UnsupportedOperationException.class, ()->
+            AsyncPublishingPipeline.notificationOf(subscriber, new InteractionDto()).notifySubscriber());
+    }
+
+    @Test
+    void init_whenAsyncSubscriberDoesNotOverride_failsBootstrapping() {
+        val subscriber = new ExecutionSubscriber() {
+            @Override public void onExecution(final Execution<?, ?> execution) {
+            }
+            @Override public boolean isAsync() {
+                return true;
+            }
+        };
+
+        val unstarted = newPipeline(Can.ofSingleton(subscriber), Can.empty());
+
+        val ex = assertThrows(IllegalStateException.class, unstarted::init);
+        assertTrue(ex.getMessage().contains("onExecutionCompleted"));
+        assertEquals(0, unstarted.getLaneCount());
+    }
+
+    @Test
+    void init_withoutAsyncSubscribers_startsNoLanes() {
+        config().setLanes(2);
+        val syncSubscriber = (ExecutionSubscriber) execution->{}; // not async, so need not override
+        val disabledAsyncSubscriber = new AsyncExecutionSubscriber() {
+            @Override public boolean isEnabled() {
+                return false;
+            }
+        };
+        pipeline = newPipeline(Can.of(syncSubscriber, disabledAsyncSubscriber), Can.empty());
+
+        pipeline.init();
+
+        assertEquals(0, pipeline.getLaneCount());
+
+        // notifications (not expected) are treated as failed, rather than being lost silently
+        publish(UUID.randomUUID(), new TestNotification(()->{}));
+        assertEquals(1L, pipeline.getFailedCount());
+    }
+
+    @Test
+    void init_withAsyncEntityPropertyChangeSubscriber_startsLanes() {
+        config().setLanes(2);
+        val subscriber = new EntityPropertyChangeSubscriber() {
+            @Override public void onChanging(final EntityPropertyChange entityPropertyChange) {
+            }
+            @Override public boolean isAsync() {
+                return true;
+            }
+        };
+        pipeline = newPipeline(Can.empty(), Can.ofSingleton(subscriber));
+
+        pipeline.init();
+
+        assertEquals(2, pipeline.getLaneCount());
+    }
+
+    // -- HELPER
+
+    private IsisConfiguration.Core.RuntimeServices.Publishing.Async config() {
+        return isisConfiguration.getCore().getRuntimeServices().getPublishing().getAsync();
+    }
+
+    /**
+     * @return a pipeline (initialized) with a single async execution subscriber
+     */
+    private AsyncPublishingPipeline newPipeline() {
+        val pipeline = newPipeline(Can.ofSingleton(new AsyncExecutionSubscriber()), Can.empty());
+        pipeline.init();
+        return pipeline;
+    }
+
+    /**
+     * @return a pipeline (not yet initialized) with given subscribers
+     */
+    private AsyncPublishingPipeline newPipeline(
+            final Can<ExecutionSubscriber> executionSubscribers,
+            final Can<EntityPropertyChangeSubscriber> entityPropertyChangeSubscribers) {
+        val serviceRegistry = mock(ServiceRegistry.class);
+        when(serviceRegistry.select(ExecutionSubscriber.class)).thenReturn(executionSubscribers);
+        when(serviceRegistry.select(EntityPropertyChangeSubscriber.class)).thenReturn(entityPropertyChangeSubscribers);
+
+        val interactionService = mock(InteractionService.class);
+        when(interactionService.runAndCatch(any(), any())).thenAnswer(inv->
+            Try.run(inv.<ThrowingRunnable>getArgument(1)));
+
+        val transactionService = mock(TransactionService.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doAnswer(inv->Try.call(inv.getArgument(1)))
+            .when(transactionService).callTransactional(any(TransactionDefinition.class), any());
+
+        return new AsyncPublishingPipeline(
+                isisConfiguration,
+                providerOf(interactionService),
+                providerOf(transactionService),
+                providerOf(serviceRegistry));
+    }
+
+    private void publish(final UUID interactionId, final AsyncPublishingPipeline.Notification notification) {
+        // no transaction active, so handed over immediately
+        pipeline.publishAfterCommit(interactionId, interactionContext, Can.ofSingleton(notification));
+    }
+
+    private static <T> Provider<T> providerOf(final T instance) {
+        return ()->instance;
+    }
+
+    private static void awaitUntil(final BooleanSupplier condition) {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out waiting for condition");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    private static class AsyncExecutionSubscriber implements ExecutionSubscriber {
+        @Override public void onExecution(final Execution<?, ?> execution) {
+            throw new AssertionError("not expected to be called for async subscribers");
+        }
+        @Override public boolean isAsync() {
+            return true;
+        }
+        @Override public void onExecutionCompleted(final InteractionDto interactionDto) {
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class TestNotification implements AsyncPublishingPipeline.Notification {
+        static final String DURABLE_FORM = "test-notification";
+        final ThrowingRunnable runnable;
+
+        @Override
+        public void notifySubscriber() {
+            try {
+                runnable.run();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public String toDurableForm() {
+            return DURABLE_FORM;
+        }
+    }
+
+}
@@ -56,6 +56,7 @@
 import org.apache.isis.core.runtimeservices.publish.ObjectLifecyclePublisherDefault;
 import org.apache.isis.core.runtimeservices.recognizer.ExceptionRecognizerServiceDefault;
 import org.apache.isis.core.runtimeservices.recognizer.dae.ExceptionRecognizerForDataAccessException;
+import org.apache.isis.core.runtimeservices.repository.QueryStreamsHolder;
 import org.apache.isis.core.runtimeservices.repository.RepositoryServiceDefault;
 import org.apache.isis.core.runtimeservices.routing.RoutingServiceDefault;
 import org.apache.isis.core.runtimeservices.scratchpad.ScratchpadDefault;
@@ -128,6 +129,7 @@
 
         // @Repository's
         RepositoryServiceDefault.class,
+        QueryStreamsHolder.class,
 
         // @DomainService's
         TranslationServicePoMenu.class,
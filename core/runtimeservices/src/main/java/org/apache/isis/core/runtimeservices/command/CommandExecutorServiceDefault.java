@@ -19,8 +19,11 @@
 package org.apache.isis.core.runtimeservices.command;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -30,6 +33,7 @@
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 
 import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.annotation.PriorityPrecedence;
@@ -48,12 +52,16 @@
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.functional.IndexedFunction;
 import org.apache.isis.commons.functional.Try;
+import org.apache.isis.commons.internal.assertions._Assert;
 import org.apache.isis.commons.internal.base._NullSafe;
+import org.apache.isis.commons.internal.base._Refs;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.interaction.session.IsisInteraction;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.interactions.InteractionHead;
 import org.apache.isis.core.metamodel.object.ManagedObject;
 import org.apache.isis.core.metamodel.object.ManagedObjects;
+import org.apache.isis.core.metamodel.services.publishing.CommandPublisher;
 import org.apache.isis.core.metamodel.services.schema.SchemaValueMarshaller;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
@@ -72,6 +80,7 @@
 import org.apache.isis.schema.common.v2.OidsDto;
 
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
@@ -93,6 +102,7 @@ public class CommandExecutorServiceDefault implements CommandExecutorService {
     @Inject final TransactionService transactionService;
     @Inject final InteractionLayerTracker iInteractionLayerTracker;
     @Inject final SchemaValueMarshaller valueMarshaller;
+    @Inject final CommandPublisher commandPublisher;
 
     @Inject @Getter final InteractionService interactionService;
     @Inject @Getter final SpecificationLoader specificationLoader;
@@ -127,11 +137,175 @@ public Bookmark executeCommand(
         return doExecute(interactionContextPolicy, dto, outcomeHandler);
     }
 
+    // -- BATCH EXECUTION
+
+    @Override
+    public List<BatchOutcome> executeCommands(
+            final @NonNull Stream<CommandDto> commandDtos,
+            final @NonNull BatchPolicy batchPolicy) {
+
+        _Assert.assertTrue(batchPolicy.getChunkSize()>0, ()->"chunk size must be positive");
+
+        val interaction = currentIsisInteractionElseFail();
+        _Assert.assertNull(interaction.getCurrentExecution(),
+                ()->"batch execution must not be nested within an action invocation or property edit");
+
+        val originalCommand = interaction.getCommand();
+        val originalExecutionSequence = interaction.getExecutionSequence().sum();
+        val originalTransactionSequence = interaction.getTransactionSequence().sum();
+        try {
+            val outcomes = new ArrayList<BatchOutcome>();
+            val chunk = new ArrayList<CommandDto>(batchPolicy.getChunkSize());
+            val iterator = commandDtos.iterator();
+            while(iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if(chunk.size() == batchPolicy.getChunkSize()
+                        || !iterator.hasNext()) {
+                    val carryOn = executeChunk(chunk, batchPolicy, outcomes::add);
+                    chunk.clear();
+                    if(!carryOn) {
+                        break;
+                    }
+                }
+            }
+            return outcomes;
+        } finally {
+            interaction.replaceCommand(originalCommand);
+            interaction.getExecutionSequence().add(originalExecutionSequence);
+            interaction.getTransactionSequence().add(originalTransactionSequence);
+        }
+    }
+
+    /**
+     * @return whether to carry on with subsequent chunks
+     */
+    private boolean executeChunk(
+            final List<CommandDto> chunk,
+            final BatchPolicy batchPolicy,
+            final Consumer<BatchOutcome> onOutcome) {
+
+        if(chunk.size()>1) {
+            val chunkOutcomes = new ArrayList<BatchOutcome>(chunk.size());
+            val chunkResult = transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->{
+                final List<Command> chunkCommands = new ArrayList<>(chunk.size());
+                for(final CommandDto dto : chunk) {
+                    final Command command = startNextCommand(dto);
+                    final BatchOutcome outcome = BatchOutcome.of(dto, executeAndComplete(command, dto, batchPolicy));
+                    if(outcome.isFailure()) {
+                        throw new ChunkRollbackException(); // roll back, then execute one by one
+                    }
+                    chunkOutcomes.add(outcome);
+                    chunkCommands.add(command);
+                }
+                // publish only once all commands of the chunk have succeeded, as otherwise re-executed one by one
+                chunkCommands.forEach(commandPublisher::complete);
+            });
+            if(chunkResult.isSuccess()) {
+                chunkOutcomes.forEach(onOutcome);
+                return true;
+            }
+            log.info("rolled back chunk of {} commands, executing these one by one", chunk.size());
+        }
+
+        for(val dto : chunk) {
+            val outcome = executeInTransactionOfItsOwn(dto, batchPolicy);
+            onOutcome.accept(outcome);
+            if(outcome.isFailure()
+                    && batchPolicy.getErrorPolicy() == BatchErrorPolicy.STOP) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private BatchOutcome executeInTransactionOfItsOwn(
+            final CommandDto dto,
+            final BatchPolicy batchPolicy) {
+
+        val executionResult = _Refs.<Try<Bookmark>>objectRef(null);
+        val txResult = transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->{
+            final Command command = startNextCommand(dto);
+            executionResult.set(executeAndComplete(command, dto, batchPolicy));
+            commandPublisher.complete(command);
+        });
+
+        // if the execution failed, the commit fails as well (being marked rollback-only),
+        // but we rather report the original failure
+        return BatchOutcome.of(dto, executionResult.getValue()
+                .filter(result->result.isFailure()
+                        || txResult.isSuccess())
+                .orElseGet(()->Try.failure(txResult.getFailure().get())));
+    }
+
+    /**
+     * The current interaction is reused for all commands of a batch, so each command
+     * starts over with a {@link Command} of its own and no execution state of the previous one.
+     * <p>
+     * The command is keyed by the DTO's interactionId (rather than the batch interaction's), so that
+     * each command is logged and published as the one it replays, and the DTO is left as is.
+     */
+    private Command startNextCommand(final CommandDto dto) {
+        val interaction = currentIsisInteractionElseFail();
+        val command = new Command(UUID.fromString(dto.getInteractionId()));
+        interaction.replaceCommand(command);
+        return command;
+    }
+
+    private Try<Bookmark> executeAndComplete(
+            final Command command,
+            final CommandDto dto,
+            final BatchPolicy batchPolicy) {
+
+        val result = tryExecute(
+                batchPolicy.getInteractionContextPolicy(),
+                dto,
+                batchPolicy.getOutcomeHandlerProvider().apply(dto));
+
+        // as is done for the interaction's command, when the interaction is closed
+        val priorExecution = currentIsisInteractionElseFail().getPriorExecution();
+        command.updater().setResult(result);
+        command.updater().setCompletedAt(priorExecution != null
+                ? priorExecution.getCompletedAt()
+                : clockService.getClock().nowAsJavaSqlTimestamp());
+        return result;
+    }
+
+    private IsisInteraction currentIsisInteractionElseFail() {
+        val interaction = iInteractionLayerTracker.currentInteractionElseFail();
+        if(interaction instanceof IsisInteraction) {
+            return (IsisInteraction) interaction;
+        }
+        throw _Exceptions.unrecoverable("the framework does not recognize "
+                + "this implementation of an Interaction: %s", interaction.getClass().getName());
+    }
+
+    /**
+     * Signals, that a chunk's transaction is to be rolled back.
+     */
+    private static class ChunkRollbackException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        ChunkRollbackException() {
+            super(null, null, false, false); // no stacktrace
+        }
+    }
+
+    // -- HELPER
+
     private Bookmark doExecute(
             final InteractionContextPolicy interactionContextPolicy,
             final CommandDto dto,
             final CommandOutcomeHandler commandUpdater) {
 
+        return tryExecute(interactionContextPolicy, dto, commandUpdater)
+                .getValue()
+                .orElse(null);
+    }
+
+    private Try<Bookmark> tryExecute(
+            final InteractionContextPolicy interactionContextPolicy,
+            final CommandDto dto,
+            final CommandOutcomeHandler commandUpdater) {
+
         val interaction = iInteractionLayerTracker.currentInteractionElseFail();
         val command = interaction.getCommand();
         if(command.getCommandDto() != dto) {
@@ -245,7 +419,7 @@ private Bookmark doExecuteCommand(final CommandDto dto) {
         return null;
     }
 
-    private Bookmark handleOutcomeAndSetCompletedAt(
+    private Try<Bookmark> handleOutcomeAndSetCompletedAt(
             final CommandOutcomeHandler outcomeHandler,
             final Try<Bookmark> result) {
 
@@ -277,7 +451,7 @@ private Bookmark handleOutcomeAndSetCompletedAt(
             outcomeHandler.setCompletedAt(completedAt);
         }
 
-        return result.getValue().orElse(null);
+        return result;
     }
 
     // //////////////////////////////////////
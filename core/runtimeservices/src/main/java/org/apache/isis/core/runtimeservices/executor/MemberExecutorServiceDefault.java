@@ -53,6 +53,7 @@
 import org.apache.isis.core.metamodel.facets.members.publish.command.CommandPublishingFacet;
 import org.apache.isis.core.metamodel.facets.members.publish.execution.ExecutionPublishingFacet;
 import org.apache.isis.core.metamodel.facets.properties.property.modify.PropertySetterOrClearFacetForDomainEventAbstract.EditingVariant;
+import org.apache.isis.core.metamodel.interactions.InteractionConsentCache;
 import org.apache.isis.core.metamodel.interactions.InteractionHead;
 import org.apache.isis.core.metamodel.object.ManagedObject;
 import org.apache.isis.core.metamodel.object.ManagedObjects;
@@ -66,6 +67,9 @@
 import org.apache.isis.core.metamodel.services.publishing.ExecutionPublisher;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.runtime.jfr.ActionInvocationJfrEvent;
+import org.apache.isis.core.runtime.jfr.PropertyEditJfrEvent;
+import org.apache.isis.core.runtime.metrics.MetricsRecorder;
 import org.apache.isis.core.runtimeservices.IsisModuleCoreRuntimeServices;
 import org.apache.isis.schema.ixn.v2.ActionInvocationDto;
 
@@ -95,6 +99,7 @@
     private final @Getter Provider<ExecutionPublisher> executionPublisherProvider;
     private final @Getter MetamodelEventService metamodelEventService;
     private final @Getter TransactionService transactionService;
+    private final @Getter MetricsRecorder metricsRecorder;
 
     private MetricsService metricsService() {
         return metricsServiceProvider.get();
@@ -104,6 +109,16 @@ private ExecutionPublisher executionPublisher() {
         return executionPublisherProvider.get();
     }
 
+    /**
+     * The interaction's consent cache (if memoization is enabled), created if not already,
+     * so that also the interaction's first execution is bracketed.
+     */
+    private Optional<InteractionConsentCache> consentCacheFor(final InteractionInternal interaction) {
+        return configuration.getCore().getRuntime().isMemoizeConsentsPerInteraction()
+                ? Optional.of(InteractionConsentCache.lookupElseCreate(interaction))
+                : Optional.empty();
+    }
+
     @Override
     public Optional<InteractionInternal> getInteraction() {
         return interactionLayerTracker.currentInteraction()
@@ -155,7 +170,21 @@ public ManagedObject invokeAction(
         val memberExecutor = actionExecutorFactory.createExecutor(owningAction, head, argumentAdapters);
 
         // sets up startedAt and completedAt on the execution, also manages the execution call graph
-        interaction.execute(memberExecutor, actionInvocation, clockService, metricsService(), command);
+        val consentCache = consentCacheFor(interaction);
+        consentCache.ifPresent(InteractionConsentCache::onExecutionStarted);
+        val metricsStartNanos = metricsStartNanos();
+        val jfrEvent = ActionInvocationJfrEvent.started();
+        boolean failed = true; // unless proven otherwise
+        try {
+            interaction.execute(memberExecutor, actionInvocation, clockService, metricsService(), command);
+            failed = interaction.getPriorExecution().getThrew()!=null;
+        } finally {
+            consentCache.ifPresent(InteractionConsentCache::onExecutionCompleted);
+            jfrEvent.complete(actionId, interaction.getInteractionId(), failed);
+            if(metricsRecorder.isEnabled()) {
+                metricsRecorder.recordActionInvocation(actionId, System.nanoTime() - metricsStartNanos, failed);
+            }
+        }
 
         // handle any exceptions
         val priorExecution = interaction.getPriorExecutionOrThrowIfAnyException(actionInvocation);
@@ -226,7 +255,22 @@ public ManagedObject setOrClearProperty(
                         interactionInitiatedBy, editingVariant);
 
         // sets up startedAt and completedAt on the execution, also manages the execution call graph
-        val targetPojo = interaction.execute(executor, propertyEdit, clockService, metricsService(), command);
+        val consentCache = consentCacheFor(interaction);
+        consentCache.ifPresent(InteractionConsentCache::onExecutionStarted);
+        val metricsStartNanos = metricsStartNanos();
+        val jfrEvent = PropertyEditJfrEvent.started();
+        final Object targetPojo;
+        boolean failed = true; // unless proven otherwise
+        try {
+            targetPojo = interaction.execute(executor, propertyEdit, clockService, metricsService(), command);
+            failed = interaction.getPriorExecution().getThrew()!=null;
+        } finally {
+            consentCache.ifPresent(InteractionConsentCache::onExecutionCompleted);
+            jfrEvent.complete(propertyId, interaction.getInteractionId(), failed);
+            if(metricsRecorder.isEnabled()) {
+                metricsRecorder.recordPropertyEdit(propertyId, System.nanoTime() - metricsStartNanos, failed);
+            }
+        }
 
         // handle any exceptions
         final Execution<?, ?> priorExecution = interaction.getPriorExecution();
@@ -254,6 +298,15 @@ public ManagedObject setOrClearProperty(
 
     // -- HELPER
 
+    /**
+     * @return zero, if not recording metrics, so we don't even read the clock
+     */
+    private long metricsStartNanos() {
+        return metricsRecorder.isEnabled()
+                ? System.nanoTime()
+                : 0L;
+    }
+
     @SneakyThrows
     private Object invokeMethodPassThrough(
             final Method method,
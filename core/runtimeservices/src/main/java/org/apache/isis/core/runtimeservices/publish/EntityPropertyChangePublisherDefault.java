@@ -18,6 +18,8 @@
  */
 package org.apache.isis.core.runtimeservices.publish;
 
+import java.sql.Timestamp;
+
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -33,7 +35,9 @@
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.having.HasEnabling;
 import org.apache.isis.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
+import org.apache.isis.core.runtime.publishing.AsyncPublishingPipeline;
 import org.apache.isis.core.runtimeservices.IsisModuleCoreRuntimeServices;
+import org.apache.isis.core.security.authentication.InteractionContextFactory;
 import org.apache.isis.core.security.util.XrayUtil;
 import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
 
@@ -63,13 +67,18 @@ public class EntityPropertyChangePublisherDefault implements EntityPropertyChang
     private final TransactionService transactionService;
     private final InteractionLayerTracker iaTracker;
     private final Provider<HasEnlistedEntityPropertyChanges> hasEnlistedEntityPropertyChangesProvider;
+    private final Provider<AsyncPublishingPipeline> asyncPublishingPipelineProvider;
 
     private Can<EntityPropertyChangeSubscriber> enabledSubscribers = Can.empty();
+    private Can<EntityPropertyChangeSubscriber> syncSubscribers = Can.empty();
+    private Can<EntityPropertyChangeSubscriber> asyncSubscribers = Can.empty();
 
     @PostConstruct
     public void init() {
         enabledSubscribers = Can.ofCollection(subscribers)
                 .filter(HasEnabling::isEnabled);
+        syncSubscribers = enabledSubscribers.filter(subscriber->!subscriber.isAsync());
+        asyncSubscribers = enabledSubscribers.filter(EntityPropertyChangeSubscriber::isAsync);
     }
 
     private HasEnlistedEntityPropertyChanges hasEnlistedEntityPropertyChanges() {
@@ -89,10 +98,16 @@ public void publishChangedProperties() {
         val currentUser = userService.currentUserNameElseNobody();
         val currentTransactionId = transactionService.currentTransactionId().orElse(TransactionId.empty());
 
-        val propertyChanges = hasEnlistedEntityPropertyChanges().getPropertyChanges(
+        // property changes are provided in chunks, if the change tracker has spilled these to disk
+        try(val chunks = hasEnlistedEntityPropertyChanges().streamPropertyChangesInChunks(
                 currentTime,
                 currentUser,
-                currentTransactionId);
+                currentTransactionId)) {
+            chunks.forEach(this::publishChangedProperties);
+        }
+    }
+
+    private void publishChangedProperties(final Can<EntityPropertyChange> propertyChanges) {
 
         XrayUtil.SequenceHandle xrayHandle = null;
         try {
@@ -103,16 +118,43 @@ public void publishChangedProperties() {
                     () -> getCannotPublishReason(propertyChanges)
             );
 
-            propertyChanges.forEach(propertyChange->{
-                for (val subscriber : enabledSubscribers) {
-                    subscriber.onChanging(propertyChange);
+            if(propertyChanges.isNotEmpty()) {
+                for (val subscriber : syncSubscribers) {
+                    subscriber.onChangingAll(propertyChanges);
                 }
-            });
+            }
+
+            if(asyncSubscribers.isNotEmpty()
+                    && propertyChanges.isNotEmpty()) {
+                // copied on this thread, so that no mutable state is shared with another thread
+                val propertyChangeCopies = propertyChanges.map(EntityPropertyChangePublisherDefault::copyOf);
+                asyncPublishingPipelineProvider.get().publishAfterCommit(
+                        propertyChanges.getFirstOrFail().getInteractionId(),
+                        iaTracker.currentInteractionContext().orElseGet(InteractionContextFactory::anonymous),
+                        asyncSubscribers.map(subscriber->
+                                AsyncPublishingPipeline.notificationOf(subscriber, propertyChangeCopies)));
+            }
         } finally {
             _Xray.exitPublishing(xrayHandle);
         }
     }
 
+    /**
+     * {@link EntityPropertyChange} is a value type, except for its (mutable) timestamp.
+     */
+    private static EntityPropertyChange copyOf(final EntityPropertyChange propertyChange) {
+        return EntityPropertyChange.of(
+                propertyChange.getInteractionId(),
+                propertyChange.getSequence(),
+                propertyChange.getTarget(),
+                propertyChange.getLogicalMemberIdentifier(),
+                propertyChange.getPropertyId(),
+                propertyChange.getPreValue(),
+                propertyChange.getPostValue(),
+                propertyChange.getUsername(),
+                new Timestamp(propertyChange.getTimestamp().getTime()));
+    }
+
 
     // -- HELPER
 
@@ -26,6 +26,7 @@
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
+import javax.inject.Provider;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.lang.Nullable;
@@ -36,10 +37,13 @@
 import org.apache.isis.applib.services.iactn.Execution;
 import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
 import org.apache.isis.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.isis.applib.util.schema.InteractionDtoUtils;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.having.HasEnabling;
 import org.apache.isis.core.metamodel.services.publishing.ExecutionPublisher;
+import org.apache.isis.core.runtime.publishing.AsyncPublishingPipeline;
 import org.apache.isis.core.runtimeservices.IsisModuleCoreRuntimeServices;
+import org.apache.isis.core.security.authentication.InteractionContextFactory;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -55,8 +59,11 @@
 
     private final List<ExecutionSubscriber> subscribers;
     private final InteractionLayerTracker iaTracker;
+    private final Provider<AsyncPublishingPipeline> asyncPublishingPipelineProvider;
 
     private Can<ExecutionSubscriber> enabledSubscribers = Can.empty();
+    private Can<ExecutionSubscriber> syncSubscribers = Can.empty();
+    private Can<ExecutionSubscriber> asyncSubscribers = Can.empty();
     /**
      * this is the reason that this service is @InteractionScope'd
      */
@@ -66,6 +73,8 @@
     public void init() {
         enabledSubscribers = Can.ofCollection(subscribers)
                 .filter(HasEnabling::isEnabled);
+        syncSubscribers = enabledSubscribers.filter(subscriber->!subscriber.isAsync());
+        asyncSubscribers = enabledSubscribers.filter(ExecutionSubscriber::isAsync);
     }
 
     @Override
@@ -104,9 +113,18 @@ private void notifySubscribers(final Execution<?,?> execution) {
                 this::getCannotPublishReason);
 
         if(canPublish()) {
-            for (val subscriber : enabledSubscribers) {
+            for (val subscriber : syncSubscribers) {
                 subscriber.onExecution(execution);
             }
+            if(asyncSubscribers.isNotEmpty()) {
+                // converted on this thread, so that the live execution is not handed over to another thread
+                val interactionDto = InteractionDtoUtils.newInteractionDto(execution);
+                asyncPublishingPipelineProvider.get().publishAfterCommit(
+                        execution.getInteraction().getInteractionId(),
+                        iaTracker.currentInteractionContext().orElseGet(InteractionContextFactory::anonymous),
+                        asyncSubscribers.map(subscriber->
+                                AsyncPublishingPipeline.notificationOf(subscriber, interactionDto)));
+            }
         }
 
         _Xray.exitPublishing(handle);
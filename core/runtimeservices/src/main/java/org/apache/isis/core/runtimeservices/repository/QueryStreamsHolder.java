@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.InteractionScope;
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.core.runtimeservices.IsisModuleCoreRuntimeServices;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Holds on to the streams handed out by
+ * {@link RepositoryServiceDefault#streamMatches(org.apache.isis.applib.query.Query)},
+ * so that any not closed by the caller (each holding on to a database cursor)
+ * are closed when the interaction ends.
+ *
+ * @since 2.0
+ */
+@Service
+@Named(IsisModuleCoreRuntimeServices.NAMESPACE + ".QueryStreamsHolder")
+@Priority(PriorityPrecedence.EARLY)
+@Qualifier("Default")
+@InteractionScope
+@Log4j2
+public class QueryStreamsHolder {
+
+    private final List<Stream<?>> streams = _Lists.newArrayList();
+
+    /**
+     * The stream is deregistered once closed (by the caller), so that only those still open are held on to.
+     */
+    public <T> Stream<T> register(final @NonNull Stream<T> stream) {
+        streams.add(stream);
+        return stream.onClose(()->streams.remove(stream));
+    }
+
+    int size() {
+        return streams.size();
+    }
+
+    /**
+     * Closes the streams not (yet) closed by the caller.
+     */
+    @PreDestroy
+    public void closeAll() {
+        // closing a stream deregisters it, so iterate over a copy
+        val streamsToClose = _Lists.newArrayList(streams);
+        streams.clear();
+        streamsToClose.forEach(stream->{
+            try {
+                stream.close();
+            } catch (Exception e) {
+                log.warn("failed to close query result stream", e);
+            }
+        });
+    }
+
+}
@@ -24,10 +24,12 @@
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
 import javax.inject.Named;
+import javax.inject.Provider;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.lang.Nullable;
@@ -48,6 +50,7 @@
 import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.metamodel.context.HasMetaModelContext;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.object.ManagedObject;
 import org.apache.isis.core.metamodel.object.ManagedObjects;
 import org.apache.isis.core.metamodel.object.MmEntityUtil;
 import org.apache.isis.core.metamodel.object.MmUnwrapUtil;
@@ -73,16 +76,19 @@
     final WrapperFactory wrapperFactory;
     final TransactionService transactionService;
     final IsisConfiguration isisConfiguration;
+    final Provider<QueryStreamsHolder> queryStreamsHolderProvider;
 
     @Getter(onMethod_ = {@Override})
     final MetaModelContext metaModelContext;
 
     private boolean autoFlush;
+    private int streamChunkSize;
 
     @PostConstruct
     public void init() {
         val disableAutoFlush = isisConfiguration.getCore().getRuntimeServices().getRepositoryService().isDisableAutoFlush();
         this.autoFlush = !disableAutoFlush;
+        this.streamChunkSize = isisConfiguration.getCore().getRuntimeServices().getRepositoryService().getStreamChunkSize();
     }
 
     @Override
@@ -188,6 +194,39 @@ <T> List<T> submitQuery(final Query<T> query) {
         return resultList;
     }
 
+    // -- streamInstances, streamMatches
+
+    @Override
+    public <T> Stream<T> streamInstances(final Class<T> type) {
+        return streamMatches(Query.<T>allInstances(type));
+    }
+
+    @Override
+    public <T> Stream<T> streamMatches(final Query<T> query) {
+        if(autoFlush) {
+            transactionService.flushTransaction();
+        }
+
+        val entityFacet = getSpecificationLoader()
+                .specForType(query.getResultType())
+                .flatMap(ObjectSpecification::entityFacet)
+                .orElse(null);
+
+        if(entityFacet==null) {
+            // not an entity, so nothing to stream from
+            return submitQuery(query).stream();
+        }
+
+        final Stream<T> stream = _Casts.uncheckedCast(
+                entityFacet.streamByQuery(query, streamChunkSize)
+                .map(ManagedObject::getPojo));
+
+        // in case the caller does not close the stream, it is closed when the interaction ends
+        return getInteractionService().isInInteraction()
+                ? queryStreamsHolderProvider.get().register(stream)
+                : stream;
+    }
+
     @Override
     public <T> Optional<T> uniqueMatch(final Class<T> type, final Predicate<T> predicate) {
         final List<T> instances = allMatches(type, predicate, 0, 2); // No need to fetch more than 2.
@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.session;
+
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.services.iactnlayer.InteractionLayer;
+import org.apache.isis.core.runtime.jfr.InteractionLayerJfrEvent;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Immutable (singly linked) chain of {@link InteractionLayer}s, the head being the current (top-most) layer.
+ * <p>
+ * Pushing a layer creates a new head, that links to its predecessor, while popping a layer just
+ * yields the predecessor. Hence, unlike a {@link java.util.Stack}, which is a synchronized {@link java.util.Vector},
+ * no monitors are involved and any chain may be safely shared (or handed over) between threads,
+ * eg. to be carried by a single thread-local or scoped value reference.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class InteractionLayerChain {
+
+    /**
+     * Returns a new chain, consisting of given bottom (top-level) {@code layer} only.
+     */
+    static InteractionLayerChain of(
+            final @NonNull InteractionLayer layer,
+            final @NonNull InteractionLayerJfrEvent jfrEvent) {
+        return new InteractionLayerChain(layer, jfrEvent, null, 1, layer);
+    }
+
+    /**
+     * Returns a new chain, having given {@code layer} on top of this chain.
+     */
+    InteractionLayerChain push(
+            final @NonNull InteractionLayer layer,
+            final @NonNull InteractionLayerJfrEvent jfrEvent) {
+        return new InteractionLayerChain(layer, jfrEvent, this, size + 1, rootLayer);
+    }
+
+    /** the current (top-most) layer */
+    @Getter private final @NonNull InteractionLayer layer;
+
+    /** (flight recorder) event, spanning the lifetime of the current layer */
+    @Getter private final @NonNull InteractionLayerJfrEvent jfrEvent;
+
+    /** the chain without the current layer, or {@code null} if this is the top-level layer */
+    @Getter private final @Nullable InteractionLayerChain parent;
+
+    /** number of layers in this chain, at least 1 */
+    @Getter private final int size;
+
+    /** the bottom (top-level) layer, which holds the interaction shared by all layers of this chain */
+    @Getter private final @NonNull InteractionLayer rootLayer;
+
+    /**
+     * Whether the current layer is the top-level layer.
+     */
+    boolean isRoot() {
+        return parent==null;
+    }
+
+    UUID getInteractionId() {
+        return rootLayer.getInteraction().getInteractionId();
+    }
+
+}
@@ -23,7 +23,6 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Stack;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
@@ -37,6 +36,7 @@
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
@@ -68,6 +68,7 @@
 import org.apache.isis.core.metamodel.services.publishing.CommandPublisher;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
 import org.apache.isis.core.runtime.events.MetamodelEventService;
+import org.apache.isis.core.runtime.jfr.InteractionLayerJfrEvent;
 import org.apache.isis.core.runtimeservices.IsisModuleCoreRuntimeServices;
 import org.apache.isis.core.security.authentication.InteractionContextFactory;
 
@@ -79,7 +80,8 @@
 /**
  * Is the factory of {@link Interaction}s.
  *
- * @implNote holds a reference to the current session using a thread-local
+ * @implNote holds a reference to the current session using a thread-local,
+ * that is, the (immutable) {@link InteractionLayerChain}, which is replaced on every layer push or pop
  */
 @Service
 @Named(IsisModuleCoreRuntimeServices.NAMESPACE + ".InteractionServiceDefault")
@@ -91,7 +93,8 @@
     InteractionService,
     InteractionLayerTracker {
 
-    final ThreadLocal<Stack<InteractionLayer>> interactionLayerStack = ThreadLocal.withInitial(Stack::new);
+    /** the current thread's chain of layers, {@code null} when not in an interaction */
+    final ThreadLocal<InteractionLayerChain> interactionLayerChain = new ThreadLocal<>();
 
     final MetamodelEventService runtimeEventService;
     final SpecificationLoader specificationLoader;
@@ -172,7 +175,7 @@ public void init(final ContextRefreshedEvent event) {
 
     @Override
     public int getInteractionLayerCount() {
-        return interactionLayerStack.get().size();
+        return interactionLayerCount(interactionLayerChain.get());
     }
 
     @Override
@@ -196,27 +199,31 @@ public InteractionLayer openInteraction(
                 .orElse(false);
 
         if(reuseCurrentLayer) {
-            // we are done, just return the stack's top
-            return interactionLayerStack.get().peek();
+            // we are done, just return the chain's head
+            return interactionLayerChain.get().getLayer();
         }
 
         val interactionLayer = new InteractionLayer(isisInteraction, interactionContextToUse);
 
-        interactionLayerStack.get().push(interactionLayer);
+        val parentChain = interactionLayerChain.get();
+        val chain = parentChain==null
+                ? InteractionLayerChain.of(interactionLayer, InteractionLayerJfrEvent.started())
+                : parentChain.push(interactionLayer, InteractionLayerJfrEvent.started());
+        interactionLayerChain.set(chain);
 
-        if(isAtTopLevel()) {
+        if(chain.isRoot()) {
         	postInteractionOpened(isisInteraction);
         }
 
         if(log.isDebugEnabled()) {
             log.debug("new interaction layer created (conversation-id={}, total-layers-on-stack={}, {})",
-                    interactionId.get(),
-                    interactionLayerStack.get().size(),
+                    chain.getInteractionId(),
+                    chain.getSize(),
                     _Probe.currentThreadId());
         }
 
         if(XrayUi.isXrayEnabled()) {
-            _Xray.newInteractionLayer(interactionLayerStack.get());
+            _Xray.newInteractionLayer(chain);
         }
 
         return interactionLayer;
@@ -224,10 +231,10 @@ public InteractionLayer openInteraction(
 
     private IsisInteraction getOrCreateIsisInteraction() {
 
-        final Stack<InteractionLayer> interactionLayers = interactionLayerStack.get();
-        return interactionLayers.isEmpty()
+        val chain = interactionLayerChain.get();
+        return chain==null
     			? new IsisInteraction(interactionIdGenerator.interactionId())
-				: _Casts.uncheckedCast(interactionLayers.firstElement().getInteraction());
+				: _Casts.uncheckedCast(chain.getRootLayer().getInteraction());
     }
 
 
@@ -235,8 +242,8 @@ private IsisInteraction getOrCreateIsisInteraction() {
     @Override
     public void closeInteractionLayers() {
         log.debug("about to close the interaction stack (conversation-id={}, total-layers-on-stack={}, {})",
-                interactionId.get(),
-                interactionLayerStack.get().size(),
+                getInteractionId().orElse(null),
+                getInteractionLayerCount(),
                 _Probe.currentThreadId());
 
         closeInteractionLayerStackDownToStackSize(0);
@@ -244,15 +251,13 @@ public void closeInteractionLayers() {
 
 	@Override
     public Optional<InteractionLayer> currentInteractionLayer() {
-    	val stack = interactionLayerStack.get();
-    	return stack.isEmpty()
-    	        ? Optional.empty()
-                : Optional.of(stack.lastElement());
+    	return Optional.ofNullable(interactionLayerChain.get())
+    	        .map(InteractionLayerChain::getLayer);
     }
 
     @Override
     public boolean isInInteraction() {
-        return !interactionLayerStack.get().isEmpty();
+        return interactionLayerChain.get()!=null;
     }
 
     // -- AUTHENTICATED EXECUTION
@@ -263,7 +268,7 @@ public <R> R call(
             final @NonNull InteractionContext interactionContext,
             final @NonNull Callable<R> callable) {
 
-        final int stackSizeWhenEntering = interactionLayerStack.get().size();
+        final int stackSizeWhenEntering = getInteractionLayerCount();
         openInteraction(interactionContext);
         try {
             return callInternal(callable);
@@ -278,7 +283,7 @@ public void run(
             final @NonNull InteractionContext interactionContext,
             final @NonNull ThrowingRunnable runnable) {
 
-        final int stackSizeWhenEntering = interactionLayerStack.get().size();
+        final int stackSizeWhenEntering = getInteractionLayerCount();
         openInteraction(interactionContext);
         try {
             runInternal(runnable);
@@ -314,11 +319,10 @@ public void runAnonymous(final @NonNull ThrowingRunnable runnable) {
 
     // -- CONVERSATION ID
 
-    private final ThreadLocal<UUID> interactionId = ThreadLocal.withInitial(()->null);
-
     @Override
     public Optional<UUID> getInteractionId() {
-        return Optional.ofNullable(interactionId.get());
+        return Optional.ofNullable(interactionLayerChain.get())
+                .map(InteractionLayerChain::getInteractionId);
     }
 
     // -- HELPER
@@ -346,8 +350,8 @@ private void runInternal(final @NonNull ThrowingRunnable runnable) {
     }
 
     private void requestRollback(final Throwable cause) {
-        val stack = interactionLayerStack.get();
-        if(stack.isEmpty()) {
+        val chain = interactionLayerChain.get();
+        if(chain==null) {
             // seeing this code-path, when the corresponding runnable/callable
             // by itself causes the interaction stack to be closed
             log.warn("unexpected state: missing interaction (layer) on interaction rollback; "
@@ -356,16 +360,17 @@ private void requestRollback(final Throwable cause) {
                     cause.getMessage());
             return;
         }
-        val interaction = _Casts.<IsisInteraction>uncheckedCast(stack.get(0).getInteraction());
+        val interaction = _Casts.<IsisInteraction>uncheckedCast(chain.getRootLayer().getInteraction());
         txBoundaryHandler.requestRollback(interaction);
     }
 
-    private boolean isAtTopLevel() {
-    	return interactionLayerStack.get().size()==1;
+    private static int interactionLayerCount(final @Nullable InteractionLayerChain chain) {
+        return chain!=null
+                ? chain.getSize()
+                : 0;
     }
 
     private void postInteractionOpened(final IsisInteraction interaction) {
-        interactionId.set(interaction.getInteractionId());
         transactionBoundaryAwareBeans.forEach(bean->bean.beforeEnteringTransactionalBoundary(interaction));
         txBoundaryHandler.onOpen(interaction);
         val isSynchronizationActive = TransactionSynchronizationManager.isSynchronizationActive();
@@ -389,26 +394,39 @@ private void closeInteractionLayerStackDownToStackSize(final int downToStackSize
 
         log.debug("about to close authenication stack down to size {} (conversation-id={}, total-sessions-on-stack={}, {})",
                 downToStackSize,
-                interactionId.get(),
-                interactionLayerStack.get().size(),
+                getInteractionId().orElse(null),
+                getInteractionLayerCount(),
                 _Probe.currentThreadId());
 
-        val stack = interactionLayerStack.get();
-        while(stack.size()>downToStackSize) {
-        	if(isAtTopLevel()) {
-        		// keep the stack unmodified yet, to allow for callbacks to properly operate
-        		preInteractionClosed(_Casts.uncheckedCast(stack.peek().getInteraction()));
+        InteractionLayerChain chain;
+        while((chain = interactionLayerChain.get())!=null
+                && chain.getSize()>downToStackSize) {
+        	try {
+        	    if(chain.isRoot()) {
+        	        // keep the chain unmodified yet, to allow for callbacks to properly operate
+        	        preInteractionClosed(_Casts.uncheckedCast(chain.getLayer().getInteraction()));
+        	    }
+        	} finally {
+        	    completeInteractionLayerJfrEvent(chain);
+        	}
+        	_Xray.closeInteractionLayer(chain);
+        	if(chain.isRoot()) {
+        	    // cleanup thread-local
+        	    interactionLayerChain.remove();
+        	} else {
+        	    interactionLayerChain.set(chain.getParent());
         	}
-        	_Xray.closeInteractionLayer(stack);
-            stack.pop();
-        }
-        if(downToStackSize == 0) {
-            // cleanup thread-local
-            interactionLayerStack.remove();
-            interactionId.remove();
         }
     }
 
+    private static void completeInteractionLayerJfrEvent(final InteractionLayerChain chain) {
+        val user = chain.getLayer().getInteractionContext().getUser();
+        chain.getJfrEvent().complete(
+                chain.getInteractionId(),
+                user!=null ? user.getName() : null,
+                chain.getSize());
+    }
+
     private IsisInteraction getInternalInteractionElseFail() {
         val interaction = currentInteractionElseFail();
         if(interaction instanceof IsisInteraction) {
@@ -18,9 +18,6 @@
  */
 package org.apache.isis.core.runtimeservices.session;
 
-import java.util.Stack;
-
-import org.apache.isis.applib.services.iactnlayer.InteractionLayer;
 import org.apache.isis.commons.internal.debug._XrayEvent;
 import org.apache.isis.commons.internal.debug.xray.XrayDataModel;
 import org.apache.isis.commons.internal.debug.xray.XrayModel.ThreadMemento;
@@ -32,16 +29,16 @@
 //@Log4j2
 final class _Xray {
 
-    static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
+    static void newInteractionLayer(final InteractionLayerChain afterEnter) {
 
         if(!XrayUi.isXrayEnabled()) {
             return;
         }
 
         // make defensive copies, so can use in another thread
-        final int authStackSize = afterEnter.size();
-        val interactionId = afterEnter.peek().getInteraction().getInteractionId();
-        val executionContext = afterEnter.peek().getInteractionContext();
+        final int authStackSize = afterEnter.getSize();
+        val interactionId = afterEnter.getLayer().getInteraction().getInteractionId();
+        val executionContext = afterEnter.getLayer().getInteractionContext();
 
         _XrayEvent.interactionOpen("open interaction %s", interactionId);
 
@@ -89,14 +86,14 @@ static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
 
     }
 
-    public static void closeInteractionLayer(final Stack<InteractionLayer> beforeClose) {
+    public static void closeInteractionLayer(final InteractionLayerChain beforeClose) {
 
         if(!XrayUi.isXrayEnabled()) {
             return;
         }
 
-        final int authStackSize = beforeClose.size();
-        val interactionId = beforeClose.peek().getInteraction().getInteractionId();
+        final int authStackSize = beforeClose.getSize();
+        val interactionId = beforeClose.getLayer().getInteraction().getInteractionId();
         val sequenceId = XrayUtil.sequenceId(interactionId);
 
 
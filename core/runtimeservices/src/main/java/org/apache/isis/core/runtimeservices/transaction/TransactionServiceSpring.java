@@ -29,6 +29,7 @@
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.stereotype.Service;
@@ -49,8 +50,11 @@
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.interaction.scope.TransactionBoundaryAware;
+import org.apache.isis.core.runtime.jfr.TransactionCompletionJfrEvent;
+import org.apache.isis.core.runtime.metrics.MetricsRecorder;
 import org.apache.isis.core.runtimeservices.IsisModuleCoreRuntimeServices;
 import org.apache.isis.core.transaction.events.TransactionAfterCompletionEvent;
+import org.apache.isis.core.transaction.events.TransactionBeforeCompletionEvent;
 
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
@@ -76,13 +80,18 @@
     private final Can<PlatformTransactionManager> platformTransactionManagers;
     private final InteractionLayerTracker interactionLayerTracker;
     private final Can<PersistenceExceptionTranslator> persistenceExceptionTranslators;
+    private final MetricsRecorder metricsRecorder;
 
+    /** when the current thread's transaction started to complete, if recording metrics */
+    private static final ThreadLocal<Long> txCompletionStartedNanos = new ThreadLocal<>();
+    private static final ThreadLocal<TransactionCompletionJfrEvent> txCompletionJfrEvent = new ThreadLocal<>();
 
     @Inject
     public TransactionServiceSpring(
             final List<PlatformTransactionManager> platformTransactionManagers,
             final List<PersistenceExceptionTranslator> persistenceExceptionTranslators,
-            final InteractionLayerTracker interactionLayerTracker) {
+            final InteractionLayerTracker interactionLayerTracker,
+            final MetricsRecorder metricsRecorder) {
 
         this.platformTransactionManagers = Can.ofCollection(platformTransactionManagers);
         log.info("PlatformTransactionManagers: {}", platformTransactionManagers);
@@ -91,6 +100,7 @@ public TransactionServiceSpring(
         log.info("PersistenceExceptionTranslators: {}", persistenceExceptionTranslators);
 
         this.interactionLayerTracker = interactionLayerTracker;
+        this.metricsRecorder = metricsRecorder;
     }
 
     // -- SPRING INTEGRATION
@@ -246,6 +256,7 @@ public void beforeEnteringTransactionalBoundary(final Interaction interaction) {
     @EventListener(TransactionAfterCompletionEvent.class)
     public void onTransactionEnded(final TransactionAfterCompletionEvent event) {
         txCounter.get().increment();
+        recordTransactionCompletion(event);
     }
 
     /** INTERACTION END BOUNDARY */
@@ -254,6 +265,36 @@ public void afterLeavingTransactionalBoundary(final Interaction interaction) {
         txCounter.remove(); //XXX not tested yet: can we be certain that no txCounter.get() is called afterwards?
     }
 
+    // -- TRANSACTION COMPLETION METRICS
+
+    /**
+     * TRANSACTION ABOUT TO COMMIT OR ROLLBACK
+     * <p>
+     * Ordered last, so any before-completion work (eg. entity change publishing) is not accounted for.
+     */
+    @EventListener(TransactionBeforeCompletionEvent.class)
+    @Order(PriorityPrecedence.LAST)
+    public void onTransactionCompleting(final TransactionBeforeCompletionEvent event) {
+        if(metricsRecorder.isEnabled()) {
+            txCompletionStartedNanos.set(System.nanoTime());
+        }
+        txCompletionJfrEvent.set(TransactionCompletionJfrEvent.started());
+    }
+
+    private void recordTransactionCompletion(final TransactionAfterCompletionEvent event) {
+        val jfrEvent = txCompletionJfrEvent.get();
+        if(jfrEvent!=null) {
+            txCompletionJfrEvent.remove();
+            jfrEvent.complete(interactionLayerTracker.getInteractionId().orElse(null), event.isCommitted());
+        }
+        val startedNanos = txCompletionStartedNanos.get();
+        if(startedNanos==null) {
+            return;
+        }
+        txCompletionStartedNanos.remove();
+        metricsRecorder.recordTransactionCompletion(System.nanoTime() - startedNanos, event.isCommitted());
+    }
+
     // -- HELPER
 
     private PlatformTransactionManager transactionManagerForElseFail(final TransactionDefinition def) {
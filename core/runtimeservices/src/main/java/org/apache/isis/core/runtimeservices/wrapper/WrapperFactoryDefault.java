@@ -95,6 +95,7 @@
 import org.apache.isis.core.metamodel.spec.feature.MixedInMember;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.runtime.async.AsyncExecutorService;
 import org.apache.isis.core.runtimeservices.IsisModuleCoreRuntimeServices;
 import org.apache.isis.core.runtimeservices.wrapper.dispatchers.InteractionEventDispatcher;
 import org.apache.isis.core.runtimeservices.wrapper.dispatchers.InteractionEventDispatcherTypeSafe;
@@ -131,6 +132,7 @@
     @Inject private Provider<InteractionProvider> interactionProviderProvider;
     @Inject private Provider<BookmarkService> bookmarkServiceProvider;
     @Inject private Provider<RepositoryService> repositoryServiceProvider;
+    @Inject private Provider<AsyncExecutorService> asyncExecutorServiceProvider;
 
     private final List<InteractionListener> listeners = new ArrayList<>();
     private final Map<Class<? extends InteractionEvent>, InteractionEventDispatcher>
@@ -395,7 +397,8 @@ private <R> Object submitAsync(
         asyncControl.setMethod(method);
         asyncControl.setBookmark(Bookmark.forOidDto(oidDto));
 
-        val executorService = asyncControl.getExecutorService();
+        val executorService = Optional.ofNullable(asyncControl.getExecutorService())
+                .orElseGet(asyncExecutorServiceProvider.get()::getDefaultExecutorService);
         val asyncTask = getServiceInjector().injectServicesInto(new AsyncTask<R>(
             asyncInteractionContext,
             Propagation.REQUIRES_NEW,
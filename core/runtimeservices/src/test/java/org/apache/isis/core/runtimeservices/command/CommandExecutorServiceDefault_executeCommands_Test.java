@@ -0,0 +1,317 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.command;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.TransactionDefinition;
+
+import org.apache.isis.applib.clock.VirtualClock;
+import org.apache.isis.applib.services.clock.ClockService;
+import org.apache.isis.applib.services.command.Command;
+import org.apache.isis.applib.services.command.CommandExecutorService.BatchErrorPolicy;
+import org.apache.isis.applib.services.command.CommandExecutorService.BatchOutcome;
+import org.apache.isis.applib.services.command.CommandExecutorService.BatchPolicy;
+import org.apache.isis.applib.services.command.CommandOutcomeHandler;
+import org.apache.isis.applib.services.iactn.ActionInvocation;
+import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.isis.applib.services.metrics.MetricsService;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.functional.Try;
+import org.apache.isis.core.interaction.session.IsisInteraction;
+import org.apache.isis.core.metamodel.object.ManagedObject;
+import org.apache.isis.core.metamodel.services.publishing.CommandPublisher;
+import org.apache.isis.core.metamodel.services.schema.SchemaValueMarshaller;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.schema.cmd.v2.ActionDto;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+import org.apache.isis.schema.common.v2.InteractionType;
+import org.apache.isis.schema.common.v2.OidDto;
+import org.apache.isis.schema.common.v2.OidsDto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import lombok.val;
+
+class CommandExecutorServiceDefault_executeCommands_Test {
+
+    private IsisInteraction interaction;
+    private CommandPublisher commandPublisher;
+    private CommandExecutorServiceDefault commandExecutorService;
+
+    /** ids of the targets executed, in order, including those of rolled back chunks */
+    private List<String> executed;
+    /** commands published, in order */
+    private List<Command> published;
+    private Map<String, CommandOutcomeHandler> outcomeHandlers;
+
+    @BeforeEach
+    void setUp() {
+        interaction = new IsisInteraction(UUID.randomUUID());
+        executed = new ArrayList<>();
+        published = new ArrayList<>();
+        outcomeHandlers = new HashMap<>();
+
+        // every call of the clock is one millisecond later than the previous one
+        val ticks = new AtomicLong(1_000_000L);
+        val clock = mock(VirtualClock.class);
+        when(clock.nowAsJavaSqlTimestamp()).thenAnswer(inv->new Timestamp(ticks.incrementAndGet()));
+        val clockService = mock(ClockService.class);
+        when(clockService.getClock()).thenReturn(clock);
+
+        val transactionService = mock(TransactionService.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doAnswer(inv->Try.call(inv.getArgument(1)))
+            .when(transactionService).callTransactional(any(TransactionDefinition.class), any());
+        Mockito.doNothing().when(transactionService).flushTransaction();
+
+        val interactionLayerTracker = mock(InteractionLayerTracker.class);
+        when(interactionLayerTracker.currentInteractionElseFail()).thenReturn(interaction);
+
+        commandPublisher = mock(CommandPublisher.class);
+        Mockito.doAnswer(inv->published.add(inv.getArgument(0)))
+            .when(commandPublisher).complete(any());
+
+        // the action fails for targets named 'fail...', the target is not recoverable for targets named 'lost...'
+        val metricsService = mock(MetricsService.class);
+        val objectAction = mock(ObjectAction.class);
+        when(objectAction.execute(any(), any(), any())).thenAnswer(inv->{
+            final String targetId = targetIdOf(interaction.getCommand().getCommandDto());
+            executed.add(targetId);
+            interaction.execute(
+                    actionInvocation->{
+                        if(targetId.startsWith("fail")) {
+                            throw new IllegalStateException("failed to execute " + targetId);
+                        }
+                        return null;
+                    },
+                    new ActionInvocation(interaction, null, targetId, Collections.emptyList()),
+                    clockService, metricsService, interaction.getCommand());
+            return null;
+        });
+        val spec = mock(ObjectSpecification.class);
+        when(spec.getAction("act")).thenReturn(Optional.of(objectAction));
+        val target = mock(ManagedObject.class);
+        when(target.getSpecification()).thenReturn(spec);
+
+        val valueMarshaller = mock(SchemaValueMarshaller.class);
+        when(valueMarshaller.recoverReferenceFrom(any())).thenAnswer(inv->{
+            final OidDto oidDto = inv.getArgument(0);
+            if(oidDto.getId().startsWith("lost")) {
+                executed.add(oidDto.getId());
+                throw new IllegalStateException("cannot recover " + oidDto.getId());
+            }
+            return target;
+        });
+
+        commandExecutorService = new CommandExecutorServiceDefault(
+                null, null, clockService, transactionService, interactionLayerTracker,
+                valueMarshaller, commandPublisher, null, null);
+    }
+
+    @Test
+    void chunk_without_failures_is_executed_once_and_each_command_published() {
+
+        val outcomes = execute(BatchErrorPolicy.STOP, 3, "1", "2", "3");
+
+        assertEquals(List.of("1", "2", "3"), targetIdsOf(outcomes));
+        assertTrue(outcomes.stream().noneMatch(BatchOutcome::isFailure));
+        assertEquals(List.of("1", "2", "3"), executed);
+        assertEquals(List.of("1", "2", "3"), targetIdsOfPublished());
+        assertEachPublishedCommandIsDistinctAndCompleted();
+    }
+
+    @Test
+    void failure_partway_through_chunk_when_continue() {
+
+        val outcomes = execute(BatchErrorPolicy.CONTINUE, 3, "1", "fail-2", "3", "4");
+
+        assertEquals(List.of("1", "fail-2", "3", "4"), targetIdsOf(outcomes));
+        assertFalse(outcomes.get(0).isFailure());
+        assertTrue(outcomes.get(1).isFailure());
+        assertFalse(outcomes.get(2).isFailure());
+        assertFalse(outcomes.get(3).isFailure());
+
+        // the chunk is rolled back, then executed again one by one
+        assertEquals(List.of("1", "fail-2", "1", "fail-2", "3", "4"), executed);
+
+        // nothing is published for the rolled back chunk
+        assertEquals(List.of("1", "fail-2", "3", "4"), targetIdsOfPublished());
+        assertEachPublishedCommandIsDistinctAndCompleted();
+        assertNotNull(published.get(1).getException());
+    }
+
+    @Test
+    void failure_partway_through_chunk_when_stop() {
+
+        val outcomes = execute(BatchErrorPolicy.STOP, 3, "1", "fail-2", "3", "4");
+
+        assertEquals(List.of("1", "fail-2"), targetIdsOf(outcomes));
+        assertTrue(outcomes.get(1).isFailure());
+
+        // neither the rest of the chunk nor subsequent chunks are executed
+        assertEquals(List.of("1", "fail-2", "1", "fail-2"), executed);
+        assertEquals(List.of("1", "fail-2"), targetIdsOfPublished());
+    }
+
+    @Test
+    void failure_without_execution_does_not_pick_up_previous_commands_execution() {
+
+        val outcomes = execute(BatchErrorPolicy.CONTINUE, 2, "1", "lost-2");
+
+        assertTrue(outcomes.get(1).isFailure());
+        assertEachPublishedCommandIsDistinctAndCompleted();
+
+        // no execution of its own, so the command is not to be completed with the previous command's timestamps
+        val lostHandler = outcomeHandlers.get("lost-2");
+        verify(lostHandler, never()).setCompletedAt(any());
+        verify(lostHandler).setStartedAt(any());
+        assertNotEquals(published.get(0).getCompletedAt(), published.get(1).getCompletedAt());
+    }
+
+    @Test
+    void each_command_is_keyed_by_the_interactionId_of_its_dto() {
+
+        val dtos = Stream.of("1", "fail-2", "3")
+                .map(CommandExecutorServiceDefault_executeCommands_Test::commandDto)
+                .collect(Collectors.toList());
+        val dtoInteractionIds = dtos.stream()
+                .map(CommandDto::getInteractionId)
+                .collect(Collectors.toList());
+
+        commandExecutorService.executeCommands(dtos.stream(), batchPolicy(BatchErrorPolicy.CONTINUE, 3));
+
+        assertEachPublishedCommandIsDistinctAndCompleted();
+        assertEquals(dtoInteractionIds, published.stream()
+                .map(Command::getInteractionId)
+                .map(UUID::toString)
+                .collect(Collectors.toList()));
+
+        // the DTOs passed in are not modified
+        assertEquals(dtoInteractionIds, dtos.stream()
+                .map(CommandDto::getInteractionId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void interactions_command_is_restored_after_batch() {
+
+        val originalCommand = interaction.getCommand();
+        val originalInteractionId = interaction.getInteractionId();
+        interaction.getExecutionSequence().add(3);
+
+        execute(BatchErrorPolicy.CONTINUE, 2, "1", "fail-2", "3");
+
+        assertSame(originalCommand, interaction.getCommand());
+        assertEquals(originalInteractionId, interaction.getInteractionId());
+        assertEquals(3, interaction.getExecutionSequence().intValue());
+        verify(commandPublisher, never()).complete(originalCommand);
+    }
+
+    // -- HELPER
+
+    private List<BatchOutcome> execute(
+            final BatchErrorPolicy errorPolicy,
+            final int chunkSize,
+            final String... targetIds) {
+
+        return commandExecutorService.executeCommands(
+                Stream.of(targetIds).map(CommandExecutorServiceDefault_executeCommands_Test::commandDto),
+                batchPolicy(errorPolicy, chunkSize));
+    }
+
+    private BatchPolicy batchPolicy(
+            final BatchErrorPolicy errorPolicy,
+            final int chunkSize) {
+        return BatchPolicy.builder()
+                .errorPolicy(errorPolicy)
+                .chunkSize(chunkSize)
+                .outcomeHandlerProvider(dto->outcomeHandlers.computeIfAbsent(targetIdOf(dto),
+                        __->mock(CommandOutcomeHandler.class)))
+                .build();
+    }
+
+    private void assertEachPublishedCommandIsDistinctAndCompleted() {
+        assertEquals(published.size(), published.stream().distinct().count());
+        assertEquals(published.size(), published.stream().map(Command::getInteractionId).distinct().count());
+        for(val command : published) {
+            assertNotNull(command.getCompletedAt());
+        }
+    }
+
+    private List<String> targetIdsOfPublished() {
+        return published.stream()
+                .map(Command::getCommandDto)
+                .map(CommandExecutorServiceDefault_executeCommands_Test::targetIdOf)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> targetIdsOf(final List<BatchOutcome> outcomes) {
+        return outcomes.stream()
+                .map(BatchOutcome::getCommandDto)
+                .map(CommandExecutorServiceDefault_executeCommands_Test::targetIdOf)
+                .collect(Collectors.toList());
+    }
+
+    private static String targetIdOf(final CommandDto dto) {
+        return dto.getTargets().getOid().get(0).getId();
+    }
+
+    private static CommandDto commandDto(final String targetId) {
+        val oidDto = new OidDto();
+        oidDto.setType("test.Target");
+        oidDto.setId(targetId);
+        val targets = new OidsDto();
+        targets.getOid().add(oidDto);
+
+        val actionDto = new ActionDto();
+        actionDto.setLogicalMemberIdentifier("test.Target#act");
+        actionDto.setInteractionType(InteractionType.ACTION_INVOCATION);
+
+        val dto = new CommandDto();
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setTargets(targets);
+        dto.setMember(actionDto);
+        return dto;
+    }
+
+}
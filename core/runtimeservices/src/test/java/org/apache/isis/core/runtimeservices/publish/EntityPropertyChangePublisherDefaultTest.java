@@ -0,0 +1,162 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.publish;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.clock.VirtualClock;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.clock.ClockService;
+import org.apache.isis.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
+import org.apache.isis.applib.services.user.UserService;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
+import org.apache.isis.core.runtime.publishing.AsyncPublishingPipeline;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+class EntityPropertyChangePublisherDefaultTest {
+
+    /** records the order in which subscribers are notified */
+    private List<String> notifications;
+    private Can<EntityPropertyChange> propertyChanges;
+    private AsyncPublishingPipeline asyncPublishingPipeline;
+
+    @BeforeEach
+    void setUp() {
+        notifications = new ArrayList<>();
+        asyncPublishingPipeline = mock(AsyncPublishingPipeline.class);
+        val interactionId = UUID.randomUUID();
+        propertyChanges = IntStream.range(0, 3)
+                .mapToObj(i->EntityPropertyChange.of(
+                        interactionId, i,
+                        Bookmark.forLogicalTypeNameAndIdentifier("test.Counter", "" + i),
+                        "test.Counter#num", "num", null, "" + i, "sven",
+                        new Timestamp(0L)))
+                .collect(Can.toCan());
+    }
+
+    @Test
+    void sync_subscribers_are_notified_one_after_the_other_each_with_all_changes() {
+
+        // given
+        val publisher = publisherFor(
+                new RecordingSubscriber("a"),
+                new BulkRecordingSubscriber("b"));
+
+        // when
+        publisher.publishChangedProperties();
+
+        // then
+        assertEquals(List.of("a:0", "a:1", "a:2", "b:[0, 1, 2]"), notifications);
+        verify(asyncPublishingPipeline, never()).publishAfterCommit(any(), any(), any());
+    }
+
+    @Test
+    void async_subscribers_are_not_notified_synchronously() {
+
+        // given
+        val asyncSubscriber = new RecordingSubscriber("async") {
+            @Override public boolean isAsync() {
+                return true;
+            }
+        };
+        val publisher = publisherFor(new RecordingSubscriber("a"), asyncSubscriber);
+
+        // when
+        publisher.publishChangedProperties();
+
+        // then
+        assertEquals(List.of("a:0", "a:1", "a:2"), notifications);
+        verify(asyncPublishingPipeline).publishAfterCommit(any(), any(), any());
+    }
+
+    // -- HELPER
+
+    private EntityPropertyChangePublisherDefault publisherFor(final EntityPropertyChangeSubscriber... subscribers) {
+        val userService = mock(UserService.class);
+        when(userService.currentUserNameElseNobody()).thenReturn("sven");
+
+        val clock = mock(VirtualClock.class);
+        when(clock.nowAsJavaSqlTimestamp()).thenReturn(new Timestamp(0L));
+        val clockService = mock(ClockService.class);
+        when(clockService.getClock()).thenReturn(clock);
+
+        val transactionService = mock(TransactionService.class);
+        when(transactionService.currentTransactionId()).thenReturn(Optional.empty());
+
+        val interactionLayerTracker = mock(InteractionLayerTracker.class);
+        when(interactionLayerTracker.currentInteractionContext()).thenReturn(Optional.empty());
+
+        val hasEnlistedEntityPropertyChanges = mock(HasEnlistedEntityPropertyChanges.class);
+        when(hasEnlistedEntityPropertyChanges.streamPropertyChangesInChunks(any(), any(), any()))
+            .thenAnswer(inv->Stream.of(propertyChanges));
+
+        val publisher = new EntityPropertyChangePublisherDefault(
+                List.of(subscribers),
+                userService,
+                clockService,
+                transactionService,
+                interactionLayerTracker,
+                ()->hasEnlistedEntityPropertyChanges,
+                ()->asyncPublishingPipeline);
+        publisher.init();
+        return publisher;
+    }
+
+    @RequiredArgsConstructor
+    private class RecordingSubscriber implements EntityPropertyChangeSubscriber {
+        final String name;
+        @Override
+        public void onChanging(final EntityPropertyChange entityPropertyChange) {
+            notifications.add(name + ":" + entityPropertyChange.getSequence());
+        }
+    }
+
+    private class BulkRecordingSubscriber extends RecordingSubscriber {
+        BulkRecordingSubscriber(final String name) {
+            super(name);
+        }
+        @Override
+        public void onChangingAll(final Can<EntityPropertyChange> entityPropertyChanges) {
+            notifications.add(name + ":" + entityPropertyChanges.map(EntityPropertyChange::getSequence).toList());
+        }
+    }
+
+}
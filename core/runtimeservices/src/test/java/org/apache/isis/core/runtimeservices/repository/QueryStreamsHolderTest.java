@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.repository;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import lombok.val;
+
+class QueryStreamsHolderTest {
+
+    QueryStreamsHolder queryStreamsHolder;
+
+    @BeforeEach
+    void setUp() {
+        queryStreamsHolder = new QueryStreamsHolder();
+    }
+
+    @Test
+    void stream_closed_by_caller_is_deregistered() {
+
+        // given
+        val closeCount = new AtomicInteger();
+        val stream = queryStreamsHolder.register(Stream.of(1, 2, 3).onClose(closeCount::incrementAndGet));
+        assertEquals(1, queryStreamsHolder.size());
+
+        // when
+        stream.close();
+
+        // then
+        assertEquals(1, closeCount.get());
+        assertEquals(0, queryStreamsHolder.size());
+
+        // when
+        queryStreamsHolder.closeAll();
+
+        // then - not closed again
+        assertEquals(1, closeCount.get());
+    }
+
+    @Test
+    void streams_not_closed_by_caller_are_closed_by_closeAll() {
+
+        // given
+        val closeCount = new AtomicInteger();
+        queryStreamsHolder.register(Stream.of(1, 2, 3).onClose(closeCount::incrementAndGet));
+        queryStreamsHolder.register(Stream.of(4, 5, 6).onClose(closeCount::incrementAndGet));
+        val closedByCaller = queryStreamsHolder.register(Stream.of(7, 8, 9).onClose(closeCount::incrementAndGet));
+        closedByCaller.close();
+
+        // when
+        queryStreamsHolder.closeAll();
+
+        // then
+        assertEquals(3, closeCount.get());
+        assertEquals(0, queryStreamsHolder.size());
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.session;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.services.iactnlayer.InteractionLayer;
+import org.apache.isis.core.interaction.session.IsisInteraction;
+import org.apache.isis.core.runtime.jfr.InteractionLayerJfrEvent;
+import org.apache.isis.core.security.authentication.InteractionContextFactory;
+
+import lombok.val;
+
+class InteractionLayerChainTest {
+
+    private final IsisInteraction interaction = new IsisInteraction(UUID.randomUUID());
+
+    @Test
+    void push_shouldLeaveParentChainUnmodified() {
+        val bottomLayer = newLayer();
+        val topLayer = newLayer();
+
+        val chain = InteractionLayerChain.of(bottomLayer, InteractionLayerJfrEvent.started());
+        val pushed = chain.push(topLayer, InteractionLayerJfrEvent.started());
+
+        assertTrue(chain.isRoot());
+        assertNull(chain.getParent());
+        assertEquals(1, chain.getSize());
+        assertSame(bottomLayer, chain.getLayer());
+
+        assertFalse(pushed.isRoot());
+        assertSame(chain, pushed.getParent());
+        assertEquals(2, pushed.getSize());
+        assertSame(topLayer, pushed.getLayer());
+    }
+
+    @Test
+    void rootLayer_shouldBeSharedAlongTheChain() {
+        val bottomLayer = newLayer();
+
+        val chain = InteractionLayerChain.of(bottomLayer, InteractionLayerJfrEvent.started())
+                .push(newLayer(), InteractionLayerJfrEvent.started())
+                .push(newLayer(), InteractionLayerJfrEvent.started());
+
+        assertEquals(3, chain.getSize());
+        assertSame(bottomLayer, chain.getRootLayer());
+        assertSame(bottomLayer, chain.getParent().getParent().getLayer());
+        assertEquals(interaction.getInteractionId(), chain.getInteractionId());
+    }
+
+    // -- HELPER
+
+    private InteractionLayer newLayer() {
+        return new InteractionLayer(interaction, InteractionContextFactory.anonymous());
+    }
+
+}
@@ -63,13 +63,14 @@ public interface EntityChangeTracker extends DisposableBean {
      * The post-modification values are captured when the transaction commits.
      *
      * <p>
-     * Overload as an optimization for ORMs (specifically, JPA) where already have access to the changed records by
-     * accessing the ORM-specific data structures (<code>EntityManager</code>'s unit-of-work).
+     * Overload as an optimization for ORMs where already have access to the changed records by
+     * accessing the ORM-specific data structures (JPA's <code>EntityManager</code> unit-of-work,
+     * JDO's dirty fields as tracked by the state manager).
      *
      * </p>
      *
      * @param entity
-     * @param propertyChangeRecords - optional parameter (as a performance optimization) to provide the pre-computed {@link PropertyChangeRecord}s from the ORM.  JPA does this, JDO does not.
+     * @param propertyChangeRecords - optional parameter (as a performance optimization) to provide the pre-computed {@link PropertyChangeRecord}s from the ORM.  Both JPA and JDO do this (JDO possibly enlisting the same entity multiple times, first without records).
      */
     void enlistUpdating(ManagedObject entity, @Nullable Can<PropertyChangeRecord> propertyChangeRecords);
 
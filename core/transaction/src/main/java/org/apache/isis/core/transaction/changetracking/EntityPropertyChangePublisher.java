@@ -32,8 +32,9 @@ public interface EntityPropertyChangePublisher {
     /**
      * Notifies {@link org.apache.isis.applib.services.publishing.spi.EntityPropertyChangeSubscriber}s that
      * a property of an entity has changed using the
-     * {@link org.apache.isis.applib.services.publishing.spi.EntityPropertyChangeSubscriber#onChanging(EntityPropertyChange)}
-     * callback.
+     * {@link org.apache.isis.applib.services.publishing.spi.EntityPropertyChangeSubscriber#onChangingAll(org.apache.isis.commons.collections.Can)}
+     * callback, which receives all property changes of the transaction at once.
+     * Subscribers are notified one after the other (not interleaved per property change).
      */
     void publishChangedProperties();
 
@@ -27,6 +27,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -41,6 +42,7 @@
 import org.apache.isis.applib.services.command.Command;
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.applib.services.retention.PurgeableLog;
 import org.apache.isis.applib.util.schema.CommandDtoUtils;
 import org.apache.isis.core.config.environment.IsisSystemEnvironment;
 import org.apache.isis.schema.cmd.v2.CommandDto;
@@ -51,7 +53,8 @@
 import lombok.Getter;
 import lombok.val;
 
-public abstract class CommandLogEntryRepository<C extends CommandLogEntry> {
+public abstract class CommandLogEntryRepository<C extends CommandLogEntry>
+implements PurgeableLog {
 
     public static class NotFoundException extends RecoverableException {
         private static final long serialVersionUID = 1L;
@@ -293,6 +296,22 @@ public List<C> findNotYetReplayed() {
     }
 
 
+    /**
+     * The oldest command whose replay failed, as queried on the secondary.
+     *
+     * <p>
+     *     Any such command blocks the replay of any further commands,
+     *     until the issue is fixed (eg. the command is excluded).
+     * </p>
+     */
+    public Optional<C> findFirstReplayFailed() {
+        return repositoryService().firstMatch(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BY_REPLAY_STATE)
+                        .withParameter("replayState", ReplayState.FAILED)
+                        .withLimit(1));
+    }
+
+
     public C saveForReplay(final CommandDto dto) {
 
         if(dto.getMember().getInteractionType() == InteractionType.ACTION_INVOCATION) {
@@ -341,6 +360,55 @@ public void truncateLog() {
         repositoryService().removeAll(commandLogEntryClass);
     }
 
+    // -- RETENTION
+
+    @Override
+    public String getLogName() {
+        return "command-log";
+    }
+
+    /**
+     * Removes the oldest entries, up to the timestamp of the {@code chunkSize}-th oldest one
+     * or up to the {@code cutoff}, whichever is earlier.
+     *
+     * <p>
+     *     Only entries that have completed and are not pending replay (on a secondary) are removed.
+     * </p>
+     */
+    @Override
+    public int purgeChunk(final Timestamp cutoff, final int chunkSize) {
+        val chunkEnd = repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_OLDEST_PURGEABLE)
+                            .withRange(chunkSize - 1, 1))
+                .stream()
+                .map(CommandLogEntry::getTimestamp)
+                .filter(timestamp -> timestamp.before(cutoff))
+                .findFirst()
+                .orElse(cutoff);
+        return removeUpTo(chunkEnd);
+    }
+
+    /**
+     * Removes all entries with a timestamp up to (and including) given {@code upTo} that have completed
+     * and are not pending replay, first unlinking any child commands (not necessarily removed themselves) from these.
+     *
+     * <p>
+     *     Removes one entry at a time; the JDO and JPA implementations override this to use a bulk delete.
+     * </p>
+     */
+    protected int removeUpTo(final Timestamp upTo) {
+        val entries = repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BY_TIMESTAMP_BEFORE)
+                        .withParameter("to", upTo))
+                .stream()
+                .filter(entry -> entry.getCompletedAt() != null
+                        && entry.getReplayState() != ReplayState.PENDING)
+                .collect(Collectors.toList());
+        entries.forEach(entry -> findByParent(entry).forEach(child -> child.setParent(null)));
+        entries.forEach(repositoryService()::remove);
+        return entries.size();
+    }
+
     // --
 
 
@@ -18,6 +18,8 @@
  */
 package org.apache.isis.extensions.commandlog.applib.integtest;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,6 +34,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.apache.isis.applib.clock.VirtualClock;
+import org.apache.isis.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
 import org.apache.isis.applib.mixins.system.DomainChangeRecord;
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.bookmark.BookmarkService;
@@ -42,6 +45,7 @@
 import org.apache.isis.applib.services.sudo.SudoService;
 import org.apache.isis.applib.services.user.UserMemento;
 import org.apache.isis.applib.services.wrapper.WrapperFactory;
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
 import org.apache.isis.core.config.beans.IsisBeanTypeRegistry;
 import org.apache.isis.core.config.presets.IsisPresets;
 import org.apache.isis.extensions.commandlog.applib.dom.CommandLogEntry;
@@ -474,6 +478,75 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void purge_in_chunks() {
+
+        // given
+        val now = clockService.getClock().nowAsLocalDateTime();
+        val oldestId = bumpAt(now.minusDays(4));
+        val olderId = bumpAt(now.minusDays(3));
+        val oldId = bumpAt(now.minusDays(2));
+        val recentId = bumpAt(now);
+
+        // ... a command pending replay (as on a secondary), older than any of the above
+        val pendingDto = CommandDtoUtils.clone(commandLogEntryRepository.findByInteractionId(oldestId).get().getCommandDto());
+        pendingDto.setInteractionId(UUID.randomUUID().toString());
+        pendingDto.setTimestamp(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(
+                Timestamp.valueOf(now.minusDays(5))));
+        CommandDtoUtils.setUserData(pendingDto, "replayed-by", "purge_in_chunks"); // as required to save for replay
+        val pendingId = commandLogEntryRepository.saveForReplay(pendingDto).getInteractionId();
+
+        // ... and a child command (not itself to be purged in the same chunk) of the oldest
+        commandLogEntryRepository.findByInteractionId(oldId).get()
+            .setParent(commandLogEntryRepository.findByInteractionId(oldestId).get());
+        interactionService.nextInteraction();
+
+        val cutoff = Timestamp.valueOf(now.minusDays(1));
+
+        // when
+        val removedInFirstChunk = commandLogEntryRepository.purgeChunk(cutoff, 2);
+        interactionService.nextInteraction();
+
+        // then removed the two oldest (completed) entries, unlinking the child of the oldest
+        assertThat(removedInFirstChunk).isEqualTo(2);
+        assertThat(commandLogEntryRepository.findByInteractionId(oldestId)).isEmpty();
+        assertThat(commandLogEntryRepository.findByInteractionId(olderId)).isEmpty();
+        assertThat(commandLogEntryRepository.findByInteractionId(oldId)).isPresent();
+        assertThat(commandLogEntryRepository.findByInteractionId(oldId).get().getParent()).isNull();
+
+        // when
+        val removedInSecondChunk = commandLogEntryRepository.purgeChunk(cutoff, 2);
+        interactionService.nextInteraction();
+
+        // then removed the last one before the cutoff
+        assertThat(removedInSecondChunk).isEqualTo(1);
+        assertThat(commandLogEntryRepository.findByInteractionId(oldId)).isEmpty();
+
+        // when
+        val removedInThirdChunk = commandLogEntryRepository.purgeChunk(cutoff, 2);
+        interactionService.nextInteraction();
+
+        // then nothing left to remove; the entry pending replay and the one after the cutoff are retained
+        assertThat(removedInThirdChunk).isEqualTo(0);
+        assertThat(commandLogEntryRepository.findByInteractionId(pendingId)).isPresent();
+        assertThat(commandLogEntryRepository.findByInteractionId(recentId)).isPresent();
+    }
+
+    private UUID bumpAt(final LocalDateTime dateTime) {
+        val counter = counterRepository.findByName("counter-1");
+        final UUID[] interactionIdHolder = new UUID[1];
+        sudoService.run(
+                InteractionContext.switchClock(VirtualClock.nowAt(dateTime)),
+                () -> {
+                    wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter).act();
+                    interactionIdHolder[0] = interactionLayerTracker.currentInteraction().get().getInteractionId();
+                    interactionService.closeInteractionLayers();    // to flush within changed time...
+                }
+        );
+        interactionService.openInteraction();
+        return interactionIdHolder[0];
+    }
+
     @Inject CommandLogEntryRepository<? extends CommandLogEntry> commandLogEntryRepository;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
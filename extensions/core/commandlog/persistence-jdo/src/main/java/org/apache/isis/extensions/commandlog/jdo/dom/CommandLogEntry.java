@@ -51,6 +51,7 @@
 @Indices({
         @Index(name = "CommandLogEntry__startedAt_timestamp__IDX", members = { "startedAt", "timestamp" }),
         @Index(name = "CommandLogEntry__timestamp__IDX", members = { "timestamp" }),
+        @Index(name = "CommandLogEntry__parent__IDX", members = { "parent" }),
 })
 @Queries( {
     @Query(
@@ -125,6 +126,13 @@
             value = "SELECT "
                   + "  FROM " + CommandLogEntry.FQCN + " "
                   + " ORDER BY timestamp DESC"),
+    @Query(
+            name  = Nq.FIND_OLDEST_PURGEABLE,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE completedAt != null "
+                  + "    && (replayState == null || replayState != 'PENDING') "
+                  + " ORDER BY timestamp ASC"), // programmatic RANGE
     @Query(
             name = Nq.FIND_MOST_RECENT,
             value = "SELECT "
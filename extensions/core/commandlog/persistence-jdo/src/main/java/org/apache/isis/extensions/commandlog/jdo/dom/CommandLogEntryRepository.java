@@ -18,13 +18,20 @@
  */
 package org.apache.isis.extensions.commandlog.jdo.dom;
 
+import java.sql.Timestamp;
+
+import javax.inject.Inject;
 import javax.inject.Named;
+import javax.inject.Provider;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.annotation.PriorityPrecedence;
 import org.apache.isis.extensions.commandlog.jdo.IsisModuleExtCommandLogPersistenceJdo;
+import org.apache.isis.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -39,7 +46,31 @@
 
     public static final String LOGICAL_TYPE_NAME = IsisModuleExtCommandLogPersistenceJdo.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject Provider<JdoSupportService> jdoSupportServiceProvider;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
+
+    /**
+     * Removes using a single JDOQL query, as supported by {@link javax.jdo.Query#deletePersistentAll(Object...)},
+     * having unlinked any child commands beforehand.
+     */
+    @Override
+    protected int removeUpTo(final Timestamp upTo) {
+        val persistenceManager = jdoSupportServiceProvider.get().getPersistenceManager();
+        val children = persistenceManager.newQuery(CommandLogEntry.class,
+                "parent != null "
+                + "&& parent.timestamp <= :upTo "
+                + "&& parent.completedAt != null "
+                + "&& (parent.replayState == null || parent.replayState != 'PENDING')");
+        children.setParameters(upTo);
+        children.executeList().forEach(child -> child.setParent(null));
+        persistenceManager.flush();
+        val query = persistenceManager.newQuery(CommandLogEntry.class,
+                "timestamp <= :upTo "
+                + "&& completedAt != null "
+                + "&& (replayState == null || replayState != 'PENDING')");
+        return (int) query.deletePersistentAll(upTo);
+    }
 }
@@ -66,6 +66,7 @@
                 @Index(name = "CommandLogEntry__timestamp__IDX", columnList = "timestamp"),
                 @Index(name = "CommandLogEntry__target__IDX", columnList = "target"),
                 @Index(name = "CommandLogEntry__target_startedAt__IDX", columnList = "target, startedAt"),
+                @Index(name = "CommandLogEntry__parentInteractionId__IDX", columnList = "parentInteractionId"),
         }
 )
 @NamedQueries({
@@ -156,6 +157,13 @@
             query = "SELECT cl "
                   + "  FROM CommandLogEntry cl "
                   + " ORDER BY cl.timestamp DESC"),
+    @NamedQuery(
+            name  = Nq.FIND_OLDEST_PURGEABLE,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.completedAt IS NOT NULL "
+                  + "   AND (cl.replayState IS NULL OR cl.replayState <> org.apache.isis.extensions.commandlog.applib.dom.ReplayState.PENDING) "
+                  + " ORDER BY cl.timestamp ASC"), // programmatic RANGE
     @NamedQuery(
             name = Nq.FIND_MOST_RECENT,
             query = "SELECT cl "
@@ -18,13 +18,21 @@
  */
 package org.apache.isis.extensions.commandlog.jpa.dom;
 
+import java.sql.Timestamp;
+
+import javax.inject.Inject;
 import javax.inject.Named;
+import javax.inject.Provider;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.extensions.commandlog.applib.dom.ReplayState;
 import org.apache.isis.extensions.commandlog.jpa.IsisModuleExtCommandLogPersistenceJpa;
+import org.apache.isis.persistence.jpa.applib.services.JpaSupportService;
+
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -39,8 +47,38 @@
 
     public static final String LOGICAL_TYPE_NAME = IsisModuleExtCommandLogPersistenceJpa.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject Provider<JpaSupportService> jpaSupportServiceProvider;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    /**
+     * Removes using a single JPQL <code>DELETE</code> statement, bypassing the persistence context
+     * (which is flushed beforehand, having unlinked any child commands).
+     */
+    @Override
+    protected int removeUpTo(final Timestamp upTo) {
+        val entityManager = jpaSupportServiceProvider.get().getEntityManagerElseFail(CommandLogEntry.class);
+        entityManager.createQuery(
+                    "SELECT cl FROM CommandLogEntry cl "
+                    + " WHERE cl.parent.timestamp <= :upTo "
+                    + "   AND cl.parent.completedAt IS NOT NULL "
+                    + "   AND (cl.parent.replayState IS NULL OR cl.parent.replayState <> :pending)",
+                    CommandLogEntry.class)
+                .setParameter("upTo", upTo)
+                .setParameter("pending", ReplayState.PENDING)
+                .getResultList()
+                .forEach(child -> child.setParent(null));
+        entityManager.flush();
+        return entityManager.createQuery(
+                    "DELETE FROM CommandLogEntry cl "
+                    + " WHERE cl.timestamp <= :upTo "
+                    + "   AND cl.completedAt IS NOT NULL "
+                    + "   AND (cl.replayState IS NULL OR cl.replayState <> :pending)")
+                .setParameter("upTo", upTo)
+                .setParameter("pending", ReplayState.PENDING)
+                .executeUpdate();
+    }
+
 }
@@ -37,6 +37,7 @@
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.iactn.Execution;
 import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.applib.services.retention.PurgeableLog;
 import org.apache.isis.core.config.environment.IsisSystemEnvironment;
 
 import lombok.Getter;
@@ -46,7 +47,8 @@
  * Provides supporting functionality for querying and persisting
  * {@link ExecutionLogEntry command} entities.
  */
-public abstract class ExecutionLogEntryRepository<E extends ExecutionLogEntry> {
+public abstract class ExecutionLogEntryRepository<E extends ExecutionLogEntry>
+implements PurgeableLog {
 
     public static class NotFoundException extends RecoverableException {
         private static final long serialVersionUID = 1L;
@@ -208,6 +210,45 @@ public List<E> findRecentByTarget(final Bookmark target) {
         );
     }
 
+    // -- RETENTION
+
+    @Override
+    public String getLogName() {
+        return "execution-log";
+    }
+
+    /**
+     * Removes the oldest entries, up to the timestamp of the {@code chunkSize}-th oldest one
+     * or up to the {@code cutoff}, whichever is earlier.
+     */
+    @Override
+    public int purgeChunk(final Timestamp cutoff, final int chunkSize) {
+        val chunkEnd = repositoryService().allMatches(
+                    Query.named(executionLogEntryClass, ExecutionLogEntry.Nq.FIND_OLDEST)
+                            .withRange(chunkSize - 1, 1))
+                .stream()
+                .map(ExecutionLogEntry::getTimestamp)
+                .filter(timestamp -> timestamp.before(cutoff))
+                .findFirst()
+                .orElse(cutoff);
+        return removeUpTo(chunkEnd);
+    }
+
+    /**
+     * Removes all entries with a timestamp up to (and including) given {@code upTo}.
+     *
+     * <p>
+     *     Removes one entry at a time; the JDO and JPA implementations override this to use a bulk delete.
+     * </p>
+     */
+    protected int removeUpTo(final Timestamp upTo) {
+        val entries = repositoryService().allMatches(
+                Query.named(executionLogEntryClass, ExecutionLogEntry.Nq.FIND_BY_TIMESTAMP_BEFORE)
+                        .withParameter("to", upTo));
+        entries.forEach(repositoryService()::remove);
+        return entries.size();
+    }
+
     private void persist(final E commandLogEntry) {
         repositoryService().persist(commandLogEntry);
     }
@@ -119,6 +119,11 @@
             value = "SELECT "
                   + "  FROM " + ExecutionLogEntry.FQCN + " "
                   + " ORDER BY timestamp DESC"),
+    @Query(
+            name  = Nq.FIND_OLDEST,
+            value = "SELECT "
+                  + "  FROM " + ExecutionLogEntry.FQCN + " "
+                  + " ORDER BY timestamp ASC"), // programmatic RANGE
     @Query(
             name = Nq.FIND_MOST_RECENT,
             value = "SELECT "
@@ -18,6 +18,9 @@
  */
 package org.apache.isis.extensions.executionlog.jdo.dom;
 
+import java.sql.Timestamp;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -28,8 +31,10 @@
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.repository.RepositoryService;
 import org.apache.isis.extensions.executionlog.jdo.IsisModuleExtExecutionLogPersistenceJdo;
+import org.apache.isis.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(ExecutionLogEntryRepository.LOGICAL_TYPE_NAME)
@@ -40,10 +45,23 @@
 
     public static final String LOGICAL_TYPE_NAME = IsisModuleExtExecutionLogPersistenceJdo.NAMESPACE + ".ExecutionLogEntryRepository";
 
+    @Inject Provider<JdoSupportService> jdoSupportServiceProvider;
+
     public ExecutionLogEntryRepository() {
         super(ExecutionLogEntry.class);
     }
 
+    /**
+     * Removes using a single JDOQL query, as supported by {@link javax.jdo.Query#deletePersistentAll(Object...)}.
+     */
+    @Override
+    protected int removeUpTo(final Timestamp upTo) {
+        val persistenceManager = jdoSupportServiceProvider.get().getPersistenceManager();
+        persistenceManager.flush();
+        val query = persistenceManager.newQuery(ExecutionLogEntry.class, "timestamp <= :upTo");
+        return (int) query.deletePersistentAll(upTo);
+    }
+
     /**
      * for testing only
      */
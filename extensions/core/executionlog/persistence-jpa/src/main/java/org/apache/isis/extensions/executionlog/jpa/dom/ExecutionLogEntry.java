@@ -128,6 +128,11 @@
             query = "SELECT ele "
                   + "  FROM ExecutionLogEntry ele "
                   + " ORDER BY ele.timestamp DESC"),
+    @NamedQuery(
+            name  = Nq.FIND_OLDEST,
+            query = "SELECT ele "
+                  + "  FROM ExecutionLogEntry ele "
+                  + " ORDER BY ele.timestamp ASC"), // programmatic RANGE
     @NamedQuery(
             name = Nq.FIND_MOST_RECENT,
             query = "SELECT ele "
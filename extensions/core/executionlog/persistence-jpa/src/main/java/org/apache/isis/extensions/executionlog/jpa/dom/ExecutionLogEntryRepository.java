@@ -18,6 +18,9 @@
  */
 package org.apache.isis.extensions.executionlog.jpa.dom;
 
+import java.sql.Timestamp;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -28,8 +31,10 @@
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.repository.RepositoryService;
 import org.apache.isis.extensions.executionlog.jpa.IsisModuleExtExecutionLogPersistenceJpa;
+import org.apache.isis.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(ExecutionLogEntryRepository.LOGICAL_TYPE_NAME)
@@ -40,10 +45,25 @@
 
     public static final String LOGICAL_TYPE_NAME = IsisModuleExtExecutionLogPersistenceJpa.NAMESPACE + ".ExecutionLogEntryRepository";
 
+    @Inject Provider<JpaSupportService> jpaSupportServiceProvider;
+
     public ExecutionLogEntryRepository() {
         super(ExecutionLogEntry.class);
     }
 
+    /**
+     * Removes using a single JPQL <code>DELETE</code> statement, bypassing the persistence context
+     * (which is flushed beforehand).
+     */
+    @Override
+    protected int removeUpTo(final Timestamp upTo) {
+        val entityManager = jpaSupportServiceProvider.get().getEntityManagerElseFail(ExecutionLogEntry.class);
+        entityManager.flush();
+        return entityManager.createQuery("DELETE FROM ExecutionLogEntry ele WHERE ele.timestamp <= :upTo")
+                .setParameter("upTo", upTo)
+                .executeUpdate();
+    }
+
     /**
      * for testing only
      */
@@ -23,6 +23,7 @@
 
 import org.apache.isis.extensions.executionoutbox.applib.app.ExecutionOutboxMenu;
 import org.apache.isis.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
+import org.apache.isis.extensions.executionoutbox.applib.dom.ExecutionOutboxNotifier;
 import org.apache.isis.extensions.executionoutbox.applib.restapi.OutboxRestApi;
 import org.apache.isis.extensions.executionoutbox.applib.spiimpl.ContentMappingServiceForOutboxEvents;
 import org.apache.isis.extensions.executionoutbox.applib.spiimpl.ExecutionSubscriberForExecutionOutbox;
@@ -37,6 +38,7 @@
         ExecutionOutboxMenu.class,
 
         ExecutionSubscriberForExecutionOutbox.class,
+        ExecutionOutboxNotifier.class,
         ExecutionOutboxEntry.TableColumnOrderDefault.class,
         ContentMappingServiceForOutboxEvents.class
 })
@@ -108,6 +108,10 @@ public static abstract class ActionDomainEvent extends IsisModuleExtExecutionOut
     public static class Nq {
         public static final String FIND_BY_INTERACTION_ID_AND_SEQUENCE = LOGICAL_TYPE_NAME + ".findByInteractionIdAndSequence";
         public static final String FIND_OLDEST = LOGICAL_TYPE_NAME + ".findOldest";
+        public static final String FIND_SINCE = LOGICAL_TYPE_NAME + ".findSince";
+        public static final String FIND_CLAIMABLE = LOGICAL_TYPE_NAME + ".findClaimable";
+        public static final String FIND_CLAIMABLE_AFTER = LOGICAL_TYPE_NAME + ".findClaimableAfter";
+        public static final String FIND_CLAIMED = LOGICAL_TYPE_NAME + ".findClaimed";
     }
 
     @UtilityClass
@@ -393,6 +397,83 @@ class DomainEvent extends PropertyDomainEvent<java.sql.Timestamp> {}
 
 
 
+    @Property(
+            domainEvent = LeaseOwner.DomainEvent.class,
+            editing = Editing.DISABLED,
+            optionality = Optionality.OPTIONAL
+    )
+    @Parameter(
+            optionality = Optionality.OPTIONAL
+    )
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface LeaseOwner {
+        class DomainEvent extends PropertyDomainEvent<String> {}
+        int MAX_LENGTH = 120;
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    /**
+     * The consumer (worker or node) that has {@link ExecutionOutboxEntryRepository#claim(String, int, java.time.Duration) claimed}
+     * this entry, if any.
+     */
+    @LeaseOwner
+    public abstract String getLeaseOwner();
+    public abstract void setLeaseOwner(String leaseOwner);
+
+
+
+    @Property(
+            domainEvent = ClaimToken.DomainEvent.class,
+            editing = Editing.DISABLED,
+            optionality = Optionality.OPTIONAL
+    )
+    @Parameter(
+            optionality = Optionality.OPTIONAL
+    )
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface ClaimToken {
+        class DomainEvent extends PropertyDomainEvent<String> {}
+        int MAX_LENGTH = 36;
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    /**
+     * Unique to each {@link ExecutionOutboxEntryRepository#claim(String, int, java.time.Duration) claim}, so that
+     * the entries claimed can be read back unambiguously.
+     */
+    @ClaimToken
+    public abstract String getClaimToken();
+    public abstract void setClaimToken(String claimToken);
+
+
+
+    @Property(
+            domainEvent = LeaseExpiresAt.DomainEvent.class,
+            editing = Editing.DISABLED,
+            optionality = Optionality.OPTIONAL
+    )
+    @Parameter(
+            optionality = Optionality.OPTIONAL
+    )
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface LeaseExpiresAt {
+        class DomainEvent extends PropertyDomainEvent<java.sql.Timestamp> {}
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    /**
+     * Until when the {@link #getLeaseOwner() lease owner} has exclusive claim on this entry;
+     * once expired (eg. because the consumer crashed), the entry can be claimed again.
+     */
+    @LeaseExpiresAt
+    public abstract java.sql.Timestamp getLeaseExpiresAt();
+    public abstract void setLeaseExpiresAt(java.sql.Timestamp leaseExpiresAt);
+
+
+
     @Property(
             domainEvent = Duration.DomainEvent.class,
             editing = Editing.DISABLED
@@ -431,7 +512,10 @@ public int compareTo(final ExecutionOutboxEntry other) {
             .thenToString("target", ExecutionOutboxEntry::getTarget)
             .thenToString("logicalMemberIdentifier", ExecutionOutboxEntry::getLogicalMemberIdentifier)
             .thenToStringOmitIfAbsent("startedAt", ExecutionOutboxEntry::getStartedAt)
-            .thenToStringOmitIfAbsent("completedAt", ExecutionOutboxEntry::getCompletedAt);
+            .thenToStringOmitIfAbsent("completedAt", ExecutionOutboxEntry::getCompletedAt)
+            .thenToStringOmitIfAbsent("leaseOwner", ExecutionOutboxEntry::getLeaseOwner)
+            .thenToStringOmitIfAbsent("claimToken", ExecutionOutboxEntry::getClaimToken)
+            .thenToStringOmitIfAbsent("leaseExpiresAt", ExecutionOutboxEntry::getLeaseExpiresAt);
 
     @Override
     public String toString() {
@@ -19,6 +19,8 @@
 package org.apache.isis.extensions.executionoutbox.applib.dom;
 
 import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,19 +28,26 @@
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.isis.applib.annotation.Programmatic;
 import org.apache.isis.applib.exceptions.RecoverableException;
+import org.apache.isis.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.clock.ClockService;
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.iactn.Execution;
 import org.apache.isis.applib.services.repository.RepositoryService;
 import org.apache.isis.applib.util.schema.InteractionDtoUtils;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.config.environment.IsisSystemEnvironment;
 import org.apache.isis.extensions.executionoutbox.applib.IsisModuleExtExecutionOutboxApplib;
 import org.apache.isis.schema.ixn.v2.InteractionDto;
 
 import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -63,6 +72,8 @@ public NotFoundException(final UUID interactionId) {
     @Inject Provider<RepositoryService> repositoryServiceProvider;
     @Inject FactoryService factoryService;
     @Inject IsisSystemEnvironment isisSystemEnvironment;
+    @Inject ExecutionOutboxNotifier executionOutboxNotifier;
+    @Inject ClockService clockService;
 
     protected ExecutionOutboxEntryRepository(Class<E> executionOutboxEntryClass) {
         this.executionOutboxEntryClass = executionOutboxEntryClass;
@@ -86,6 +97,7 @@ public E createEntryAndPersist(final Execution execution) {
         E e = factoryService.detachedEntity(executionOutboxEntryClass);
         e.init(execution);
         persist(e);
+        executionOutboxNotifier.signalOnCommit();
         return e;
     }
 
@@ -103,6 +115,39 @@ public List<E> findOldest() {
                         .withLimit(100));
     }
 
+    /**
+     * Returns up to {@code limit} entries, in the same order as {@link #findOldest()}, that follow the entry
+     * identified by {@code lastInteractionId} and {@code lastSequence} (the last one a consumer has seen),
+     * allowing consumers to page through the outbox using this key as a cursor.
+     * <p>
+     * Uses keyset paging on (timestamp, interactionId, sequence), so that each page is a single indexed query,
+     * however deep into the outbox.
+     * <p>
+     * If there is no such entry (either because none was provided, or because it has since been deleted),
+     * then returns the oldest entries; consumers that delete what they have processed then naturally continue
+     * where they left off.
+     */
+    public List<E> findSince(
+            final @Nullable UUID lastInteractionId,
+            final int lastSequence,
+            final int limit) {
+
+        final Optional<E> lastIfAny = lastInteractionId != null
+                ? findByInteractionIdAndSequence(lastInteractionId, lastSequence)
+                : Optional.empty();
+        if(!lastIfAny.isPresent()) {
+            return repositoryService().allMatches(
+                    Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST)
+                            .withLimit(limit));
+        }
+        return repositoryService().allMatches(
+                Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_SINCE)
+                        .withParameter("timestamp", lastIfAny.get().getTimestamp())
+                        .withParameter("interactionId", lastInteractionId)
+                        .withParameter("sequence", lastSequence)
+                        .withLimit(limit));
+    }
+
     public ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -160,6 +205,126 @@ public boolean deleteByInteractionIdAndSequence(final UUID interactionId, final
         }
     }
 
+    /**
+     * Deletes the entries with given keys (typically those a consumer has just processed), in bulk.
+     *
+     * @return the number of entries deleted
+     */
+    @Programmatic
+    public int deleteByInteractionIdAndSequence(final @NonNull Can<? extends HasInteractionIdAndSequence> keys) {
+        int deleted = 0;
+        val keyList = keys.toList();
+        for(int from = 0; from < keyList.size(); from += BULK_DELETE_CHUNK_SIZE) {
+            val chunk = keyList.subList(from, Math.min(from + BULK_DELETE_CHUNK_SIZE, keyList.size()));
+            deleted += deleteInBulk(chunk);
+        }
+        return deleted;
+    }
+
+    /**
+     * Maximum number of keys per bulk delete statement.
+     */
+    protected static final int BULK_DELETE_CHUNK_SIZE = 100;
+
+    /**
+     * Deletes the entries with given keys (at most {@link #BULK_DELETE_CHUNK_SIZE}),
+     * ideally using a single statement.
+     * <p>
+     * This default implementation deletes one by one; the JDO and JPA implementations override.
+     */
+    protected int deleteInBulk(final List<? extends HasInteractionIdAndSequence> keys) {
+        int deleted = 0;
+        for (val key : keys) {
+            if(deleteByInteractionIdAndSequence(key.getInteractionId(), key.getSequence())) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Claims up to {@code limit} of the oldest entries that are not currently leased (or whose lease has expired)
+     * on behalf of given {@code leaseOwner}, for given {@code leaseDuration}, and returns them.
+     * <p>
+     * This allows multiple consumers (workers or nodes) to drain the outbox concurrently, without delivering
+     * the same entry twice: the lease is taken using a conditional (compare-and-set) update, so of two consumers
+     * competing for the same entry only one succeeds.
+     * Each claim is stamped with a {@link ExecutionOutboxEntry#getClaimToken() claim token} of its own, by which
+     * the claimed entries are then read back.
+     * A consumer that loses the race for all of its candidates queries again for candidates following those lost
+     * (using keyset paging on (timestamp, interactionId, sequence), the same as {@link #findSince(UUID, int, int)}),
+     * so only gets an empty list if there is (currently) nothing left to claim.
+     * <p>
+     * Consumers are expected to {@link #deleteByInteractionIdAndSequence(Can) delete} what they have processed
+     * before the lease expires; otherwise the entries become claimable again (at-least-once delivery).
+     * <p>
+     * Should be called in its own (short) transaction, so that claims become visible to other consumers promptly.
+     */
+    @Programmatic
+    public List<E> claim(
+            final @NonNull String leaseOwner,
+            final int limit,
+            final @NonNull Duration leaseDuration) {
+
+        val now = clockService.getClock().nowAsJavaSqlTimestamp();
+        val leaseExpiresAt = new Timestamp(now.getTime() + leaseDuration.toMillis());
+        val claimToken = UUID.randomUUID().toString();
+
+        E lastLost = null;
+        while(true) {
+            final List<E> candidates = repositoryService().allMatches(lastLost == null
+                    ? Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_CLAIMABLE)
+                            .withParameter("now", now)
+                            .withLimit(limit)
+                    : Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_CLAIMABLE_AFTER)
+                            .withParameter("now", now)
+                            .withParameter("timestamp", lastLost.getTimestamp())
+                            .withParameter("interactionId", lastLost.getInteractionId())
+                            .withParameter("sequence", lastLost.getSequence())
+                            .withLimit(limit));
+            if(candidates.isEmpty()) {
+                return Collections.emptyList();
+            }
+            if(claimInBulk(candidates, leaseOwner, claimToken, now, leaseExpiresAt) > 0) {
+                return repositoryService().allMatches(
+                        Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_CLAIMED)
+                                .withParameter("claimToken", claimToken));
+            }
+            // lost the race for all candidates to other consumers (whose claims may not yet be visible to us),
+            // so query again for those following; as the key only ever advances, this terminates
+            lastLost = candidates.get(candidates.size() - 1);
+        }
+    }
+
+    /**
+     * Leases those of given {@code candidates} to given {@code leaseOwner}, stamping them with given
+     * {@code claimToken}, that are (still) not leased, or whose lease has expired as of {@code now}.
+     * <p>
+     * Implementations must be atomic with respect to concurrent consumers, eg. using a single conditional
+     * <code>UPDATE</code> statement; the JDO and JPA implementations override accordingly.
+     * This default implementation is not, so is only safe with a single consumer.
+     *
+     * @return the number of entries leased
+     */
+    protected int claimInBulk(
+            final List<E> candidates,
+            final String leaseOwner,
+            final String claimToken,
+            final Timestamp now,
+            final Timestamp leaseExpiresAt) {
+        int claimed = 0;
+        for (val candidate : candidates) {
+            if(candidate.getLeaseExpiresAt() == null
+                    || candidate.getLeaseExpiresAt().before(now)) {
+                candidate.setLeaseOwner(leaseOwner);
+                candidate.setClaimToken(claimToken);
+                candidate.setLeaseExpiresAt(leaseExpiresAt);
+                claimed++;
+            }
+        }
+        return claimed;
+    }
+
     private void persist(final E commandLogEntry) {
         repositoryService().persist(commandLogEntry);
     }
@@ -0,0 +1,114 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.executionoutbox.applib.dom;
+
+import java.time.Duration;
+
+import javax.inject.Named;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.isis.extensions.executionoutbox.applib.IsisModuleExtExecutionOutboxApplib;
+
+import lombok.NonNull;
+
+/**
+ * Signals (within this JVM) whenever new {@link ExecutionOutboxEntry outbox entries} have been committed,
+ * allowing {@link org.apache.isis.extensions.executionoutbox.applib.restapi.OutboxRestApi#pendingSince long-polling}
+ * consumers to return as soon as there is something to fetch, rather than at their next poll.
+ * <p>
+ * Entries committed by other nodes of a cluster are not signalled; long-polls then simply time out,
+ * which is no worse than regular polling.
+ */
+@Service
+@Named(ExecutionOutboxNotifier.LOGICAL_TYPE_NAME)
+public class ExecutionOutboxNotifier {
+
+    public final static String LOGICAL_TYPE_NAME = IsisModuleExtExecutionOutboxApplib.NAMESPACE + ".ExecutionOutboxNotifier";
+
+    private final Object lock = new Object();
+    private long generation = 0L;
+
+    /**
+     * To be read <i>before</i> querying for pending entries, and then passed to {@link #awaitCommitSince(long, Duration)},
+     * so that no commit is missed in between.
+     */
+    public long currentGeneration() {
+        synchronized (lock) {
+            return generation;
+        }
+    }
+
+    /**
+     * Blocks until entries have been committed since given {@code generation}, or the timeout has elapsed.
+     *
+     * <p>
+     *     Callers should not hold a transaction (nor a database connection) while waiting.
+     * </p>
+     *
+     * @return whether entries were committed
+     */
+    public boolean awaitCommitSince(final long generation, final @NonNull Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (lock) {
+            while(this.generation == generation) {
+                final long remainingMillis = (deadline - System.nanoTime()) / 1_000_000L;
+                if(remainingMillis <= 0) {
+                    return false;
+                }
+                lock.wait(remainingMillis);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Signals waiting consumers once the current transaction has committed (or right away, if there is none).
+     */
+    public void signalOnCommit() {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            signal();
+            return;
+        }
+        if(TransactionSynchronizationManager.hasResource(this)) {
+            return; // already registered for the current transaction
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                signal();
+            }
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ExecutionOutboxNotifier.this);
+            }
+        });
+    }
+
+    private void signal() {
+        synchronized (lock) {
+            ++generation;
+            lock.notifyAll();
+        }
+    }
+
+}
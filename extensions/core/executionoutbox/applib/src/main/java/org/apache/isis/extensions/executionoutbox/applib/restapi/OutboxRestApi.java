@@ -18,25 +18,35 @@
  */
 package org.apache.isis.extensions.executionoutbox.applib.restapi;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.springframework.transaction.annotation.Propagation;
+
 import org.apache.isis.applib.annotation.Action;
 import org.apache.isis.applib.annotation.DomainService;
 import org.apache.isis.applib.annotation.NatureOfService;
+import org.apache.isis.applib.annotation.Optionality;
+import org.apache.isis.applib.annotation.Parameter;
 import org.apache.isis.applib.annotation.Publishing;
 import org.apache.isis.applib.annotation.SemanticsOf;
+import org.apache.isis.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.isis.applib.services.factory.FactoryService;
+import org.apache.isis.applib.services.xactn.TransactionService;
 import org.apache.isis.applib.util.schema.InteractionsDtoUtils;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.extensions.executionoutbox.applib.IsisModuleExtExecutionOutboxApplib;
 import org.apache.isis.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.isis.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
+import org.apache.isis.extensions.executionoutbox.applib.dom.ExecutionOutboxNotifier;
 import org.apache.isis.extensions.executionoutbox.applib.spiimpl.ContentMappingServiceForOutboxEvents;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.val;
 
 @Named(OutboxRestApi.LOGICAL_TYPE_NAME)
@@ -70,6 +80,111 @@ public OutboxEvents pending() {
         return outboxEvents;
     }
 
+    /**
+     * Cursor based alternative to {@link #pending()}: returns up to {@code limit} entries that follow the one
+     * identified by {@code lastInteractionId} and {@code lastSequence} (the last one the consumer has seen).
+     * If omitted (or no longer present), the oldest entries are returned.
+     *
+     * <p>
+     *     If there are no such entries and {@code waitSeconds} is positive, then waits (long-polls) until new
+     *     entries have been committed, or the wait has elapsed, whichever comes first.
+     *     Whether there are any such entries is checked in a (short) transaction of its own, and the wait is
+     *     with the action's transaction suspended; the entries are only queried once woken.
+     * </p>
+     *
+     * @see ExecutionOutboxEntryRepository#findSince(UUID, int, int)
+     */
+    @Action(
+            semantics = SemanticsOf.SAFE,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public OutboxEvents pendingSince(
+            @Parameter(optionality = Optionality.OPTIONAL) final String lastInteractionId,
+            @Parameter(optionality = Optionality.OPTIONAL) final Integer lastSequence,
+            @Parameter(optionality = Optionality.OPTIONAL) final Integer limit,
+            @Parameter(optionality = Optionality.OPTIONAL) final Integer waitSeconds) {
+
+        final UUID lastId = lastInteractionId != null ? UUID.fromString(lastInteractionId) : null;
+        final int lastSeq = lastSequence != null ? lastSequence : 0;
+        final int pageSize = limit != null ? Math.max(1, Math.min(limit, MAX_LIMIT)) : DEFAULT_LIMIT;
+        final int wait = waitSeconds != null ? Math.max(0, Math.min(waitSeconds, MAX_WAIT_SECONDS)) : 0;
+
+        val outboxEvents = factoryService.viewModel(new OutboxEvents());
+
+        // read before checking, so that no commit is missed
+        val generation = executionOutboxNotifier.currentGeneration();
+        if(wait > 0
+                && !hasPendingSince(lastId, lastSeq)
+                && !awaitCommitSince(generation, wait)) {
+            return outboxEvents;
+        }
+
+        outboxEvents.getExecutions().addAll(entryRepository.findSince(lastId, lastSeq, pageSize));
+        return outboxEvents;
+    }
+
+    /**
+     * Checks in a transaction of its own, such that the action's transaction is not yet involved when waiting.
+     */
+    private boolean hasPendingSince(final UUID lastInteractionId, final int lastSequence) {
+        return transactionService.callTransactional(Propagation.REQUIRES_NEW,
+                    ()->!entryRepository.findSince(lastInteractionId, lastSequence, 1).isEmpty())
+                .ifFailureFail()
+                .getValue()
+                .orElse(false);
+    }
+
+    /**
+     * Waits with the action's transaction suspended.
+     */
+    private boolean awaitCommitSince(final long generation, final int waitSeconds) {
+        return transactionService.callTransactional(Propagation.NOT_SUPPORTED, ()->{
+                    try {
+                        return executionOutboxNotifier.awaitCommitSince(generation, Duration.ofSeconds(waitSeconds));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                })
+                .ifFailureFail()
+                .getValue()
+                .orElse(false);
+    }
+
+    /**
+     * For multiple concurrent consumers: claims (leases) up to {@code limit} pending entries for given
+     * {@code leaseOwner} (identifying the consumer), for {@code leaseSeconds}, and returns them.
+     * Entries claimed by one consumer are not returned to any other, unless the lease expires before
+     * they have been {@link #deleteMany(String) deleted}.
+     *
+     * @see ExecutionOutboxEntryRepository#claim(String, int, Duration)
+     */
+    @Action(
+            semantics = SemanticsOf.NON_IDEMPOTENT,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public OutboxEvents claim(
+            final String leaseOwner,
+            @Parameter(optionality = Optionality.OPTIONAL) final Integer limit,
+            @Parameter(optionality = Optionality.OPTIONAL) final Integer leaseSeconds) {
+
+        final int pageSize = limit != null ? Math.max(1, Math.min(limit, MAX_LIMIT)) : DEFAULT_LIMIT;
+        final int lease = leaseSeconds != null ? Math.max(1, leaseSeconds) : DEFAULT_LEASE_SECONDS;
+
+        val entries = entryRepository.claim(leaseOwner, pageSize, Duration.ofSeconds(lease));
+
+        val outboxEvents = factoryService.viewModel(new OutboxEvents());
+        outboxEvents.getExecutions().addAll(entries);
+        return outboxEvents;
+    }
+
+    static final int DEFAULT_LEASE_SECONDS = 60;
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 1000;
+    static final int MAX_WAIT_SECONDS = 60;
+
     @Action(
             semantics = SemanticsOf.IDEMPOTENT,
             executionPublishing = Publishing.DISABLED,
@@ -86,14 +201,21 @@ public void delete(final String interactionId, final int sequence) {
     )
     public void deleteMany(final String interactionsDtoXml) {
         val interactionsDto = InteractionsDtoUtils.fromXml(interactionsDtoXml);
-        interactionsDto.getInteractionDto().
-                forEach(interactionType -> {
-                    val interactionId = interactionType.getInteractionId();
-                    val sequence = interactionType.getExecution().getSequence();
-                    entryRepository.deleteByInteractionIdAndSequence(UUID.fromString(interactionId), sequence);
-                });
+        val keys = Can.ofCollection(interactionsDto.getInteractionDto())
+                .map(interactionDto -> new EntryKey(
+                        UUID.fromString(interactionDto.getInteractionId()),
+                        interactionDto.getExecution().getSequence()));
+        entryRepository.deleteByInteractionIdAndSequence(keys);
+    }
+
+    @Value
+    static class EntryKey implements HasInteractionIdAndSequence {
+        UUID interactionId;
+        int sequence;
     }
 
     @Inject FactoryService factoryService;
+    @Inject ExecutionOutboxNotifier executionOutboxNotifier;
+    @Inject TransactionService transactionService;
 
 }
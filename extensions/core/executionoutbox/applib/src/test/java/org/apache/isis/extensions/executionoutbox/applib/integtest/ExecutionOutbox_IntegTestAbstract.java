@@ -18,9 +18,16 @@
  */
 package org.apache.isis.extensions.executionoutbox.applib.integtest;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -30,6 +37,8 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.springframework.transaction.annotation.Propagation;
+
 import org.apache.isis.applib.mixins.system.DomainChangeRecord;
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.bookmark.BookmarkService;
@@ -40,6 +49,8 @@
 import org.apache.isis.applib.services.sudo.SudoService;
 import org.apache.isis.applib.services.user.UserMemento;
 import org.apache.isis.applib.services.wrapper.WrapperFactory;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.config.presets.IsisPresets;
 import org.apache.isis.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.isis.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
@@ -284,7 +295,180 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void page_using_cursor_then_bulk_delete() {
+
+        // given
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter2).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        List<? extends ExecutionOutboxEntry> all = executionOutboxEntryRepository.findOldest();
+        assertThat(all).hasSize(2);
+
+        // when
+        List<? extends ExecutionOutboxEntry> firstPage = executionOutboxEntryRepository.findSince(null, 0, 1);
+
+        // then
+        assertThat(firstPage).hasSize(1);
+        val first = firstPage.get(0);
+        assertThat(first).isSameAs(all.get(0));
+
+        // when
+        List<? extends ExecutionOutboxEntry> secondPage = executionOutboxEntryRepository.findSince(first.getInteractionId(), first.getSequence(), 10);
+
+        // then
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0)).isSameAs(all.get(1));
+
+        // when
+        val deleted = executionOutboxEntryRepository.deleteByInteractionIdAndSequence(Can.ofCollection(all));
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(executionOutboxEntryRepository.findOldest()).isEmpty();
+    }
+
+    @Test
+    void concurrent_consumers_claim_disjoint_entries() throws Exception {
+
+        // given
+        final int numEntries = 12;
+        for (int i = 0; i < numEntries; i++) {
+            wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, i % 2 == 0 ? counter1 : counter2).act();
+            interactionService.closeInteractionLayers();    // to flush
+            interactionService.openInteraction();
+        }
+        assertThat(executionOutboxEntryRepository.findOldest()).hasSize(numEntries);
+
+        // when
+        final int numWorkers = 4;
+        val executor = Executors.newFixedThreadPool(numWorkers);
+        val startGate = new CountDownLatch(1);
+        final List<Future<List<String>>> futures = new ArrayList<>();
+        for (int w = 0; w < numWorkers; w++) {
+            final String leaseOwner = "worker-" + w;
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                final List<String> claimedKeys = new ArrayList<>();
+                while (true) {
+                    final List<String> batch = interactionService.callAnonymous(() ->
+                            transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                                executionOutboxEntryRepository.claim(leaseOwner, 2, Duration.ofMinutes(1))
+                                        .stream()
+                                        .map(entry -> entry.getInteractionId() + "_" + entry.getSequence())
+                                        .collect(Collectors.toList()))
+                            .ifFailureFail()
+                            .getValue().orElseThrow());
+                    if (batch.isEmpty()) {
+                        return claimedKeys;
+                    }
+                    claimedKeys.addAll(batch);
+                }
+            }));
+        }
+        startGate.countDown();
+        final List<String> allClaimedKeys = new ArrayList<>();
+        for (val future : futures) {
+            allClaimedKeys.addAll(future.get(1, TimeUnit.MINUTES));
+        }
+        executor.shutdown();
+
+        // then each entry was claimed exactly once
+        assertThat(allClaimedKeys).hasSize(numEntries);
+        assertThat(allClaimedKeys).doesNotHaveDuplicates();
+
+        // and nothing is claimable until the leases expire
+        interactionService.closeInteractionLayers();
+        interactionService.openInteraction();
+        assertThat(executionOutboxEntryRepository.claim("worker-late", numEntries, Duration.ofMinutes(1))).isEmpty();
+    }
+
+    @Test
+    void successive_claims_by_same_owner_return_only_their_own_entries() throws Exception {
+
+        // given
+        final int numEntries = 4;
+        for (int i = 0; i < numEntries; i++) {
+            wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, i % 2 == 0 ? counter1 : counter2).act();
+            interactionService.closeInteractionLayers();    // to flush
+            interactionService.openInteraction();
+        }
+
+        // when
+        val firstClaim = executionOutboxEntryRepository.claim("worker", 2, Duration.ofMinutes(1));
+        val secondClaim = executionOutboxEntryRepository.claim("worker", 2, Duration.ofMinutes(1));
+
+        // then
+        assertThat(firstClaim).hasSize(2);
+        assertThat(secondClaim).hasSize(2);
+        assertThat(firstClaim.get(0).getClaimToken()).isNotEqualTo(secondClaim.get(0).getClaimToken());
+        assertThat(secondClaim).doesNotContainAnyElementsOf(firstClaim);
+    }
+
+    @Test
+    void claim_leases_entries_in_the_datastore() {
+
+        // given
+        final int numEntries = 3;
+        for (int i = 0; i < numEntries; i++) {
+            wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+            interactionService.closeInteractionLayers();    // to flush
+            interactionService.openInteraction();
+        }
+
+        // when (using the conditional bulk update of the JDO or JPA implementation)
+        val claimed = executionOutboxEntryRepository.claim("worker", numEntries, Duration.ofMinutes(1));
+        interactionService.closeInteractionLayers();    // to commit
+        interactionService.openInteraction();
+
+        // then the lease is read back from the datastore
+        assertThat(claimed).hasSize(numEntries);
+        val reread = executionOutboxEntryRepository.findOldest();
+        assertThat(reread).hasSize(numEntries);
+        assertThat(reread).allSatisfy(entry -> {
+            assertThat(entry.getLeaseOwner()).isEqualTo("worker");
+            assertThat(entry.getClaimToken()).isEqualTo(claimed.get(0).getClaimToken());
+            assertThat(entry.getLeaseExpiresAt()).isNotNull();
+        });
+        assertThat(executionOutboxEntryRepository.claim("worker-2", numEntries, Duration.ofMinutes(1))).isEmpty();
+    }
+
+    @Test
+    void claim_skips_entries_lost_to_another_consumer_without_skipping_those_still_claimable() {
+
+        // given
+        final int numEntries = 4;
+        for (int i = 0; i < numEntries; i++) {
+            wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+            interactionService.closeInteractionLayers();    // to flush
+            interactionService.openInteraction();
+        }
+
+        // when another consumer has claimed (and committed) the two oldest entries
+        val otherClaim = executionOutboxEntryRepository.claim("worker-1", 2, Duration.ofMinutes(1));
+        interactionService.closeInteractionLayers();
+        interactionService.openInteraction();
+
+        // then the remaining entries are claimed, page by page, till none are left
+        val firstClaim = executionOutboxEntryRepository.claim("worker-2", 1, Duration.ofMinutes(1));
+        val secondClaim = executionOutboxEntryRepository.claim("worker-2", 1, Duration.ofMinutes(1));
+        val thirdClaim = executionOutboxEntryRepository.claim("worker-2", 1, Duration.ofMinutes(1));
+
+        assertThat(otherClaim).hasSize(2);
+        assertThat(firstClaim).hasSize(1);
+        assertThat(secondClaim).hasSize(1);
+        assertThat(thirdClaim).isEmpty();
+        assertThat(List.of(firstClaim.get(0), secondClaim.get(0))).doesNotContainAnyElementsOf(otherClaim);
+    }
+
     @Inject ExecutionOutboxEntryRepository<? extends ExecutionOutboxEntry> executionOutboxEntryRepository;
+    @Inject TransactionService transactionService;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
     @Inject InteractionService interactionService;
@@ -53,6 +53,8 @@
         @Index(name = "ExecutionOutboxEntry__timestamp__IDX", members = { "timestamp" }),
         @Index(name = "ExecutionOutboxEntry__target__timestamp__IDX", members = { "target", "timestamp" }),
         @Index(name = "ExecutionOutboxEntry__username__timestamp__IDX", members = { "username", "timestamp" }),
+        @Index(name = "ExecutionOutboxEntry__leaseExpiresAt__timestamp__IDX", members = { "leaseExpiresAt", "timestamp" }),
+        @Index(name = "ExecutionOutboxEntry__claimToken__IDX", members = { "claimToken" }),
 })
 @Queries( {
     @Query(
@@ -67,6 +69,36 @@
                   + "  FROM " + ExecutionOutboxEntry.FQCN + " "
                   + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"
                     + " RANGE 0,100"),
+    @Query(
+            name = Nq.FIND_SINCE,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE timestamp > :timestamp "
+                  + "    || (timestamp == :timestamp && interactionId > :interactionId) "
+                  + "    || (timestamp == :timestamp && interactionId == :interactionId && sequence < :sequence) "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"),  // programmatic range
+    @Query(
+            name = Nq.FIND_CLAIMABLE,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE leaseExpiresAt == null "
+                  + "    || leaseExpiresAt < :now "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"),  // programmatic range
+    @Query(
+            name = Nq.FIND_CLAIMABLE_AFTER,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE (leaseExpiresAt == null || leaseExpiresAt < :now) "
+                  + "    && (timestamp > :timestamp "
+                  + "        || (timestamp == :timestamp && interactionId > :interactionId) "
+                  + "        || (timestamp == :timestamp && interactionId == :interactionId && sequence < :sequence)) "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"),  // programmatic range
+    @Query(
+            name = Nq.FIND_CLAIMED,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE claimToken == :claimToken "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"),
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
@@ -77,7 +109,7 @@
 public class ExecutionOutboxEntry extends org.apache.isis.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry {
 
 
-    public static final String FQCN = "org.apache.isis.extensions.executionlog.jdo.dom.ExecutionLogEntry";
+    public static final String FQCN = "org.apache.isis.extensions.executionoutbox.jdo.dom.ExecutionOutboxEntry";
     @PrimaryKey
     @InteractionId
     @Column(allowsNull = InteractionId.ALLOWS_NULL, length=InteractionId.MAX_LENGTH)
@@ -148,5 +180,24 @@ public void setLogicalMemberIdentifier(final String logicalMemberIdentifier) {
     private java.sql.Timestamp completedAt;
 
 
+    @Column(allowsNull = LeaseOwner.ALLOWS_NULL, length = LeaseOwner.MAX_LENGTH)
+    @LeaseOwner
+    @Getter @Setter
+    private String leaseOwner;
+
+
+    @Column(allowsNull = ClaimToken.ALLOWS_NULL, length = ClaimToken.MAX_LENGTH)
+    @ClaimToken
+    @Getter @Setter
+    private String claimToken;
+
+
+    @Persistent
+    @Column(allowsNull = LeaseExpiresAt.ALLOWS_NULL)
+    @LeaseExpiresAt
+    @Getter @Setter
+    private java.sql.Timestamp leaseExpiresAt;
+
+
 
 }
@@ -18,6 +18,13 @@
  */
 package org.apache.isis.extensions.executionoutbox.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -25,10 +32,13 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(org.apache.isis.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository.LOGICAL_TYPE_NAME)
@@ -37,6 +47,8 @@
 public class ExecutionOutboxEntryRepository
 extends org.apache.isis.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository<ExecutionOutboxEntry> {
 
+    @Inject Provider<JdoSupportService> jdoSupportServiceProvider;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
@@ -57,4 +69,68 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    /**
+     * Deletes using a single JDOQL query, as supported by {@link javax.jdo.Query#deletePersistentAll(java.util.Map)}.
+     */
+    @Override
+    protected int deleteInBulk(final List<? extends HasInteractionIdAndSequence> keys) {
+        if(keys.isEmpty()) {
+            return 0;
+        }
+        val filter = IntStream.range(0, keys.size())
+                .mapToObj(i->String.format("(interactionId == :interactionId%d && sequence == :sequence%d)", i, i))
+                .collect(Collectors.joining(" || "));
+
+        val parameters = new HashMap<String, Object>();
+        for(int i = 0; i < keys.size(); i++) {
+            parameters.put("interactionId" + i, keys.get(i).getInteractionId());
+            parameters.put("sequence" + i, keys.get(i).getSequence());
+        }
+        val persistenceManager = jdoSupportServiceProvider.get().getPersistenceManager();
+        val query = persistenceManager.newQuery(ExecutionOutboxEntry.class, filter);
+        return (int) query.deletePersistentAll(parameters);
+    }
+
+    /**
+     * Leases using a single conditional JDOQL bulk <code>UPDATE</code> (as supported by DataNucleus, if enabled
+     * using the <code>datanucleus.query.jdoql.allowAll</code> query extension),
+     * so is atomic with respect to concurrent consumers; the candidates are then evicted, so that the claimed
+     * entries are re-read from the datastore.
+     */
+    @Override
+    protected int claimInBulk(
+            final List<ExecutionOutboxEntry> candidates,
+            final String leaseOwner,
+            final String claimToken,
+            final Timestamp now,
+            final Timestamp leaseExpiresAt) {
+
+        val keys = IntStream.range(0, candidates.size())
+                .mapToObj(i->String.format("(this.interactionId == :interactionId%d && this.sequence == :sequence%d)", i, i))
+                .collect(Collectors.joining(" || "));
+
+        val parameters = new HashMap<String, Object>();
+        parameters.put("leaseOwner", leaseOwner);
+        parameters.put("claimToken", claimToken);
+        parameters.put("leaseExpiresAt", leaseExpiresAt);
+        parameters.put("now", now);
+        for(int i = 0; i < candidates.size(); i++) {
+            parameters.put("interactionId" + i, candidates.get(i).getInteractionId());
+            parameters.put("sequence" + i, candidates.get(i).getSequence());
+        }
+
+        val persistenceManager = jdoSupportServiceProvider.get().getPersistenceManager();
+        persistenceManager.flush();
+        val query = persistenceManager.newQuery("javax.jdo.query.JDOQL",
+                "UPDATE " + ExecutionOutboxEntry.class.getName()
+                + " SET this.leaseOwner = :leaseOwner, this.claimToken = :claimToken, this.leaseExpiresAt = :leaseExpiresAt"
+                + " WHERE (this.leaseExpiresAt == null || this.leaseExpiresAt < :now)"
+                + " && (" + keys + ")");
+        // DataNucleus only accepts JDOQL UPDATE statements when explicitly allowed
+        query.addExtension("datanucleus.query.jdoql.allowAll", "true");
+        val claimed = ((Number) query.executeWithMap(parameters)).intValue();
+        persistenceManager.evictAll(candidates);
+        return claimed;
+    }
+
 }
@@ -34,6 +34,7 @@
 import javax.persistence.Lob;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
@@ -62,6 +63,8 @@
                 @Index(name = "ExecutionOutboxEntry__timestamp__IDX", columnList = "timestamp"),
                 @Index(name = "ExecutionOutboxEntry__target__timestamp__IDX", columnList = "target, timestamp"),
                 @Index(name = "ExecutionOutboxEntry__username__timestamp__IDX", columnList = "username, timestamp"),
+                @Index(name = "ExecutionOutboxEntry__leaseExpiresAt__timestamp__IDX", columnList = "leaseExpiresAt, timestamp"),
+                @Index(name = "ExecutionOutboxEntry__claimToken__IDX", columnList = "claimToken"),
         }
 )
 @NamedQueries( {
@@ -76,6 +79,40 @@
             query = "SELECT ele "
                   + "  FROM ExecutionOutboxEntry ele "
                   + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),  // programmatic range 0,100
+    @NamedQuery(
+            name = Nq.FIND_SINCE,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.timestamp > :timestamp "
+                  + "    OR (ele.timestamp = :timestamp AND ele.pk.interactionId > :interactionId) "
+                  + "    OR (ele.timestamp = :timestamp AND ele.pk.interactionId = :interactionId AND ele.pk.sequence < :sequence) "
+                  + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),  // programmatic range
+    @NamedQuery(
+            name = Nq.FIND_CLAIMABLE,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.leaseExpiresAt IS NULL "
+                  + "    OR ele.leaseExpiresAt < :now "
+                  + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),  // programmatic range
+    @NamedQuery(
+            name = Nq.FIND_CLAIMABLE_AFTER,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE (ele.leaseExpiresAt IS NULL OR ele.leaseExpiresAt < :now) "
+                  + "   AND (ele.timestamp > :timestamp "
+                  + "        OR (ele.timestamp = :timestamp AND ele.pk.interactionId > :interactionId) "
+                  + "        OR (ele.timestamp = :timestamp AND ele.pk.interactionId = :interactionId AND ele.pk.sequence < :sequence)) "
+                  + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),  // programmatic range
+    @NamedQuery(
+            name = Nq.FIND_CLAIMED,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.claimToken = :claimToken "
+                  + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC",
+            hints = {
+                // the lease is claimed using a bulk update, bypassing the persistence context
+                @QueryHint(name = "eclipselink.refresh", value = "true")
+            }),
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
@@ -170,5 +207,23 @@ public void setLogicalMemberIdentifier(final String logicalMemberIdentifier) {
     private java.sql.Timestamp completedAt;
 
 
+    @Column(nullable = LeaseOwner.NULLABLE, length = LeaseOwner.MAX_LENGTH)
+    @LeaseOwner
+    @Getter @Setter
+    private String leaseOwner;
+
+
+    @Column(nullable = ClaimToken.NULLABLE, length = ClaimToken.MAX_LENGTH)
+    @ClaimToken
+    @Getter @Setter
+    private String claimToken;
+
+
+    @Column(nullable = LeaseExpiresAt.NULLABLE)
+    @LeaseExpiresAt
+    @Getter @Setter
+    private java.sql.Timestamp leaseExpiresAt;
+
+
 
 }
@@ -18,6 +18,12 @@
  */
 package org.apache.isis.extensions.executionoutbox.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -25,10 +31,13 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(org.apache.isis.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository.LOGICAL_TYPE_NAME)
@@ -37,6 +46,8 @@
 public class ExecutionOutboxEntryRepository
 extends org.apache.isis.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository<ExecutionOutboxEntry> {
 
+    @Inject Provider<JpaSupportService> jpaSupportServiceProvider;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
@@ -57,4 +68,62 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    /**
+     * Deletes using a single JPQL <code>DELETE</code> statement, bypassing the persistence context
+     * (which is flushed beforehand).
+     */
+    @Override
+    protected int deleteInBulk(final List<? extends HasInteractionIdAndSequence> keys) {
+        if(keys.isEmpty()) {
+            return 0;
+        }
+        val where = IntStream.range(0, keys.size())
+                .mapToObj(i->String.format("(ele.pk.interactionId = :interactionId%d AND ele.pk.sequence = :sequence%d)", i, i))
+                .collect(Collectors.joining(" OR "));
+
+        val entityManager = jpaSupportServiceProvider.get().getEntityManagerElseFail(ExecutionOutboxEntry.class);
+        entityManager.flush();
+        val query = entityManager.createQuery("DELETE FROM ExecutionOutboxEntry ele WHERE " + where);
+        for(int i = 0; i < keys.size(); i++) {
+            query.setParameter("interactionId" + i, keys.get(i).getInteractionId());
+            query.setParameter("sequence" + i, keys.get(i).getSequence());
+        }
+        return query.executeUpdate();
+    }
+
+    /**
+     * Leases using a single conditional JPQL <code>UPDATE</code> statement (so is atomic with respect to
+     * concurrent consumers), bypassing the persistence context; the claimed entries are then re-read
+     * with a query that refreshes them.
+     */
+    @Override
+    protected int claimInBulk(
+            final List<ExecutionOutboxEntry> candidates,
+            final String leaseOwner,
+            final String claimToken,
+            final Timestamp now,
+            final Timestamp leaseExpiresAt) {
+
+        val keys = IntStream.range(0, candidates.size())
+                .mapToObj(i->String.format("(ele.pk.interactionId = :interactionId%d AND ele.pk.sequence = :sequence%d)", i, i))
+                .collect(Collectors.joining(" OR "));
+
+        val entityManager = jpaSupportServiceProvider.get().getEntityManagerElseFail(ExecutionOutboxEntry.class);
+        entityManager.flush();
+        val query = entityManager.createQuery(
+                "UPDATE ExecutionOutboxEntry ele "
+                + " SET ele.leaseOwner = :leaseOwner, ele.claimToken = :claimToken, ele.leaseExpiresAt = :leaseExpiresAt "
+                + " WHERE (ele.leaseExpiresAt IS NULL OR ele.leaseExpiresAt < :now) "
+                + "   AND (" + keys + ")");
+        query.setParameter("leaseOwner", leaseOwner);
+        query.setParameter("claimToken", claimToken);
+        query.setParameter("leaseExpiresAt", leaseExpiresAt);
+        query.setParameter("now", now);
+        for(int i = 0; i < candidates.size(); i++) {
+            query.setParameter("interactionId" + i, candidates.get(i).getInteractionId());
+            query.setParameter("sequence" + i, candidates.get(i).getSequence());
+        }
+        return query.executeUpdate();
+    }
+
 }
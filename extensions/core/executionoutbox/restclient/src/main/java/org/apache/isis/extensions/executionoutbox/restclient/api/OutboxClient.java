@@ -20,6 +20,7 @@
 
 package org.apache.isis.extensions.executionoutbox.restclient.api;
 
+import java.net.URI;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -31,6 +32,7 @@
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.UriBuilder;
 
+import org.apache.isis.extensions.executionoutbox.restclient.api.claim.ClaimMessage;
 import org.apache.isis.extensions.executionoutbox.restclient.api.delete.DeleteMessage;
 import org.apache.isis.extensions.executionoutbox.restclient.api.deleteMany.DeleteManyMessage;
 import org.apache.isis.schema.common.v2.InteractionType;
@@ -85,6 +87,8 @@ public OutboxClient withReadTimeoutInSecs(int readTimeoutInSecs) {
     }
 
     private UriBuilder pendingUriBuilder;
+    private UriBuilder pendingSinceUriBuilder;
+    private UriBuilder claimUriBuilder;
     private UriBuilder deleteUriBuilder;
     private UriBuilder deleteManyUriBuilder;
 
@@ -98,6 +102,8 @@ public OutboxClient withReadTimeoutInSecs(int readTimeoutInSecs) {
      */
     public void init() {
         this.pendingUriBuilder = UriBuilder.fromUri(base + "services/isis.ext.executionOutbox.OutboxRestApi/actions/pending/invoke");
+        this.pendingSinceUriBuilder = UriBuilder.fromUri(base + "services/isis.ext.executionOutbox.OutboxRestApi/actions/pendingSince/invoke");
+        this.claimUriBuilder = UriBuilder.fromUri(base + "services/isis.ext.executionOutbox.OutboxRestApi/actions/claim/invoke");
         this.deleteUriBuilder = UriBuilder.fromUri(base + "services/isis.ext.executionOutbox.OutboxRestApi/actions/delete/invoke");
         this.deleteManyUriBuilder = UriBuilder.fromUri(base + "services/isis.ext.executionOutbox.OutboxRestApi/actions/deleteMany/invoke");
     }
@@ -113,7 +119,38 @@ public List<InteractionDto> pending() {
 
         ensureInitialized();
 
-        val uri = pendingUriBuilder.build();
+        return get(pendingUriBuilder.build());
+    }
+
+    /**
+     * Returns up to {@code limit} pending executions following the given one (the last one seen),
+     * or the oldest, if {@code lastInteractionDto} is <code>null</code>.
+     *
+     * <p>
+     *     If there are none and {@code waitSeconds} is positive, then the server holds the request (long-polls)
+     *     until new executions have been committed or the wait has elapsed, whichever comes first. The client's
+     *     read timeout (see {@link #withReadTimeoutInSecs(int)}) should therefore exceed this wait.
+     * </p>
+     */
+    public List<InteractionDto> pendingSince(
+            final InteractionDto lastInteractionDto,
+            final int limit,
+            final int waitSeconds) {
+
+        ensureInitialized();
+
+        val uriBuilder = pendingSinceUriBuilder.clone()
+                .queryParam("limit", limit)
+                .queryParam("waitSeconds", waitSeconds);
+        if(lastInteractionDto != null) {
+            uriBuilder
+                .queryParam("lastInteractionId", lastInteractionDto.getInteractionId())
+                .queryParam("lastSequence", lastInteractionDto.getExecution().getSequence());
+        }
+        return get(uriBuilder.build());
+    }
+
+    private List<InteractionDto> get(final URI uri) {
 
         Client client = null;
         try {
@@ -145,6 +182,47 @@ public List<InteractionDto> pending() {
         return Collections.emptyList();
     }
 
+    /**
+     * For multiple concurrent consumers: claims (leases) up to {@code limit} pending executions for given
+     * {@code leaseOwner} (identifying this consumer), for {@code leaseSeconds}.
+     * These should be {@link #deleteMany(List) deleted} once processed, before the lease expires.
+     */
+    public List<InteractionDto> claim(
+            final String leaseOwner,
+            final int limit,
+            final int leaseSeconds) {
+
+        ensureInitialized();
+
+        val jsonable = new ClaimMessage(leaseOwner, limit, leaseSeconds);
+        val uri = claimUriBuilder.build();
+
+        Client client = null;
+        try {
+            client = clientBuilder.build();
+
+            val invocation = client.target(uri).request()
+                    .header("Authorization", "Basic " + encode(username, password))
+                    .accept(mediaTypeFor(InteractionsDto.class))
+                    .buildPost(Entity.entity(jsonable.asJson(), MediaType.APPLICATION_JSON_TYPE));
+            val response = invocation.invoke();
+
+            val responseStatus = response.getStatus();
+            if (responseStatus != 200) {
+                log.warn(jsonable.toString());
+            }
+
+            final InteractionsDto interactionsDto = response.readEntity(InteractionsDto.class);
+            return interactionsDto.getInteractionDto();
+
+        } catch(Exception ex) {
+            log.error(String.format("Failed to POST to %s", uri.toString()), ex);
+        } finally {
+            closeQuietly(client);
+        }
+        return Collections.emptyList();
+    }
+
     private static MediaType mediaTypeFor(final Class<?> dtoClass) {
 
         val headers = new HashMap<String,String>();
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.isis.extensions.executionoutbox.restclient.api.claim;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import org.apache.isis.extensions.executionoutbox.restclient.api.Jsonable;
+import org.apache.isis.extensions.executionoutbox.restclient.api.delete.IntValue;
+import org.apache.isis.extensions.executionoutbox.restclient.api.delete.StringValue;
+
+import lombok.Getter;
+
+public class ClaimMessage implements Jsonable {
+
+    private static final ObjectWriter writer;
+
+    static {
+        final ObjectMapper mapper = new ObjectMapper();
+        writer = mapper.writer().withDefaultPrettyPrinter();
+    }
+
+    @Getter
+    private final StringValue leaseOwner;
+    @Getter
+    private final IntValue limit;
+    @Getter
+    private final IntValue leaseSeconds;
+
+    public ClaimMessage(final String leaseOwner, final int limit, final int leaseSeconds) {
+        this.leaseOwner = new StringValue(leaseOwner);
+        this.limit = new IntValue(limit);
+        this.leaseSeconds = new IntValue(leaseSeconds);
+    }
+
+    public String asJson() {
+        try {
+            return writer.writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[CLAIM MESSAGE] \n" +
+                "leaseOwner  : " + leaseOwner + "\n" +
+                "limit       : " + limit + "\n" +
+                "leaseSeconds: " + leaseSeconds + "\n";
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.metrics.micrometer.spiimpl;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.interactions.InteractionConsentCache;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.runtime.async.AsyncExecutorService;
+import org.apache.isis.core.runtime.publishing.AsyncPublishingPipeline;
+import org.apache.isis.core.runtime.metrics.MetricsRecorder;
+import org.apache.isis.extensions.metrics.micrometer.IsisModuleExtMetricsMicrometer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Records to the application's {@link MeterRegistry}, or if there is none,
+ * to Micrometer's {@link Metrics#globalRegistry global registry},
+ * which does not retain any measurements, unless registries are added to it.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(IsisModuleExtMetricsMicrometer.NAMESPACE + ".MetricsRecorderMicrometer")
+@Priority(PriorityPrecedence.EARLY)
+@Qualifier("Micrometer")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class MetricsRecorderMicrometer implements MetricsRecorder {
+
+    public static final String ACTION_INVOCATION = "isis.action.invocation";
+    public static final String PROPERTY_EDIT = "isis.property.edit";
+    public static final String ENTITIES_LOADED = "isis.interaction.entities.loaded";
+    public static final String ENTITIES_DIRTIED = "isis.interaction.entities.dirtied";
+    public static final String ENTITY_CHANGES_PUBLISHING = "isis.entitychanges.publishing";
+    public static final String TRANSACTION_COMPLETION = "isis.transaction.completion";
+    public static final String SPECIFICATIONS = "isis.specloader.specifications";
+    public static final String MEMOIZED_CONSENTS = "isis.interaction.consents.memoized";
+    public static final String ASYNC_QUEUE_DEPTH = "isis.wrapper.async.queue.depth";
+    public static final String ASYNC_ACTIVE = "isis.wrapper.async.active";
+    public static final String ASYNC_REJECTED = "isis.wrapper.async.rejected";
+    public static final String ASYNC_PUBLISHING_QUEUE_DEPTH = "isis.publishing.async.queue.depth";
+    public static final String ASYNC_PUBLISHING_NOTIFICATIONS = "isis.publishing.async.notifications";
+    public static final String ASYNC_PUBLISHING_BLOCKED = "isis.publishing.async.blocked";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final IsisConfiguration configuration;
+    private final SpecificationLoader specificationLoader;
+    private final AsyncExecutorService asyncExecutorService;
+    private final AsyncPublishingPipeline asyncPublishingPipeline;
+
+    private MeterRegistry meterRegistry;
+
+    /** per member, the timers for successful [0] and failed [1] executions */
+    private final Map<Identifier, Timer[]> timersByMemberId = _Maps.newConcurrentHashMap();
+
+    private DistributionSummary entitiesLoaded;
+    private DistributionSummary entitiesDirtied;
+    private Timer entityChangesPublishing;
+    private Timer transactionsCommitted;
+    private Timer transactionsRolledBack;
+
+    @PostConstruct
+    public void init() {
+        meterRegistry = meterRegistryProvider.getIfAvailable(()->Metrics.globalRegistry);
+        val registry = meterRegistry;
+        log.info("recording metrics to {}", registry.getClass().getSimpleName());
+
+        entitiesLoaded = DistributionSummary.builder(ENTITIES_LOADED)
+                .description("Number of entities loaded, per interaction (transaction)")
+                .baseUnit("entities")
+                .register(registry);
+        entitiesDirtied = DistributionSummary.builder(ENTITIES_DIRTIED)
+                .description("Number of entities created, updated or deleted, per interaction (transaction)")
+                .baseUnit("entities")
+                .register(registry);
+        entityChangesPublishing = Timer.builder(ENTITY_CHANGES_PUBLISHING)
+                .description("Time spent publishing entity (property) changes")
+                .register(registry);
+        transactionsCommitted = transactionTimer("committed");
+        transactionsRolledBack = transactionTimer("rolledback");
+
+        Gauge.builder(SPECIFICATIONS, specificationLoader, specLoader->specLoader.snapshotSpecifications().size())
+                .description("Number of object specifications held by the specification loader's cache")
+                .register(registry);
+
+        FunctionCounter.builder(MEMOIZED_CONSENTS, this, __->InteractionConsentCache.getTotalHitCount())
+                .description("Number of hide/disable consents looked up in the per interaction memoization")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(MEMOIZED_CONSENTS, this, __->InteractionConsentCache.getTotalMissCount())
+                .description("Number of hide/disable consents looked up in the per interaction memoization")
+                .tag("result", "miss")
+                .register(registry);
+
+        Gauge.builder(ASYNC_QUEUE_DEPTH, asyncExecutorService, AsyncExecutorService::getQueueDepth)
+                .description("Number of async (wrapped) executions waiting for a thread")
+                .register(registry);
+        Gauge.builder(ASYNC_ACTIVE, asyncExecutorService, AsyncExecutorService::getActiveCount)
+                .description("Number of threads actively running async (wrapped) executions")
+                .register(registry);
+        FunctionCounter.builder(ASYNC_REJECTED, asyncExecutorService, AsyncExecutorService::getRejectedCount)
+                .description("Number of async (wrapped) executions rejected, because the pool was exhausted")
+                .register(registry);
+
+        Gauge.builder(ASYNC_PUBLISHING_QUEUE_DEPTH, asyncPublishingPipeline, AsyncPublishingPipeline::getQueueDepth)
+                .description("Number of committed interactions waiting to notify async subscribers")
+                .register(registry);
+        FunctionCounter.builder(ASYNC_PUBLISHING_NOTIFICATIONS, asyncPublishingPipeline, AsyncPublishingPipeline::getNotifiedCount)
+                .description("Number of async subscriber notifications processed")
+                .tag("result", "success")
+                .register(registry);
+        FunctionCounter.builder(ASYNC_PUBLISHING_NOTIFICATIONS, asyncPublishingPipeline, AsyncPublishingPipeline::getFailedCount)
+                .description("Number of async subscriber notifications processed")
+                .tag("result", "failure")
+                .register(registry);
+        FunctionCounter.builder(ASYNC_PUBLISHING_BLOCKED, asyncPublishingPipeline, AsyncPublishingPipeline::getBlockedCount)
+                .description("Number of committed interactions, for which the committing thread had to wait, because the queue was full")
+                .register(registry);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordActionInvocation(
+            final @NonNull Identifier actionId,
+            final long durationNanos,
+            final boolean failed) {
+        memberTimer(ACTION_INVOCATION, actionId, failed).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPropertyEdit(
+            final @NonNull Identifier propertyId,
+            final long durationNanos,
+            final boolean failed) {
+        memberTimer(PROPERTY_EDIT, propertyId, failed).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordEntitiesLoadedAndDirtied(final int numberEntitiesLoaded, final int numberEntitiesDirtied) {
+        entitiesLoaded.record(numberEntitiesLoaded);
+        entitiesDirtied.record(numberEntitiesDirtied);
+    }
+
+    @Override
+    public void recordEntityChangesPublishing(final long durationNanos) {
+        entityChangesPublishing.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordTransactionCompletion(final long durationNanos, final boolean committed) {
+        (committed
+                ? transactionsCommitted
+                : transactionsRolledBack)
+        .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // -- HELPER
+
+    private Timer memberTimer(final String name, final Identifier memberId, final boolean failed) {
+        val timers = timersByMemberId.computeIfAbsent(memberId, __->new Timer[] {
+                newMemberTimer(name, memberId, "success"),
+                newMemberTimer(name, memberId, "failure")});
+        return timers[failed ? 1 : 0];
+    }
+
+    private Timer newMemberTimer(final String name, final Identifier memberId, final String outcome) {
+        return Timer.builder(name)
+                .tag("logicalTypeName", memberId.getLogicalTypeName())
+                .tag("member", memberId.getMemberLogicalName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(
+                        configuration.getExtensions().getMetrics().isPublishPercentileHistograms())
+                .register(meterRegistry);
+    }
+
+    private Timer transactionTimer(final String outcome) {
+        return Timer.builder(TRANSACTION_COMPLETION)
+                .description("Time spent committing or rolling back transactions")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.metrics.micrometer.spiimpl;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.id.LogicalType;
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.runtime.async.AsyncExecutorService;
+import org.apache.isis.core.runtime.publishing.AsyncPublishingPipeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+
+class MetricsRecorderMicrometerTest {
+
+    static class Customer {}
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsRecorderMicrometer metricsRecorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        val beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        metricsRecorder = new MetricsRecorderMicrometer(
+                beanFactory.getBeanProvider(MeterRegistry.class),
+                MetaModelContext_forTesting.buildDefault().getConfiguration(),
+                mock(SpecificationLoader.class),
+                mock(AsyncExecutorService.class),
+                mock(AsyncPublishingPipeline.class));
+        metricsRecorder.init();
+    }
+
+    @Test
+    void shouldRecordActionInvocations_perMemberAndOutcome() {
+        val placeOrder = Identifier.actionIdentifier(LogicalType.eager(Customer.class, "demo.Customer"), "placeOrder");
+
+        metricsRecorder.recordActionInvocation(placeOrder, TimeUnit.MILLISECONDS.toNanos(3), false);
+        metricsRecorder.recordActionInvocation(placeOrder, TimeUnit.MILLISECONDS.toNanos(5), false);
+        metricsRecorder.recordActionInvocation(placeOrder, TimeUnit.MILLISECONDS.toNanos(7), true);
+
+        val succeeded = meterRegistry.get(MetricsRecorderMicrometer.ACTION_INVOCATION)
+                .tag("logicalTypeName", "demo.Customer")
+                .tag("member", "placeOrder")
+                .tag("outcome", "success")
+                .timer();
+        assertEquals(2, succeeded.count());
+        assertEquals(8., succeeded.totalTime(TimeUnit.MILLISECONDS), 1e-6);
+
+        val failed = meterRegistry.get(MetricsRecorderMicrometer.ACTION_INVOCATION)
+                .tag("outcome", "failure")
+                .timer();
+        assertEquals(1, failed.count());
+    }
+
+    @Test
+    void shouldRecordEntitiesLoadedAndDirtied() {
+        metricsRecorder.recordEntitiesLoadedAndDirtied(10, 2);
+        metricsRecorder.recordEntitiesLoadedAndDirtied(20, 0);
+
+        val loaded = meterRegistry.get(MetricsRecorderMicrometer.ENTITIES_LOADED).summary();
+        assertEquals(2, loaded.count());
+        assertEquals(30., loaded.totalAmount(), 1e-6);
+        assertEquals(2., meterRegistry.get(MetricsRecorderMicrometer.ENTITIES_DIRTIED).summary().totalAmount(), 1e-6);
+    }
+
+    @Test
+    void shouldRecordTransactionCompletion_perOutcome() {
+        metricsRecorder.recordTransactionCompletion(1_000, true);
+        metricsRecorder.recordTransactionCompletion(1_000, true);
+        metricsRecorder.recordTransactionCompletion(1_000, false);
+
+        assertEquals(2, meterRegistry.get(MetricsRecorderMicrometer.TRANSACTION_COMPLETION)
+                .tag("outcome", "committed").timer().count());
+        assertEquals(1, meterRegistry.get(MetricsRecorderMicrometer.TRANSACTION_COMPLETION)
+                .tag("outcome", "rolledback").timer().count());
+    }
+
+}
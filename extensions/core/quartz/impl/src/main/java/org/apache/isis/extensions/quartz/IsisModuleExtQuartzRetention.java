@@ -0,0 +1,119 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.quartz;
+
+import javax.inject.Inject;
+
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleTrigger;
+import org.quartz.Trigger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.quartz.JobDetailFactoryBean;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+import org.springframework.scheduling.quartz.SimpleTriggerFactoryBean;
+import org.springframework.scheduling.quartz.SpringBeanJobFactory;
+
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.extensions.quartz.retention.LogRetentionJob;
+import org.apache.isis.extensions.quartz.retention.LogRetentionService;
+import org.apache.isis.extensions.quartz.spring.AutowiringSpringBeanJobFactory;
+
+import lombok.val;
+
+/**
+ * Schedules the {@link LogRetentionJob}, which purges the command, execution, audit trail and session logs
+ * (whichever are in use) of any entries older than configured.
+ *
+ * @since 2.0 {@index}
+ */
+@Configuration
+@Import({
+        // @Configuration's
+        IsisModuleExtQuartzImpl.class,
+
+        // @Service's
+        LogRetentionService.class,
+
+})
+public class IsisModuleExtQuartzRetention {
+
+    public static final String NAMESPACE = "isis.ext.quartz";
+
+    @Inject ApplicationContext applicationContext;
+    @Inject IsisConfiguration isisConfiguration;
+
+    @Bean(name = "LogRetentionJob")
+    public JobDetailFactoryBean logRetentionJobDetailFactory() {
+        val jobDetailFactory = new JobDetailFactoryBean();
+        jobDetailFactory.setJobClass(LogRetentionJob.class);
+        jobDetailFactory.setDescription("Purge log entries older than their retention period");
+        jobDetailFactory.setDurability(true);
+        return jobDetailFactory;
+    }
+
+    @Bean(name = "LogRetentionTrigger")
+    public SimpleTriggerFactoryBean logRetentionTriggerFactory(@Qualifier("LogRetentionJob") final JobDetail job) {
+        val triggerFactory = new SimpleTriggerFactoryBean();
+        triggerFactory.setJobDetail(job);
+        val config = isisConfiguration.getExtensions().getQuartz().getRetentionJob();
+        triggerFactory.setRepeatInterval(config.getRepeatInterval());
+        triggerFactory.setStartDelay(config.getStartDelay());
+        triggerFactory.setRepeatCount(SimpleTrigger.REPEAT_INDEFINITELY);
+        return triggerFactory;
+    }
+
+    @Bean(name = "LogRetentionSbjf")
+    public SpringBeanJobFactory springBeanJobFactory() {
+        val jobFactory = new AutowiringSpringBeanJobFactory();
+        jobFactory.setApplicationContext(applicationContext);
+        return jobFactory;
+    }
+
+    @Bean(name = "LogRetentionSfb")
+    public SchedulerFactoryBean scheduler(
+            @Qualifier("LogRetentionTrigger") final Trigger trigger,
+            @Qualifier("LogRetentionJob") final JobDetail jobDetail,
+            @Qualifier("LogRetentionSbjf") final SpringBeanJobFactory sbjf) {
+        val schedulerFactory = new SchedulerFactoryBean();
+
+        schedulerFactory.setJobFactory(sbjf);
+        schedulerFactory.setJobDetails(jobDetail);
+        schedulerFactory.setTriggers(trigger);
+
+        return schedulerFactory;
+    }
+
+    @Bean(name = "LogRetentionScheduler")
+    public Scheduler scheduler(
+            @Qualifier("LogRetentionTrigger") final Trigger trigger,
+            @Qualifier("LogRetentionJob") final JobDetail job,
+            @Qualifier("LogRetentionSfb") final SchedulerFactoryBean factory)
+            throws SchedulerException {
+        val scheduler = factory.getScheduler();
+        scheduler.start();
+        return scheduler;
+    }
+
+}
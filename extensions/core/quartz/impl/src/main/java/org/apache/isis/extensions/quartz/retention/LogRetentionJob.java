@@ -0,0 +1,46 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.quartz.retention;
+
+import javax.inject.Inject;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+
+import org.apache.isis.applib.services.iactnlayer.InteractionService;
+
+/**
+ * Quartz job that calls {@link LogRetentionService#purgeAll()}, as scheduled by
+ * {@link org.apache.isis.extensions.quartz.IsisModuleExtQuartzRetention}.
+ *
+ * @since 2.0 {@index}
+ */
+@DisallowConcurrentExecution
+public class LogRetentionJob implements Job {
+
+    @Inject InteractionService interactionService;
+    @Inject LogRetentionService logRetentionService;
+
+    @Override
+    public void execute(final JobExecutionContext quartzContext) {
+        interactionService.runAnonymous(logRetentionService::purgeAll);
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.quartz.retention;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.clock.ClockService;
+import org.apache.isis.applib.services.retention.PurgeableLog;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.extensions.quartz.IsisModuleExtQuartzRetention;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Purges the entries of each {@link PurgeableLog} (command, execution, audit trail and session logs,
+ * whichever are in use) that are older than the retention period configured for that log,
+ * oldest first, one chunk per transaction.
+ *
+ * <p>
+ *     Typically called by the {@link LogRetentionJob}, but may also be called directly.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(IsisModuleExtQuartzRetention.NAMESPACE + ".LogRetentionService")
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Log4j2
+public class LogRetentionService {
+
+    private final IsisConfiguration.Extensions.Quartz.RetentionJob config;
+    private final List<PurgeableLog> purgeableLogs;
+    private final TransactionService transactionService;
+    private final ClockService clockService;
+
+    @Inject
+    public LogRetentionService(
+            final IsisConfiguration isisConfiguration,
+            final List<PurgeableLog> purgeableLogs,
+            final TransactionService transactionService,
+            final ClockService clockService) {
+        this.config = isisConfiguration.getExtensions().getQuartz().getRetentionJob();
+        this.purgeableLogs = purgeableLogs;
+        this.transactionService = transactionService;
+        this.clockService = clockService;
+    }
+
+    /**
+     * Purges each log, for which a retention period has been configured.
+     */
+    public Can<PurgeResult> purgeAll() {
+        val now = clockService.getClock().nowAsJavaSqlTimestamp().toInstant();
+        val retain = config.getRetain();
+        return Can.ofStream(purgeableLogs.stream()
+                .filter(purgeableLog -> retain.containsKey(purgeableLog.getLogName()))
+                .map(purgeableLog -> purge(
+                        purgeableLog,
+                        Timestamp.from(now.minus(retain.get(purgeableLog.getLogName()))))));
+    }
+
+    /**
+     * Purges the entries of given {@code purgeableLog} up to (and including) given {@code cutoff},
+     * each chunk within its own transaction.
+     */
+    public PurgeResult purge(
+            final @NonNull PurgeableLog purgeableLog,
+            final @NonNull Timestamp cutoff) {
+
+        val chunkSize = config.getChunkSize();
+        val startedAt = System.nanoTime();
+
+        long removed = 0;
+        int removedInChunk;
+        do {
+            removedInChunk = transactionService.callTransactional(Propagation.REQUIRES_NEW,
+                        () -> purgeableLog.purgeChunk(cutoff, chunkSize))
+                    .ifFailureFail()
+                    .getValue().orElse(0);
+            removed += removedInChunk;
+        } while(removedInChunk >= chunkSize);
+
+        val result = new PurgeResult(
+                purgeableLog.getLogName(), cutoff, removed, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("purged {} entries up to {} from {} in {}ms ({} rows/s)",
+                result.getRemoved(), cutoff, result.getLogName(),
+                result.getElapsed().toMillis(), Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    @Value
+    public static class PurgeResult {
+        String logName;
+        Timestamp cutoff;
+        long removed;
+        Duration elapsed;
+
+        public double getRowsPerSecond() {
+            val seconds = elapsed.toNanos() / 1_000_000_000d;
+            return seconds > 0
+                    ? removed / seconds
+                    : 0d;
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.quartz.retention;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.isis.applib.services.clock.ClockService;
+import org.apache.isis.applib.services.retention.PurgeableLog;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.functional.Try;
+import org.apache.isis.core.config.IsisConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import lombok.val;
+
+class LogRetentionService_Test {
+
+    static final int CHUNK_SIZE = 10;
+
+    PurgeableLog mockPurgeableLog;
+    TransactionService mockTransactionService;
+
+    LogRetentionService logRetentionService;
+
+    final Timestamp cutoff = Timestamp.valueOf("2022-01-01 00:00:00");
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        mockPurgeableLog = Mockito.mock(PurgeableLog.class);
+        when(mockPurgeableLog.getLogName()).thenReturn("command-log");
+
+        mockTransactionService = Mockito.mock(TransactionService.class);
+        when(mockTransactionService.callTransactional(any(Propagation.class), any(Callable.class)))
+            .thenAnswer(invocation -> Try.call(invocation.<Callable<?>>getArgument(1)));
+
+        val isisConfiguration = new IsisConfiguration(null);
+        isisConfiguration.getExtensions().getQuartz().getRetentionJob().setChunkSize(CHUNK_SIZE);
+
+        logRetentionService = new LogRetentionService(
+                isisConfiguration, List.of(mockPurgeableLog), mockTransactionService, Mockito.mock(ClockService.class));
+    }
+
+    @Test
+    void keeps_purging_while_chunks_are_full() {
+
+        // given
+        when(mockPurgeableLog.purgeChunk(cutoff, CHUNK_SIZE)).thenReturn(CHUNK_SIZE, CHUNK_SIZE + 2, 3);
+
+        // when
+        val result = logRetentionService.purge(mockPurgeableLog, cutoff);
+
+        // then
+        verify(mockPurgeableLog, times(3)).purgeChunk(cutoff, CHUNK_SIZE);
+        verify(mockTransactionService, times(3)).callTransactional(eq(Propagation.REQUIRES_NEW), any());
+        assertThat(result.getRemoved()).isEqualTo(CHUNK_SIZE + CHUNK_SIZE + 2 + 3);
+        assertThat(result.getLogName()).isEqualTo("command-log");
+        assertThat(result.getCutoff()).isEqualTo(cutoff);
+    }
+
+    @Test
+    void stops_once_nothing_removed() {
+
+        // given
+        when(mockPurgeableLog.purgeChunk(cutoff, CHUNK_SIZE)).thenReturn(CHUNK_SIZE, 0);
+
+        // when
+        val result = logRetentionService.purge(mockPurgeableLog, cutoff);
+
+        // then
+        verify(mockPurgeableLog, times(2)).purgeChunk(cutoff, CHUNK_SIZE);
+        assertThat(result.getRemoved()).isEqualTo(CHUNK_SIZE);
+    }
+
+    @Test
+    void stops_after_first_chunk_if_not_full() {
+
+        // given
+        when(mockPurgeableLog.purgeChunk(cutoff, CHUNK_SIZE)).thenReturn(CHUNK_SIZE - 1);
+
+        // when
+        val result = logRetentionService.purge(mockPurgeableLog, cutoff);
+
+        // then
+        verify(mockPurgeableLog, times(1)).purgeChunk(cutoff, CHUNK_SIZE);
+        assertThat(result.getRemoved()).isEqualTo(CHUNK_SIZE - 1);
+    }
+
+    @Test
+    void fails_if_chunk_fails() {
+
+        // given
+        when(mockPurgeableLog.purgeChunk(cutoff, CHUNK_SIZE))
+            .thenReturn(CHUNK_SIZE)
+            .thenThrow(new IllegalStateException("deadlock"));
+
+        // when, then
+        assertThatThrownBy(() -> logRetentionService.purge(mockPurgeableLog, cutoff))
+            .isInstanceOf(IllegalStateException.class);
+        verify(mockPurgeableLog, times(2)).purgeChunk(cutoff, CHUNK_SIZE);
+    }
+
+}
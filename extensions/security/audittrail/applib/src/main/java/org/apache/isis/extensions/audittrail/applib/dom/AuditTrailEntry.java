@@ -83,6 +83,7 @@ public static class Nq {
         public static final String FIND_BY_TIMESTAMP_BEFORE = "findByTimestampBefore";
         public static final String FIND = "find";
         public static final String FIND_MOST_RECENT = LOGICAL_TYPE_NAME + ".findMostRecent";
+        public static final String FIND_OLDEST = LOGICAL_TYPE_NAME + ".findOldest";
     }
 
     // -- UI & DOMAIN EVENTS
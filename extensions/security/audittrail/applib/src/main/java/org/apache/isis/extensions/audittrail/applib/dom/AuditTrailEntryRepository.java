@@ -25,6 +25,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -33,6 +34,9 @@
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.applib.services.retention.PurgeableLog;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.config.environment.IsisSystemEnvironment;
 
 import lombok.AccessLevel;
@@ -43,13 +47,15 @@
  * Provides supporting functionality for querying {@link AuditTrailEntry audit trail entry} entities.
  */
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
-public abstract class AuditTrailEntryRepository<E extends AuditTrailEntry> {
+public abstract class AuditTrailEntryRepository<E extends AuditTrailEntry>
+implements PurgeableLog {
 
 
     private final Class<E> auditTrailEntryClass;
 
     @Inject RepositoryService repositoryService;
     @Inject FactoryService factoryService;
+    @Inject TransactionService transactionService;
     @Inject IsisSystemEnvironment isisSystemEnvironment;
 
     public Class<E> getEntityClass() {
@@ -62,6 +68,23 @@ public AuditTrailEntry createFor(final EntityPropertyChange change) {
         return repositoryService.persistAndFlush(entry);
     }
 
+    /**
+     * Creates an entry for each of the given {@code changes}, flushing only once all have been persisted,
+     * so that the ORM is able to write these using JDBC batching (if supported by the id generation strategy
+     * and enabled for the persistence stack).
+     */
+    public List<E> createForAll(final Can<EntityPropertyChange> changes) {
+        val entries = changes.stream()
+                .map(change->{
+                    E entry = factoryService.detachedEntity(auditTrailEntryClass);
+                    entry.init(change);
+                    return repositoryService.persist(entry);
+                })
+                .collect(Collectors.toList());
+        transactionService.flushTransaction();
+        return entries;
+    }
+
     public Optional<E> findFirstByTarget(final Bookmark target) {
         return repositoryService.firstMatch(
                 Query.named(auditTrailEntryClass, AuditTrailEntry.Nq.FIND_FIRST_BY_TARGET)
@@ -158,6 +181,45 @@ public List<E> findByFromAndTo(
         return repositoryService.allMatches(query);
     }
 
+    // -- RETENTION
+
+    @Override
+    public String getLogName() {
+        return "audit-trail";
+    }
+
+    /**
+     * Removes the oldest entries, up to the timestamp of the {@code chunkSize}-th oldest one
+     * or up to the {@code cutoff}, whichever is earlier.
+     */
+    @Override
+    public int purgeChunk(final Timestamp cutoff, final int chunkSize) {
+        val chunkEnd = repositoryService.allMatches(
+                    Query.named(auditTrailEntryClass, AuditTrailEntry.Nq.FIND_OLDEST)
+                            .withRange(chunkSize - 1, 1))
+                .stream()
+                .map(AuditTrailEntry::getTimestamp)
+                .filter(timestamp -> timestamp.before(cutoff))
+                .findFirst()
+                .orElse(cutoff);
+        return removeUpTo(chunkEnd);
+    }
+
+    /**
+     * Removes all entries with a timestamp up to (and including) given {@code upTo}.
+     *
+     * <p>
+     *     Removes one entry at a time; the JDO and JPA implementations override this to use a bulk delete.
+     * </p>
+     */
+    protected int removeUpTo(final Timestamp upTo) {
+        val entries = repositoryService.allMatches(
+                Query.named(auditTrailEntryClass, AuditTrailEntry.Nq.FIND_BY_TIMESTAMP_BEFORE)
+                        .withParameter("to", upTo));
+        entries.forEach(repositoryService::remove);
+        return entries.size();
+    }
+
     private static Timestamp toTimestampStartOfDayWithOffset(final LocalDate dt, final int daysOffset) {
         return dt!=null
                 ? Timestamp.valueOf(dt.atStartOfDay().plusDays(daysOffset))
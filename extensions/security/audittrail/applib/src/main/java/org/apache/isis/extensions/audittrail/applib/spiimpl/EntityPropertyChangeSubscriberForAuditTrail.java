@@ -31,6 +31,7 @@
 import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.isis.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
 import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.extensions.audittrail.applib.IsisModuleExtAuditTrailApplib;
 import org.apache.isis.extensions.audittrail.applib.dom.AuditTrailEntry;
 import org.apache.isis.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
@@ -59,7 +60,11 @@ public class EntityPropertyChangeSubscriberForAuditTrail implements EntityProper
     @Override
     public void onChanging(EntityPropertyChange entityPropertyChange) {
         auditTrailEntryRepository.createFor(entityPropertyChange);
+    }
 
+    @Override
+    public void onChangingAll(final Can<EntityPropertyChange> entityPropertyChanges) {
+        auditTrailEntryRepository.createForAll(entityPropertyChanges);
     }
 
     @Override
@@ -0,0 +1,129 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.audittrail.applib.dom;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.factory.FactoryService;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
+
+import lombok.val;
+
+class AuditTrailEntryRepository_createForAll_Test {
+
+    static class AuditTrailEntryRepositoryForTesting extends AuditTrailEntryRepository<AuditTrailEntry> {
+        AuditTrailEntryRepositoryForTesting() {
+            super(AuditTrailEntry.class);
+        }
+    }
+
+    private AuditTrailEntryRepositoryForTesting repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new AuditTrailEntryRepositoryForTesting();
+        repository.repositoryService = mock(RepositoryService.class);
+        repository.factoryService = mock(FactoryService.class);
+        repository.transactionService = mock(TransactionService.class);
+
+        when(repository.factoryService.detachedEntity(AuditTrailEntry.class))
+            .thenAnswer(inv->mock(AuditTrailEntry.class));
+        when(repository.repositoryService.persist(any()))
+            .thenAnswer(inv->inv.getArgument(0));
+    }
+
+    @Test
+    void persists_an_entry_per_change_then_flushes_once() {
+
+        // given
+        val changes = IntStream.range(0, 5)
+                .mapToObj(AuditTrailEntryRepository_createForAll_Test::propertyChange)
+                .collect(Can.toCan());
+
+        // when
+        val entries = repository.createForAll(changes);
+
+        // then
+        assertThat(entries).hasSize(5);
+        for(int i = 0; i < 5; i++) {
+            verify(entries.get(i)).init(changes.getElseFail(i));
+        }
+
+        final InOrder inOrder = Mockito.inOrder(repository.repositoryService, repository.transactionService);
+        inOrder.verify(repository.repositoryService, times(5)).persist(any());
+        inOrder.verify(repository.transactionService).flushTransaction();
+        inOrder.verifyNoMoreInteractions();
+        verify(repository.repositoryService, never()).persistAndFlush(any());
+    }
+
+    @Test
+    void preserves_order_of_changes() {
+
+        // given
+        val changes = IntStream.range(0, 3)
+                .mapToObj(AuditTrailEntryRepository_createForAll_Test::propertyChange)
+                .collect(Can.toCan());
+
+        // when
+        val entries = repository.createForAll(changes);
+
+        // then
+        val persisted = Mockito.mockingDetails(repository.repositoryService).getInvocations().stream()
+                .filter(invocation->invocation.getMethod().getName().equals("persist"))
+                .map(invocation->invocation.getArgument(0))
+                .collect(Collectors.toList());
+        assertThat(persisted).containsExactlyElementsOf(entries);
+    }
+
+    // -- HELPER
+
+    private static EntityPropertyChange propertyChange(final int sequence) {
+        return EntityPropertyChange.of(
+                UUID.randomUUID(),
+                sequence,
+                Bookmark.forLogicalTypeNameAndIdentifier("audittrail.test.Counter", "" + sequence),
+                "audittrail.test.Counter#num",
+                "num",
+                "" + sequence,
+                "" + (sequence + 1),
+                "sven",
+                new Timestamp(System.currentTimeMillis()));
+    }
+
+}
@@ -18,7 +18,10 @@
  */
 package org.apache.isis.extensions.audittrail.applib.integtests;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.inject.Inject;
 
@@ -29,9 +32,11 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.apache.isis.applib.mixins.system.DomainChangeRecord;
+import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.bookmark.BookmarkService;
 import org.apache.isis.applib.services.iactnlayer.InteractionService;
 import org.apache.isis.applib.services.wrapper.WrapperFactory;
+import org.apache.isis.applib.services.xactn.TransactionService;
 import org.apache.isis.core.config.presets.IsisPresets;
 import org.apache.isis.extensions.audittrail.applib.dom.AuditTrailEntry;
 import org.apache.isis.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
@@ -97,6 +102,29 @@ void created() {
                 .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isNull());
     }
 
+    @Test
+    void created_many_within_single_transaction() {
+
+        // when
+        for(int i = 0; i < 100; i++) {
+            counterRepository.persist(newCounter("counter-" + i));
+        }
+        interactionService.nextInteraction();
+
+        // then
+        val entries = auditTrailEntryRepository.findAll();
+        assertThat(entries).hasSize(3 * 100);
+        assertThat(entries.stream().map(AuditTrailEntry::getInteractionId).distinct()).hasSize(1);
+        assertThat(entries.stream().map(AuditTrailEntry::getTarget).distinct()).hasSize(100);
+        assertThat(entries.stream()
+                .filter(e -> "name".equals(e.getPropertyId()))
+                .map(AuditTrailEntry::getPostValue))
+            .containsExactlyInAnyOrderElementsOf(
+                    IntStream.range(0, 100)
+                        .mapToObj(i -> "counter-" + i)
+                        .collect(Collectors.toList()));
+    }
+
     @Test
     void updated_using_mixin() {
 
@@ -154,6 +182,182 @@ void updated_using_mixin() {
 
     }
 
+    @Test
+    void updated_several_times_within_single_transaction() {
+
+        // given
+        var counter1 = counterRepository.persist(newCounter("counter-1"));
+        counter1.setNum(1L);
+        counter1.setNum2(2L);
+        val target1 = bookmarkService.bookmarkFor(counter1).orElseThrow();
+        interactionService.nextInteraction();
+
+        auditTrailEntryRepository.removeAll();
+        interactionService.nextInteraction();
+
+        // when
+        counter1 = bookmarkService.lookup(target1, Counter.class).orElseThrow();
+        counter1.setNum(2L);
+        counter1.setNum(3L);
+        transactionService.flushTransaction(); // modified again after having been flushed
+        counter1.setNum2(5L);
+        counter1.setNum(4L);
+        interactionService.nextInteraction();
+
+        // then
+        val entries = auditTrailEntryRepository.findAll();
+        val propertyIds = entries.stream().map(AuditTrailEntry::getPropertyId).collect(Collectors.toList());
+        assertThat(propertyIds).containsExactlyInAnyOrder("num", "num2");
+
+        val entriesById = entries.stream().collect(Collectors.toMap(AuditTrailEntry::getPropertyId, x -> x));
+        assertThat(entriesById.get("num"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isEqualTo("1"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("4"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getTarget).isEqualTo(target1));
+        assertThat(entriesById.get("num2"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isEqualTo("2"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("5"));
+    }
+
+    @Test
+    void many_updated_twice_within_single_transaction() {
+
+        // given (when spilling, enough to partition the spilled changes into more files than are written at once)
+        final int numCounters = 100;
+        final List<Bookmark> targets = new ArrayList<>();
+        for (int i = 0; i < numCounters; i++) {
+            val counter = counterRepository.persist(newCounter("counter-" + i));
+            counter.setNum(1L);
+            targets.add(bookmarkService.bookmarkFor(counter).orElseThrow());
+        }
+        interactionService.nextInteraction();
+
+        auditTrailEntryRepository.removeAll();
+        interactionService.nextInteraction();
+
+        // when
+        for (val target : targets) {
+            bookmarkService.lookup(target, Counter.class).orElseThrow().setNum(2L);
+        }
+        transactionService.flushTransaction(); // modified again after having been flushed (and possibly spilled)
+        for (val target : targets) {
+            bookmarkService.lookup(target, Counter.class).orElseThrow().setNum(3L);
+        }
+        interactionService.nextInteraction();
+
+        // then each property change is published once, with the pre value from before the transaction
+        val entries = auditTrailEntryRepository.findAll();
+        assertThat(entries).hasSize(numCounters);
+        assertThat(entries).allSatisfy(e -> {
+            assertThat(e.getPropertyId()).isEqualTo("num");
+            assertThat(e.getPreValue()).isEqualTo("1");
+            assertThat(e.getPostValue()).isEqualTo("3");
+        });
+        assertThat(entries.stream().map(AuditTrailEntry::getTarget).collect(Collectors.toSet()))
+                .containsExactlyInAnyOrderElementsOf(targets);
+    }
+
+    @Test
+    void updated_and_reverted_within_single_transaction() {
+
+        // given
+        var counter1 = counterRepository.persist(newCounter("counter-1"));
+        counter1.setNum(1L);
+        val target1 = bookmarkService.bookmarkFor(counter1).orElseThrow();
+        interactionService.nextInteraction();
+
+        auditTrailEntryRepository.removeAll();
+        interactionService.nextInteraction();
+
+        // when
+        counter1 = bookmarkService.lookup(target1, Counter.class).orElseThrow();
+        counter1.setName("counter-1-renamed");
+        counter1.setNum(2L);
+        transactionService.flushTransaction();
+        counter1.setName("counter-1");
+        interactionService.nextInteraction();
+
+        // then
+        val entries = auditTrailEntryRepository.findAll();
+        val propertyIds = entries.stream().map(AuditTrailEntry::getPropertyId).collect(Collectors.toList());
+        assertThat(propertyIds).containsExactly("num");
+        assertThat(entries.get(0))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isEqualTo("1"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("2"));
+    }
+
+    @Test
+    void created_then_updated_within_single_transaction() {
+
+        // when
+        val counter1 = counterRepository.persist(newCounter("counter-1"));
+        val target1 = bookmarkService.bookmarkFor(counter1).orElseThrow();
+        transactionService.flushTransaction(); // modified again after having been flushed (and possibly spilled)
+        counter1.setName("counter-1-renamed");
+        counter1.setNum(3L);
+        interactionService.nextInteraction();
+
+        // then
+        val entries = auditTrailEntryRepository.findAll();
+        val propertyIds = entries.stream().map(AuditTrailEntry::getPropertyId).collect(Collectors.toList());
+        assertThat(propertyIds).containsExactlyInAnyOrder("name", "num", "num2");
+
+        val entriesById = entries.stream().collect(Collectors.toMap(AuditTrailEntry::getPropertyId, x -> x));
+        assertThat(entriesById.get("name"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isEqualTo("[NEW]"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("counter-1-renamed"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getTarget).isEqualTo(target1));
+        assertThat(entriesById.get("num"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isEqualTo("[NEW]"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("3"));
+        assertThat(entriesById.get("num2"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isEqualTo("[NEW]"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isNull());
+    }
+
+    @Test
+    void created_then_deleted_within_single_transaction() {
+
+        // when
+        val counter1 = counterRepository.persist(newCounter("counter-1"));
+        transactionService.flushTransaction(); // deleted after having been flushed (and possibly spilled)
+        counterRepository.remove(counter1);
+        interactionService.nextInteraction();
+
+        // then
+        assertThat(auditTrailEntryRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void updated_then_deleted_within_single_transaction() {
+
+        // given
+        var counter1 = counterRepository.persist(newCounter("counter-1"));
+        counter1.setNum(1L);
+        val target1 = bookmarkService.bookmarkFor(counter1).orElseThrow();
+        interactionService.nextInteraction();
+
+        auditTrailEntryRepository.removeAll();
+        interactionService.nextInteraction();
+
+        // when
+        counter1 = bookmarkService.lookup(target1, Counter.class).orElseThrow();
+        counter1.setNum(2L);
+        transactionService.flushTransaction(); // deleted after having been flushed (and possibly spilled)
+        counterRepository.remove(counter1);
+        interactionService.nextInteraction();
+
+        // then
+        val entries = auditTrailEntryRepository.findAll();
+        val entriesById = entries.stream().collect(Collectors.toMap(AuditTrailEntry::getPropertyId, x -> x));
+        assertThat(entriesById.get("name"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isEqualTo("counter-1"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("[DELETED]"));
+        assertThat(entriesById.get("num"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isEqualTo("1"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("[DELETED]"));
+    }
+
     @Test
     void deleted() {
 
@@ -203,6 +407,7 @@ void deleted() {
     @Inject CounterRepository<? extends Counter> counterRepository;
     @Inject WrapperFactory wrapperFactory;
     @Inject BookmarkService bookmarkService;
+    @Inject TransactionService transactionService;
     @Inject AuditTrailEntryRepository<? extends AuditTrailEntry> auditTrailEntryRepository;
 
 
@@ -129,6 +129,11 @@
             value = "SELECT "
                   + "  FROM " + AuditTrailEntry.FQCN + " "
                   + " ORDER BY timestamp DESC"),
+    @Query(
+            name  = Nq.FIND_OLDEST,
+            value = "SELECT "
+                  + "  FROM " + AuditTrailEntry.FQCN + " "
+                  + " ORDER BY timestamp ASC"), // programmatic RANGE
     @Query(
             name = Nq.FIND_MOST_RECENT,
             value = "SELECT "
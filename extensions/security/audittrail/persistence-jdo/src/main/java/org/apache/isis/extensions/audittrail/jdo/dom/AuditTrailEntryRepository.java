@@ -19,12 +19,34 @@
  */
 package org.apache.isis.extensions.audittrail.jdo.dom;
 
+import java.sql.Timestamp;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.isis.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
+
 @Service
 public class AuditTrailEntryRepository extends org.apache.isis.extensions.audittrail.applib.dom.AuditTrailEntryRepository<AuditTrailEntry> {
 
+    @Inject Provider<JdoSupportService> jdoSupportServiceProvider;
+
     public AuditTrailEntryRepository() {
         super(AuditTrailEntry.class);
     }
+
+    /**
+     * Removes using a single JDOQL query, as supported by {@link javax.jdo.Query#deletePersistentAll(Object...)}.
+     */
+    @Override
+    protected int removeUpTo(final Timestamp upTo) {
+        val persistenceManager = jdoSupportServiceProvider.get().getPersistenceManager();
+        persistenceManager.flush();
+        val query = persistenceManager.newQuery(AuditTrailEntry.class, "timestamp <= :upTo");
+        return (int) query.deletePersistentAll(upTo);
+    }
 }
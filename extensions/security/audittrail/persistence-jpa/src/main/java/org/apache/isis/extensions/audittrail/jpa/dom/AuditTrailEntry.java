@@ -130,6 +130,11 @@
             query = "SELECT e "
                   + "  FROM AuditTrailEntry e "
                   + " ORDER BY e.timestamp DESC"),
+    @NamedQuery(
+            name  = Nq.FIND_OLDEST,
+            query = "SELECT e "
+                  + "  FROM AuditTrailEntry e "
+                  + " ORDER BY e.timestamp ASC"), // programmatic RANGE
     @NamedQuery(
             name = Nq.FIND_MOST_RECENT,
             query = "SELECT e "
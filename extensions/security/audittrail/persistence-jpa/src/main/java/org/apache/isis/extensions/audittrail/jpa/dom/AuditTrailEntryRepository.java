@@ -19,12 +19,36 @@
  */
 package org.apache.isis.extensions.audittrail.jpa.dom;
 
+import java.sql.Timestamp;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.isis.persistence.jpa.applib.services.JpaSupportService;
+
+import lombok.val;
+
 @Service
 public class AuditTrailEntryRepository extends org.apache.isis.extensions.audittrail.applib.dom.AuditTrailEntryRepository<AuditTrailEntry> {
 
+    @Inject Provider<JpaSupportService> jpaSupportServiceProvider;
+
     public AuditTrailEntryRepository() {
         super(AuditTrailEntry.class);
     }
+
+    /**
+     * Removes using a single JPQL <code>DELETE</code> statement, bypassing the persistence context
+     * (which is flushed beforehand).
+     */
+    @Override
+    protected int removeUpTo(final Timestamp upTo) {
+        val entityManager = jpaSupportServiceProvider.get().getEntityManagerElseFail(AuditTrailEntry.class);
+        entityManager.flush();
+        return entityManager.createQuery("DELETE FROM AuditTrailEntry e WHERE e.timestamp <= :upTo")
+                .setParameter("upTo", upTo)
+                .executeUpdate();
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.audittrail.jpa.integtests;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs all of the audit trail scenarios once more, with every enlisted property change being spilled to disk
+ * right away, so including those of entities changed again after having been spilled.
+ */
+@SpringBootTest(
+        classes = AuditTrail_IntegTest.AppManifest.class,
+        properties = {
+                "isis.core.runtime-services.entity-change-tracker.spill-threshold=1",
+        }
+)
+@ActiveProfiles("test")
+public class AuditTrail_spilling_IntegTest extends AuditTrail_IntegTest {
+
+}
@@ -70,6 +70,7 @@ public static class Nq {
         public static final String FIND_BY_TIMESTAMP_AFTER = LOGICAL_TYPE_NAME + ".findByTimestampAfter";
         public static final String FIND_BY_TIMESTAMP_BEFORE = LOGICAL_TYPE_NAME + ".findByTimestampBefore";
         public static final String FIND = LOGICAL_TYPE_NAME + ".find";
+        public static final String FIND_OLDEST = LOGICAL_TYPE_NAME + ".findOldest";
         public static final String FIND_BY_USERNAME_AND_TIMESTAMP_STRICTLY_BEFORE = LOGICAL_TYPE_NAME + ".findByUsernameAndTimestampStrictlyBefore";
         public static final String FIND_BY_USERNAME_AND_TIMESTAMP_STRICTLY_AFTER = LOGICAL_TYPE_NAME + ".findByUsernameAndTimestampStrictlyAfter";
         public static final String FIND_ACTIVE_SESSIONS = LOGICAL_TYPE_NAME + ".findActiveSessions";
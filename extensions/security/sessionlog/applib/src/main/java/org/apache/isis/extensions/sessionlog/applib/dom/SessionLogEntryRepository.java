@@ -31,6 +31,7 @@
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.applib.services.retention.PurgeableLog;
 import org.apache.isis.applib.services.session.SessionSubscriber;
 import org.apache.isis.applib.services.xactn.TransactionService;
 import org.apache.isis.core.config.environment.IsisSystemEnvironment;
@@ -41,7 +42,8 @@
 /**
  * Provides supporting functionality for querying {@link SessionLogEntry session log entry} entities.
  */
-public abstract class SessionLogEntryRepository<E extends SessionLogEntry> {
+public abstract class SessionLogEntryRepository<E extends SessionLogEntry>
+implements PurgeableLog {
 
     @Inject RepositoryService repositoryService;
     @Inject TransactionService transactionService;
@@ -199,6 +201,45 @@ public List<E> findRecentByUsername(final String username) {
 
     }
 
+    // -- RETENTION
+
+    @Override
+    public String getLogName() {
+        return "session-log";
+    }
+
+    /**
+     * Removes the oldest entries, up to the login timestamp of the {@code chunkSize}-th oldest session
+     * or up to the {@code cutoff}, whichever is earlier.
+     */
+    @Override
+    public int purgeChunk(final Timestamp cutoff, final int chunkSize) {
+        val chunkEnd = repositoryService.allMatches(
+                    Query.named(sessionLogEntryClass, SessionLogEntry.Nq.FIND_OLDEST)
+                            .withRange(chunkSize - 1, 1))
+                .stream()
+                .map(SessionLogEntry::getLoginTimestamp)
+                .filter(timestamp -> timestamp.before(cutoff))
+                .findFirst()
+                .orElse(cutoff);
+        return removeUpTo(chunkEnd);
+    }
+
+    /**
+     * Removes all entries with a login timestamp up to (and including) given {@code upTo}.
+     *
+     * <p>
+     *     Removes one entry at a time; the JDO and JPA implementations override this to use a bulk delete.
+     * </p>
+     */
+    protected int removeUpTo(final Timestamp upTo) {
+        val entries = repositoryService.allMatches(
+                Query.named(sessionLogEntryClass, SessionLogEntry.Nq.FIND_BY_TIMESTAMP_BEFORE)
+                        .withParameter("to", upTo));
+        entries.forEach(repositoryService::remove);
+        return entries.size();
+    }
+
     private static Timestamp toTimestampStartOfDayWithOffset(final LocalDate dt, final int daysOffset) {
         return dt != null
                 ? Timestamp.valueOf(dt.atStartOfDay().plusDays(daysOffset))
@@ -26,6 +26,8 @@
 import javax.inject.Named;
 import javax.jdo.annotations.Column;
 import javax.jdo.annotations.IdentityType;
+import javax.jdo.annotations.Index;
+import javax.jdo.annotations.Indices;
 import javax.jdo.annotations.PersistenceCapable;
 import javax.jdo.annotations.PrimaryKey;
 import javax.jdo.annotations.Queries;
@@ -43,6 +45,10 @@
         identityType=IdentityType.APPLICATION,
         schema = SessionLogEntry.SCHEMA,
         table = SessionLogEntry.TABLE)
+@Indices({
+        @Index(name = "SessionLogEntry__loginTimestamp__IDX", members = { "loginTimestamp" }),
+        @Index(name = "SessionLogEntry__username_loginTimestamp__IDX", members = { "username", "loginTimestamp" }),
+})
 @Queries( {
         @Query(
                 name  = Nq.FIND_BY_SESSION_GUID,
@@ -106,6 +112,11 @@
                 value = "SELECT "
                       + "  FROM " + SessionLogEntry.FQCN + " "
                       + " ORDER BY loginTimestamp DESC"),
+        @Query(
+                name  = Nq.FIND_OLDEST,
+                value = "SELECT "
+                      + "  FROM " + SessionLogEntry.FQCN + " "
+                      + " ORDER BY loginTimestamp ASC"), // programmatic RANGE
         @Query(
                 name  = Nq.FIND_BY_USERNAME_AND_TIMESTAMP_STRICTLY_BEFORE,
                 value = "SELECT "
@@ -20,12 +20,34 @@
 
 package org.apache.isis.extensions.sessionlog.jdo.dom;
 
+import java.sql.Timestamp;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.isis.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
+
 @Service
 public class SessionLogEntryRepository extends org.apache.isis.extensions.sessionlog.applib.dom.SessionLogEntryRepository<SessionLogEntry> {
 
+    @Inject Provider<JdoSupportService> jdoSupportServiceProvider;
+
     public SessionLogEntryRepository() {
         super(SessionLogEntry.class);
     }
+
+    /**
+     * Removes using a single JDOQL query, as supported by {@link javax.jdo.Query#deletePersistentAll(Object...)}.
+     */
+    @Override
+    protected int removeUpTo(final Timestamp upTo) {
+        val persistenceManager = jdoSupportServiceProvider.get().getPersistenceManager();
+        persistenceManager.flush();
+        val query = persistenceManager.newQuery(SessionLogEntry.class, "loginTimestamp <= :upTo");
+        return (int) query.deletePersistentAll(upTo);
+    }
 }
@@ -28,6 +28,7 @@
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
+import javax.persistence.Index;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 import javax.persistence.Table;
@@ -45,7 +46,11 @@
 @Entity
 @Table(
         schema = SessionLogEntry.SCHEMA,
-        name = SessionLogEntry.TABLE
+        name = SessionLogEntry.TABLE,
+        indexes = {
+                @Index(name = "SessionLogEntry__loginTimestamp__IDX", columnList = "loginTimestamp"),
+                @Index(name = "SessionLogEntry__username_loginTimestamp__IDX", columnList = "username, loginTimestamp"),
+        }
 )
 @NamedQueries( {
         @NamedQuery(
@@ -110,6 +115,11 @@
                 query = "SELECT e"
                       + "  FROM SessionLogEntry e "
                       + " ORDER BY e.loginTimestamp DESC"),
+        @NamedQuery(
+                name  = Nq.FIND_OLDEST,
+                query = "SELECT e"
+                      + "  FROM SessionLogEntry e "
+                      + " ORDER BY e.loginTimestamp ASC"), // programmatic RANGE
         @NamedQuery(
                 name  = Nq.FIND_BY_USERNAME_AND_TIMESTAMP_STRICTLY_BEFORE,
                 query = "SELECT e"
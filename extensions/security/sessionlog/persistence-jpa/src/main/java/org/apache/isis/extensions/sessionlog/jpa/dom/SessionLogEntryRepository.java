@@ -20,12 +20,36 @@
 
 package org.apache.isis.extensions.sessionlog.jpa.dom;
 
+import java.sql.Timestamp;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.isis.persistence.jpa.applib.services.JpaSupportService;
+
+import lombok.val;
+
 @Service
 public class SessionLogEntryRepository extends org.apache.isis.extensions.sessionlog.applib.dom.SessionLogEntryRepository<SessionLogEntry> {
 
+    @Inject Provider<JpaSupportService> jpaSupportServiceProvider;
+
     public SessionLogEntryRepository() {
         super(SessionLogEntry.class);
     }
+
+    /**
+     * Removes using a single JPQL <code>DELETE</code> statement, bypassing the persistence context
+     * (which is flushed beforehand).
+     */
+    @Override
+    protected int removeUpTo(final Timestamp upTo) {
+        val entityManager = jpaSupportServiceProvider.get().getEntityManagerElseFail(SessionLogEntry.class);
+        entityManager.flush();
+        return entityManager.createQuery("DELETE FROM SessionLogEntry e WHERE e.loginTimestamp <= :upTo")
+                .setParameter("upTo", upTo)
+                .executeUpdate();
+    }
 }
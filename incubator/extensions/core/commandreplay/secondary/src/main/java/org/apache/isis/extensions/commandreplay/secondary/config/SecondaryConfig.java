@@ -45,6 +45,9 @@ public class SecondaryConfig {
     @Getter final String primaryBaseUrlRestful;
     @Getter final String primaryBaseUrlWicket;
     @Getter final int batchSize;
+    @Getter final boolean prefetch;
+    @Getter final boolean parallelReplay;
+    @Getter final int replayThreads;
 
     @Getter final String quartzUser;
     @Getter final List<String> quartzRoles;
@@ -58,6 +61,9 @@ public SecondaryConfig(@NotNull final IsisConfiguration isisConfiguration) {
         primaryBaseUrlRestful = primaryAccess.getBaseUrlRestful().orElse(null);
         primaryBaseUrlWicket = primaryAccess.getBaseUrlWicket().orElse(null);
         batchSize = config.getBatchSize();
+        prefetch = config.getReplay().isPrefetch();
+        parallelReplay = config.getReplay().isParallel();
+        replayThreads = config.getReplay().getThreads();
 
         quartzUser = config.getQuartzSession().getUser();
         quartzRoles = config.getQuartzSession().getRoles();
@@ -85,6 +85,27 @@ public Can<CommandDto> fetchCommand(
         return fetchCommands(previousHwmIfAny);
     }
 
+    /**
+     * Fetches the commands following the one with given {@code previousInteractionIdIfAny},
+     * which need not have been saved on the secondary yet.
+     *
+     * <p>
+     *     Only calls the primary (no persistence involved), so can be used to prefetch
+     *     the next batch from a background thread.
+     * </p>
+     *
+     * @param previousInteractionIdIfAny
+     * @throws StatusException
+     */
+    public Can<CommandDto> fetchCommandsSince(
+            final @Nullable UUID previousInteractionIdIfAny)
+            throws StatusException {
+
+        log.debug("prefetching commands on primary ...");
+
+        return callPrimary(previousInteractionIdIfAny);
+    }
+
     /**
      * @return - the commands, or <tt>null</tt> if none were found
      * @param previousHwmIfAny
@@ -20,22 +20,39 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.command.CommandExecutorService;
+import org.apache.isis.applib.services.iactnlayer.InteractionService;
 import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.extensions.commandlog.applib.dom.CommandLogEntry;
 import org.apache.isis.extensions.commandlog.applib.dom.CommandLogEntryRepository;
 import org.apache.isis.extensions.commandlog.applib.dom.ReplayState;
 import org.apache.isis.extensions.commandreplay.secondary.analysis.CommandReplayAnalysisService;
+import org.apache.isis.extensions.commandreplay.secondary.config.SecondaryConfig;
 import org.apache.isis.extensions.commandreplay.secondary.fetch.CommandFetcher;
 import org.apache.isis.extensions.commandreplay.secondary.spi.ReplayCommandExecutionController;
 import org.apache.isis.extensions.commandreplay.secondary.status.SecondaryStatus;
 import org.apache.isis.extensions.commandreplay.secondary.status.StatusException;
+import org.apache.isis.schema.cmd.v2.CommandDto;
 
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
@@ -50,6 +67,18 @@
  *     files.
  * </p>
  *
+ * <p>
+ *     Unless disabled, the next batch of commands is fetched from the primary in the background,
+ *     while the current batch is still being replayed. If parallel replay is enabled (opt-in),
+ *     commands targeting different objects are replayed concurrently, while commands targeting the same
+ *     object are replayed in order; only the (primary) target of each command is considered.
+ * </p>
+ *
+ * <p>
+ *     The threads used for prefetching and for replaying are created once per run of the job, and
+ *     shut down when it completes.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Log4j2
@@ -57,18 +86,38 @@ public class ReplicateAndRunCommands implements Callable<SecondaryStatus> {
 
     @Inject CommandExecutorService commandExecutorService;
     @Inject TransactionService transactionService;
+    @Inject InteractionService interactionService;
     @Inject CommandFetcher commandFetcher;
+    @Inject SecondaryConfig secondaryConfig;
     @Inject CommandLogEntryRepository<? extends CommandLogEntry> commandLogEntryRepository;
     @Inject CommandReplayAnalysisService analysisService;
     @Inject Optional<ReplayCommandExecutionController> controller;
 
+    private ExecutorService prefetchExecutor;
+    private ExecutorService replayExecutor;
+
     @Override
     public SecondaryStatus call() {
+        prefetchExecutor = secondaryConfig.isPrefetch()
+                ? Executors.newSingleThreadExecutor(new CustomizableThreadFactory("isis-command-replay-prefetch-"))
+                : null;
+        replayExecutor = secondaryConfig.isParallelReplay()
+                ? Executors.newFixedThreadPool(
+                        secondaryConfig.getReplayThreads(),
+                        new CustomizableThreadFactory("isis-command-replay-"))
+                : null;
         try {
             doCall();
             return SecondaryStatus.OK;
         } catch (StatusException e) {
             return e.secondaryStatus;
+        } finally {
+            if(prefetchExecutor!=null) {
+                prefetchExecutor.shutdownNow();
+            }
+            if(replayExecutor!=null) {
+                replayExecutor.shutdown();
+            }
         }
     }
 
@@ -79,8 +128,22 @@ private void doCall() throws  StatusException  {
             return;
         }
 
+        // give up if there was a failure; admin will need to fix issue and retry
+        // (when replaying concurrently, commands following the failed one may still be pending)
+        val failedIfAny = transactionService.callWithinCurrentTransactionElseCreateNew(
+                    commandLogEntryRepository::findFirstReplayFailed)
+                .ifFailureFail()
+                .getValue().flatMap(failed -> failed);
+        if(failedIfAny.isPresent()) {
+            log.info("Command {} hit replay error", failedIfAny.get().getInteractionId());
+            return;
+        }
+
         List<? extends CommandLogEntry> commandsToReplay;
 
+        // the next batch, fetched from the primary while replaying the current one
+        Future<Can<CommandDto>> prefetched = null;
+
         while(isRunning()) {
 
             // is there a pending command already?
@@ -89,25 +152,33 @@ private void doCall() throws  StatusException  {
 
             if(commandsToReplay.isEmpty()) {
 
-                // look for previously replayed on secondary
-                CommandLogEntry hwm = commandLogEntryRepository.findMostRecentReplayed().orElse(null);
+                final Can<CommandDto> commandDtos;
+                if(prefetched != null) {
+                    commandDtos = awaitPrefetched(prefetched);
+                    prefetched = null;
+                } else {
 
-                if (hwm != null) {
-                    // give up if there was a failure; admin will need to fix issue and retry
-                    if (hwm.getReplayState() != null &&
-                            hwm.getReplayState().isFailed()) {
-                        log.info("Command {} hit replay error", hwm.getInteractionId());
-                        return;
+                    // look for previously replayed on secondary
+                    CommandLogEntry hwm = commandLogEntryRepository.findMostRecentReplayed().orElse(null);
+
+                    if (hwm != null) {
+                        // give up if there was a failure; admin will need to fix issue and retry
+                        if (hwm.getReplayState() != null &&
+                                hwm.getReplayState().isFailed()) {
+                            log.info("Command {} hit replay error", hwm.getInteractionId());
+                            return;
+                        }
+                    } else {
+                        // after a DB restore from primary to secondary, there won't be
+                        // any that have been replayed.  So instead we simply use
+                        // latest completed (on primary) as the HWM.
+                        hwm = commandLogEntryRepository.findMostRecentCompleted().orElse(null);
                     }
-                } else {
-                    // after a DB restore from primary to secondary, there won't be
-                    // any that have been replayed.  So instead we simply use
-                    // latest completed (on primary) as the HWM.
-                    hwm = commandLogEntryRepository.findMostRecentCompleted().orElse(null);
+
+                    // fetch next command(s) from primary (if any)
+                    commandDtos = commandFetcher.fetchCommand(hwm);
                 }
 
-                // fetch next command(s) from primary (if any)
-                val commandDtos = commandFetcher.fetchCommand(hwm);
                 commandsToReplay = commandDtos.stream()
                         .map(dto ->
                                 transactionService.callWithinCurrentTransactionElseCreateNew(
@@ -120,54 +191,142 @@ private void doCall() throws  StatusException  {
                 if(commandsToReplay.isEmpty()) {
                     return; // nothing more to do for now.
                 }
+
+                // the last of this batch is the HWM for the next one, even though not yet replayed
+                if(prefetchExecutor != null) {
+                    val nextHwm = UUID.fromString(commandDtos.getLastOrFail().getInteractionId());
+                    prefetched = prefetchExecutor.submit(() -> commandFetcher.fetchCommandsSince(nextHwm));
+                }
             }
 
-            replay(commandsToReplay);
+            if(!replay(commandsToReplay)) {
+                // will effectively block the running of any further commands
+                // until the issue is fixed; any prefetched batch is discarded.
+                return;
+            }
+        }
+    }
+
+    private static Can<CommandDto> awaitPrefetched(final Future<Can<CommandDto>> prefetched) throws StatusException {
+        try {
+            return prefetched.get();
+        } catch (ExecutionException e) {
+            val cause = e.getCause();
+            if(cause instanceof StatusException) {
+                throw (StatusException) cause;
+            }
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StatusException(SecondaryStatus.UNKNOWN_STATE, e);
         }
     }
 
     /**
-     *
-     * @param commandsToReplay
-     * @apiNote could return, whether there was a command to process (and so continue)
+     * @return whether all commands (and their child commands) were replayed successfully
      */
-    private void replay(final List<? extends CommandLogEntry> commandsToReplay) {
+    private boolean replay(final List<? extends CommandLogEntry> commandsToReplay) {
+        return replayExecutor != null
+                && commandsToReplay.size() > 1
+                ? replayConcurrently(commandsToReplay)
+                : replaySequentially(commandsToReplay);
+    }
 
-        commandsToReplay.forEach(commandLog -> {
+    private boolean replaySequentially(final List<? extends CommandLogEntry> commandsToReplay) {
+        for (val commandLog : commandsToReplay) {
+            if(!replayIncludingChildren(commandLog)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Partitions the commands by target, replaying each partition in order on its own thread;
+     * once any command fails, no further commands are started (in any partition).
+     */
+    private boolean replayConcurrently(final List<? extends CommandLogEntry> commandsToReplay) {
+
+        val interactionContext = interactionService.currentInteractionLayerElseFail().getInteractionContext();
+        val failed = new AtomicBoolean();
+        final List<CompletableFuture<Void>> replays = partitionByTarget(commandsToReplay).values().stream()
+                .map(interactionIds -> CompletableFuture.runAsync(
+                        () -> interactionService.run(interactionContext,
+                                () -> replayInOrder(interactionIds, failed)),
+                        replayExecutor))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(replays.toArray(new CompletableFuture[0])).join();
+        return !failed.get();
+    }
 
-            log.info("replaying {}", commandLog.getInteractionId());
+    /**
+     * Groups the interaction ids of given commands by their target, each group (and the groups themselves)
+     * in the order given.
+     */
+    static Map<Bookmark, List<UUID>> partitionByTarget(final List<? extends CommandLogEntry> commandsToReplay) {
+        final Map<Bookmark, List<UUID>> interactionIdsByTarget = _Maps.newLinkedHashMap();
+        for (val commandLog : commandsToReplay) {
+            interactionIdsByTarget
+                .computeIfAbsent(commandLog.getTarget(), __ -> _Lists.newArrayList())
+                .add(commandLog.getInteractionId());
+        }
+        return interactionIdsByTarget;
+    }
 
-            //
-            // run command
-            //
-            val replayState = executeCommandInTranAndAnalyse(commandLog);
-            if(replayState.isFailed()) {
-                // will effectively block the running of any further commands
-                // until the issue is fixed.
+    private void replayInOrder(final List<UUID> interactionIds, final AtomicBoolean failed) {
+        for (val interactionId : interactionIds) {
+            if(failed.get()) {
                 return;
             }
-
-            //
-            // find child commands, and run them
-            //
-            val parent = commandLog;
-
-            val childCommands =
-                    transactionService.callWithinCurrentTransactionElseCreateNew(
-                            () -> commandLogEntryRepository.findByParent(parent))
+            // (re)load within this thread's own interaction
+            val commandLog = transactionService.callWithinCurrentTransactionElseCreateNew(
+                        () -> commandLogEntryRepository.findByInteractionId(interactionId))
                     .ifFailureFail()
-                    .getValue().orElse(Collections.emptyList());
-            for (val childCommand : childCommands) {
-                val childReplayState = executeCommandInTranAndAnalyse(childCommand);
-                if(childReplayState.isFailed()) {
-                    // give up
-                    return;
-                }
+                    .getValue().flatMap(entry -> entry)
+                    .orElseThrow(() -> new CommandLogEntryRepository.NotFoundException(interactionId));
+            if(!replayIncludingChildren(commandLog)) {
+                failed.set(true);
+                return;
             }
+        }
+    }
 
-        });
+    /**
+     * @return whether the command and its child commands were replayed successfully
+     */
+    private boolean replayIncludingChildren(final CommandLogEntry commandLog) {
+
+        log.info("replaying {}", commandLog.getInteractionId());
 
+        //
+        // run command
+        //
+        val replayState = executeCommandInTranAndAnalyse(commandLog);
+        if(replayState.isFailed()) {
+            return false;
+        }
 
+        //
+        // find child commands, and run them
+        //
+        val parent = commandLog;
+
+        val childCommands =
+                transactionService.callWithinCurrentTransactionElseCreateNew(
+                        () -> commandLogEntryRepository.findByParent(parent))
+                .ifFailureFail()
+                .getValue().orElse(Collections.emptyList());
+        for (val childCommand : childCommands) {
+            val childReplayState = executeCommandInTranAndAnalyse(childCommand);
+            if(childReplayState.isFailed()) {
+                // give up
+                return false;
+            }
+        }
+        return true;
     }
 
     private ReplayState executeCommandInTranAndAnalyse(final CommandLogEntry commandLogEntry) {
@@ -0,0 +1,275 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.commandreplay.secondary.jobcallables;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.command.CommandExecutorService;
+import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.iactnlayer.InteractionLayer;
+import org.apache.isis.applib.services.iactnlayer.InteractionService;
+import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.functional.ThrowingRunnable;
+import org.apache.isis.commons.functional.Try;
+import org.apache.isis.extensions.commandlog.applib.dom.CommandLogEntry;
+import org.apache.isis.extensions.commandlog.applib.dom.CommandLogEntryRepository;
+import org.apache.isis.extensions.commandlog.applib.dom.ReplayState;
+import org.apache.isis.extensions.commandreplay.secondary.analysis.CommandReplayAnalysisService;
+import org.apache.isis.extensions.commandreplay.secondary.config.SecondaryConfig;
+import org.apache.isis.extensions.commandreplay.secondary.fetch.CommandFetcher;
+import org.apache.isis.extensions.commandreplay.secondary.status.SecondaryStatus;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import lombok.val;
+
+class ReplicateAndRunCommands_Test {
+
+    static final Bookmark TARGET_A = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1");
+    static final Bookmark TARGET_B = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "2");
+
+    CommandExecutorService mockCommandExecutorService;
+    TransactionService mockTransactionService;
+    InteractionService mockInteractionService;
+    CommandFetcher mockCommandFetcher;
+    SecondaryConfig mockSecondaryConfig;
+    CommandLogEntryRepository<CommandLogEntry> mockCommandLogEntryRepository;
+    CommandReplayAnalysisService mockAnalysisService;
+
+    ReplicateAndRunCommands replicateAndRunCommands;
+
+    /**
+     * The interaction ids of the commands executed, in the order executed.
+     */
+    final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() throws Exception {
+        mockCommandExecutorService = Mockito.mock(CommandExecutorService.class);
+        mockTransactionService = Mockito.mock(TransactionService.class);
+        mockInteractionService = Mockito.mock(InteractionService.class);
+        mockCommandFetcher = Mockito.mock(CommandFetcher.class);
+        mockSecondaryConfig = Mockito.mock(SecondaryConfig.class);
+        mockCommandLogEntryRepository = Mockito.mock(CommandLogEntryRepository.class);
+        mockAnalysisService = Mockito.mock(CommandReplayAnalysisService.class);
+
+        // transactions and interactions simply run their callable
+        when(mockTransactionService.callWithinCurrentTransactionElseCreateNew(any()))
+            .thenAnswer(invocation -> Try.call(invocation.<Callable<?>>getArgument(0)));
+        when(mockTransactionService.runWithinCurrentTransactionElseCreateNew(any()))
+            .thenAnswer(invocation -> Try.run(invocation.<ThrowingRunnable>getArgument(0)));
+        val interactionContext = InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("sven"));
+        when(mockInteractionService.currentInteractionLayerElseFail())
+            .thenReturn(new InteractionLayer(null, interactionContext));
+        Mockito.doAnswer(invocation -> {
+            invocation.<ThrowingRunnable>getArgument(1).run();
+            return null;
+        }).when(mockInteractionService).run(any(), any());
+
+        when(mockCommandExecutorService.executeCommand(
+                ArgumentMatchers.<CommandExecutorService.InteractionContextPolicy>any(),
+                ArgumentMatchers.<CommandDto>any(),
+                any()))
+            .thenAnswer(invocation -> {
+                executed.add(invocation.<CommandDto>getArgument(1).getInteractionId());
+                return null;
+            });
+
+        when(mockCommandLogEntryRepository.findFirstReplayFailed()).thenReturn(Optional.empty());
+        when(mockCommandLogEntryRepository.findNotYetReplayed()).thenReturn(Collections.emptyList());
+        when(mockCommandLogEntryRepository.findMostRecentReplayed()).thenReturn(Optional.empty());
+        when(mockCommandLogEntryRepository.findMostRecentCompleted()).thenReturn(Optional.empty());
+        when(mockCommandLogEntryRepository.findByParent(any())).thenReturn(Collections.emptyList());
+
+        replicateAndRunCommands = new ReplicateAndRunCommands();
+        replicateAndRunCommands.commandExecutorService = mockCommandExecutorService;
+        replicateAndRunCommands.transactionService = mockTransactionService;
+        replicateAndRunCommands.interactionService = mockInteractionService;
+        replicateAndRunCommands.commandFetcher = mockCommandFetcher;
+        replicateAndRunCommands.secondaryConfig = mockSecondaryConfig;
+        replicateAndRunCommands.commandLogEntryRepository = mockCommandLogEntryRepository;
+        replicateAndRunCommands.analysisService = mockAnalysisService;
+        replicateAndRunCommands.controller = Optional.empty();
+    }
+
+    @Test
+    void prefetches_next_batch_while_replaying_current_one() throws Exception {
+
+        // given
+        when(mockSecondaryConfig.isPrefetch()).thenReturn(true);
+        val dto1 = commandDto();
+        val dto2 = commandDto();
+        val entry1 = savedForReplay(dto1, TARGET_A, ReplayState.OK);
+        val entry2 = savedForReplay(dto2, TARGET_A, ReplayState.OK);
+
+        when(mockCommandFetcher.fetchCommand(null)).thenReturn(Can.ofSingleton(dto1));
+        when(mockCommandFetcher.fetchCommandsSince(entry1.getInteractionId())).thenReturn(Can.ofSingleton(dto2));
+        when(mockCommandFetcher.fetchCommandsSince(entry2.getInteractionId())).thenReturn(Can.empty());
+
+        // when
+        val status = replicateAndRunCommands.call();
+
+        // then
+        assertThat(status).isEqualTo(SecondaryStatus.OK);
+        assertThat(executed).containsExactly(dto1.getInteractionId(), dto2.getInteractionId());
+
+        // only the first batch was fetched using the HWM, the others were prefetched
+        verify(mockCommandFetcher).fetchCommand(null);
+        verify(mockCommandFetcher).fetchCommandsSince(entry1.getInteractionId());
+        verify(mockCommandFetcher).fetchCommandsSince(entry2.getInteractionId());
+    }
+
+    @Test
+    void prefetched_batch_is_discarded_if_current_one_fails() throws Exception {
+
+        // given
+        when(mockSecondaryConfig.isPrefetch()).thenReturn(true);
+        val dto1 = commandDto();
+        val dto2 = commandDto();
+        val entry1 = savedForReplay(dto1, TARGET_A, ReplayState.FAILED);
+        savedForReplay(dto2, TARGET_A, ReplayState.OK);
+
+        when(mockCommandFetcher.fetchCommand(null)).thenReturn(Can.ofSingleton(dto1));
+        when(mockCommandFetcher.fetchCommandsSince(entry1.getInteractionId())).thenReturn(Can.ofSingleton(dto2));
+
+        // when
+        val status = replicateAndRunCommands.call();
+
+        // then
+        assertThat(status).isEqualTo(SecondaryStatus.OK);
+        assertThat(executed).containsExactly(dto1.getInteractionId());
+        verify(mockCommandLogEntryRepository, never()).saveForReplay(dto2);
+    }
+
+    @Test
+    void without_prefetch_each_batch_is_fetched_using_the_hwm() throws Exception {
+
+        // given
+        when(mockSecondaryConfig.isPrefetch()).thenReturn(false);
+        val dto1 = commandDto();
+        savedForReplay(dto1, TARGET_A, ReplayState.OK);
+
+        when(mockCommandFetcher.fetchCommand(null))
+            .thenReturn(Can.ofSingleton(dto1))
+            .thenReturn(Can.empty());
+
+        // when
+        val status = replicateAndRunCommands.call();
+
+        // then
+        assertThat(status).isEqualTo(SecondaryStatus.OK);
+        assertThat(executed).containsExactly(dto1.getInteractionId());
+        verify(mockCommandFetcher, never()).fetchCommandsSince(any());
+    }
+
+    @Test
+    void partitions_by_target_preserving_order() {
+
+        // given
+        val entry1 = commandLogEntry(UUID.randomUUID(), TARGET_A);
+        val entry2 = commandLogEntry(UUID.randomUUID(), TARGET_B);
+        val entry3 = commandLogEntry(UUID.randomUUID(), TARGET_A);
+        val entry4 = commandLogEntry(UUID.randomUUID(), TARGET_A);
+
+        // when
+        val partitions = ReplicateAndRunCommands.partitionByTarget(List.of(entry1, entry2, entry3, entry4));
+
+        // then
+        assertThat(partitions.keySet()).containsExactly(TARGET_A, TARGET_B);
+        assertThat(partitions.get(TARGET_A))
+            .containsExactly(entry1.getInteractionId(), entry3.getInteractionId(), entry4.getInteractionId());
+        assertThat(partitions.get(TARGET_B))
+            .containsExactly(entry2.getInteractionId());
+    }
+
+    @Test
+    void parallel_replay_replays_commands_with_same_target_in_order() throws Exception {
+
+        // given
+        when(mockSecondaryConfig.isPrefetch()).thenReturn(false);
+        when(mockSecondaryConfig.isParallelReplay()).thenReturn(true);
+        when(mockSecondaryConfig.getReplayThreads()).thenReturn(2);
+
+        final List<CommandDto> dtos = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            val dto = commandDto();
+            val entry = savedForReplay(dto, i % 2 == 0 ? TARGET_A : TARGET_B, ReplayState.OK);
+            when(mockCommandLogEntryRepository.findByInteractionId(entry.getInteractionId()))
+                .thenReturn(Optional.of(entry));
+            dtos.add(dto);
+        }
+        when(mockCommandFetcher.fetchCommand(null))
+            .thenReturn(Can.ofCollection(dtos))
+            .thenReturn(Can.empty());
+
+        // when
+        val status = replicateAndRunCommands.call();
+
+        // then
+        assertThat(status).isEqualTo(SecondaryStatus.OK);
+        assertThat(executed).hasSize(6);
+        assertThat(executed).containsSubsequence(
+                dtos.get(0).getInteractionId(), dtos.get(2).getInteractionId(), dtos.get(4).getInteractionId());
+        assertThat(executed).containsSubsequence(
+                dtos.get(1).getInteractionId(), dtos.get(3).getInteractionId(), dtos.get(5).getInteractionId());
+    }
+
+    // -- HELPERS
+
+    private static CommandDto commandDto() {
+        val dto = new CommandDto();
+        dto.setInteractionId(UUID.randomUUID().toString());
+        return dto;
+    }
+
+    private CommandLogEntry savedForReplay(final CommandDto dto, final Bookmark target, final ReplayState replayState) {
+        val entry = commandLogEntry(UUID.fromString(dto.getInteractionId()), target);
+        when(entry.getCommandDto()).thenReturn(dto);
+        when(entry.getReplayState()).thenReturn(replayState);
+        when(mockCommandLogEntryRepository.saveForReplay(dto)).thenReturn(entry);
+        return entry;
+    }
+
+    private static CommandLogEntry commandLogEntry(final UUID interactionId, final Bookmark target) {
+        val entry = Mockito.mock(CommandLogEntry.class);
+        when(entry.getInteractionId()).thenReturn(interactionId);
+        when(entry.getTarget()).thenReturn(target);
+        return entry;
+    }
+
+}
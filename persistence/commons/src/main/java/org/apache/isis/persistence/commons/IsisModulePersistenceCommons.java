@@ -18,9 +18,14 @@
  */
 package org.apache.isis.persistence.commons;
 
+import javax.inject.Singleton;
+
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import org.apache.isis.applib.util.schema.DtoPayloadCodec;
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.runtime.IsisModuleCoreRuntime;
 import org.apache.isis.persistence.jpa.integration.changetracking.EntityChangeTrackerDefault;
 
@@ -36,4 +41,13 @@
 })
 public class IsisModulePersistenceCommons {
 
+    /**
+     * The {@link DtoPayloadCodec} newly persisted DTOs are encoded with, as configured with
+     * {@literal isis.persistence.schema.dto-payload-codec}; injected into the ORM's type converters.
+     */
+    @Bean @Singleton
+    public DtoPayloadCodec dtoPayloadCodec(final IsisConfiguration isisConfiguration) {
+        return isisConfiguration.getPersistence().getSchema().getDtoPayloadCodec();
+    }
+
 }
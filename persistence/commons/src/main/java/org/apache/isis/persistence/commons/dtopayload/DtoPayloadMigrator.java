@@ -0,0 +1,164 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.commons.dtopayload;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.apache.isis.applib.util.schema.DtoPayloadCodec;
+import org.apache.isis.commons.internal.collections._Lists;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Re-encodes DTO payloads persisted in some table column with a given {@link DtoPayloadCodec},
+ * for example to compact the rows of the command log, that were persisted as plain XML before
+ * {@literal isis.persistence.schema.dto-payload-codec} was switched.
+ * <p>
+ * As payloads are self-describing, running this is optional (existing rows remain readable either way),
+ * can be interrupted and re-run at any time, and can be reverted by migrating back to {@link DtoPayloadCodec#XML}.
+ * <p>
+ * Rows are read and updated (by primary key) in batches, committing after each batch.
+ * Rows already encoded with the target codec are skipped.
+ *
+ * <pre>
+ * DtoPayloadMigrator.builder()
+ *     .dataSource(dataSource)
+ *     .table("isisExtCommandLog")
+ *     .keyColumn("interactionId")
+ *     .payloadColumn("commandDto")
+ *     .targetCodec(DtoPayloadCodec.GZIP_BASE64)
+ *     .build()
+ *     .migrate();
+ * </pre>
+ *
+ * @since 2.0 {@index}
+ */
+@Builder
+@Log4j2
+public class DtoPayloadMigrator {
+
+    private final @NonNull DataSource dataSource;
+    /** (optionally schema qualified) table name */
+    private final @NonNull String table;
+    /** the table's primary key columns */
+    private final @NonNull @Singular List<String> keyColumns;
+    private final @NonNull String payloadColumn;
+    private final @NonNull DtoPayloadCodec targetCodec;
+    @Builder.Default
+    private final int batchSize = 500;
+
+    @Value
+    public static class Result {
+        int scanned;
+        int migrated;
+        /** total length (in chars) of the migrated payloads, before migration */
+        long charsBefore;
+        /** total length (in chars) of the migrated payloads, after migration */
+        long charsAfter;
+    }
+
+    public Result migrate() throws SQLException {
+        int scanned = 0;
+        int migrated = 0;
+        long charsBefore = 0L;
+        long charsAfter = 0L;
+
+        try(val connection = dataSource.getConnection()) {
+            val autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            // keeps the cursor open, while committing each batch
+            try(val select = connection.prepareStatement(selectSql(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+                val update = connection.prepareStatement(updateSql())) {
+
+                select.setFetchSize(batchSize);
+                int pending = 0;
+                try(val rs = select.executeQuery()) {
+                    while(rs.next()) {
+                        ++scanned;
+                        val payload = rs.getString(keyColumns.size() + 1);
+                        if(payload==null
+                                || DtoPayloadCodec.codecOf(payload)==targetCodec) {
+                            continue;
+                        }
+                        val recoded = targetCodec.recode(payload);
+                        charsBefore += payload.length();
+                        charsAfter += recoded.length();
+
+                        update.setString(1, recoded);
+                        for(int i=0; i<keyColumns.size(); ++i) {
+                            update.setObject(i + 2, rs.getObject(i + 1));
+                        }
+                        update.addBatch();
+                        ++migrated;
+                        if(++pending == batchSize) {
+                            flush(connection, update);
+                            pending = 0;
+                        }
+                    }
+                }
+                if(pending > 0) {
+                    flush(connection, update);
+                }
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+
+        log.info("{}.{}: scanned {} rows, migrated {} to {} ({} -> {} chars)",
+                table, payloadColumn, scanned, migrated, targetCodec, charsBefore, charsAfter);
+        return new Result(scanned, migrated, charsBefore, charsAfter);
+    }
+
+    // -- HELPER
+
+    private String selectSql() {
+        val columns = _Lists.<String>newArrayList(keyColumns);
+        columns.add(payloadColumn);
+        return String.format("SELECT %s FROM %s", String.join(", ", columns), table);
+    }
+
+    private String updateSql() {
+        val where = keyColumns.stream()
+                .map(column->column + " = ?")
+                .collect(Collectors.joining(" AND "));
+        return String.format("UPDATE %s SET %s = ? WHERE %s", table, payloadColumn, where);
+    }
+
+    private static void flush(final Connection connection, final PreparedStatement update) throws SQLException {
+        update.executeBatch();
+        connection.commit();
+    }
+
+}
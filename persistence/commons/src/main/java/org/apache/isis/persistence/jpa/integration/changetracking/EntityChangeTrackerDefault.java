@@ -19,12 +19,17 @@
  */
 package org.apache.isis.persistence.jpa.integration.changetracking;
 
+import java.io.File;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -55,15 +60,25 @@
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.collections._Sets;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.isis.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
 import org.apache.isis.core.metamodel.facets.properties.property.entitychangepublishing.EntityPropertyChangePublishingPolicyFacet;
+import org.apache.isis.core.metamodel.interactions.InteractionConsentCache;
 import org.apache.isis.core.metamodel.object.ManagedObject;
 import org.apache.isis.core.metamodel.object.ManagedObjects;
 import org.apache.isis.core.metamodel.object.MmEntityUtil;
+import org.apache.isis.core.metamodel.object.MmUnwrapUtil;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
 import org.apache.isis.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PreAndPostValue;
 import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
 import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
 import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.runtime.jfr.EntityChangesPublishingJfrEvent;
+import org.apache.isis.core.runtime.metrics.MetricsRecorder;
 import org.apache.isis.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.isis.core.transaction.changetracking.EntityChangesPublisher;
 import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
@@ -109,6 +124,9 @@
     private final EntityPropertyChangePublisher entityPropertyChangePublisher;
     private final EntityChangesPublisher entityChangesPublisher;
     private final Provider<InteractionProvider> interactionProviderProvider;
+    private final MetricsRecorder metricsRecorder;
+    private final IsisConfiguration isisConfiguration;
+    private final ObjectManager objectManager;
 
     /**
      * Contains a record for every objectId/propertyId that was changed.
@@ -123,6 +141,16 @@
         = _Lazy.threadSafe(this::capturePostValuesAndDrain);
 
 
+    /**
+     * Holds the property changes spilled to disk (if any), once the number of enlisted records reached
+     * the configured threshold. Only their pre values are spilled, post values are captured on publishing.
+     * <p>
+     * A property changed again after having been spilled is enlisted afresh; such duplicates are only removed
+     * on publishing, so that no per property change state is held in memory for what has been spilled.
+     * What remains is one entry per changed entity in {@link #changeKindByEnlistedAdapter}.
+     */
+    private @Nullable _PropertyChangeSpillFile propertyChangeSpillFile;
+
     @Getter(AccessLevel.PACKAGE)
     private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newLinkedHashMap();
 
@@ -135,6 +163,7 @@
     public void destroy() throws Exception {
         enlistedPropertyChangeRecordsById.clear();
         entityPropertyChangeRecordsForPublishing.clear();
+        discardSpilledPropertyChanges();
         changeKindByEnlistedAdapter.clear();
 
         numberEntitiesLoaded.reset();
@@ -154,8 +183,21 @@ Set<PropertyChangeRecord> snapshotPropertyChangeRecords() {
      */
     private Set<PropertyChangeRecord> capturePostValuesAndDrain() {
 
-        val records = enlistedPropertyChangeRecordsById.values().stream()
-                // set post values, which have been left empty up to now
+        val records = streamWithPostValuesCaptured()
+                .collect(_Sets.toUnmodifiable());
+
+        enlistedPropertyChangeRecordsById.clear();
+
+        return records;
+
+    }
+
+    /**
+     * Sets the post values of all enlisted records, which have been left empty up to now,
+     * then filters for those that are meant for publishing.
+     */
+    private Stream<PropertyChangeRecord> streamWithPostValuesCaptured() {
+        return enlistedPropertyChangeRecordsById.values().stream()
                 .peek(rec -> {
                     // assuming this check correctly detects deleted entities
                     if(MmEntityUtil.isDeleted(rec.getEntity())) {
@@ -164,13 +206,156 @@ private Set<PropertyChangeRecord> capturePostValuesAndDrain() {
                         rec.withPostValueSetToCurrent();
                     }
                 })
-                .filter(managedProperty->managedProperty.getPreAndPostValue().shouldPublish())
-                .collect(_Sets.toUnmodifiable());
+                .filter(managedProperty->managedProperty.getPreAndPostValue().shouldPublish());
+    }
+
+    /**
+     * Whether a record for given id is enlisted (in memory, spilled ones are not considered).
+     */
+    private boolean isEnlisted(final PropertyChangeRecordId pcrId) {
+        return enlistedPropertyChangeRecordsById.containsKey(pcrId);
+    }
 
+    // -- SPILLING
+
+    private int spillThreshold() {
+        return isisConfiguration.getCore().getRuntimeServices().getEntityChangeTracker().getSpillThreshold();
+    }
+
+    /**
+     * If the number of enlisted records reached the configured threshold, appends them (with their pre values
+     * only) to the spill file, then clears them from memory.
+     * <p>
+     * As this is called from within ORM callbacks, no property values are read.
+     */
+    private void spillIfThresholdReached() {
+        val spillThreshold = spillThreshold();
+        if(spillThreshold<1
+                || enlistedPropertyChangeRecordsById.size()<spillThreshold) {
+            return;
+        }
+        if(propertyChangeSpillFile==null) {
+            val directory = isisConfiguration.getCore().getRuntimeServices().getEntityChangeTracker()
+                    .getSpillDirectory()
+                    .map(File::new)
+                    .orElseGet(()->new File(System.getProperty("java.io.tmpdir")));
+            propertyChangeSpillFile = _PropertyChangeSpillFile.createIn(directory);
+        }
+        log.debug("spilling {} entity property change records", enlistedPropertyChangeRecordsById.size());
+        for(val record : enlistedPropertyChangeRecordsById.values()) {
+            propertyChangeSpillFile.append(record);
+        }
         enlistedPropertyChangeRecordsById.clear();
+    }
 
-        return records;
+    private void discardSpilledPropertyChanges() {
+        if(propertyChangeSpillFile!=null) {
+            propertyChangeSpillFile.close();
+            propertyChangeSpillFile = null;
+        }
+    }
+
+    /**
+     * Captures the post values of given chunk of spilled property changes, re-loading their target entities
+     * in bulk (per entity type), then converts those meant for publishing.
+     */
+    private Can<EntityPropertyChange> capturePostValues(
+            final Can<_PropertyChangeSpillFile.SpilledPropertyChange> chunk,
+            final java.sql.Timestamp timestamp,
+            final String userName,
+            final TransactionId txId) {
+
+        val entityByBookmark = loadEntities(chunk.stream()
+                .map(_PropertyChangeSpillFile.SpilledPropertyChange::getBookmark)
+                .distinct()
+                .filter(bookmark->{
+                    val changeKind = changeKindByEnlistedAdapter.get(bookmark);
+                    return changeKind != null
+                            && changeKind != EntityChangeKind.DELETE;
+                })
+                .collect(Can.toCan()));
+
+        return chunk.stream()
+                .map(spilled->capturePostValue(spilled, entityByBookmark, timestamp, userName, txId))
+                .flatMap(Optional::stream)
+                .collect(Can.toCan());
+    }
+
+    /**
+     * Loads the entities for given bookmarks, using a single fetch per entity type
+     * (see {@link EntityFacet#fetchByBookmarks(Can)}).
+     */
+    private Map<Bookmark, ManagedObject> loadEntities(final Can<Bookmark> bookmarks) {
+        val specificationLoader = objectManager.getSpecificationLoader();
+        val entityByBookmark = new HashMap<Bookmark, ManagedObject>();
+        bookmarks.stream()
+            .collect(Collectors.groupingBy(Bookmark::getLogicalTypeName))
+            .forEach((logicalTypeName, bookmarksOfType)->
+                specificationLoader.specForLogicalTypeName(logicalTypeName)
+                    .ifPresent(spec->spec.entityFacet()
+                        .ifPresent(entityFacet->entityFacet.fetchByBookmarks(Can.ofCollection(bookmarksOfType))
+                            .forEach((bookmark, pojo)->
+                                entityByBookmark.put(bookmark, ManagedObject.adaptSingular(spec, pojo))))));
+        return entityByBookmark;
+    }
+
+    /**
+     * Captures the post value of given spilled property change, using its (re-loaded) target entity,
+     * then converts it, if meant for publishing, mirroring {@link PreAndPostValue#shouldPublish()}.
+     * Pre and post values are compared by their string representation.
+     */
+    private Optional<EntityPropertyChange> capturePostValue(
+            final _PropertyChangeSpillFile.SpilledPropertyChange spilled,
+            final Map<Bookmark, ManagedObject> entityByBookmark,
+            final java.sql.Timestamp timestamp,
+            final String userName,
+            final TransactionId txId) {
+
+        val changeKind = changeKindByEnlistedAdapter.get(spilled.getBookmark());
+        if(changeKind == null) {
+            // created and then deleted within the same transaction
+            return Optional.empty();
+        }
+
+        val entity = changeKind == EntityChangeKind.DELETE
+                ? Optional.<ManagedObject>empty()
+                : Optional.ofNullable(entityByBookmark.get(spilled.getBookmark()))
+                    .filter(ManagedObjects::isSpecified)
+                    .filter(adapter->!MmEntityUtil.isDeleted(adapter));
+
+        final String postString;
+        if(entity.isPresent()) {
+            val postValue = entity.get().getSpecification()
+                    .getPropertyElseFail(spilled.getPropertyId(), MixedIn.EXCLUDED)
+                    .get(entity.get(), InteractionInitiatedBy.FRAMEWORK);
+            postString = Optional.ofNullable(MmUnwrapUtil.single(postValue))
+                    .map(Object::toString)
+                    .orElse(null);
+            if(!spilled.isPreValueNew()
+                    && Objects.equals(spilled.getPreString(), postString)) {
+                return Optional.empty();
+            }
+        } else {
+            if(spilled.isPreValueNew()) {
+                return Optional.empty();
+            }
+            postString = PropertyValuePlaceholder.DELETED.toString();
+        }
+
+        return Optional.of(EntityPropertyChange.of(
+                txId.getInteractionId(), txId.getSequence(),
+                spilled.getBookmark(), spilled.getLogicalMemberIdentifier(), spilled.getPropertyId(),
+                spilled.isPreValueNew()
+                    ? PropertyValuePlaceholder.NEW.toString()
+                    : spilled.getPreString(),
+                postString,
+                userName, timestamp));
+    }
 
+    private int countSpilledPropertyChanges() {
+        return propertyChangeSpillFile!=null
+                ? propertyChangeSpillFile.getSize()
+                : 0;
     }
 
     private boolean isEntityExcludedForChangePublishing(final ManagedObject entity) {
@@ -250,9 +435,28 @@ void onTransactionCompleting(final TransactionBeforeCompletionEvent event) {
     private void doPublish() {
         _Xray.publish(this, interactionProviderProvider);
 
-        log.debug("about to publish entity changes");
-        entityPropertyChangePublisher.publishChangedProperties();
-        entityChangesPublisher.publishChangingEntities(this);
+        // before publishing, as publishing drains the enlisted changes
+        val numberEntitiesLoaded = numberEntitiesLoaded();
+        val numberEntitiesDirtied = numberEntitiesDirtied();
+        if(metricsRecorder.isEnabled()) {
+            metricsRecorder.recordEntitiesLoadedAndDirtied(numberEntitiesLoaded, numberEntitiesDirtied);
+        }
+        val metricsStartNanos = metricsRecorder.isEnabled() ? System.nanoTime() : 0L;
+        val jfrEvent = EntityChangesPublishingJfrEvent.started();
+
+        try {
+            log.debug("about to publish entity changes");
+            entityPropertyChangePublisher.publishChangedProperties();
+            entityChangesPublisher.publishChangingEntities(this);
+        } finally {
+            jfrEvent.complete(
+                    interactionProviderProvider.get().getInteractionId().orElse(null),
+                    numberEntitiesLoaded,
+                    numberEntitiesDirtied);
+            if(metricsRecorder.isEnabled()) {
+                metricsRecorder.recordEntityChangesPublishing(System.nanoTime() - metricsStartNanos);
+            }
+        }
     }
 
     private void postPublishing() {
@@ -260,6 +464,7 @@ private void postPublishing() {
 
         enlistedPropertyChangeRecordsById.clear();
         entityPropertyChangeRecordsForPublishing.clear();
+        discardSpilledPropertyChanges();
 
         changeKindByEnlistedAdapter.clear();
         entityChangeEventCount.reset();
@@ -281,14 +486,82 @@ public Optional<EntityChanges> getEntityChanges(
         return _ChangingEntitiesFactory.createChangingEntities(timestamp, userName, this);
     }
 
+    /**
+     * Includes spilled property changes (if any), hence should be avoided in favor of
+     * {@link #streamPropertyChangesInChunks(java.sql.Timestamp, String, TransactionId)}.
+     */
     @Override
     public Can<EntityPropertyChange> getPropertyChanges(
             final java.sql.Timestamp timestamp,
             final String userName,
             final TransactionId txId) {
-        return snapshotPropertyChangeRecords().stream()
+        try(val chunks = streamPropertyChangesInChunks(timestamp, userName, txId)) {
+            return chunks
+                    .flatMap(Can::stream)
+                    .collect(Can.toCan());
+        }
+    }
+
+    /**
+     * Provides the spilled property changes (if any) in chunks of (about) the spill threshold's size,
+     * followed by those still held in memory.
+     * <p>
+     * Spilled property changes are de-duplicated chunk by chunk (keeping the first occurrence, holding the
+     * pre value), and those held in memory are dropped, if spilled before.
+     * Post values of spilled property changes are captured chunk by chunk, as the returned stream is consumed,
+     * and those that turn out unchanged are dropped.
+     */
+    @Override
+    public Stream<Can<EntityPropertyChange>> streamPropertyChangesInChunks(
+            final java.sql.Timestamp timestamp,
+            final String userName,
+            final TransactionId txId) {
+
+        // side-effect: locks the result for this transaction
+        val inMemoryRecords = snapshotPropertyChangeRecords();
+
+        if(countSpilledPropertyChanges()==0) {
+            return Stream.of(inMemoryRecords.stream()
+                    .map(propertyChangeRecord -> propertyChangeRecord.toEntityPropertyChange(timestamp, userName, txId))
+                    .collect(Can.toCan()));
+        }
+
+        // at most spill threshold many
+        final Set<String> inMemoryKeys = inMemoryRecords.stream()
+                .map(EntityChangeTrackerDefault::spillKey)
+                .collect(Collectors.toCollection(HashSet::new));
+        final Set<String> spilledBeforeKeys = new HashSet<>();
+        val spilledChunks = propertyChangeSpillFile.streamDeduplicatedInChunks(spillThreshold(), key->{
+            if(inMemoryKeys.contains(key)) {
+                spilledBeforeKeys.add(key);
+            }
+        });
+        val inMemory = inMemoryRecords.stream()
+                .filter(propertyChangeRecord -> !spilledBeforeKeys.contains(spillKey(propertyChangeRecord)))
                 .map(propertyChangeRecord -> propertyChangeRecord.toEntityPropertyChange(timestamp, userName, txId))
                 .collect(Can.toCan());
+
+        return Stream.concat(
+                spilledChunks
+                    .map(chunk->capturePostValues(chunk, timestamp, userName, txId))
+                    .filter(Can::isNotEmpty),
+                Stream.of(inMemory).filter(Can::isNotEmpty));
+    }
+
+    private static String spillKey(final PropertyChangeRecord propertyChangeRecord) {
+        return _PropertyChangeSpillFile.keyOf(propertyChangeRecord.getBookmark(), propertyChangeRecord.getPropertyId());
+    }
+
+    /**
+     * Number of property changes to be published, including spilled ones (if any).
+     * As spilled property changes are only de-duplicated and their post values captured on publishing,
+     * these are all counted, even though some might turn out duplicates or unchanged.
+     * <p>
+     * As a side-effect, locks the result for this transaction, such that cannot enlist on top of it.
+     */
+    int countPropertyChangesForPublishing() {
+        return snapshotPropertyChangeRecords().size()
+                + countSpilledPropertyChanges();
     }
 
     // -- DEPENDENCIES
@@ -354,6 +627,7 @@ long countPotentialPropertyChangeRecords() {
     public void enlistCreated(final ManagedObject entity) {
 
         _Xray.enlistCreated(entity, interactionProviderProvider);
+        invalidateMemoizedConsents();
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -365,8 +639,10 @@ public void enlistCreated(final ManagedObject entity) {
         entity.getSpecification().streamProperties(MixedIn.EXCLUDED)
                 .filter(property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
                 .map(property -> PropertyChangeRecordId.of(entity, property))
-                .filter(pcrId -> ! enlistedPropertyChangeRecordsById.containsKey(pcrId)) // only if not previously seen
+                .filter(pcrId -> ! isEnlisted(pcrId)) // only if not previously seen
                 .forEach(pcrId -> enlistedPropertyChangeRecordsById.put(pcrId, PropertyChangeRecord.ofNew(pcrId)));
+
+        spillIfThresholdReached();
     }
 
     @Override
@@ -375,6 +651,7 @@ public void enlistUpdating(
             @Nullable final Can<PropertyChangeRecord> ormPropertyChangeRecords) {
 
         _Xray.enlistUpdating(entity, interactionProviderProvider);
+        invalidateMemoizedConsents();
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -389,7 +666,7 @@ public void enlistUpdating(
             ormPropertyChangeRecords
                     .stream()
                     .filter(pcr -> !EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(pcr.getProperty()))
-                    .filter(pcr -> ! enlistedPropertyChangeRecordsById.containsKey(pcr.getId())) // only if not previously seen
+                    .filter(pcr -> ! isEnlisted(pcr.getId())) // only if not previously seen
                     .forEach(pcr -> this.enlistedPropertyChangeRecordsById.put(pcr.getId(), pcr));
         } else {
             // home-grown approach
@@ -398,11 +675,13 @@ public void enlistUpdating(
             entity.getSpecification().streamProperties(MixedIn.EXCLUDED)
                     .filter(property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
                     .map(property -> PropertyChangeRecordId.of(entity, property))
-                    .filter(pcrId -> ! enlistedPropertyChangeRecordsById.containsKey(pcrId)) // only if not previously seen
+                    .filter(pcrId -> ! isEnlisted(pcrId)) // only if not previously seen
                     .map(pcrId -> enlistedPropertyChangeRecordsById.put(pcrId, PropertyChangeRecord.ofCurrent(pcrId)))
                     .filter(Objects::nonNull)   // shouldn't happen, just keeping compiler happy
                     .forEach(PropertyChangeRecord::withPreValueSetToCurrent);
         }
+
+        spillIfThresholdReached();
     }
 
 
@@ -410,6 +689,7 @@ public void enlistUpdating(
     public void enlistDeleting(final ManagedObject entity) {
 
         _Xray.enlistDeleting(entity, interactionProviderProvider);
+        invalidateMemoizedConsents();
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -426,11 +706,21 @@ public void enlistDeleting(final ManagedObject entity) {
                     .filter(property -> !EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
                     .map(property -> PropertyChangeRecordId.of(entity, property))
                     .forEach(pcrId -> enlistedPropertyChangeRecordsById.computeIfAbsent(pcrId, id -> PropertyChangeRecord.ofDeleting(id)));
+
+            spillIfThresholdReached();
         }
     }
 
 
 
+    /**
+     * As any entity change might affect the outcome of (memoized) hide/disable consent evaluations.
+     */
+    private void invalidateMemoizedConsents() {
+        interactionProviderProvider.get().currentInteraction()
+            .ifPresent(InteractionConsentCache::invalidate);
+    }
+
     /**
      * Used only for the implementation of {@link MetricsService}.
      * @param entity
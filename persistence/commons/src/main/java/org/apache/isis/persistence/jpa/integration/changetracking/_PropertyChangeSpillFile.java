@@ -0,0 +1,347 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jpa.integration.changetracking;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Append-only local file, holding property changes spilled by the {@link EntityChangeTrackerDefault}
+ * to keep its heap footprint bounded.
+ * <p>
+ * Only the target's bookmark and the (stringified) pre-value of each property change are spilled;
+ * post-values are read later on, when the transaction completes.
+ * <p>
+ * No index of what has been spilled is kept in memory, so a property changed again after having been spilled
+ * is appended again. Only its first occurrence counts (holding the pre-value); later ones are removed on reading
+ * back, see {@link #streamDeduplicatedInChunks(int, Consumer)}.
+ * <p>
+ * Not thread-safe, as is the interaction-scoped change tracker owning it.
+ */
+@Log4j2
+final class _PropertyChangeSpillFile implements AutoCloseable {
+
+    /**
+     * A property change as read back from the spill file, yet missing its post-value.
+     */
+    @Value
+    static class SpilledPropertyChange {
+        @NonNull Bookmark bookmark;
+        @NonNull String logicalMemberIdentifier;
+        @NonNull String propertyId;
+        /**
+         * Whether the pre-value is {@link PropertyValuePlaceholder#NEW}, that is, the target was created
+         * within the transaction.
+         */
+        boolean preValueNew;
+        @Nullable String preString;
+
+        String getKey() {
+            return keyOf(bookmark, propertyId);
+        }
+    }
+
+    /**
+     * Identifies a property of an entity, the same for all of its changes.
+     */
+    static String keyOf(final @NonNull Bookmark bookmark, final @NonNull String propertyId) {
+        return bookmark.stringify() + "#" + propertyId;
+    }
+
+    /**
+     * Maximum number of partition files written to at the same time,
+     * see {@link #streamDeduplicatedInChunks(int, Consumer)}.
+     */
+    static final int MAX_OPEN_PARTITIONS = 64;
+
+    static _PropertyChangeSpillFile createIn(final @NonNull File directory) {
+        try {
+            val path = Files.createTempFile(directory.toPath(), "isis-entity-property-changes-", ".bin");
+            return new _PropertyChangeSpillFile(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to create spill file for entity property changes", e);
+        }
+    }
+
+    private final Path path;
+    private final DataOutputStream out;
+    @Getter private int size = 0;
+
+    private _PropertyChangeSpillFile(final Path path) throws IOException {
+        this.path = path;
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+    }
+
+    /**
+     * Appends given record's target bookmark and pre-value, any post-value is ignored.
+     */
+    void append(final @NonNull PropertyChangeRecord record) {
+        val preAndPostValue = record.getPreAndPostValue();
+        try {
+            writePropertyChange(out, new SpilledPropertyChange(
+                    record.getBookmark(),
+                    record.getLogicalMemberIdentifier(),
+                    record.getPropertyId(),
+                    preAndPostValue.getPre() == PropertyValuePlaceholder.NEW,
+                    preAndPostValue.getPreString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to spill entity property change to " + path, e);
+        }
+        ++size;
+    }
+
+    /**
+     * Reads back all spilled property changes, in chunks of (about) given size, keeping only the first occurrence
+     * of each {@link SpilledPropertyChange#getKey() key}.
+     * <p>
+     * To do so, the spilled property changes are first partitioned by target into one file per chunk,
+     * so that all changes of the same entity end up in the same chunk (in the order spilled),
+     * and duplicates are removed chunk by chunk. Memory held hence is proportional to the chunk size,
+     * not to the number of property changes spilled.
+     * <p>
+     * The partitioning is done eagerly, passing the key of each property change read to given {@code onKey};
+     * reading the partitions is lazy. The returned {@link Stream} must be closed after use.
+     */
+    Stream<Can<SpilledPropertyChange>> streamDeduplicatedInChunks(
+            final int chunkSize,
+            final @NonNull Consumer<String> onKey) {
+
+        flush();
+        final int partitionCount = (int) Math.max(1L, ((long)size + chunkSize - 1) / chunkSize);
+        if(partitionCount==1) {
+            val chunk = deduplicate(readAll(path, size, onKey));
+            return Stream.of(chunk);
+        }
+
+        val partitions = partition(partitionCount, onKey);
+        final Iterator<Can<SpilledPropertyChange>> iterator = new Iterator<Can<SpilledPropertyChange>>() {
+            int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next<partitions.size();
+            }
+
+            @Override
+            public Can<SpilledPropertyChange> next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                val partition = partitions.get(next++);
+                val chunk = deduplicate(readAll(partition.getPath(), partition.getSize(), __->{}));
+                delete(partition.getPath());
+                return chunk;
+            }
+        };
+
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(()->partitions.forEach(partition->delete(partition.getPath())));
+    }
+
+    /**
+     * Deletes the file.
+     */
+    @Override
+    public void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.warn("failed to close spill file {}", path, e);
+        }
+        delete(path);
+    }
+
+    // -- PARTITIONING
+
+    @Value
+    private static class Partition {
+        Path path;
+        int size;
+    }
+
+    /**
+     * Splits this file by target into given number of partition files, at most {@link #MAX_OPEN_PARTITIONS}
+     * written to at the same time (hence requiring a pass over this file for each such group of partitions).
+     */
+    private List<Partition> partition(final int partitionCount, final Consumer<String> onKey) {
+        val partitions = new ArrayList<Partition>(partitionCount);
+        try {
+            for(int first = 0; first < partitionCount; first += MAX_OPEN_PARTITIONS) {
+                final int last = Math.min(first + MAX_OPEN_PARTITIONS, partitionCount);
+                val paths = new Path[last - first];
+                val outs = new DataOutputStream[last - first];
+                val sizes = new int[last - first];
+                try {
+                    for(int i = 0; i < outs.length; i++) {
+                        paths[i] = Files.createTempFile(path.getParent(), "isis-entity-property-changes-", ".part");
+                        outs[i] = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(paths[i])));
+                    }
+                    try(val in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                        for(int remaining = size; remaining > 0; remaining--) {
+                            val propertyChange = readPropertyChange(in);
+                            if(first==0) {
+                                onKey.accept(propertyChange.getKey());
+                            }
+                            final int index = partitionOf(propertyChange, partitionCount) - first;
+                            if(index>=0
+                                    && index<outs.length) {
+                                writePropertyChange(outs[index], propertyChange);
+                                sizes[index]++;
+                            }
+                        }
+                    }
+                } finally {
+                    for(int i = 0; i < outs.length; i++) {
+                        if(outs[i]!=null) {
+                            outs[i].close();
+                        }
+                        if(paths[i]!=null) {
+                            partitions.add(new Partition(paths[i], sizes[i]));
+                        }
+                    }
+                }
+            }
+            return partitions;
+        } catch (IOException e) {
+            partitions.forEach(partition->delete(partition.getPath()));
+            throw new UncheckedIOException("failed to partition spilled entity property changes of " + path, e);
+        }
+    }
+
+    private static int partitionOf(final SpilledPropertyChange propertyChange, final int partitionCount) {
+        return Math.floorMod(propertyChange.getBookmark().stringify().hashCode(), partitionCount);
+    }
+
+    // -- HELPER
+
+    private void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to flush spill file " + path, e);
+        }
+    }
+
+    private static List<SpilledPropertyChange> readAll(
+            final Path path,
+            final int count,
+            final Consumer<String> onKey) {
+        val propertyChanges = new ArrayList<SpilledPropertyChange>(count);
+        try(val in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            for(int remaining = count; remaining > 0; remaining--) {
+                val propertyChange = readPropertyChange(in);
+                onKey.accept(propertyChange.getKey());
+                propertyChanges.add(propertyChange);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read spilled entity property changes from " + path, e);
+        }
+        return propertyChanges;
+    }
+
+    /**
+     * Keeps the first occurrence of each key, that is, the one holding the pre-value.
+     */
+    private static Can<SpilledPropertyChange> deduplicate(final List<SpilledPropertyChange> propertyChanges) {
+        val firstByKey = new LinkedHashMap<String, SpilledPropertyChange>();
+        propertyChanges.forEach(propertyChange->firstByKey.putIfAbsent(propertyChange.getKey(), propertyChange));
+        return Can.ofCollection(firstByKey.values());
+    }
+
+    private static void delete(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("failed to delete spill file {}", path, e);
+        }
+    }
+
+    private static void writePropertyChange(
+            final DataOutputStream out,
+            final SpilledPropertyChange propertyChange) throws IOException {
+        writeString(out, propertyChange.getBookmark().stringify());
+        writeString(out, propertyChange.getLogicalMemberIdentifier());
+        writeString(out, propertyChange.getPropertyId());
+        out.writeBoolean(propertyChange.isPreValueNew());
+        writeString(out, propertyChange.getPreString());
+    }
+
+    private static void writeString(final DataOutputStream out, final @Nullable String str) throws IOException {
+        if(str==null) {
+            out.writeInt(-1);
+            return;
+        }
+        val bytes = str.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static @Nullable String readString(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if(length<0) {
+            return null;
+        }
+        val bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static SpilledPropertyChange readPropertyChange(final DataInputStream in) throws IOException {
+        val target = Bookmark.parse(readString(in))
+                .orElseThrow(()->new IOException("corrupted spill file, bookmark expected"));
+        val logicalMemberId = readString(in);
+        val propertyId = readString(in);
+        val preValueNew = in.readBoolean();
+        val preValue = readString(in);
+        return new SpilledPropertyChange(target, logicalMemberId, propertyId, preValueNew, preValue);
+    }
+
+}
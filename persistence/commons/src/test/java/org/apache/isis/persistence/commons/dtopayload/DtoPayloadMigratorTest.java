@@ -0,0 +1,229 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.commons.dtopayload;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.util.schema.DtoPayloadCodec;
+
+import lombok.val;
+
+class DtoPayloadMigratorTest {
+
+    private static final int ROWS = 10;
+
+    private JdbcDataSource dataSource;
+    private Connection keepAlive;
+    /** original (XML) payloads by key, in insertion order */
+    private Map<String, String> xmlByKey;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID());
+        keepAlive = dataSource.getConnection(); // in-memory database lives as long as there is a connection
+
+        xmlByKey = new LinkedHashMap<>();
+        try(val statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE commandLog (interactionId VARCHAR(36) PRIMARY KEY, commandDto CLOB)");
+        }
+        try(val insert = keepAlive.prepareStatement("INSERT INTO commandLog VALUES (?, ?)")) {
+            for(int i=0; i<ROWS; ++i) {
+                val key = String.format("%08d-0000-0000-0000-000000000000", i);
+                val xml = commandXml(key);
+                xmlByKey.put(key, xml);
+                insert.setString(1, key);
+                insert.setString(2, xml);
+                insert.executeUpdate();
+            }
+            // payloads are optional
+            insert.setString(1, "ffffffff-0000-0000-0000-000000000000");
+            insert.setString(2, null);
+            insert.executeUpdate();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @Test
+    void migrates_xml_to_gzip_base64_and_back() throws SQLException {
+
+        // when
+        val toGzip = migrator(dataSource, DtoPayloadCodec.GZIP_BASE64, 4).migrate();
+
+        // then
+        assertEquals(ROWS + 1, toGzip.getScanned());
+        assertEquals(ROWS, toGzip.getMigrated());
+        assertTrue(toGzip.getCharsAfter() < toGzip.getCharsBefore());
+        assertAllRowsEncodedWith(DtoPayloadCodec.GZIP_BASE64);
+
+        // when re-run, then nothing left to migrate
+        assertEquals(0, migrator(dataSource, DtoPayloadCodec.GZIP_BASE64, 4).migrate().getMigrated());
+
+        // when
+        val toXml = migrator(dataSource, DtoPayloadCodec.XML, 4).migrate();
+
+        // then
+        assertEquals(ROWS, toXml.getMigrated());
+        assertEquals(toGzip.getCharsBefore(), toXml.getCharsAfter());
+        assertAllRowsEncodedWith(DtoPayloadCodec.XML);
+    }
+
+    @Test
+    void resumes_after_a_partial_commit() throws SQLException {
+
+        // given a data source, that fails on committing the second batch
+        val failingDataSource = failingOnCommit(dataSource, 2);
+
+        // when
+        assertThrows(SQLException.class, ()->
+            migrator(failingDataSource, DtoPayloadCodec.GZIP_BASE64, 4).migrate());
+
+        // then only the first batch was committed
+        assertEquals(4, countEncodedWith(DtoPayloadCodec.GZIP_BASE64));
+
+        // when re-run
+        val resumed = migrator(dataSource, DtoPayloadCodec.GZIP_BASE64, 4).migrate();
+
+        // then migrates the remainder only
+        assertEquals(ROWS + 1, resumed.getScanned());
+        assertEquals(ROWS - 4, resumed.getMigrated());
+        assertAllRowsEncodedWith(DtoPayloadCodec.GZIP_BASE64);
+    }
+
+    // -- HELPER
+
+    private static DtoPayloadMigrator migrator(
+            final DataSource dataSource,
+            final DtoPayloadCodec targetCodec,
+            final int batchSize) {
+        return DtoPayloadMigrator.builder()
+                .dataSource(dataSource)
+                .table("commandLog")
+                .keyColumn("interactionId")
+                .payloadColumn("commandDto")
+                .targetCodec(targetCodec)
+                .batchSize(batchSize)
+                .build();
+    }
+
+    private void assertAllRowsEncodedWith(final DtoPayloadCodec codec) throws SQLException {
+        val payloadsByKey = readPayloads();
+        assertEquals(ROWS + 1, payloadsByKey.size());
+        xmlByKey.forEach((key, xml)->{
+            val payload = payloadsByKey.get(key);
+            assertEquals(codec, DtoPayloadCodec.codecOf(payload));
+            assertEquals(xml, DtoPayloadCodec.decode(payload));
+        });
+        assertNull(payloadsByKey.get("ffffffff-0000-0000-0000-000000000000"));
+    }
+
+    private long countEncodedWith(final DtoPayloadCodec codec) throws SQLException {
+        return readPayloads().values().stream()
+                .filter(payload->payload!=null
+                        && DtoPayloadCodec.codecOf(payload)==codec)
+                .count();
+    }
+
+    private Map<String, String> readPayloads() throws SQLException {
+        val payloadsByKey = new LinkedHashMap<String, String>();
+        try(val statement = keepAlive.createStatement();
+            val rs = statement.executeQuery("SELECT interactionId, commandDto FROM commandLog")) {
+            while(rs.next()) {
+                payloadsByKey.put(rs.getString(1), rs.getString(2));
+            }
+        }
+        return payloadsByKey;
+    }
+
+    private static String commandXml(final String interactionId) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                + "<cmd:command xmlns:cmd=\"http://isis.apache.org/schema/cmd\" "
+                + "xmlns:com=\"http://isis.apache.org/schema/common\">"
+                + "<cmd:majorVersion>2</cmd:majorVersion><cmd:minorVersion>0</cmd:minorVersion>"
+                + "<cmd:interactionId>" + interactionId + "</cmd:interactionId>"
+                + "<cmd:username>sven</cmd:username>"
+                + "<cmd:targets><com:oid type=\"demo.Customer\" id=\"1\"/></cmd:targets>"
+                + "<cmd:member xsi:type=\"cmd:actionDto\" "
+                + "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" "
+                + "logicalMemberIdentifier=\"demo.Customer#placeOrder\">"
+                + "<cmd:parameters><cmd:parameter name=\"quantity\"><com:int>1</com:int></cmd:parameter></cmd:parameters>"
+                + "</cmd:member></cmd:command>";
+    }
+
+    /**
+     * @return a data source, whose connections fail on the n-th (1-based) commit
+     */
+    private static DataSource failingOnCommit(final DataSource dataSource, final int failingCommit) {
+        val commits = new AtomicInteger();
+        return (DataSource) Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(),
+                new Class<?>[] {DataSource.class},
+                (dsProxy, dsMethod, dsArgs)->{
+                    val result = invoke(dataSource, dsMethod, dsArgs);
+                    if(!(result instanceof Connection)) {
+                        return result;
+                    }
+                    val connection = (Connection) result;
+                    return Proxy.newProxyInstance(
+                            Connection.class.getClassLoader(),
+                            new Class<?>[] {Connection.class},
+                            (proxy, method, args)->{
+                                if(method.getName().equals("commit")
+                                        && commits.incrementAndGet() == failingCommit) {
+                                    throw new SQLException("simulated failure on commit #" + failingCommit);
+                                }
+                                return invoke(connection, method, args);
+                            });
+                });
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args)
+            throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
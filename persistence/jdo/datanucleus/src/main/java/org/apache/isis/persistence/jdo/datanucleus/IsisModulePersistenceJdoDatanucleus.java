@@ -310,6 +310,24 @@ private static void integrateWithApplicationLayer(
                 new JdoLifecycleListener(metaModelContext, objectLifecyclePublisher);
         pmf.addInstanceLifecycleListener(jdoLifecycleListener, (Class[]) null);
 
+        // resolve injection points of the type converters instantiated by DN, eg. the configured DtoPayloadCodec
+
+        if(pmf instanceof JDOPersistenceManagerFactory) {
+            val typeManager = ((JDOPersistenceManagerFactory) pmf).getNucleusContext().getTypeManager();
+            val serviceInjector = metaModelContext.getServiceInjector();
+            INJECTABLE_TYPE_CONVERTER_NAMES.stream()
+                .map(typeManager::getTypeConverterForName)
+                .filter(_NullSafe::isPresent)
+                .forEach(serviceInjector::injectServicesInto);
+        }
+
     }
 
+    /**
+     * Names of the type converters (as registered in plugin.xml) that have injection points.
+     */
+    private static final List<String> INJECTABLE_TYPE_CONVERTER_NAMES = List.of(
+            "isis.commanddtov2-string",
+            "isis.interactiondtov2-string");
+
 }
@@ -18,6 +18,8 @@
  */
 package org.apache.isis.persistence.jdo.datanucleus.changetracking;
 
+import java.util.Map;
+
 import javax.jdo.listener.AttachLifecycleListener;
 import javax.jdo.listener.ClearLifecycleListener;
 import javax.jdo.listener.CreateLifecycleListener;
@@ -29,13 +31,18 @@
 import javax.jdo.listener.StoreLifecycleListener;
 
 import org.datanucleus.enhancement.Persistable;
+import org.springframework.lang.Nullable;
 
 import org.apache.isis.applib.annotation.Domain;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.assertions._Assert;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
+import org.apache.isis.core.metamodel.facets.properties.property.entitychangepublishing.EntityPropertyChangePublishingPolicyFacet;
 import org.apache.isis.core.metamodel.object.ManagedObject;
 import org.apache.isis.core.metamodel.services.objectlifecycle.ObjectLifecyclePublisher;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
 import org.apache.isis.persistence.jdo.datanucleus.entities.DnObjectProviderForIsis;
 
 import lombok.NonNull;
@@ -47,7 +54,7 @@
  * <ul>
  * <li>enlistCreated <-> postStore (when NEW)</li>
  * <li>enlistDeleting <-> preDelete</li>
- * <li>enlistUpdating <-> preDirty</li>
+ * <li>enlistUpdating <-> preDirty (entity only), preStore when NOT NEW (property change records of dirty fields)</li>
  * <li>recognizeLoaded <-> postLoad</li>
  * <li>recognizePersisting <-> preStore (when NEW)</li>
  * <li>recognizeUpdating <-> postStore (when NOT NEW)</li>
@@ -106,6 +113,21 @@ public void preStore(final InstanceLifecycleEvent event) {
             val entity = adaptEntity(pojo);
             objectLifecyclePublisher.onPrePersist(
                     entity.asEitherWithOrWithoutMemoizedBookmark());
+        } else {
+            // provide the property change records of the dirty fields (pre-dirty only enlisted the entity)
+            DnObjectProviderForIsis.extractFrom(pojo)
+            .ifPresent(stateManager->{
+                final Map<String, Object> preValuesByFieldName = stateManager.drainPreValuesOfDirtyFields();
+                if(preValuesByFieldName.isEmpty()) {
+                    return;
+                }
+                final ManagedObject entity = adaptEntity(pojo);
+                if(!EntityChangePublishingFacet.isPublishingEnabled(entity.getSpecification())) {
+                    return;
+                }
+                objectLifecyclePublisher.onPreFlushUpdate(entity,
+                        propertyChangeRecordsFor(entity, preValuesByFieldName));
+            });
         }
     }
 
@@ -138,20 +160,23 @@ public void preDirty(final InstanceLifecycleEvent event) {
         log.debug("preDirty {}", ()->_Utils.debug(event));
 
         final Persistable pojo = _Utils.persistableFor(event);
-        final Runnable doPreDirty = ()->doPreDirty(pojo);
 
         // [ISIS-3126] pre-dirty nested loop prevention,
         // assuming we can cast the DN StateManager to the custom one as provided by the framework
         DnObjectProviderForIsis.extractFrom(pojo).ifPresentOrElse(
                 stateManager->
                     stateManager.acquirePreDirtyPropagationLock(pojo.dnGetObjectId())
-                    .ifPresent(lock->lock.releaseAfter(doPreDirty)),
-                doPreDirty);
+                    // property change records are provided later, during pre-store, when known which fields are dirty
+                    .ifPresent(lock->lock.releaseAfter(()->doPreDirty(pojo, Can.empty()))),
+                // home-grown approach, capturing the pre-values of all properties
+                ()->doPreDirty(pojo, null));
     }
 
-    private final void doPreDirty(final Persistable pojo) {
+    private final void doPreDirty(
+            final Persistable pojo,
+            final @Nullable Can<PropertyChangeRecord> changeRecords) {
         val entity = adaptEntity(pojo);
-        objectLifecyclePublisher.onPreUpdate(entity, null);
+        objectLifecyclePublisher.onPreUpdate(entity, changeRecords);
     }
 
     @Override
@@ -206,6 +231,19 @@ public void postDetach(final InstanceLifecycleEvent event) {
 
     // -- HELPER
 
+    private static Can<PropertyChangeRecord> propertyChangeRecordsFor(
+            final ManagedObject entity,
+            final Map<String, Object> preValuesByFieldName) {
+        val spec = entity.getSpecification();
+        return preValuesByFieldName.entrySet().stream()
+                .map(entry->spec.getProperty(entry.getKey())
+                        .filter(property -> !property.isMixedIn())
+                        .filter(property -> !EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
+                        .map(property -> PropertyChangeRecord.ofCurrent(PropertyChangeRecordId.of(entity, property), entry.getValue()))
+                        .orElse(null)) // ignore
+                .collect(Can.toCan()); // a Can<T> only collects non-null elements
+    }
+
     private ManagedObject adaptEntity(
             final @NonNull Persistable pojo) {
         return _Utils.adaptEntity(metaModelContext, pojo);
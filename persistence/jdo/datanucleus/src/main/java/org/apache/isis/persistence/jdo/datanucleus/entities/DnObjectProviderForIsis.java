@@ -18,6 +18,7 @@
  */
 package org.apache.isis.persistence.jdo.datanucleus.entities;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
@@ -218,6 +219,153 @@ public Optional<PreDirtyPropagationLock> acquirePreDirtyPropagationLock(final Ob
         return lockIfGranted;
     }
 
+    // -- DIRTY FIELD TRACKING
+
+    /**
+     * Per field number, the field's value before it was first modified,
+     * since the last flush (or the start of the transaction).
+     */
+    private Map<Integer, Object> preValuesByFieldNumber = null;
+
+    @Override
+    public void setBooleanField(final Persistable pc, final int fieldNumber, final boolean currentValue, final boolean newValue) {
+        capturePreValue(pc, fieldNumber, currentValue);
+        super.setBooleanField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setByteField(final Persistable pc, final int fieldNumber, final byte currentValue, final byte newValue) {
+        capturePreValue(pc, fieldNumber, currentValue);
+        super.setByteField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setCharField(final Persistable pc, final int fieldNumber, final char currentValue, final char newValue) {
+        capturePreValue(pc, fieldNumber, currentValue);
+        super.setCharField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setDoubleField(final Persistable pc, final int fieldNumber, final double currentValue, final double newValue) {
+        capturePreValue(pc, fieldNumber, currentValue);
+        super.setDoubleField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setFloatField(final Persistable pc, final int fieldNumber, final float currentValue, final float newValue) {
+        capturePreValue(pc, fieldNumber, currentValue);
+        super.setFloatField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setIntField(final Persistable pc, final int fieldNumber, final int currentValue, final int newValue) {
+        capturePreValue(pc, fieldNumber, currentValue);
+        super.setIntField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setLongField(final Persistable pc, final int fieldNumber, final long currentValue, final long newValue) {
+        capturePreValue(pc, fieldNumber, currentValue);
+        super.setLongField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setShortField(final Persistable pc, final int fieldNumber, final short currentValue, final short newValue) {
+        capturePreValue(pc, fieldNumber, currentValue);
+        super.setShortField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setStringField(final Persistable pc, final int fieldNumber, final String currentValue, final String newValue) {
+        capturePreValue(pc, fieldNumber, currentValue);
+        super.setStringField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setObjectField(final Persistable pc, final int fieldNumber, final Object currentValue, final Object newValue) {
+        capturePreValue(pc, fieldNumber, currentValue);
+        super.setObjectField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    /**
+     * Field changes not originating from the entity's (enhanced) setters, eg. by relationship management.
+     */
+    @Override
+    public void replaceFieldMakeDirty(final int fieldNumber, final Object value) {
+        capturePreValue(myPC, fieldNumber, null);
+        super.replaceFieldMakeDirty(fieldNumber, value);
+    }
+
+    @Override
+    public void postCommit(final org.datanucleus.Transaction tx) {
+        super.postCommit(tx);
+        preValuesByFieldNumber = null;
+    }
+
+    @Override
+    public void preRollback(final org.datanucleus.Transaction tx) {
+        super.preRollback(tx);
+        preValuesByFieldNumber = null;
+    }
+
+    /**
+     * Returns the pre-modification values of all fields currently dirty, keyed by field name,
+     * then forgets about these, such that fields modified after the next flush are tracked afresh.
+     * <p>
+     * Intended to be called just before an updated entity is flushed (pre-store).
+     */
+    public Map<String, Object> drainPreValuesOfDirtyFields() {
+        val preValuesByFieldNumber = this.preValuesByFieldNumber;
+        this.preValuesByFieldNumber = null;
+
+        val dirtyFieldNumbers = getDirtyFieldNumbers();
+        if(preValuesByFieldNumber==null
+                || dirtyFieldNumbers==null) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Object> preValuesByFieldName = _Maps.newLinkedHashMap();
+        for(val fieldNumber : dirtyFieldNumbers) {
+            if(preValuesByFieldNumber.containsKey(fieldNumber)) {
+                preValuesByFieldName.put(
+                        getClassMetaData().getMetaDataForManagedMemberAtAbsolutePosition(fieldNumber).getName(),
+                        preValuesByFieldNumber.get(fieldNumber));
+            }
+        }
+        return preValuesByFieldName;
+    }
+
+    /**
+     * Remembers the field's value before its first modification, unless already remembered,
+     * and only for persistent entities, that are neither new nor deleted (those are tracked otherwise).
+     */
+    private void capturePreValue(final Persistable pc, final int fieldNumber, final @Nullable Object currentValue) {
+        if(pc!=myPC) {
+            return;
+        }
+        val lifecycleState = getLifecycleState();
+        if(lifecycleState==null
+                || !lifecycleState.isPersistent()
+                || lifecycleState.isNew()
+                || lifecycleState.isDeleted()) {
+            return;
+        }
+        if(preValuesByFieldNumber==null) {
+            preValuesByFieldNumber = _Maps.newHashMap();
+        } else if(preValuesByFieldNumber.containsKey(fieldNumber)) {
+            return;
+        }
+        final Object preValue;
+        if(isLoaded(fieldNumber)
+                && currentValue!=null) {
+            preValue = currentValue;
+        } else {
+            // the value passed in by the enhanced setter is not reliable, if the field is not loaded
+            loadField(fieldNumber);
+            preValue = provideField(fieldNumber);
+        }
+        preValuesByFieldNumber.put(fieldNumber, preValue);
+    }
+
     // -- UTILITY
 
     public static Optional<DnObjectProviderForIsis> extractFrom(final @Nullable Persistable pojo) {
@@ -19,16 +19,24 @@
 package org.apache.isis.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
+import javax.jdo.JDOObjectNotFoundException;
 import javax.jdo.PersistenceManager;
 
+import org.datanucleus.PropertyNames;
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
 import org.datanucleus.enhancement.Persistable;
 import org.datanucleus.store.rdbms.RDBMSPropertyNames;
@@ -45,6 +53,7 @@
 import org.apache.isis.applib.services.xactn.TransactionalProcessor;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.assertions._Assert;
+import org.apache.isis.commons.internal.base._Casts;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
@@ -187,6 +196,46 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches using a single {@link PersistenceManager#getObjectsById(java.util.Collection, boolean)} call,
+     * which DataNucleus resolves with (at most) one datastore query for those not already cached.
+     * Falls back to fetching one by one, if any is not found.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        if(bookmarks.size()<2) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        val persistenceManager = getPersistenceManager();
+        val objectIds = bookmarks
+                .map(bookmark->persistenceManager.newObjectIdInstance(
+                        entityClass, primaryKeyTypeForDecoding().destring(bookmark.getIdentifier())))
+                .toList();
+
+        final List<?> entityPojos;
+        try {
+            val fetchPlan = persistenceManager.getFetchPlan();
+            fetchPlan.addGroup(FetchGroup.DEFAULT);
+            entityPojos = new ArrayList<>(persistenceManager.getObjectsById(objectIds, true));
+        } catch (final JDOObjectNotFoundException e) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        // in the same order as the object ids
+        final Map<Bookmark, Object> pojoByBookmark = _Maps.newHashMap();
+        for(int i = 0; i < bookmarks.size(); i++) {
+            final Object entityPojo = entityPojos.get(i);
+            if(entityPojo!=null) {
+                pojoByBookmark.put(bookmarks.getElseFail(i), entityPojo);
+            }
+        }
+        return pojoByBookmark;
+    }
+
     private Map<Class<?>, Class<?>> primaryKeyClassByEntityClass = new ConcurrentHashMap<>();
 
     private Class<?> primaryKeyTypeFor(final Class<?> entityClass) {
@@ -295,6 +344,75 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 query.getDescription());
     }
 
+    @Override
+    public Stream<ManagedObject> streamByQuery(final Query<?> query, final int chunkSize) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("about to stream Query: {}", query.getDescription());
+        }
+
+        val persistenceManager = getPersistenceManager();
+        final javax.jdo.Query<?> jdoQuery;
+
+        if(query instanceof AllInstancesQuery) {
+
+            val queryFindAllInstances = (AllInstancesQuery<?>) query;
+            jdoQuery = persistenceManager.newQuery(queryFindAllInstances.getResultType());
+
+        } else if(query instanceof NamedQuery) {
+
+            val applibNamedQuery = (NamedQuery<?>) query;
+            val namedParams = _Maps.<String, Object>newHashMap();
+            jdoQuery = persistenceManager.newNamedQuery(applibNamedQuery.getResultType(), applibNamedQuery.getName())
+                    .setNamedParameters(namedParams);
+
+            val injector = getServiceInjector();
+            applibNamedQuery
+                .getParametersByName()
+                .forEach((paramName, paramValue)->
+                    namedParams.put(paramName, injector.injectServicesInto(paramValue)));
+
+        } else {
+            throw _Exceptions.unsupportedOperation("query type %s (%s) not supported by this persistence implementation",
+                    query.getClass(),
+                    query.getDescription());
+        }
+
+        val range = query.getRange();
+        if(!range.isUnconstrained()) {
+            jdoQuery.range(range.getStart(), range.getEnd());
+        }
+
+        // read rows lazily as iterated, without the query result holding on to those already read
+        jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+        jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_RESULT_SET_TYPE, "forward-only");
+        jdoQuery.extension(PropertyNames.PROPERTY_QUERY_RESULT_CACHE_TYPE, "none");
+        jdoQuery.extension(PropertyNames.PROPERTY_QUERY_LOAD_RESULTS_AT_COMMIT, "false");
+        jdoQuery.getFetchPlan().setFetchSize(chunkSize);
+
+        final Iterator<Object> iterator = _Casts.uncheckedCast(jdoQuery.executeList().iterator());
+
+        // entities handed out so far, that are not yet evicted
+        val consumed = new ArrayList<Object>(chunkSize);
+
+        return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                    false)
+                .onClose(jdoQuery::closeAll)
+                .map(fetchedObject->{
+                    if(consumed.size()>=chunkSize) {
+                        // the previous chunk has been processed, so can be released from the L1 cache
+                        if(persistenceManager.currentTransaction().isActive()) {
+                            persistenceManager.flush();
+                        }
+                        persistenceManager.evictAll(consumed);
+                        consumed.clear();
+                    }
+                    consumed.add(fetchedObject);
+                    return adapt(objectLifecyclePublisher, fetchedObject);
+                });
+    }
+
     @Override
     public void persist(final Object pojo) {
 
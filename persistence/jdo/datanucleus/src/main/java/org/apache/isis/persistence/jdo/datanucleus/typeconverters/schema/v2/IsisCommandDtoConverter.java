@@ -18,9 +18,12 @@
  */
 package org.apache.isis.persistence.jdo.datanucleus.typeconverters.schema.v2;
 
+import javax.inject.Inject;
+
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.applib.util.schema.DtoPayloadCodec;
 import org.apache.isis.schema.cmd.v2.CommandDto;
 
 /**
@@ -30,18 +33,30 @@ public class IsisCommandDtoConverter implements TypeConverter<CommandDto, String
 
     private static final long serialVersionUID = 1L;
 
+    // not managed by Spring (directly), injected on bootstrap, see IsisModulePersistenceJdoDatanucleus
+    @Inject private DtoPayloadCodec dtoPayloadCodec;
+
     @Override
     public String toDatastoreType(final CommandDto memberValue) {
         return memberValue != null
-                ? CommandDtoUtils.toXml(memberValue)
+                ? CommandDtoUtils.toPayload(memberValue, dtoPayloadCodec())
                         : null;
     }
 
     @Override
     public CommandDto toMemberType(final String datastoreValue) {
         return datastoreValue != null
-                ? CommandDtoUtils.fromXml(datastoreValue)
+                ? CommandDtoUtils.fromPayload(datastoreValue)
                         : null;
     }
 
+    /**
+     * Plain XML, unless a codec was injected.
+     */
+    private DtoPayloadCodec dtoPayloadCodec() {
+        return dtoPayloadCodec != null
+                ? dtoPayloadCodec
+                : DtoPayloadCodec.XML;
+    }
+
 }
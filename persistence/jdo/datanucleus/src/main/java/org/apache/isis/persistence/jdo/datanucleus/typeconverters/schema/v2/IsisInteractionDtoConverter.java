@@ -18,8 +18,11 @@
  */
 package org.apache.isis.persistence.jdo.datanucleus.typeconverters.schema.v2;
 
+import javax.inject.Inject;
+
 import org.datanucleus.store.types.converters.TypeConverter;
 
+import org.apache.isis.applib.util.schema.DtoPayloadCodec;
 import org.apache.isis.applib.util.schema.InteractionDtoUtils;
 import org.apache.isis.schema.ixn.v2.InteractionDto;
 
@@ -30,18 +33,30 @@ public class IsisInteractionDtoConverter implements TypeConverter<InteractionDto
 
     private static final long serialVersionUID = 1L;
 
+    // not managed by Spring (directly), injected on bootstrap, see IsisModulePersistenceJdoDatanucleus
+    @Inject private DtoPayloadCodec dtoPayloadCodec;
+
     @Override
     public String toDatastoreType(final InteractionDto memberValue) {
         return memberValue != null
-                ? InteractionDtoUtils.toXml(memberValue)
+                ? InteractionDtoUtils.toPayload(memberValue, dtoPayloadCodec())
                         : null;
     }
 
     @Override
     public InteractionDto toMemberType(final String datastoreValue) {
         return datastoreValue != null
-                ? InteractionDtoUtils.fromXml(datastoreValue)
+                ? InteractionDtoUtils.fromPayload(datastoreValue)
                         : null;
     }
 
+    /**
+     * Plain XML, unless a codec was injected.
+     */
+    private DtoPayloadCodec dtoPayloadCodec() {
+        return dtoPayloadCodec != null
+                ? dtoPayloadCodec
+                : DtoPayloadCodec.XML;
+    }
+
 }
@@ -19,15 +19,27 @@
 package org.apache.isis.persistence.jpa.integration.entity;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceException;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.TypedQuery;
 import javax.persistence.metamodel.EntityType;
 
+import org.eclipse.persistence.config.HintValues;
+import org.eclipse.persistence.config.QueryHints;
 import org.eclipse.persistence.exceptions.DescriptorException;
+import org.eclipse.persistence.queries.CursoredStream;
 import org.springframework.data.jpa.repository.JpaContext;
 import org.springframework.lang.Nullable;
 
@@ -116,78 +128,97 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
-    private Class<?> getPrimaryKeyType() {
-        return getJpaEntityType().getIdType().getJavaType();
-    }
-
+    /**
+     * Fetches using a single query (<code>WHERE id IN (..)</code>), if the entity has a single id attribute,
+     * otherwise one by one.
+     */
     @Override
-    public Can<ManagedObject> fetchByQuery(final Query<?> query) {
-
-        val range = query.getRange();
-
-        if (query instanceof AllInstancesQuery) {
-
-            val queryFindAllInstances = (AllInstancesQuery<?>) query;
-            val queryEntityType = queryFindAllInstances.getResultType();
-
-            // guard against misuse
-            if (!entityClass.isAssignableFrom(queryEntityType)) {
-                throw _Exceptions.unexpectedCodeReach();
-            }
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
 
-            val entityManager = getEntityManager();
+        val entityType = getJpaEntityType();
+        if(bookmarks.size()<2
+                || !entityType.hasSingleIdAttribute()) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
 
-            val cb = entityManager.getCriteriaBuilder();
-            val cr = cb.createQuery(entityClass);
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
 
-            cr.select(_Casts.uncheckedCast(cr.from(entityClass)));
+        final Map<String, Bookmark> bookmarkByIdentifier = new HashMap<>();
+        bookmarks.forEach(bookmark->bookmarkByIdentifier.put(bookmark.getIdentifier(), bookmark));
+        val primaryKeys = bookmarks
+                .map(bookmark->primaryKeyType.destring(bookmark.getIdentifier()))
+                .toList();
 
-            val typedQuery = entityManager
-                    .createQuery(cr);
+        val entityManager = getEntityManager();
+        val criteriaBuilder = entityManager.getCriteriaBuilder();
+        final Class<Object> entityPojoClass = _Casts.uncheckedCast(entityClass);
+        val criteriaQuery = criteriaBuilder.createQuery(entityPojoClass);
+        val root = criteriaQuery.from(entityPojoClass);
+        val idAttributeName = entityType.getId(getPrimaryKeyType()).getName();
+        criteriaQuery.select(root).where(root.get(idAttributeName).in(primaryKeys));
 
-            if (range.hasOffset()) {
-                typedQuery.setFirstResult(range.getStartAsInt());
-            }
-            if (range.hasLimit()) {
-                typedQuery.setMaxResults(range.getLimitAsInt());
+        val persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+        final Map<Bookmark, Object> pojoByBookmark = new HashMap<>();
+        for(val entityPojo : entityManager.createQuery(criteriaQuery).getResultList()) {
+            val identifier = primaryKeyType.enstringWithCast(persistenceUnitUtil.getIdentifier(entityPojo));
+            val bookmark = bookmarkByIdentifier.get(identifier);
+            if(bookmark!=null) {
+                pojoByBookmark.put(bookmark, entityPojo);
             }
+        }
+        return pojoByBookmark;
+    }
 
-            val entitySpec = getEntitySpecification();
-            return Can.ofStream(
-                    typedQuery.getResultStream()
-                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
-
-        } else if (query instanceof NamedQuery) {
-
-            val applibNamedQuery = (NamedQuery<?>) query;
-            val queryResultType = applibNamedQuery.getResultType();
-
-            val entityManager = getEntityManager();
-
-            val namedQuery = entityManager
-                    .createNamedQuery(applibNamedQuery.getName(), queryResultType);
+    private Class<?> getPrimaryKeyType() {
+        return getJpaEntityType().getIdType().getJavaType();
+    }
 
-            if (range.hasOffset()) {
-                namedQuery.setFirstResult(range.getStartAsInt());
-            }
-            if (range.hasLimit()) {
-                namedQuery.setMaxResults(range.getLimitAsInt());
-            }
+    @Override
+    public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
-            applibNamedQuery
-                    .getParametersByName()
-                    .forEach((paramName, paramValue) ->
-                            namedQuery.setParameter(paramName, paramValue));
+        val typedQuery = createTypedQuery(getEntityManager(), query);
 
-            val entitySpec = getEntitySpecification();
-            return Can.ofStream(
-                    namedQuery.getResultStream()
-                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+        val entitySpec = getEntitySpecification();
+        return Can.ofStream(
+                typedQuery.getResultStream()
+                        .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+    }
 
-        }
+    @Override
+    public Stream<ManagedObject> streamByQuery(final Query<?> query, final int chunkSize) {
 
-        throw _Exceptions.unsupportedOperation(
-                "Support for Query of type %s not implemented.", query.getClass());
+        val entityManager = getEntityManager();
+        val typedQuery = createTypedQuery(entityManager, query);
+
+        // have EclipseLink return a cursor (from getSingleResult), rather than reading all rows up-front
+        typedQuery.setHint(QueryHints.CURSOR, HintValues.TRUE);
+        typedQuery.setHint(QueryHints.CURSOR_PAGE_SIZE, chunkSize);
+        typedQuery.setHint(QueryHints.JDBC_FETCH_SIZE, chunkSize);
+
+        val cursor = (CursoredStream) typedQuery.getSingleResult();
+        final Iterator<Object> iterator = _Casts.uncheckedCast(cursor);
+
+        // entities handed out so far, that are not yet detached
+        val consumed = new ArrayList<Object>(chunkSize);
+
+        val entitySpec = getEntitySpecification();
+        return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                    false)
+                .onClose(cursor::close)
+                .map(entity -> {
+                    if(consumed.size()>=chunkSize) {
+                        // the previous chunk has been processed, so can be released
+                        if(entityManager.isJoinedToTransaction()) {
+                            entityManager.flush();
+                        }
+                        consumed.forEach(entityManager::detach);
+                        consumed.clear();
+                        cursor.releasePrevious();
+                    }
+                    consumed.add(entity);
+                    return ManagedObject.adaptSingular(entitySpec, entity);
+                });
     }
 
     @Override
@@ -304,6 +335,66 @@ public <T> T detach(final T pojo) {
         return pojo;
     }
 
+    // -- HELPER
+
+    private TypedQuery<?> createTypedQuery(final EntityManager entityManager, final Query<?> query) {
+
+        val range = query.getRange();
+
+        if (query instanceof AllInstancesQuery) {
+
+            val queryFindAllInstances = (AllInstancesQuery<?>) query;
+            val queryEntityType = queryFindAllInstances.getResultType();
+
+            // guard against misuse
+            if (!entityClass.isAssignableFrom(queryEntityType)) {
+                throw _Exceptions.unexpectedCodeReach();
+            }
+
+            val cb = entityManager.getCriteriaBuilder();
+            val cr = cb.createQuery(entityClass);
+
+            cr.select(_Casts.uncheckedCast(cr.from(entityClass)));
+
+            val typedQuery = entityManager
+                    .createQuery(cr);
+
+            if (range.hasOffset()) {
+                typedQuery.setFirstResult(range.getStartAsInt());
+            }
+            if (range.hasLimit()) {
+                typedQuery.setMaxResults(range.getLimitAsInt());
+            }
+
+            return typedQuery;
+
+        } else if (query instanceof NamedQuery) {
+
+            val applibNamedQuery = (NamedQuery<?>) query;
+            val queryResultType = applibNamedQuery.getResultType();
+
+            val namedQuery = entityManager
+                    .createNamedQuery(applibNamedQuery.getName(), queryResultType);
+
+            if (range.hasOffset()) {
+                namedQuery.setFirstResult(range.getStartAsInt());
+            }
+            if (range.hasLimit()) {
+                namedQuery.setMaxResults(range.getLimitAsInt());
+            }
+
+            applibNamedQuery
+                    .getParametersByName()
+                    .forEach((paramName, paramValue) ->
+                            namedQuery.setParameter(paramName, paramValue));
+
+            return namedQuery;
+        }
+
+        throw _Exceptions.unsupportedOperation(
+                "Support for Query of type %s not implemented.", query.getClass());
+    }
+
     // -- JPA METAMODEL
 
     private final _Lazy<Optional<EntityType<?>>> jpaEntityTypeRef = _Lazy.threadSafe(this::queryJpaMetamodel);
@@ -18,10 +18,12 @@
  */
 package org.apache.isis.persistence.jpa.integration.typeconverters.schema.v2;
 
+import javax.inject.Inject;
 import javax.persistence.AttributeConverter;
 import javax.persistence.Converter;
 
 import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.applib.util.schema.DtoPayloadCodec;
 import org.apache.isis.schema.cmd.v2.CommandDto;
 
 /**
@@ -31,18 +33,30 @@
 public class IsisCommandDtoConverter
 implements AttributeConverter<CommandDto, String> {
 
+    // not managed by Spring (directly), injected by the ORM (EclipseLink's bean manager)
+    @Inject private DtoPayloadCodec dtoPayloadCodec;
+
     @Override
     public String convertToDatabaseColumn(final CommandDto memberValue) {
         return memberValue != null
-                ? CommandDtoUtils.toXml(memberValue)
+                ? CommandDtoUtils.toPayload(memberValue, dtoPayloadCodec())
                         : null;
     }
 
     @Override
     public CommandDto convertToEntityAttribute(final String datastoreValue) {
         return datastoreValue != null
-                ? CommandDtoUtils.fromXml(datastoreValue)
+                ? CommandDtoUtils.fromPayload(datastoreValue)
                         : null;
     }
 
+    /**
+     * Plain XML, unless a codec was injected.
+     */
+    private DtoPayloadCodec dtoPayloadCodec() {
+        return dtoPayloadCodec != null
+                ? dtoPayloadCodec
+                : DtoPayloadCodec.XML;
+    }
+
 }
@@ -18,9 +18,11 @@
  */
 package org.apache.isis.persistence.jpa.integration.typeconverters.schema.v2;
 
+import javax.inject.Inject;
 import javax.persistence.AttributeConverter;
 import javax.persistence.Converter;
 
+import org.apache.isis.applib.util.schema.DtoPayloadCodec;
 import org.apache.isis.applib.util.schema.InteractionDtoUtils;
 import org.apache.isis.schema.ixn.v2.InteractionDto;
 
@@ -31,18 +33,30 @@
 public class IsisInteractionDtoConverter
 implements AttributeConverter<InteractionDto, String> {
 
+    // not managed by Spring (directly), injected by the ORM (EclipseLink's bean manager)
+    @Inject private DtoPayloadCodec dtoPayloadCodec;
+
     @Override
     public String convertToDatabaseColumn(final InteractionDto memberValue) {
         return memberValue != null
-                ? InteractionDtoUtils.toXml(memberValue)
+                ? InteractionDtoUtils.toPayload(memberValue, dtoPayloadCodec())
                         : null;
     }
 
     @Override
     public InteractionDto convertToEntityAttribute(final String datastoreValue) {
         return datastoreValue != null
-                ? InteractionDtoUtils.fromXml(datastoreValue)
+                ? InteractionDtoUtils.fromPayload(datastoreValue)
                         : null;
     }
 
+    /**
+     * Plain XML, unless a codec was injected.
+     */
+    private DtoPayloadCodec dtoPayloadCodec() {
+        return dtoPayloadCodec != null
+                ? dtoPayloadCodec
+                : DtoPayloadCodec.XML;
+    }
+
 }
@@ -0,0 +1,117 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.domainmodel;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.services.factory.FactoryService;
+import org.apache.isis.applib.services.metamodel.MetaModelServiceMenu;
+import org.apache.isis.applib.value.Blob;
+import org.apache.isis.applib.value.NamedWithMimeType.CommonMimeType;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.testdomain.conf.Configuration_headless;
+import org.apache.isis.testdomain.model.good.Configuration_usingValidDomain;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+/**
+ * Same as {@link MetaModelRegressionTest}, except with parallel introspection enabled,
+ * verifying against the metamodel as exported from the serial run.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_headless.class,
+                Configuration_usingValidDomain.class,
+
+        },
+        properties = {
+                "isis.core.meta-model.introspector.mode=FULL",
+                "isis.core.meta-model.introspector.parallelize=TRUE",
+                "isis.applib.annotation.domain-object.editing=TRUE",
+                "isis.core.meta-model.validator.explicit-object-type=FALSE", // does not override any of the imports
+          })
+@TestPropertySource({
+    IsisPresets.SilenceMetaModel,
+    IsisPresets.SilenceProgrammingModel
+})
+class MetaModelRegressionTest_usingParallelIntrospection {
+
+    @Inject MetaModelServiceMenu metaModelServiceMenu;
+    @Inject FactoryService factoryService;
+    @Inject SpecificationLoader specificationLoader;
+    @Inject IsisConfiguration isisConfiguration;
+
+    @BeforeEach
+    void setUp() {
+        assertNotNull(metaModelServiceMenu);
+        assertTrue(isisConfiguration.getCore().getMetaModel().getIntrospector().isParallelize());
+    }
+
+    @Test
+    @SneakyThrows
+    void parallelIntrospection_shouldProduceSameMetamodel_asSerialIntrospection() {
+
+        assertFalse(specificationLoader.getOrAssessValidationResult().hasFailures());
+
+        Blob metaModelZip = factoryService.mixin(MetaModelServiceMenu.downloadMetaModelXml.class,
+                metaModelServiceMenu).act("metamodel.xml", namespaces(), true);
+        val xml = asXml(metaModelZip);
+
+        assertEquals(serialApprovedXml(), xml);
+    }
+
+    // -- HELPER
+
+    private static String asXml(final Blob zip) throws IOException {
+        val clob = zip.unZip(CommonMimeType.XML).toClob(StandardCharsets.UTF_8);
+        return clob.asString();
+    }
+
+    private static String serialApprovedXml() throws IOException {
+        // as approved by MetaModelRegressionTest (relative to the module's base directory)
+        val approvedFile = Paths.get("src/test/java",
+                MetaModelRegressionTest.class.getPackageName().replace('.', '/'),
+                "MetaModelRegressionTest.verify.approved.xml");
+        return new String(Files.readAllBytes(approvedFile), StandardCharsets.UTF_8);
+    }
+
+    private List<String> namespaces() {
+        return List.of("org.apache.isis.testdomain.model.good");
+    }
+
+}
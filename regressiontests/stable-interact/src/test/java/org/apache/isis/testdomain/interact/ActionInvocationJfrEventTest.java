@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.interact;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.core.runtime.jfr.ActionInvocationJfrEvent;
+import org.apache.isis.testdomain.conf.Configuration_headless;
+import org.apache.isis.testdomain.model.interaction.Configuration_usingInteractionDomain;
+import org.apache.isis.testdomain.model.interaction.InteractionDemo;
+import org.apache.isis.testdomain.util.interaction.InteractionTestAbstract;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.val;
+
+@SpringBootTest(
+        classes = {
+                Configuration_headless.class,
+                Configuration_usingInteractionDomain.class
+        },
+        properties = {
+                "isis.core.meta-model.introspector.mode=FULL",
+                "isis.applib.annotation.domain-object.editing=TRUE",
+                "isis.core.meta-model.validator.explicit-object-type=FALSE", // does not override any of the imports
+        })
+@TestPropertySource({
+    IsisPresets.SilenceMetaModel,
+    IsisPresets.SilenceProgrammingModel
+})
+class ActionInvocationJfrEventTest extends InteractionTestAbstract {
+
+    @Test
+    void actionInvocation_shouldEmitJfrEvent_withFieldsPopulated(final @TempDir Path tempDir) throws IOException {
+
+        val tester =
+                testerFactory.actionTester(InteractionDemo.class, "noArgEnabled", Where.OBJECT_FORMS);
+
+        // given
+        val dumpFile = tempDir.resolve("action-invocation.jfr");
+        try(val recording = new Recording()) {
+            recording.enable(ActionInvocationJfrEvent.NAME).withoutThreshold();
+            recording.start();
+
+            // when
+            tester.assertInvocationResult(99, UnaryOperator.identity());
+
+            recording.stop();
+            recording.dump(dumpFile);
+        }
+
+        // then
+        val events = RecordingFile.readAllEvents(dumpFile).stream()
+                .filter(event->event.getEventType().getName().equals(ActionInvocationJfrEvent.NAME))
+                .collect(Collectors.toList());
+        assertEquals(1, events.size());
+
+        val event = events.get(0);
+        assertEquals("regressiontests.InteractionDemo", event.getString("logicalTypeName"));
+        assertEquals("noArgEnabled", event.getString("memberId"));
+        assertFalse(event.getBoolean("failed"));
+        assertFalse(event.getDuration().isNegative());
+
+        // correlates with the invocation's command
+        val interactionId = UUID.fromString(event.getString("interactionId"));
+        assertTrue(tester.getCapturedCommands().stream()
+                .anyMatch(command->command.getInteractionId().equals(interactionId)));
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.persistence.jdo;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+import javax.jdo.JDOHelper;
+import javax.jdo.ObjectState;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.query.Query;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.testdomain.RegressionTestAbstract;
+import org.apache.isis.testdomain.conf.Configuration_usingJdo;
+import org.apache.isis.testdomain.jdo.JdoTestFixtures;
+import org.apache.isis.testdomain.jdo.entities.JdoBook;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = {
+                Configuration_usingJdo.class,
+        },
+        properties = {
+                "isis.core.runtime-services.repository-service.stream-chunk-size=2",
+        })
+@TestPropertySource(IsisPresets.UseLog4j2Test)
+//@Transactional ... we manage transaction ourselves
+class JdoQueryStreamTest extends RegressionTestAbstract {
+
+    @Inject private JdoTestFixtures testFixtures;
+
+    @Test
+    void streamInstances_shouldStreamAllBooks() {
+
+        run(()->{
+            try(final Stream<JdoBook> stream = repositoryService.streamInstances(JdoBook.class)) {
+                testFixtures.assertInventoryHasBooks(stream.collect(Collectors.toList()), 1, 2, 3);
+            }
+        });
+    }
+
+    @Test
+    void streamInstances_shouldEvictEachChunkOnceConsumed() {
+
+        run(()->{
+            try(final Stream<JdoBook> stream = repositoryService.streamInstances(JdoBook.class)) {
+                final Iterator<JdoBook> iterator = stream.iterator();
+
+                // when consuming the first chunk
+                val first = iterator.next();
+                val second = iterator.next();
+
+                // then - still loaded
+                assertNotEquals(ObjectState.HOLLOW_PERSISTENT_NONTRANSACTIONAL, JDOHelper.getObjectState(first));
+                assertNotEquals(ObjectState.HOLLOW_PERSISTENT_NONTRANSACTIONAL, JDOHelper.getObjectState(second));
+
+                // when consuming the first of the next chunk
+                val third = iterator.next();
+
+                // then - the first chunk is evicted (hollow), but not the current one
+                assertEquals(ObjectState.HOLLOW_PERSISTENT_NONTRANSACTIONAL, JDOHelper.getObjectState(first));
+                assertEquals(ObjectState.HOLLOW_PERSISTENT_NONTRANSACTIONAL, JDOHelper.getObjectState(second));
+                assertNotEquals(ObjectState.HOLLOW_PERSISTENT_NONTRANSACTIONAL, JDOHelper.getObjectState(third));
+                assertFalse(iterator.hasNext());
+            }
+        });
+    }
+
+    @Test
+    void streamMatches_shouldHonorRange() {
+
+        run(()->{
+            try(final Stream<JdoBook> stream = repositoryService.streamMatches(Query.allInstances(JdoBook.class)
+                    .withLimit(2))) {
+                testFixtures.assertInventoryHasBooks(stream.collect(Collectors.toList()), 1, 2);
+            }
+        });
+    }
+
+    @Test
+    void streamMatches_shouldSupportNamedQueries() {
+
+        run(()->{
+            val query = Query.named(JdoBook.class, "findAffordableBooks")
+                    .withParameter("priceUpperBound", 60.);
+
+            try(final Stream<JdoBook> stream = repositoryService.streamMatches(query)) {
+                testFixtures.assertInventoryHasBooks(stream.collect(Collectors.toList()), 1, 2);
+            }
+        });
+    }
+
+    @Test
+    void stream_whenClosed_shouldReleaseCursor() {
+
+        run(()->{
+            val stream = repositoryService.streamInstances(JdoBook.class);
+            final Iterator<JdoBook> iterator = stream.iterator();
+
+            // when
+            stream.close();
+
+            // then - the cursor yields no (further) rows
+            assertFalse(hasNextElseFalseIfFails(iterator));
+
+            // and the persistence manager is still usable
+            assertEquals(3, repositoryService.allInstances(JdoBook.class).size());
+        });
+    }
+
+    @Test
+    void stream_whenNotClosed_shouldBeClosedWhenInteractionEnds() {
+
+        // given
+        val closed = new AtomicBoolean();
+
+        run(()->{
+            final List<JdoBook> firstOnly = repositoryService.streamInstances(JdoBook.class)
+                    .onClose(()->closed.set(true))
+                    .limit(1)
+                    .collect(Collectors.toList());
+            assertEquals(1, firstOnly.size());
+
+            // then - not yet closed
+            assertFalse(closed.get());
+        });
+
+        // then - closed once the interaction has ended
+        assertTrue(closed.get());
+    }
+
+    // -- HELPER
+
+    private static boolean hasNextElseFalseIfFails(final Iterator<?> iterator) {
+        try {
+            return iterator.hasNext();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+}
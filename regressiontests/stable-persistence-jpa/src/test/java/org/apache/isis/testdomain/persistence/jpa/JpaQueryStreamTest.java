@@ -0,0 +1,173 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.persistence.jpa;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.query.Query;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.persistence.jpa.applib.services.JpaSupportService;
+import org.apache.isis.testdomain.RegressionTestAbstract;
+import org.apache.isis.testdomain.conf.Configuration_usingJpa;
+import org.apache.isis.testdomain.jpa.JpaTestFixtures;
+import org.apache.isis.testdomain.jpa.entities.JpaBook;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+        },
+        properties = {
+                "isis.core.runtime-services.repository-service.stream-chunk-size=2",
+        })
+@TestPropertySource(IsisPresets.UseLog4j2Test)
+//@Transactional ... we manage transaction ourselves
+class JpaQueryStreamTest extends RegressionTestAbstract {
+
+    @Inject private JpaTestFixtures testFixtures;
+    @Inject private JpaSupportService jpaSupport;
+
+    @Test
+    void streamInstances_shouldStreamAllBooks() {
+
+        run(()->{
+            try(final Stream<JpaBook> stream = repositoryService.streamInstances(JpaBook.class)) {
+                testFixtures.assertInventoryHasBooks(stream.collect(Collectors.toList()), 1, 2, 3);
+            }
+        });
+    }
+
+    @Test
+    void streamInstances_shouldDetachEachChunkOnceConsumed() {
+
+        run(()->{
+            val entityManager = jpaSupport.getEntityManagerElseFail(JpaBook.class);
+
+            try(final Stream<JpaBook> stream = repositoryService.streamInstances(JpaBook.class)) {
+                final Iterator<JpaBook> iterator = stream.iterator();
+
+                // when consuming the first chunk
+                val first = iterator.next();
+                val second = iterator.next();
+
+                // then - still managed
+                assertTrue(entityManager.contains(first));
+                assertTrue(entityManager.contains(second));
+
+                // when consuming the first of the next chunk
+                val third = iterator.next();
+
+                // then - the first chunk is detached, but not the current one
+                assertFalse(entityManager.contains(first));
+                assertFalse(entityManager.contains(second));
+                assertTrue(entityManager.contains(third));
+                assertFalse(iterator.hasNext());
+            }
+        });
+    }
+
+    @Test
+    void streamMatches_shouldHonorRange() {
+
+        run(()->{
+            try(final Stream<JpaBook> stream = repositoryService.streamMatches(Query.allInstances(JpaBook.class)
+                    .withLimit(2))) {
+                testFixtures.assertInventoryHasBooks(stream.collect(Collectors.toList()), 1, 2);
+            }
+        });
+    }
+
+    @Test
+    void streamMatches_shouldSupportNamedQueries() {
+
+        run(()->{
+            val query = Query.named(JpaBook.class, "JpaInventory.findAffordableProducts")
+                    .withParameter("priceUpperBound", 60.);
+
+            try(final Stream<JpaBook> stream = repositoryService.streamMatches(query)) {
+                testFixtures.assertInventoryHasBooks(stream.collect(Collectors.toList()), 1, 2);
+            }
+        });
+    }
+
+    @Test
+    void stream_whenClosed_shouldReleaseCursor() {
+
+        run(()->{
+            val stream = repositoryService.streamInstances(JpaBook.class);
+            final Iterator<JpaBook> iterator = stream.iterator();
+
+            // when
+            stream.close();
+
+            // then - the cursor yields no (further) rows
+            assertFalse(hasNextElseFalseIfFails(iterator));
+
+            // and the entity manager is still usable
+            assertEquals(3, repositoryService.allInstances(JpaBook.class).size());
+        });
+    }
+
+    @Test
+    void stream_whenNotClosed_shouldBeClosedWhenInteractionEnds() {
+
+        // given
+        val closed = new AtomicBoolean();
+
+        run(()->{
+            final List<JpaBook> firstOnly = repositoryService.streamInstances(JpaBook.class)
+                    .onClose(()->closed.set(true))
+                    .limit(1)
+                    .collect(Collectors.toList());
+            assertEquals(1, firstOnly.size());
+
+            // then - not yet closed
+            assertFalse(closed.get());
+        });
+
+        // then - closed once the interaction has ended
+        assertTrue(closed.get());
+    }
+
+    // -- HELPER
+
+    private static boolean hasNextElseFalseIfFails(final Iterator<?> iterator) {
+        try {
+            return iterator.hasNext();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,344 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.tooling.domaintypeindex;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes {@value #INDEX_RESOURCE}, holding the classification of the domain types of the module being compiled,
+ * which the framework picks up at startup, instead of classifying these types (by reflection) at runtime.
+ * <p>
+ * Only types with an unambiguous classification are indexed, that is concrete (static) classes directly annotated
+ * with either {@code @DomainService}, {@code @DomainObject} or {@code @Value}. Types are not indexed (hence left
+ * to runtime classification), when their classification depends on the runtime environment (eg. {@code @Profile}),
+ * on persistence stack specific classifiers (eg. {@code @Entity}, {@code @PersistenceCapable}),
+ * on annotations declared by any of their super types, or on meta-annotations (eg. a custom annotation that is
+ * itself annotated with {@code @Profile}), which the runtime honors when synthesizing annotations.
+ * <p>
+ * The index format must be kept in sync with {@code IsisBeanTypeIndex} in {@code isis-core-config}.
+ */
+@SupportedAnnotationTypes({
+    DomainTypeIndexProcessor.DOMAIN_SERVICE,
+    DomainTypeIndexProcessor.DOMAIN_OBJECT,
+    DomainTypeIndexProcessor.VALUE
+})
+public class DomainTypeIndexProcessor extends AbstractProcessor {
+
+    static final String INDEX_RESOURCE = "META-INF/isis/domain-types.index";
+
+    static final String DOMAIN_SERVICE = "org.apache.isis.applib.annotation.DomainService";
+    static final String DOMAIN_OBJECT = "org.apache.isis.applib.annotation.DomainObject";
+    static final String VALUE = "org.apache.isis.applib.annotation.Value";
+    static final String VIEW_MODEL = "org.apache.isis.applib.ViewModel";
+
+    /**
+     * Any of these, if present on the type or any of its super types, disqualify the type from being indexed.
+     */
+    private static final List<String> DISQUALIFYING_ANNOTATIONS = List.of(
+            "org.springframework.context.annotation.Profile",
+            "org.apache.isis.applib.annotation.Domain.Exclude",
+            "javax.persistence.Entity",
+            "javax.persistence.Embeddable",
+            "javax.persistence.Table",
+            "javax.jdo.annotations.PersistenceCapable",
+            "javax.jdo.annotations.EmbeddedOnly");
+
+    /**
+     * Any of these, if present on any super type, disqualify the type from being indexed,
+     * as these (when inherited) have a say in runtime classification.
+     */
+    private static final List<String> DISQUALIFYING_SUPERTYPE_ANNOTATIONS = List.of(
+            DOMAIN_SERVICE, DOMAIN_OBJECT, VALUE,
+            "javax.inject.Named");
+
+    /**
+     * Any of these, if present as a meta-annotation (on any annotation of the type or any of its super types,
+     * transitively), disqualify the type from being indexed, as the runtime merges these into the type's
+     * (synthesized) annotations.
+     */
+    private static final List<String> DISQUALIFYING_META_ANNOTATIONS = concat(
+            DISQUALIFYING_ANNOTATIONS,
+            DISQUALIFYING_SUPERTYPE_ANNOTATIONS);
+
+    // sorted, for reproducible builds
+    private final Map<String, String> entriesByClassName = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+
+        for(TypeElement annotation : annotations) {
+            for(Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if(element.getKind() == ElementKind.CLASS) {
+                    classify((TypeElement) element)
+                    .ifPresent(entry->entriesByClassName.put(binaryNameOf((TypeElement) element), entry));
+                }
+            }
+        }
+
+        if(roundEnv.processingOver()
+                && !entriesByClassName.isEmpty()) {
+            writeIndex();
+        }
+
+        return false; // don't claim the annotations, others might want to process these as well
+    }
+
+    // -- CLASSIFICATION
+
+    /**
+     * @return the index entry (without class name) if the type can be classified unambiguously,
+     * mirroring the logic of the framework's runtime classifier
+     */
+    Optional<String> classify(final TypeElement type) {
+
+        if(type.getModifiers().contains(Modifier.ABSTRACT)
+                || (type.getNestingKind() != NestingKind.TOP_LEVEL
+                    && !(type.getNestingKind() == NestingKind.MEMBER
+                        && type.getModifiers().contains(Modifier.STATIC)))) {
+            return Optional.empty();
+        }
+
+        if(anyAnnotationPresent(type, DISQUALIFYING_ANNOTATIONS)
+                || anyMetaAnnotationPresent(type, DISQUALIFYING_META_ANNOTATIONS)
+                || superTypesOf(type).stream()
+                    .anyMatch(superType->
+                        anyAnnotationPresent(superType, DISQUALIFYING_ANNOTATIONS)
+                        || anyAnnotationPresent(superType, DISQUALIFYING_SUPERTYPE_ANNOTATIONS)
+                        || anyMetaAnnotationPresent(superType, DISQUALIFYING_META_ANNOTATIONS))) {
+            return Optional.empty();
+        }
+
+        final Optional<AnnotationMirror> aValue = annotation(type, VALUE);
+        final Optional<AnnotationMirror> aDomainService = annotation(type, DOMAIN_SERVICE);
+        final Optional<AnnotationMirror> aDomainObject = annotation(type, DOMAIN_OBJECT);
+
+        final String logicalTypeName = logicalTypeNameOf(type);
+
+        if(aValue.isPresent()) {
+            return entry("VALUE", "NONE", logicalTypeName);
+        }
+
+        if(aDomainService.isPresent()) {
+            final boolean namedByIsis = attribute(aDomainService.get(), "logicalTypeName")
+                    .map(logicalTypeName::equals)
+                    .orElse(false);
+            return entry("MANAGED_BEAN_CONTRIBUTING", namedByIsis ? "SPRING_NAMED_BY_ISIS" : "SPRING", logicalTypeName);
+        }
+
+        if(isViewModel(type)) {
+            return entry("VIEW_MODEL", "ISIS", logicalTypeName);
+        }
+
+        if(aDomainObject.isPresent()) {
+            final String nature = attribute(aDomainObject.get(), "nature")
+                    .orElse("NOT_SPECIFIED");
+            switch (nature) {
+            case "BEAN":
+                return entry("MANAGED_BEAN_CONTRIBUTING", "SPRING_NAMED_BY_ISIS", logicalTypeName);
+            case "MIXIN":
+                return entry("MIXIN", "ISIS", logicalTypeName);
+            case "ENTITY":
+                return entry("ENTITY", "ISIS", logicalTypeName);
+            case "VIEW_MODEL":
+            case "NOT_SPECIFIED":
+                return entry("VIEW_MODEL", "ISIS", logicalTypeName);
+            default:
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "unknown nature " + nature + ", leaving classification to runtime", type);
+                return Optional.empty();
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Same precedence as the runtime's logical type name inference:
+     * {@code @Named}, then (deprecated) {@code logicalTypeName} attributes, then the canonical class name.
+     */
+    private String logicalTypeNameOf(final TypeElement type) {
+        return annotation(type, "javax.inject.Named")
+                .flatMap(named->attribute(named, "value"))
+                .or(()->annotation(type, DOMAIN_OBJECT).flatMap(a->attribute(a, "logicalTypeName")))
+                .or(()->annotation(type, DOMAIN_SERVICE).flatMap(a->attribute(a, "logicalTypeName")))
+                .or(()->annotation(type, VALUE).flatMap(a->attribute(a, "logicalTypeName")))
+                .orElseGet(()->type.getQualifiedName().toString());
+    }
+
+    private boolean isViewModel(final TypeElement type) {
+        final TypeElement viewModel = processingEnv.getElementUtils().getTypeElement(VIEW_MODEL);
+        return viewModel!=null
+                && processingEnv.getTypeUtils().isAssignable(
+                        processingEnv.getTypeUtils().erasure(type.asType()),
+                        processingEnv.getTypeUtils().erasure(viewModel.asType()));
+    }
+
+    // -- HELPER
+
+    private static Optional<String> entry(final String beanSort, final String managedBy, final String logicalTypeName) {
+        return Optional.of(String.join(";", beanSort, managedBy, logicalTypeName));
+    }
+
+    private String binaryNameOf(final TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private List<TypeElement> superTypesOf(final TypeElement type) {
+        final List<TypeElement> superTypes = new ArrayList<>();
+        collectSuperTypes(type, superTypes);
+        return superTypes;
+    }
+
+    private void collectSuperTypes(final TypeElement type, final List<TypeElement> superTypes) {
+        for(TypeMirror superTypeMirror : processingEnv.getTypeUtils().directSupertypes(type.asType())) {
+            if(superTypeMirror.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            final TypeElement superType = (TypeElement) ((DeclaredType) superTypeMirror).asElement();
+            if(superType.getQualifiedName().contentEquals("java.lang.Object")
+                    || superTypes.contains(superType)) {
+                continue;
+            }
+            superTypes.add(superType);
+            collectSuperTypes(superType, superTypes);
+        }
+    }
+
+    private static boolean anyAnnotationPresent(final TypeElement type, final List<String> annotationNames) {
+        return annotationNames.stream()
+                .anyMatch(annotationName->annotation(type, annotationName).isPresent());
+    }
+
+    /**
+     * Whether any of the type's annotations is itself annotated (transitively) with any of given annotations.
+     */
+    private static boolean anyMetaAnnotationPresent(final TypeElement type, final List<String> annotationNames) {
+        for(AnnotationMirror annotationMirror : type.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if(isMetaAnnotatedWithAnyOf(annotationType, annotationNames, new HashSet<>())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isMetaAnnotatedWithAnyOf(
+            final TypeElement annotationType,
+            final List<String> annotationNames,
+            final Set<TypeElement> visited) {
+        if(!visited.add(annotationType)
+                || annotationType.getQualifiedName().toString().startsWith("java.lang.annotation.")) {
+            return false;
+        }
+        for(AnnotationMirror metaAnnotationMirror : annotationType.getAnnotationMirrors()) {
+            final TypeElement metaAnnotationType = (TypeElement) metaAnnotationMirror.getAnnotationType().asElement();
+            if(annotationNames.contains(metaAnnotationType.getQualifiedName().toString())
+                    || isMetaAnnotatedWithAnyOf(metaAnnotationType, annotationNames, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> concat(final List<String> first, final List<String> second) {
+        final List<String> both = new ArrayList<>(first);
+        both.addAll(second);
+        return List.copyOf(both);
+    }
+
+    private static Optional<AnnotationMirror> annotation(final TypeElement type, final String annotationName) {
+        for(AnnotationMirror annotationMirror : type.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if(annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return Optional.of(annotationMirror);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the explicitly given (non-empty) attribute value, as string
+     * (enum constants by their simple name)
+     */
+    private static Optional<String> attribute(final AnnotationMirror annotationMirror, final String attributeName) {
+        for(Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : annotationMirror.getElementValues().entrySet()) {
+            if(entry.getKey().getSimpleName().contentEquals(attributeName)) {
+                final Object value = entry.getValue().getValue();
+                final String string = value instanceof Element
+                        ? ((Element) value).getSimpleName().toString() // enum constant
+                        : String.valueOf(value);
+                return string.isEmpty()
+                        ? Optional.empty()
+                        : Optional.of(string);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void writeIndex() {
+        try {
+            final FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try(Writer writer = resource.openWriter()) {
+                writer.write("# generated by " + DomainTypeIndexProcessor.class.getName() + ", do not edit\n");
+                writer.write("# className;beanSort;managedBy;logicalTypeName\n");
+                for(Map.Entry<String, String> entry : entriesByClassName.entrySet()) {
+                    writer.write(entry.getKey() + ";" + entry.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "failed to write " + INDEX_RESOURCE + ": " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.tooling.domaintypeindex;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DomainTypeIndexProcessorTest {
+
+    @TempDir Path classOutput;
+
+    @Test
+    void indexesUnambiguousDomainTypesOnly() throws IOException {
+
+        compile(withAnnotationStubs(Map.of(
+                "demo.CustomerMenu",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.DomainService(logicalTypeName = \"demo.CustomerMenu\")\n"
+                    + "public class CustomerMenu { }",
+                "demo.Customer_placeOrder",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.DomainObject("
+                    + "nature = org.apache.isis.applib.annotation.Nature.MIXIN)\n"
+                    + "public class Customer_placeOrder { }",
+                "demo.Dashboard",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.DomainObject\n"
+                    + "public class Dashboard {\n"
+                    + "  @org.apache.isis.applib.annotation.Value public static class Money { }\n"
+                    + "}",
+                "demo.DevMenu",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.DomainService\n"
+                    + "@org.springframework.context.annotation.Profile(\"dev\")\n"
+                    + "public class DevMenu { }",
+                "demo.AbstractMenu",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.DomainService\n"
+                    + "public abstract class AbstractMenu { }",
+                "demo.SubMenu",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.DomainService\n"
+                    + "public class SubMenu extends CustomerMenu { }"
+                )));
+
+        assertEquals(List.of(
+                "demo.CustomerMenu;MANAGED_BEAN_CONTRIBUTING;SPRING_NAMED_BY_ISIS;demo.CustomerMenu",
+                "demo.Customer_placeOrder;MIXIN;ISIS;demo.Customer_placeOrder",
+                "demo.Dashboard;VIEW_MODEL;ISIS;demo.Dashboard",
+                "demo.Dashboard$Money;VALUE;NONE;demo.Dashboard.Money"),
+                indexEntries());
+    }
+
+    @Test
+    void leavesOutTypesWithMetaAnnotatedProfile() throws IOException {
+
+        compile(withAnnotationStubs(Map.of(
+                "demo.DevOnly",
+                    "package demo;\n"
+                    + "@org.springframework.context.annotation.Profile(\"dev\")\n"
+                    + "public @interface DevOnly { }",
+                "demo.DevMenu",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.DomainService\n"
+                    + "@DevOnly\n"
+                    + "public class DevMenu { }",
+                "demo.CustomerMenu",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.DomainService\n"
+                    + "public class CustomerMenu { }"
+                )));
+
+        assertEquals(List.of(
+                "demo.CustomerMenu;MANAGED_BEAN_CONTRIBUTING;SPRING;demo.CustomerMenu"),
+                indexEntries());
+    }
+
+    @Test
+    void leavesOutTypesWithMetaAnnotatedExclude() throws IOException {
+
+        compile(withAnnotationStubs(Map.of(
+                "demo.NotADomainType",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.Domain.Exclude\n"
+                    + "public @interface NotADomainType { }",
+                "demo.Helper",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.DomainObject\n"
+                    + "@NotADomainType\n"
+                    + "public class Helper { }",
+                "demo.Dashboard",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.DomainObject\n"
+                    + "public class Dashboard { }"
+                )));
+
+        assertEquals(List.of(
+                "demo.Dashboard;VIEW_MODEL;ISIS;demo.Dashboard"),
+                indexEntries());
+    }
+
+    @Test
+    void leavesOutTypesWithMetaAnnotatedNamed() throws IOException {
+
+        compile(withAnnotationStubs(Map.of(
+                "demo.CustomerName",
+                    "package demo;\n"
+                    + "@javax.inject.Named(\"custom.Customer\")\n"
+                    + "public @interface CustomerName { }",
+                "demo.Customer",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.DomainObject\n"
+                    + "@CustomerName\n"
+                    + "public class Customer { }",
+                "demo.Dashboard",
+                    "package demo;\n"
+                    + "@org.apache.isis.applib.annotation.DomainObject\n"
+                    + "public class Dashboard { }"
+                )));
+
+        assertEquals(List.of(
+                "demo.Dashboard;VIEW_MODEL;ISIS;demo.Dashboard"),
+                indexEntries());
+    }
+
+    // -- HELPER
+
+    /**
+     * Adds annotation stubs, so we don't depend on the applib, Spring or javax.inject.
+     */
+    private static Map<String, String> withAnnotationStubs(final Map<String, String> sourcesByClassName) {
+        final Map<String, String> sources = new HashMap<>(sourcesByClassName);
+        sources.put("org.apache.isis.applib.annotation.DomainService",
+                "package org.apache.isis.applib.annotation;\n"
+                + "public @interface DomainService { String logicalTypeName() default \"\"; }");
+        sources.put("org.apache.isis.applib.annotation.Nature",
+                "package org.apache.isis.applib.annotation;\n"
+                + "public enum Nature { NOT_SPECIFIED, ENTITY, VIEW_MODEL, MIXIN, BEAN }");
+        sources.put("org.apache.isis.applib.annotation.DomainObject",
+                "package org.apache.isis.applib.annotation;\n"
+                + "public @interface DomainObject { Nature nature() default Nature.NOT_SPECIFIED; }");
+        sources.put("org.apache.isis.applib.annotation.Value",
+                "package org.apache.isis.applib.annotation;\n"
+                + "public @interface Value { }");
+        sources.put("org.apache.isis.applib.annotation.Domain",
+                "package org.apache.isis.applib.annotation;\n"
+                + "public @interface Domain { @interface Exclude { } }");
+        sources.put("org.springframework.context.annotation.Profile",
+                "package org.springframework.context.annotation;\n"
+                + "public @interface Profile { String[] value(); }");
+        sources.put("javax.inject.Named",
+                "package javax.inject;\n"
+                + "public @interface Named { String value() default \"\"; }");
+        return sources;
+    }
+
+    private List<String> indexEntries() throws IOException {
+        final Path indexFile = classOutput.resolve(DomainTypeIndexProcessor.INDEX_RESOURCE);
+        assertTrue(Files.exists(indexFile));
+
+        return Files.readAllLines(indexFile, StandardCharsets.UTF_8).stream()
+                .filter(line->!line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+
+    private void compile(final Map<String, String> sourcesByClassName) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try(final StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(classOutput));
+
+            final List<JavaFileObject> compilationUnits = sourcesByClassName.entrySet().stream()
+                    .map(entry->sourceOf(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.toList());
+
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, List.of("-proc:only"), null, compilationUnits);
+            task.setProcessors(List.of(new DomainTypeIndexProcessor()));
+            assertTrue(task.call());
+        }
+    }
+
+    private static JavaFileObject sourceOf(final String className, final String source) {
+        return new SimpleJavaFileObject(
+                Path.of(className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension).toUri(),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+
+}